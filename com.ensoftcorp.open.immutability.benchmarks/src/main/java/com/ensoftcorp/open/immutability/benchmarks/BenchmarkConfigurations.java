@@ -0,0 +1,45 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+
+/**
+ * The analysis configurations the benchmarks run with
+ *
+ * Logging, sanity checks, monitors and summaries are disabled so that only the
+ * analysis itself is measured.
+ */
+public final class BenchmarkConfigurations {
+
+	private BenchmarkConfigurations(){}
+
+	/**
+	 * Returns a configuration of the given analysis mode with all diagnostics disabled
+	 * @param analysisMode One of the ImmutabilityPreferences analysis mode values
+	 * @return
+	 */
+	public static AnalysisConfiguration quiet(String analysisMode){
+		return AnalysisConfiguration.builder()
+				.setAnalysisMode(analysisMode)
+				.setGeneralLogging(false)
+				.setDebugLogging(false)
+				.setInferenceRuleLogging(false)
+				.setRunSanityChecks(false)
+				.setOnlineInvariantMonitoring(false)
+				.setTraceBufferSize(0)
+				.setProvenanceRecording(false)
+				.setGenerateSummaries(false)
+				.setLoadSummaries(false)
+				.setMethodModels(false)
+				.build();
+	}
+
+	/**
+	 * Returns an inference mode configuration with all diagnostics disabled
+	 * @return
+	 */
+	public static AnalysisConfiguration quiet(){
+		return quiet(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE);
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the GC profiler, which adds the allocation rate,
+ * the normalized allocation per operation, and the GC count and time to the
+ * throughput of each benchmark
+ *
+ * The benchmarks create their graphs in the Atlas graph, so by default they are
+ * run in the JVM of the calling Atlas instance instead of in forked JVMs.
+ */
+public class BenchmarkRunner {
+
+	/**
+	 * Runs the benchmarks in this JVM
+	 * Usage: BenchmarkRunner [include regex] [JSON result file]
+	 * @param args
+	 * @throws RunnerException
+	 */
+	public static void main(String[] args) throws RunnerException {
+		String include = args.length > 0 ? args[0] : ".*";
+		File resultFile = args.length > 1 ? new File(args[1]) : null;
+		run(include, 0, resultFile);
+	}
+
+	/**
+	 * Runs the benchmarks matching the given pattern
+	 * @param include A regular expression of the benchmarks to run
+	 * @param forks The number of forked JVMs, 0 runs the benchmarks in this JVM
+	 * @param resultFile A file to write the results to as JSON or null
+	 * @return
+	 * @throws RunnerException
+	 */
+	public static Collection<RunResult> run(String include, int forks, File resultFile) throws RunnerException {
+		ChainedOptionsBuilder options = new OptionsBuilder()
+				.include(include)
+				.forks(forks)
+				.addProfiler(GCProfiler.class);
+		if(resultFile != null){
+			options.result(resultFile.getAbsolutePath()).resultFormat(ResultFormatType.JSON);
+		}
+		return new Runner(options.build()).run();
+	}
+
+}
@@ -0,0 +1,244 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityAnalysis;
+import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+
+/**
+ * Runs two analyses of overlapping scopes concurrently and compares the published tags
+ * with the tags of running the analyses one after the other
+ *
+ * The program is a single class whose methods share fields. The first scope holds the
+ * first two thirds of the methods and the second scope the last two thirds, so both
+ * analyses type the shared fields and the references of the middle third. The tags are
+ * first published in both sequential orders, which must agree, and then by the two
+ * analyses running concurrently, which must agree with the sequential tags in every round.
+ */
+public class ConcurrentScopeCheck {
+
+	private static final int LIMIT = 10;
+
+	/**
+	 * The bit of a snapshot entry for a PURE tag, above the qualifier bits
+	 */
+	private static final int PURE = Qualifiers.ALL + 1;
+
+	private final SyntheticGraph graph;
+	private final Node[] nodes;
+	private final Q firstScope;
+	private final Q secondScope;
+	private final PrintStream out;
+
+	/**
+	 * @param graph A program created by SyntheticGraph.createProgram(int, int)
+	 * @param out The stream the comparisons are reported to
+	 */
+	public ConcurrentScopeCheck(SyntheticGraph graph, PrintStream out){
+		this.graph = graph;
+		this.out = out;
+		AtlasSet<Node> graphNodes = graph.getNodes();
+		this.nodes = new Node[(int) graphNodes.size()];
+		int index = 0;
+		for(Node node : graphNodes){
+			nodes[index++] = node;
+		}
+
+		// methods are created as m0, m1, ... in the order they are numbered
+		AtlasSet<Node> methods = graphNodes.taggedWithAny(XCSG.Method);
+		int methodCount = (int) methods.size();
+		AtlasSet<Node> firstMethods = new AtlasHashSet<Node>();
+		AtlasSet<Node> secondMethods = new AtlasHashSet<Node>();
+		for(Node method : methods){
+			int number = Integer.parseInt(method.getAttr(XCSG.name).toString().substring(1));
+			if(number < (2 * methodCount) / 3){
+				firstMethods.add(method);
+			}
+			if(number >= methodCount / 3){
+				secondMethods.add(method);
+			}
+		}
+		Q shared = graph.getScope().nodesTaggedWithAny(XCSG.Classifier, XCSG.Field);
+		this.firstScope = Common.toQ(firstMethods).contained().union(shared);
+		this.secondScope = Common.toQ(secondMethods).contained().union(shared);
+	}
+
+	/**
+	 * Checks the maximal types and purity, then the qualifier sets, and exits with status 1 if the tags disagree
+	 * Usage: ConcurrentScopeCheck [methods] [assignments per method] [rounds] [inference engine]
+	 * @param args
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception {
+		int methods = args.length > 0 ? Integer.parseInt(args[0]) : 300;
+		int assignmentsPerMethod = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+		int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+		String engine = args.length > 3 ? args[3] : ImmutabilityPreferences.INFERENCE_ENGINE_DEFAULT;
+		SyntheticGraph graph = SyntheticGraph.createProgram(methods, assignmentsPerMethod);
+		File firstSummary = File.createTempFile("immutability-summary", ".xml");
+		File secondSummary = File.createTempFile("immutability-summary", ".xml");
+		boolean agree;
+		try {
+			ConcurrentScopeCheck check = new ConcurrentScopeCheck(graph, System.out);
+			agree = check.check("maximal types", configure(engine).setGenerateSummaries(false).build(), configure(engine).setGenerateSummaries(false).build(), rounds);
+			agree &= check.check("qualifier sets", configure(engine).setGenerateSummaries(true).setSummaryFile(firstSummary.getAbsolutePath()).build(),
+					configure(engine).setGenerateSummaries(true).setSummaryFile(secondSummary.getAbsolutePath()).build(), rounds);
+		} finally {
+			graph.removeImmutabilityTags();
+			graph.delete();
+			firstSummary.delete();
+			secondSummary.delete();
+		}
+		if(!agree){
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Compares the tags of the sequential orders and of the concurrent rounds
+	 * @param label The name of the configurations in the report
+	 * @param first The configuration of the analysis of the first scope
+	 * @param second The configuration of the analysis of the second scope
+	 * @param rounds The number of concurrent runs
+	 * @return Returns true if all of the runs published the same tags
+	 * @throws InterruptedException
+	 * @throws ExecutionException
+	 */
+	public boolean check(String label, AnalysisConfiguration first, AnalysisConfiguration second, int rounds) throws InterruptedException, ExecutionException {
+		analyze(first, firstScope);
+		analyze(second, secondScope);
+		int[] expected = snapshot();
+		graph.removeImmutabilityTags();
+
+		analyze(second, secondScope);
+		analyze(first, firstScope);
+		boolean agree = compare(label + ", sequential orders", expected, snapshot());
+		graph.removeImmutabilityTags();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			for(int round=0; round<rounds; round++){
+				Future<Boolean> firstRun = executor.submit(getTask(first, firstScope));
+				Future<Boolean> secondRun = executor.submit(getTask(second, secondScope));
+				firstRun.get();
+				secondRun.get();
+				agree &= compare(label + ", concurrent round " + round, expected, snapshot());
+				graph.removeImmutabilityTags();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		return agree;
+	}
+
+	private static Callable<Boolean> getTask(final AnalysisConfiguration configuration, final Q scope){
+		return new Callable<Boolean>(){
+			@Override
+			public Boolean call() {
+				return analyze(configuration, scope);
+			}
+		};
+	}
+
+	private static boolean analyze(AnalysisConfiguration configuration, Q scope){
+		return ImmutabilityAnalysis.create(new AnalysisContext(configuration, scope)).analyze(new NullProgressMonitor());
+	}
+
+	/**
+	 * Returns the number of nodes whose tags differ, reporting the first differences
+	 * @param label
+	 * @param expected
+	 * @param actual
+	 * @return Returns true if the tags agree
+	 */
+	private boolean compare(String label, int[] expected, int[] actual){
+		int differences = 0;
+		for(int i=0; i<nodes.length; i++){
+			if(expected[i] != actual[i]){
+				if(differences < LIMIT){
+					out.println("  " + nodes[i].getAttr(XCSG.name) + " (" + nodes[i].address().toAddressString() + "): "
+							+ toString(expected[i]) + " expected, " + toString(actual[i]) + " published");
+				}
+				differences++;
+			}
+		}
+		out.println(label + ": " + (differences == 0 ? "agree" : differences + " differences"));
+		return differences == 0;
+	}
+
+	/**
+	 * Returns the qualifier mask of the tags of each node, with the PURE bit for pure methods,
+	 * 0 for untyped nodes and -1 for nodes without tags
+	 * @return
+	 */
+	private int[] snapshot(){
+		int[] tags = new int[nodes.length];
+		for(int i=0; i<nodes.length; i++){
+			Node node = nodes[i];
+			int mask = 0;
+			if(node.taggedWith(ImmutabilityTags.MUTABLE)){
+				mask |= Qualifiers.MUTABLE;
+			}
+			if(node.taggedWith(ImmutabilityTags.POLYREAD)){
+				mask |= Qualifiers.POLYREAD;
+			}
+			if(node.taggedWith(ImmutabilityTags.READONLY)){
+				mask |= Qualifiers.READONLY;
+			}
+			if(node.taggedWith(ImmutabilityTags.PURE_METHOD)){
+				mask |= PURE;
+			}
+			if(mask == 0 && !node.taggedWith(ImmutabilityTags.UNTYPED)){
+				mask = -1;
+			}
+			tags[i] = mask;
+		}
+		return tags;
+	}
+
+	private static String toString(int tags){
+		if(tags == -1){
+			return "no tags";
+		}
+		if(tags == 0){
+			return "untyped";
+		}
+		String qualifiers = (tags & Qualifiers.ALL) == 0 ? "" : Qualifiers.toString(tags & Qualifiers.ALL);
+		return (tags & PURE) != 0 ? (qualifiers + " PURE").trim() : qualifiers;
+	}
+
+	private static AnalysisConfiguration.Builder configure(String engine){
+		return AnalysisConfiguration.builder()
+				.setAnalysisMode(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE)
+				.setInferenceEngine(engine)
+				.setGeneralLogging(false)
+				.setDebugLogging(false)
+				.setInferenceRuleLogging(false)
+				.setRunSanityChecks(false)
+				.setOnlineInvariantMonitoring(false)
+				.setTraceBufferSize(0)
+				.setProvenanceRecording(false)
+				.setLoadSummaries(false)
+				.setMethodModels(false);
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityAnalysis;
+
+/**
+ * Measures whole inference runs to the fixed point over synthetic programs of several sizes
+ *
+ * Each invocation analyzes the synthetic program as its scope with a new context, and
+ * the tags placed by the previous invocation are removed before the next one.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class FixedPointBenchmark {
+
+	@Param({"100", "1000", "10000"})
+	public int methods;
+
+	@Param({"8"})
+	public int assignmentsPerMethod;
+
+	private SyntheticGraph graph;
+	private AnalysisConfiguration configuration;
+
+	@Setup(Level.Trial)
+	public void setup(){
+		graph = SyntheticGraph.createProgram(methods, assignmentsPerMethod);
+		configuration = BenchmarkConfigurations.quiet();
+	}
+
+	@TearDown(Level.Invocation)
+	public void removeTags(){
+		graph.removeImmutabilityTags();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		graph.delete();
+	}
+
+	@Benchmark
+	public boolean analyze(){
+		return ImmutabilityAnalysis.create(new AnalysisContext(configuration, graph.getScope())).analyze(new NullProgressMonitor());
+	}
+
+}
@@ -0,0 +1,271 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A minimal JSON reader and writer for the benchmark history files
+ *
+ * Objects are read as maps that keep the order of their members, arrays as lists,
+ * numbers as doubles, and true, false and null as booleans and null. The same types
+ * (and any other numbers) can be written.
+ */
+public final class Json {
+
+	private final String text;
+	private int position = 0;
+
+	private Json(String text){
+		this.text = text;
+	}
+
+	/**
+	 * Parses a JSON document
+	 * @param text
+	 * @return
+	 * @throws IllegalArgumentException if the text is not valid JSON
+	 */
+	public static Object parse(String text){
+		Json parser = new Json(text);
+		Object value = parser.readValue();
+		parser.skipWhitespace();
+		if(parser.position != text.length()){
+			throw parser.error("Unexpected trailing characters");
+		}
+		return value;
+	}
+
+	/**
+	 * Writes a value as an indented JSON document
+	 * @param value
+	 * @return
+	 */
+	public static String write(Object value){
+		StringBuilder result = new StringBuilder();
+		write(value, result, "");
+		result.append('\n');
+		return result.toString();
+	}
+
+	private static void write(Object value, StringBuilder result, String indent){
+		if(value instanceof Map){
+			Map<?,?> map = (Map<?,?>) value;
+			if(map.isEmpty()){
+				result.append("{}");
+				return;
+			}
+			String memberIndent = indent + "  ";
+			result.append("{\n");
+			boolean first = true;
+			for(Map.Entry<?,?> entry : map.entrySet()){
+				if(!first){
+					result.append(",\n");
+				}
+				first = false;
+				result.append(memberIndent);
+				writeString(entry.getKey().toString(), result);
+				result.append(": ");
+				write(entry.getValue(), result, memberIndent);
+			}
+			result.append('\n').append(indent).append('}');
+		} else if(value instanceof List){
+			List<?> list = (List<?>) value;
+			if(list.isEmpty()){
+				result.append("[]");
+				return;
+			}
+			String elementIndent = indent + "  ";
+			result.append("[\n");
+			for(int i=0; i<list.size(); i++){
+				if(i > 0){
+					result.append(",\n");
+				}
+				result.append(elementIndent);
+				write(list.get(i), result, elementIndent);
+			}
+			result.append('\n').append(indent).append(']');
+		} else if(value instanceof Number){
+			double number = ((Number) value).doubleValue();
+			if(Double.isNaN(number) || Double.isInfinite(number)){
+				result.append("null");
+			} else if(number == Math.rint(number) && Math.abs(number) < 1e15){
+				result.append((long) number);
+			} else {
+				result.append(number);
+			}
+		} else if(value instanceof Boolean){
+			result.append(value.toString());
+		} else if(value == null){
+			result.append("null");
+		} else {
+			writeString(value.toString(), result);
+		}
+	}
+
+	private static void writeString(String value, StringBuilder result){
+		result.append('"');
+		for(int i=0; i<value.length(); i++){
+			char c = value.charAt(i);
+			switch(c){
+				case '"': result.append("\\\""); break;
+				case '\\': result.append("\\\\"); break;
+				case '\n': result.append("\\n"); break;
+				case '\r': result.append("\\r"); break;
+				case '\t': result.append("\\t"); break;
+				default:
+					if(c < 0x20){
+						result.append(String.format("\\u%04x", (int) c));
+					} else {
+						result.append(c);
+					}
+			}
+		}
+		result.append('"');
+	}
+
+	private Object readValue(){
+		skipWhitespace();
+		if(position >= text.length()){
+			throw error("Unexpected end of input");
+		}
+		char c = text.charAt(position);
+		switch(c){
+			case '{': return readObject();
+			case '[': return readArray();
+			case '"': return readString();
+			case 't': expect("true"); return Boolean.TRUE;
+			case 'f': expect("false"); return Boolean.FALSE;
+			case 'n': expect("null"); return null;
+			default: return readNumber();
+		}
+	}
+
+	private Map<String,Object> readObject(){
+		Map<String,Object> object = new LinkedHashMap<String,Object>();
+		position++;
+		skipWhitespace();
+		if(peek() == '}'){
+			position++;
+			return object;
+		}
+		while(true){
+			skipWhitespace();
+			if(peek() != '"'){
+				throw error("Expected a member name");
+			}
+			String name = readString();
+			skipWhitespace();
+			if(peek() != ':'){
+				throw error("Expected ':'");
+			}
+			position++;
+			object.put(name, readValue());
+			skipWhitespace();
+			char c = peek();
+			position++;
+			if(c == '}'){
+				return object;
+			} else if(c != ','){
+				throw error("Expected ',' or '}'");
+			}
+		}
+	}
+
+	private List<Object> readArray(){
+		List<Object> array = new ArrayList<Object>();
+		position++;
+		skipWhitespace();
+		if(peek() == ']'){
+			position++;
+			return array;
+		}
+		while(true){
+			array.add(readValue());
+			skipWhitespace();
+			char c = peek();
+			position++;
+			if(c == ']'){
+				return array;
+			} else if(c != ','){
+				throw error("Expected ',' or ']'");
+			}
+		}
+	}
+
+	private String readString(){
+		StringBuilder result = new StringBuilder();
+		position++;
+		while(true){
+			char c = peek();
+			position++;
+			if(c == '"'){
+				return result.toString();
+			} else if(c == '\\'){
+				char escape = peek();
+				position++;
+				switch(escape){
+					case '"': result.append('"'); break;
+					case '\\': result.append('\\'); break;
+					case '/': result.append('/'); break;
+					case 'b': result.append('\b'); break;
+					case 'f': result.append('\f'); break;
+					case 'n': result.append('\n'); break;
+					case 'r': result.append('\r'); break;
+					case 't': result.append('\t'); break;
+					case 'u':
+						if(position + 4 > text.length()){
+							throw error("Incomplete unicode escape");
+						}
+						result.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+						position += 4;
+						break;
+					default: throw error("Invalid escape");
+				}
+			} else {
+				result.append(c);
+			}
+		}
+	}
+
+	private Double readNumber(){
+		int start = position;
+		while(position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0){
+			position++;
+		}
+		if(start == position){
+			throw error("Unexpected character '" + text.charAt(position) + "'");
+		}
+		try {
+			return Double.valueOf(text.substring(start, position));
+		} catch (NumberFormatException e){
+			throw error("Invalid number");
+		}
+	}
+
+	private void expect(String literal){
+		if(!text.startsWith(literal, position)){
+			throw error("Expected " + literal);
+		}
+		position += literal.length();
+	}
+
+	private char peek(){
+		if(position >= text.length()){
+			throw error("Unexpected end of input");
+		}
+		return text.charAt(position);
+	}
+
+	private void skipWhitespace(){
+		while(position < text.length() && Character.isWhitespace(text.charAt(position))){
+			position++;
+		}
+	}
+
+	private IllegalArgumentException error(String message){
+		return new IllegalArgumentException(message + " at offset " + position);
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.BitSet;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityAnalysis;
+import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintExtractor;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.differential.DifferentialHarness;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngine;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+import com.ensoftcorp.open.immutability.core.graph.CompactProgramGraph;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.synthetic.SyntheticProgramGenerator;
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+
+/**
+ * Compares an engine of the core module with the legacy engine, which applies the
+ * inference rules to the Atlas graph, on generated synthetic programs
+ *
+ * The legacy engine analyzes the program created in the Atlas graph twice, once
+ * converting the qualifier sets to tags to compare the sets of each reference and
+ * once extracting the maximal types to compare the PURE tags of each method. The
+ * candidate engine solves the constraints extracted from the same program. A
+ * divergent program is minimized by generating smaller programs from the same seed
+ * until the smallest program the engines still diverge on is found.
+ */
+public class LegacyDifferentialCheck {
+
+	private static final int LIMIT = 10;
+
+	private final InferenceEngine candidate;
+	private final PrintStream out;
+
+	/**
+	 * @param candidate The engine of the core module that is checked
+	 * @param out The stream the comparisons are reported to
+	 */
+	public LegacyDifferentialCheck(InferenceEngine candidate, PrintStream out){
+		this.candidate = candidate;
+		this.out = out;
+	}
+
+	/**
+	 * Compares engines with the legacy engine and exits with status 1 if an engine diverges
+	 * Usage: LegacyDifferentialCheck [comma separated candidate engines] [assignments] [programs]
+	 * @param args
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+		String[] engines = args.length > 0 ? args[0].split(",") : InferenceEngines.getNames().toArray(new String[0]);
+		int assignments = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+		int programs = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+		boolean agree = true;
+		for(String engine : engines){
+			LegacyDifferentialCheck check = new LegacyDifferentialCheck(InferenceEngines.get(engine.trim()), System.out);
+			for(int seed=0; seed<programs; seed++){
+				if(!check.check(assignments, seed)){
+					agree = false;
+				}
+			}
+		}
+		if(!agree){
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Compares the engines on a generated program and minimizes the program if they diverge
+	 * @param assignments
+	 * @param seed
+	 * @return Returns true if the engines agree
+	 * @throws IOException
+	 */
+	public boolean check(int assignments, long seed) throws IOException {
+		int differences = compare(assignments, seed, true);
+		if(differences == 0){
+			out.println(candidate.getName() + " vs legacy on " + assignments + " assignments seed " + seed + ": agree");
+			return true;
+		}
+		out.println(candidate.getName() + " vs legacy on " + assignments + " assignments seed " + seed + ": " + differences + " differences");
+
+		// halve the program until the engines agree, then bisect between the agreeing and diverging sizes
+		int diverging = assignments;
+		int agreeing = 0;
+		while(diverging > 1){
+			int size = diverging / 2;
+			if(compare(size, seed, false) > 0){
+				diverging = size;
+			} else {
+				agreeing = size;
+				break;
+			}
+		}
+		while(diverging - agreeing > 1){
+			int size = (agreeing + diverging) / 2;
+			if(compare(size, seed, false) > 0){
+				diverging = size;
+			} else {
+				agreeing = size;
+			}
+		}
+		out.println("Smallest diverging program has " + diverging + " assignments with seed " + seed + ":");
+		compare(diverging, seed, true);
+		return false;
+	}
+
+	/**
+	 * Returns the number of references and methods the engines disagree on for a generated program
+	 * @param assignments
+	 * @param seed
+	 * @param report If true the differences are reported
+	 * @return
+	 * @throws IOException
+	 */
+	private int compare(int assignments, long seed, boolean report) throws IOException {
+		CompactProgramGraph program = SyntheticProgramGenerator.builder().setAssignments(assignments).setSeed(seed).build().generate();
+		ConstraintSystem system = new ConstraintExtractor(program, InferenceOptions.defaults()).extract();
+		Solution solution = candidate.solve(system, null);
+		BitSet candidatePure = DifferentialHarness.getPureMethods(program, system, solution);
+
+		SyntheticGraph graph = SyntheticGraph.createProgram(program);
+		File summaryFile = File.createTempFile("immutability-summary", ".xml");
+		try {
+			int differences = 0;
+
+			// the qualifier sets as tags
+			analyze(graph, configure().setGenerateSummaries(true).setSummaryFile(summaryFile.getAbsolutePath()).build());
+			for(int variable=0; variable<system.getVariableCount(); variable++){
+				if(system.isConstant(variable)){
+					continue;
+				}
+				int node = system.getNode(variable);
+				int legacyMask = getMask(graph.getProgramNode(node));
+				if(legacyMask != solution.getMask(variable)){
+					if(report && differences < LIMIT){
+						out.println("  node " + node + ": " + (legacyMask == -1 ? "untyped" : Qualifiers.toString(legacyMask)) + " in the legacy engine, "
+								+ Qualifiers.toString(solution.getMask(variable)) + " in " + candidate.getName());
+					}
+					differences++;
+				}
+			}
+			graph.removeImmutabilityTags();
+
+			// the PURE tags of the maximal types
+			analyze(graph, configure().setGenerateSummaries(false).build());
+			for(int node=0; node<program.getNodeCount(); node++){
+				if(!program.isKind(node, NodeKind.METHOD)){
+					continue;
+				}
+				boolean legacyPure = graph.getProgramNode(node).taggedWith(ImmutabilityTags.PURE_METHOD);
+				if(legacyPure != candidatePure.get(node)){
+					if(report && differences < LIMIT){
+						out.println("  method node " + node + ": " + (legacyPure ? "pure" : "not pure") + " in the legacy engine, "
+								+ (candidatePure.get(node) ? "pure" : "not pure") + " in " + candidate.getName());
+					}
+					differences++;
+				}
+			}
+			return differences;
+		} finally {
+			graph.removeImmutabilityTags();
+			graph.delete();
+			summaryFile.delete();
+		}
+	}
+
+	private static AnalysisConfiguration.Builder configure(){
+		return AnalysisConfiguration.builder()
+				.setAnalysisMode(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE)
+				.setInferenceEngine(ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY)
+				.setGeneralLogging(false)
+				.setDebugLogging(false)
+				.setInferenceRuleLogging(false)
+				.setRunSanityChecks(false)
+				.setOnlineInvariantMonitoring(false)
+				.setTraceBufferSize(0)
+				.setProvenanceRecording(false)
+				.setLoadSummaries(false)
+				.setMethodModels(false);
+	}
+
+	private static void analyze(SyntheticGraph graph, AnalysisConfiguration configuration){
+		ImmutabilityAnalysis.create(new AnalysisContext(configuration, graph.getScope())).analyze(new NullProgressMonitor());
+	}
+
+	/**
+	 * Returns the qualifier mask of the tags of a node, 0 for untyped nodes and -1 for nodes without immutability tags
+	 * @param node
+	 * @return
+	 */
+	private static int getMask(Node node){
+		if(node.taggedWith(ImmutabilityTags.UNTYPED)){
+			return 0;
+		}
+		int mask = 0;
+		if(node.taggedWith(ImmutabilityTags.MUTABLE)){
+			mask |= Qualifiers.MUTABLE;
+		}
+		if(node.taggedWith(ImmutabilityTags.POLYREAD)){
+			mask |= Qualifiers.POLYREAD;
+		}
+		if(node.taggedWith(ImmutabilityTags.READONLY)){
+			mask |= Qualifiers.READONLY;
+		}
+		return mask == 0 ? -1 : mask;
+	}
+
+}
@@ -0,0 +1,93 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisUtilities;
+
+/**
+ * Measures parseReferences on synthetic graphs
+ *
+ * Typable references resolve to themselves, casts are followed back through chains
+ * of the given depth, and field accesses are resolved to the fields they access.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParseReferencesBenchmark {
+
+	@Param({"256"})
+	public int references;
+
+	@Param({"1", "4", "16"})
+	public int castDepth;
+
+	private SyntheticGraph graph;
+	private Node[] assignments;
+	private Node[] casts;
+	private Node[] fieldWrites;
+
+	@Setup(Level.Trial)
+	public void setup(){
+		graph = new SyntheticGraph();
+		assignments = new Node[references];
+		casts = new Node[references];
+		fieldWrites = new Node[references];
+		for(int i=0; i<references; i++){
+			assignments[i] = graph.createNode("x" + i, XCSG.Assignment);
+			casts[i] = graph.createCastChain(assignments[i], castDepth);
+			Node field = graph.createNode("f" + i, XCSG.Field, XCSG.InstanceVariable);
+			fieldWrites[i] = graph.createNode("f" + i + "=", XCSG.Assignment, XCSG.InstanceVariableAssignment, XCSG.InstanceVariableAccess);
+			graph.createEdge(fieldWrites[i], field, XCSG.DataFlow_Edge, XCSG.InterproceduralDataFlow);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		graph.delete();
+	}
+
+	@Benchmark
+	public long parseTypable(){
+		long parsed = 0;
+		for(Node assignment : assignments){
+			parsed += AnalysisUtilities.parseReferences(assignment).size();
+		}
+		return parsed;
+	}
+
+	@Benchmark
+	public long parseCasts(){
+		long parsed = 0;
+		for(Node cast : casts){
+			parsed += AnalysisUtilities.parseReferences(cast).size();
+		}
+		return parsed;
+	}
+
+	@Benchmark
+	public long parseFieldWrites(){
+		long parsed = 0;
+		for(Node fieldWrite : fieldWrites){
+			parsed += AnalysisUtilities.parseReferences(fieldWrite).size();
+		}
+		return parsed;
+	}
+
+}
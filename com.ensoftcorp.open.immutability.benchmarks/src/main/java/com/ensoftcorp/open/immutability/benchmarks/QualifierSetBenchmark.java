@@ -0,0 +1,116 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.AnalysisUtilities;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+
+/**
+ * Measures the qualifier store of an analysis context through AnalysisUtilities
+ *
+ * getTypes is measured both for references that already have a qualifier set and
+ * for references that are given their default qualifier set, and removeTypes is
+ * measured both for removals that change the qualifier set and for removals that
+ * do not, which is the common case once the fixed point is near.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QualifierSetBenchmark {
+
+	@Param({"1024"})
+	public int references;
+
+	private SyntheticGraph graph;
+	private AnalysisContext context;
+	private Node[] nodes;
+
+	@Setup(Level.Trial)
+	public void setup(){
+		graph = new SyntheticGraph();
+		nodes = new Node[references];
+		for(int i=0; i<references; i++){
+			// parameters default to all three qualifiers
+			nodes[i] = graph.createNode("p" + i, XCSG.Parameter);
+		}
+		context = new AnalysisContext(BenchmarkConfigurations.quiet(), graph.getScope());
+		for(Node node : nodes){
+			AnalysisUtilities.getTypes(context, node);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		graph.delete();
+	}
+
+	@Benchmark
+	public int getTypes(){
+		int size = 0;
+		for(Node node : nodes){
+			size += AnalysisUtilities.getTypes(context, node).size();
+		}
+		return size;
+	}
+
+	@Benchmark
+	public int getDefaultTypes(){
+		int size = 0;
+		context.clearQualifiers();
+		for(Node node : nodes){
+			size += AnalysisUtilities.getTypes(context, node).size();
+		}
+		return size;
+	}
+
+	@Benchmark
+	public int removeTypesChanged(){
+		int changed = 0;
+		for(Node node : nodes){
+			reset(node, EnumSet.allOf(ImmutabilityTypes.class));
+			if(AnalysisUtilities.removeTypes(context, node, ImmutabilityTypes.READONLY)){
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	@Benchmark
+	public int removeTypesUnchanged(){
+		int changed = 0;
+		for(Node node : nodes){
+			reset(node, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			if(AnalysisUtilities.removeTypes(context, node, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD)){
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	private void reset(Node node, Set<ImmutabilityTypes> qualifiers){
+		Set<ImmutabilityTypes> types = AnalysisUtilities.getTypes(context, node);
+		types.clear();
+		types.addAll(qualifiers);
+	}
+
+}
@@ -0,0 +1,127 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ensoftcorp.open.immutability.analysis.AnalysisStatistics;
+
+/**
+ * The measurements of one analysis run of the scaling suite
+ *
+ * Each run is identified by its analysis mode, inference engine and program size,
+ * and its metrics are compared with the run of the same key in the previous suite run.
+ */
+public class ScalingResult {
+
+	private static final double NANOS_PER_MILLI = 1000.0 * 1000.0;
+
+	private final String mode;
+	private final String engine;
+	private final int assignments;
+	private final Map<String,Object> values = new LinkedHashMap<String,Object>();
+
+	private ScalingResult(String mode, String engine, int assignments){
+		this.mode = mode;
+		this.engine = engine;
+		this.assignments = assignments;
+		values.put("mode", mode);
+		values.put("engine", engine);
+		values.put("assignments", assignments);
+	}
+
+	/**
+	 * Creates the result of an analysis run
+	 * @param mode
+	 * @param engine
+	 * @param assignments The requested program size
+	 * @param nodes The number of nodes of the generated program
+	 * @param sane True if the analysis completed in a consistent state
+	 * @param wallTime The time the run took in nanoseconds, measured around the whole analysis
+	 * @param peakHeap The peak heap above the heap in use before the run in bytes
+	 * @param statistics The statistics recorded by the analysis
+	 * @return
+	 */
+	public static ScalingResult of(String mode, String engine, int assignments, int nodes, boolean sane, long wallTime, long peakHeap, AnalysisStatistics statistics){
+		ScalingResult result = new ScalingResult(mode, engine, assignments);
+		result.values.put("nodes", nodes);
+		result.values.put("sane", sane);
+		result.values.put("wallTimeMs", wallTime / NANOS_PER_MILLI);
+		result.values.put("iterations", statistics.getIterations());
+		result.values.put("constraints", statistics.getConstraints());
+		result.values.put("peakHeapBytes", peakHeap);
+		for(AnalysisStatistics.Phase phase : AnalysisStatistics.Phase.values()){
+			result.values.put(getPhaseMetric(phase), statistics.getTime(phase) / NANOS_PER_MILLI);
+		}
+		return result;
+	}
+
+	/**
+	 * Reads a result from its JSON object in a history file
+	 * @param object
+	 * @return
+	 */
+	public static ScalingResult fromJson(Map<?,?> object){
+		ScalingResult result = new ScalingResult((String) object.get("mode"), (String) object.get("engine"), ((Number) object.get("assignments")).intValue());
+		for(Map.Entry<?,?> entry : object.entrySet()){
+			result.values.put(entry.getKey().toString(), entry.getValue());
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the metric name of the time spent in a phase, such as solveMs
+	 * @param phase
+	 * @return
+	 */
+	public static String getPhaseMetric(AnalysisStatistics.Phase phase){
+		StringBuilder name = new StringBuilder();
+		for(String word : phase.name().toLowerCase().split("_")){
+			name.append(name.length() == 0 ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1));
+		}
+		return name.append("Ms").toString();
+	}
+
+	public String getMode() {
+		return mode;
+	}
+
+	public String getEngine() {
+		return engine;
+	}
+
+	public int getAssignments() {
+		return assignments;
+	}
+
+	/**
+	 * Returns the key that identifies the run across suite runs
+	 * @return
+	 */
+	public String getKey(){
+		return mode + "/" + engine + "/" + assignments;
+	}
+
+	/**
+	 * Returns the value of a numeric metric or NaN if the result does not have the metric
+	 * @param metric
+	 * @return
+	 */
+	public double getMetric(String metric){
+		Object value = values.get(metric);
+		return value instanceof Number ? ((Number) value).doubleValue() : Double.NaN;
+	}
+
+	/**
+	 * Returns the result as a JSON object
+	 * @return
+	 */
+	public Map<String,Object> toJson(){
+		return new LinkedHashMap<String,Object>(values);
+	}
+
+	@Override
+	public String toString() {
+		return "ScalingResult " + values;
+	}
+
+}
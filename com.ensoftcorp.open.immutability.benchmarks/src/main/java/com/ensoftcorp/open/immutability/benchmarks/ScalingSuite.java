@@ -0,0 +1,440 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.AnalysisStatistics;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityAnalysis;
+import com.ensoftcorp.open.immutability.core.graph.CompactProgramGraph;
+import com.ensoftcorp.open.immutability.core.synthetic.SyntheticProgramGenerator;
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+
+/**
+ * Runs the whole analysis over a ladder of generated program sizes and compares
+ * the measurements with the previous run recorded in a JSON history file
+ *
+ * Each run records the wall time, the iterations to the fixed point, the number of
+ * constraints, the peak heap and the time spent in each phase of the analysis. A
+ * metric regresses when it exceeds the same metric of the previous run of the same
+ * mode, engine and size by more than the threshold. The growth of the wall time and
+ * peak heap with the program size is estimated as the exponent of a power law fitted
+ * over the ladder, so 1 is linear and 2 is quadratic growth.
+ */
+public class ScalingSuite {
+
+	/**
+	 * The default relative increase of a metric that is reported as a regression
+	 */
+	public static final double DEFAULT_THRESHOLD = 0.2;
+
+	/**
+	 * Times below this many milliseconds are too noisy to compare
+	 */
+	private static final double TIME_NOISE_FLOOR = 10.0;
+
+	/**
+	 * Heaps below this many bytes are too noisy to compare
+	 */
+	private static final double HEAP_NOISE_FLOOR = 1024.0 * 1024.0;
+
+	private static final String POINTS_TO_ENGINE = "-";
+
+	private final File historyFile;
+	private int[] sizes = {10000, 20000, 40000, 80000, 160000};
+	private String[] modes = {ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE, ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_POINTSTO_MODE};
+	private String[] engines = {ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY};
+	private double threshold = DEFAULT_THRESHOLD;
+	private boolean summaries = false;
+	private long seed = 0;
+	private String label = "";
+	private PrintStream out = System.out;
+
+	public ScalingSuite(File historyFile){
+		this.historyFile = historyFile;
+	}
+
+	/**
+	 * Runs the suite and exits with status 1 if a metric regressed
+	 * Usage: ScalingSuite <history file> [threshold] [comma separated sizes] [comma separated engines] [label]
+	 * @param args
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1){
+			System.err.println("Usage: ScalingSuite <history file> [threshold] [comma separated sizes] [comma separated engines] [label]");
+			System.exit(2);
+		}
+		ScalingSuite suite = new ScalingSuite(new File(args[0]));
+		if(args.length > 1){
+			suite.setThreshold(Double.parseDouble(args[1]));
+		}
+		if(args.length > 2){
+			String[] values = args[2].split(",");
+			int[] sizes = new int[values.length];
+			for(int i=0; i<values.length; i++){
+				sizes[i] = Integer.parseInt(values[i].trim());
+			}
+			suite.setSizes(sizes);
+		}
+		if(args.length > 3){
+			suite.setEngines(args[3].split(","));
+		}
+		if(args.length > 4){
+			suite.setLabel(args[4]);
+		}
+		if(!suite.run()){
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Sets the program sizes in assignments, the default doubles from 10000 to 160000
+	 * @param sizes
+	 * @return
+	 */
+	public ScalingSuite setSizes(int... sizes){
+		this.sizes = sizes.clone();
+		return this;
+	}
+
+	/**
+	 * Sets the analysis modes to run, one of the ImmutabilityPreferences analysis mode values
+	 * @param modes
+	 * @return
+	 */
+	public ScalingSuite setModes(String... modes){
+		this.modes = modes.clone();
+		return this;
+	}
+
+	/**
+	 * Sets the inference engines the inference and hybrid modes run with
+	 * @param engines
+	 * @return
+	 */
+	public ScalingSuite setEngines(String... engines){
+		this.engines = engines.clone();
+		return this;
+	}
+
+	/**
+	 * Sets the relative increase of a metric that is reported as a regression
+	 * @param threshold
+	 * @return
+	 */
+	public ScalingSuite setThreshold(double threshold){
+		if(threshold < 0){
+			throw new IllegalArgumentException("Threshold must not be negative");
+		}
+		this.threshold = threshold;
+		return this;
+	}
+
+	/**
+	 * Sets whether summaries are generated to a temporary file instead of tagging the
+	 * maximal types, so that the summary I/O phase is measured
+	 * @param summaries
+	 * @return
+	 */
+	public ScalingSuite setSummaries(boolean summaries){
+		this.summaries = summaries;
+		return this;
+	}
+
+	/**
+	 * Sets the seed of the generated programs
+	 * @param seed
+	 * @return
+	 */
+	public ScalingSuite setSeed(long seed){
+		this.seed = seed;
+		return this;
+	}
+
+	/**
+	 * Sets a label recorded with the run, such as a commit
+	 * @param label
+	 * @return
+	 */
+	public ScalingSuite setLabel(String label){
+		this.label = label;
+		return this;
+	}
+
+	/**
+	 * Sets the stream progress and regressions are reported to
+	 * @param out
+	 * @return
+	 */
+	public ScalingSuite setOutput(PrintStream out){
+		this.out = out;
+		return this;
+	}
+
+	/**
+	 * Runs the suite, compares it with the previous run and appends it to the history file
+	 * @return Returns true if no metric regressed
+	 * @throws IOException
+	 */
+	public boolean run() throws IOException {
+		Map<String,Object> history = readHistory();
+		@SuppressWarnings("unchecked")
+		List<Object> runs = (List<Object>) history.get("runs");
+
+		List<ScalingResult> results = new ArrayList<ScalingResult>();
+		for(String mode : modes){
+			boolean pointsTo = mode.equals(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_POINTSTO_MODE);
+			for(String engine : pointsTo ? new String[]{POINTS_TO_ENGINE} : engines){
+				for(int size : sizes){
+					ScalingResult result = measure(mode, engine, size);
+					out.println(result);
+					results.add(result);
+				}
+			}
+		}
+
+		List<String> regressions = findRegressions(results, getPreviousResults(runs));
+		for(String regression : regressions){
+			out.println("Regression: " + regression);
+		}
+		List<Object> growth = estimateGrowth(results);
+		for(Object estimate : growth){
+			out.println("Growth: " + estimate);
+		}
+
+		Map<String,Object> run = new LinkedHashMap<String,Object>();
+		run.put("timestamp", new Date().getTime());
+		run.put("label", label);
+		run.put("threshold", threshold);
+		List<Object> resultObjects = new ArrayList<Object>();
+		for(ScalingResult result : results){
+			resultObjects.add(result.toJson());
+		}
+		run.put("results", resultObjects);
+		run.put("growth", growth);
+		run.put("regressions", new ArrayList<Object>(regressions));
+		runs.add(run);
+		Files.write(historyFile.toPath(), Json.write(history).getBytes(StandardCharsets.UTF_8));
+
+		return regressions.isEmpty();
+	}
+
+	private ScalingResult measure(String mode, String engine, int size) throws IOException {
+		CompactProgramGraph program = SyntheticProgramGenerator.builder().setAssignments(size).setSeed(seed).build().generate();
+		SyntheticGraph graph = SyntheticGraph.createProgram(program);
+		File summaryFile = null;
+		try {
+			AnalysisConfiguration.Builder configuration = AnalysisConfiguration.builder()
+					.setAnalysisMode(mode)
+					.setGeneralLogging(false)
+					.setDebugLogging(false)
+					.setInferenceRuleLogging(false)
+					.setRunSanityChecks(true)
+					.setOnlineInvariantMonitoring(false)
+					.setTraceBufferSize(0)
+					.setProvenanceRecording(false)
+					.setLoadSummaries(false)
+					.setMethodModels(false)
+					.setGenerateSummaries(summaries);
+			if(!engine.equals(POINTS_TO_ENGINE)){
+				configuration.setInferenceEngine(engine);
+			}
+			if(summaries){
+				summaryFile = File.createTempFile("immutability-summary", ".xml");
+				configuration.setSummaryFile(summaryFile.getAbsolutePath());
+			}
+
+			System.gc();
+			long baseline = getHeapUsage();
+			resetPeakHeapUsage();
+			AnalysisContext context = new AnalysisContext(configuration.build(), graph.getScope());
+			long start = System.nanoTime();
+			boolean sane = ImmutabilityAnalysis.create(context).analyze(new NullProgressMonitor());
+			long wallTime = System.nanoTime() - start;
+			long peakHeap = Math.max(0, getPeakHeapUsage() - baseline);
+			return ScalingResult.of(mode, engine, size, program.getNodeCount(), sane, wallTime, peakHeap, context.getStatistics());
+		} finally {
+			graph.removeImmutabilityTags();
+			graph.delete();
+			if(summaryFile != null){
+				summaryFile.delete();
+			}
+		}
+	}
+
+	private Map<String,Object> readHistory() throws IOException {
+		if(historyFile.exists()){
+			Object history = Json.parse(new String(Files.readAllBytes(historyFile.toPath()), StandardCharsets.UTF_8));
+			if(!(history instanceof Map) || !(((Map<?,?>) history).get("runs") instanceof List)){
+				throw new IOException("Not a scaling suite history file: " + historyFile);
+			}
+			@SuppressWarnings("unchecked")
+			Map<String,Object> result = (Map<String,Object>) history;
+			return result;
+		}
+		Map<String,Object> history = new LinkedHashMap<String,Object>();
+		history.put("runs", new ArrayList<Object>());
+		return history;
+	}
+
+	/**
+	 * Returns the most recent result of each key in the recorded runs
+	 * @param runs
+	 * @return
+	 */
+	private static Map<String,ScalingResult> getPreviousResults(List<Object> runs){
+		Map<String,ScalingResult> previous = new HashMap<String,ScalingResult>();
+		for(Object run : runs){
+			Object results = ((Map<?,?>) run).get("results");
+			if(results instanceof List){
+				for(Object result : (List<?>) results){
+					ScalingResult previousResult = ScalingResult.fromJson((Map<?,?>) result);
+					previous.put(previousResult.getKey(), previousResult);
+				}
+			}
+		}
+		return previous;
+	}
+
+	private List<String> findRegressions(List<ScalingResult> results, Map<String,ScalingResult> previousResults){
+		List<String> metrics = new ArrayList<String>();
+		metrics.add("wallTimeMs");
+		for(AnalysisStatistics.Phase phase : AnalysisStatistics.Phase.values()){
+			metrics.add(ScalingResult.getPhaseMetric(phase));
+		}
+		metrics.add("peakHeapBytes");
+		metrics.add("iterations");
+		metrics.add("constraints");
+
+		List<String> regressions = new ArrayList<String>();
+		for(ScalingResult result : results){
+			ScalingResult previous = previousResults.get(result.getKey());
+			if(previous == null){
+				continue;
+			}
+			for(String metric : metrics){
+				double value = result.getMetric(metric);
+				double previousValue = previous.getMetric(metric);
+				if(Double.isNaN(value) || Double.isNaN(previousValue)){
+					continue;
+				}
+				double floor = metric.endsWith("Ms") ? TIME_NOISE_FLOOR : metric.equals("peakHeapBytes") ? HEAP_NOISE_FLOOR : 0;
+				if(value < floor){
+					continue;
+				}
+				if(value > Math.max(previousValue, floor) * (1 + threshold)){
+					regressions.add(String.format("%s %s: %.1f -> %.1f", result.getKey(), metric, previousValue, value));
+				}
+			}
+		}
+		return regressions;
+	}
+
+	/**
+	 * Fits a power law to the wall time and peak heap of each mode and engine
+	 * @param results
+	 * @return
+	 */
+	private static List<Object> estimateGrowth(List<ScalingResult> results){
+		Map<String,List<ScalingResult>> series = new LinkedHashMap<String,List<ScalingResult>>();
+		for(ScalingResult result : results){
+			String key = result.getMode() + "/" + result.getEngine();
+			List<ScalingResult> values = series.get(key);
+			if(values == null){
+				values = new ArrayList<ScalingResult>();
+				series.put(key, values);
+			}
+			values.add(result);
+		}
+		List<Object> growth = new ArrayList<Object>();
+		for(List<ScalingResult> values : series.values()){
+			if(values.size() < 2){
+				continue;
+			}
+			Map<String,Object> estimate = new LinkedHashMap<String,Object>();
+			estimate.put("mode", values.get(0).getMode());
+			estimate.put("engine", values.get(0).getEngine());
+			double wallTimeExponent = getExponent(values, "wallTimeMs");
+			estimate.put("wallTimeExponent", wallTimeExponent);
+			estimate.put("peakHeapExponent", getExponent(values, "peakHeapBytes"));
+			estimate.put("wallTimeGrowth", wallTimeExponent < 1.3 ? "linear" : wallTimeExponent < 1.8 ? "superlinear" : "quadratic");
+			growth.add(estimate);
+		}
+		return growth;
+	}
+
+	/**
+	 * Returns the slope of the least squares line through the logarithms of the
+	 * metric and the program size, or NaN if there are not enough positive values
+	 * @param results
+	 * @param metric
+	 * @return
+	 */
+	private static double getExponent(List<ScalingResult> results, String metric){
+		int count = 0;
+		double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+		for(ScalingResult result : results){
+			double value = result.getMetric(metric);
+			if(!(value > 0)){
+				continue;
+			}
+			double x = Math.log(result.getAssignments());
+			double y = Math.log(value);
+			count++;
+			sumX += x;
+			sumY += y;
+			sumXX += x * x;
+			sumXY += x * y;
+		}
+		double denominator = count * sumXX - sumX * sumX;
+		if(count < 2 || denominator == 0){
+			return Double.NaN;
+		}
+		return (count * sumXY - sumX * sumY) / denominator;
+	}
+
+	private static long getHeapUsage(){
+		long used = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()){
+			if(pool.getType() == MemoryType.HEAP){
+				used += pool.getUsage().getUsed();
+			}
+		}
+		return used;
+	}
+
+	private static void resetPeakHeapUsage(){
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()){
+			if(pool.getType() == MemoryType.HEAP){
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	private static long getPeakHeapUsage(){
+		long peak = 0;
+		for(MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()){
+			if(pool.getType() == MemoryType.HEAP){
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+}
@@ -0,0 +1,178 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.AnalysisUtilities;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.solvers.XEqualsYConstraintSolver;
+import com.ensoftcorp.open.immutability.analysis.solvers.XFieldAdaptYGreaterThanEqualZConstraintSolver;
+import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYConstraintSolver;
+import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYFieldAdaptZConstraintSolver;
+import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYMethodAdaptZConstraintSolver;
+import com.ensoftcorp.open.immutability.analysis.solvers.XMethodAdaptYGreaterThanEqualZConstraintSolver;
+
+/**
+ * Measures the constraint solvers over every combination of nonempty operand qualifier sets
+ *
+ * An invocation restores the input qualifier sets of each case and solves it, so the
+ * three operand solvers solve all 343 cases, x :> y solves all 49 cases and x = Y solves
+ * all 21 cases per invocation. The resetAllCases benchmark measures the restoring alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SolverBenchmark {
+
+	/**
+	 * The 7 nonempty subsets of the qualifiers
+	 */
+	private static final List<EnumSet<ImmutabilityTypes>> QUALIFIER_SETS = new ArrayList<EnumSet<ImmutabilityTypes>>();
+	static {
+		for(int mask=1; mask<=7; mask++){
+			EnumSet<ImmutabilityTypes> set = EnumSet.noneOf(ImmutabilityTypes.class);
+			for(ImmutabilityTypes type : ImmutabilityTypes.values()){
+				if((mask & (1 << type.ordinal())) != 0){
+					set.add(type);
+				}
+			}
+			QUALIFIER_SETS.add(set);
+		}
+	}
+
+	@Param({"XGreaterThanEqualY",
+		"XGreaterThanEqualYFieldAdaptZ",
+		"XFieldAdaptYGreaterThanEqualZ",
+		"XGreaterThanEqualYMethodAdaptZ",
+		"XMethodAdaptYGreaterThanEqualZ",
+		"XEqualsY"})
+	public String solver;
+
+	/**
+	 * The solver parameter resolved once so that it is not compared in the measured loop
+	 */
+	private int solverId;
+
+	private SyntheticGraph graph;
+	private AnalysisContext context;
+
+	/**
+	 * The operands of each case
+	 */
+	private Node[][] operands;
+
+	/**
+	 * The input qualifier sets of each operand of each case
+	 */
+	private EnumSet<ImmutabilityTypes>[][] inputs;
+
+	/**
+	 * The qualifier compared against by x = Y for each case
+	 */
+	private ImmutabilityTypes[] constants;
+
+	@SuppressWarnings("unchecked")
+	@Setup(Level.Trial)
+	public void setup(){
+		if(solver.equals("XGreaterThanEqualY")){
+			solverId = 0;
+		} else if(solver.equals("XGreaterThanEqualYFieldAdaptZ")){
+			solverId = 1;
+		} else if(solver.equals("XFieldAdaptYGreaterThanEqualZ")){
+			solverId = 2;
+		} else if(solver.equals("XGreaterThanEqualYMethodAdaptZ")){
+			solverId = 3;
+		} else if(solver.equals("XMethodAdaptYGreaterThanEqualZ")){
+			solverId = 4;
+		} else if(solver.equals("XEqualsY")){
+			solverId = 5;
+		} else {
+			throw new IllegalArgumentException("Unknown solver: " + solver);
+		}
+		int arity = solverId == 5 ? 1 : (solverId == 0 ? 2 : 3);
+		int operandCases = (int) Math.pow(QUALIFIER_SETS.size(), arity);
+		int cases = solverId == 5 ? operandCases * ImmutabilityTypes.values().length : operandCases;
+		graph = new SyntheticGraph();
+		operands = new Node[cases][arity];
+		inputs = new EnumSet[cases][arity];
+		constants = new ImmutabilityTypes[cases];
+		for(int c=0; c<cases; c++){
+			int index = c % operandCases;
+			for(int i=0; i<arity; i++){
+				operands[c][i] = graph.createNode("case" + c + "_" + i, XCSG.Assignment);
+				inputs[c][i] = QUALIFIER_SETS.get(index % QUALIFIER_SETS.size());
+				index /= QUALIFIER_SETS.size();
+			}
+			constants[c] = ImmutabilityTypes.values()[c / operandCases];
+		}
+		context = new AnalysisContext(BenchmarkConfigurations.quiet(), graph.getScope());
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		graph.delete();
+	}
+
+	@Benchmark
+	public int solveAllCases(){
+		int changed = 0;
+		for(int c=0; c<operands.length; c++){
+			reset(c);
+			if(solve(c)){
+				changed++;
+			}
+		}
+		return changed;
+	}
+
+	@Benchmark
+	public int resetAllCases(){
+		for(int c=0; c<operands.length; c++){
+			reset(c);
+		}
+		return operands.length;
+	}
+
+	private void reset(int c){
+		Node[] caseOperands = operands[c];
+		for(int i=0; i<caseOperands.length; i++){
+			Set<ImmutabilityTypes> types = AnalysisUtilities.getTypes(context, caseOperands[i]);
+			types.clear();
+			types.addAll(inputs[c][i]);
+		}
+	}
+
+	private boolean solve(int c){
+		Node[] o = operands[c];
+		switch(solverId){
+			case 0: return XGreaterThanEqualYConstraintSolver.satisify(context, o[0], o[1]);
+			case 1: return XGreaterThanEqualYFieldAdaptZConstraintSolver.satisify(context, o[0], o[1], o[2]);
+			case 2: return XFieldAdaptYGreaterThanEqualZConstraintSolver.satisify(context, o[0], o[1], o[2]);
+			case 3: return XGreaterThanEqualYMethodAdaptZConstraintSolver.satisify(context, o[0], o[1], o[2]);
+			case 4: return XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(context, o[0], o[1], o[2]);
+			default: return XEqualsYConstraintSolver.satisfy(context, o[0], constants[c]);
+		}
+	}
+
+}
@@ -0,0 +1,272 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ensoftcorp.atlas.core.db.graph.Edge;
+import com.ensoftcorp.atlas.core.db.graph.Graph;
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AtlasProgramGraph;
+import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+import com.ensoftcorp.open.immutability.core.graph.EdgeKind;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+
+/**
+ * A program graph created in the Atlas graph for a benchmark
+ *
+ * The graph records the elements it creates so that a benchmark can use them as the
+ * scope of an analysis and remove them from the Atlas graph when it tears down.
+ */
+public class SyntheticGraph {
+
+	private final AtlasSet<Node> nodes = new AtlasHashSet<Node>();
+	private final AtlasSet<Edge> edges = new AtlasHashSet<Edge>();
+	private Node[] programNodes = new Node[0];
+
+	/**
+	 * Creates a program of a single class with the given number of methods
+	 *
+	 * Each method passes a new instance and its parameter through a chain of local
+	 * assignments, writes the result to a field of this, and reads the field of its
+	 * parameter, so the fixed point exercises TNEW, TASSIGN, TWRITE and TREAD.
+	 * Methods share fields round robin, which links the constraints of the methods.
+	 *
+	 * @param methods The number of methods
+	 * @param assignmentsPerMethod The length of the local assignment chain in each method
+	 * @return
+	 */
+	public static SyntheticGraph createProgram(int methods, int assignmentsPerMethod){
+		SyntheticGraph graph = new SyntheticGraph();
+		Node type = graph.createNode("C", XCSG.Classifier);
+		int numFields = Math.max(1, methods / 10);
+		Node[] fields = new Node[numFields];
+		for(int i=0; i<numFields; i++){
+			fields[i] = graph.createNode("f" + i, XCSG.Field, XCSG.InstanceVariable);
+			graph.createEdge(type, fields[i], XCSG.Contains);
+		}
+		for(int i=0; i<methods; i++){
+			Node method = graph.createNode("m" + i, XCSG.Method, XCSG.InstanceMethod);
+			graph.createEdge(type, method, XCSG.Contains);
+			Node identity = graph.createMember(method, "this", XCSG.Identity);
+			Node parameter = graph.createMember(method, "p", XCSG.Parameter);
+			Node instantiation = graph.createMember(method, "new C", XCSG.Instantiation);
+
+			// x0 = new C(); x1 = x0; x2 = p; x3 = x2; ...
+			Node previous = instantiation;
+			for(int j=0; j<assignmentsPerMethod; j++){
+				Node assignment = graph.createMember(method, "x" + j, XCSG.Assignment);
+				graph.createEdge(j % 3 == 2 ? parameter : previous, assignment, XCSG.DataFlow_Edge, XCSG.LocalDataFlow);
+				previous = assignment;
+			}
+
+			// this.f = x
+			Node field = fields[i % numFields];
+			Node fieldWrite = graph.createMember(method, field.getAttr(XCSG.name) + "=", XCSG.Assignment, XCSG.InstanceVariableAssignment, XCSG.InstanceVariableAccess);
+			graph.createEdge(previous, fieldWrite, XCSG.DataFlow_Edge, XCSG.LocalDataFlow);
+			graph.createEdge(fieldWrite, field, XCSG.DataFlow_Edge, XCSG.InterproceduralDataFlow);
+			graph.createEdge(identity, fieldWrite, XCSG.InstanceVariableAccessed);
+
+			// y = p.f
+			Node fieldRead = graph.createMember(method, "." + field.getAttr(XCSG.name), XCSG.InstanceVariableValue, XCSG.InstanceVariableAccess);
+			graph.createEdge(field, fieldRead, XCSG.DataFlow_Edge, XCSG.InterproceduralDataFlow);
+			graph.createEdge(parameter, fieldRead, XCSG.InstanceVariableAccessed);
+			Node read = graph.createMember(method, "y", XCSG.Assignment);
+			graph.createEdge(fieldRead, read, XCSG.DataFlow_Edge, XCSG.LocalDataFlow);
+		}
+		return graph;
+	}
+
+	/**
+	 * Creates the nodes and edges of a program graph, such as a generated synthetic program,
+	 * in the Atlas graph
+	 *
+	 * Nodes are tagged with the tags AtlasProgramGraph reads the node kinds from, so the
+	 * analysis sees the same program through the Atlas graph as the core engines see
+	 * through the program graph. Nodes that have a containing method but no parent are
+	 * contained by their method.
+	 *
+	 * @param program
+	 * @return
+	 */
+	public static SyntheticGraph createProgram(ProgramGraph program){
+		SyntheticGraph graph = new SyntheticGraph();
+		Node[] nodes = new Node[program.getNodeCount()];
+		graph.programNodes = nodes;
+		for(int node=0; node<nodes.length; node++){
+			nodes[node] = graph.createNode(program.getName(node), getTags(program, node));
+			int parameterIndex = program.getParameterIndex(node);
+			if(parameterIndex != -1){
+				nodes[node].putAttr(XCSG.parameterIndex, parameterIndex);
+			}
+		}
+		for(int node=0; node<nodes.length; node++){
+			for(EdgeKind kind : EdgeKind.values()){
+				if(kind == EdgeKind.DATA_FLOW || kind == EdgeKind.DISPLAY_REFERENCE){
+					// data flows are created as local or interprocedural data flows
+					continue;
+				}
+				for(int successor : program.getSuccessors(node, kind)){
+					graph.createEdge(nodes[node], nodes[successor], getTags(program, node, kind));
+				}
+			}
+			int method = program.getContainingMethod(node);
+			if(method != -1 && program.getPredecessors(node, EdgeKind.CONTAINS).length == 0){
+				graph.createEdge(nodes[method], nodes[node], XCSG.Contains);
+			}
+		}
+		return graph;
+	}
+
+	private static String[] getTags(ProgramGraph program, int node){
+		List<String> tags = new ArrayList<String>();
+		for(NodeKind kind : NodeKind.values()){
+			if(program.isKind(node, kind)){
+				tags.add(AtlasProgramGraph.getTag(kind));
+			}
+		}
+		if(program.isKind(node, NodeKind.TYPE) && program.getSuccessors(node, EdgeKind.CONTAINS).length > 0){
+			tags.add(XCSG.Classifier);
+		}
+		if(program.isKind(node, NodeKind.INSTANCE_VARIABLE) || program.isKind(node, NodeKind.CLASS_VARIABLE)){
+			tags.add(XCSG.Field);
+		}
+		if(program.isKind(node, NodeKind.METHOD)){
+			tags.add(hasIdentity(program, node) ? XCSG.InstanceMethod : XCSG.ClassMethod);
+		}
+		if(program.isKind(node, NodeKind.PARAMETER_PASS) && program.getSuccessors(node, EdgeKind.IDENTITY_PASSED_TO).length > 0){
+			tags.add(XCSG.IdentityPass);
+		}
+		if(tags.isEmpty()){
+			// statements that contain callsites and their parameter passes
+			tags.add(XCSG.ControlFlow_Node);
+		}
+		return tags.toArray(new String[tags.size()]);
+	}
+
+	private static boolean hasIdentity(ProgramGraph program, int method){
+		for(int child : program.getSuccessors(method, EdgeKind.CONTAINS)){
+			if(program.isKind(child, NodeKind.IDENTITY)){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String[] getTags(ProgramGraph program, int from, EdgeKind kind){
+		switch(kind){
+			case LOCAL_DATA_FLOW: return new String[]{ XCSG.DataFlow_Edge, XCSG.LocalDataFlow };
+			case INTERPROCEDURAL_DATA_FLOW: return new String[]{ XCSG.DataFlow_Edge, XCSG.InterproceduralDataFlow };
+			case INSTANCE_VARIABLE_ACCESSED: return new String[]{ XCSG.InstanceVariableAccessed };
+			case IDENTITY_PASSED_TO: return new String[]{ XCSG.IdentityPassedTo };
+			case ARRAY_IDENTITY_FOR: return new String[]{ XCSG.ArrayIdentityFor };
+			case INVOKED: return new String[]{ program.isKind(from, NodeKind.STATIC_DISPATCH_CALL_SITE) ? XCSG.InvokedFunction : XCSG.InvokedSignature };
+			case OVERRIDES: return new String[]{ XCSG.Overrides };
+			case CONTAINS: return new String[]{ XCSG.Contains };
+			default: throw new IllegalArgumentException("Unexpected edge kind: " + kind);
+		}
+	}
+
+	/**
+	 * Creates a chain of casts of the given depth over a reference
+	 * @param reference
+	 * @param depth
+	 * @return Returns the outermost cast
+	 */
+	public Node createCastChain(Node reference, int depth){
+		Node previous = reference;
+		for(int i=0; i<depth; i++){
+			Node cast = createNode("cast" + i, XCSG.Cast);
+			createEdge(previous, cast, XCSG.DataFlow_Edge, XCSG.LocalDataFlow);
+			previous = cast;
+		}
+		return previous;
+	}
+
+	public Node createNode(String name, String... tags){
+		Node node = Graph.U.createNode();
+		node.putAttr(XCSG.name, name);
+		for(String tag : tags){
+			node.tag(tag);
+		}
+		nodes.add(node);
+		return node;
+	}
+
+	/**
+	 * Creates a node contained by the given method
+	 * @param method
+	 * @param name
+	 * @param tags
+	 * @return
+	 */
+	public Node createMember(Node method, String name, String... tags){
+		Node node = createNode(name, tags);
+		createEdge(method, node, XCSG.Contains);
+		return node;
+	}
+
+	public Edge createEdge(Node from, Node to, String... tags){
+		Edge edge = Graph.U.createEdge(from, to);
+		for(String tag : tags){
+			edge.tag(tag);
+		}
+		edges.add(edge);
+		return edge;
+	}
+
+	/**
+	 * Returns the Atlas node created for a node of the program graph the graph was created from
+	 * @param node
+	 * @return
+	 */
+	public Node getProgramNode(int node){
+		return programNodes[node];
+	}
+
+	public AtlasSet<Node> getNodes(){
+		return nodes;
+	}
+
+	/**
+	 * Returns the created nodes as an analysis scope
+	 * @return
+	 */
+	public Q getScope(){
+		return Common.toQ(nodes);
+	}
+
+	/**
+	 * Removes the immutability tags that an analysis placed on the created nodes
+	 */
+	public void removeImmutabilityTags(){
+		for(Node node : nodes){
+			node.tags().remove(ImmutabilityTags.READONLY);
+			node.tags().remove(ImmutabilityTags.POLYREAD);
+			node.tags().remove(ImmutabilityTags.MUTABLE);
+			node.tags().remove(ImmutabilityTags.UNTYPED);
+			node.tags().remove(ImmutabilityTags.PURE_METHOD);
+		}
+	}
+
+	/**
+	 * Removes the created elements from the Atlas graph
+	 */
+	public void delete(){
+		for(Edge edge : edges){
+			Graph.U.delete(edge);
+		}
+		for(Node node : nodes){
+			Graph.U.delete(node);
+		}
+		edges.clear();
+		nodes.clear();
+		programNodes = new Node[0];
+	}
+
+}
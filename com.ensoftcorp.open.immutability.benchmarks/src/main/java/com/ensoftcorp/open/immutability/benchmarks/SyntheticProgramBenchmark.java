@@ -0,0 +1,99 @@
+package com.ensoftcorp.open.immutability.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.ImmutabilityAnalysis;
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintExtractor;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngine;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
+import com.ensoftcorp.open.immutability.core.graph.CompactProgramGraph;
+import com.ensoftcorp.open.immutability.core.synthetic.SyntheticProgramGenerator;
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+
+/**
+ * Measures inference over generated synthetic programs of several sizes
+ *
+ * The legacy engine analyzes the program created in the Atlas graph, the engines of the
+ * core module extract and solve the constraints of the generated program graph directly.
+ * Both see the same program, generated from the same seed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class SyntheticProgramBenchmark {
+
+	@Param({"10000", "100000"})
+	public int assignments;
+
+	@Param({"0.05"})
+	public double cycleDensity;
+
+	@Param({ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY, "round-robin", "worklist"})
+	public String engine;
+
+	private CompactProgramGraph program;
+	private SyntheticGraph graph;
+	private AnalysisConfiguration configuration;
+	private InferenceEngine inferenceEngine;
+	private InferenceOptions options;
+
+	@Setup(Level.Trial)
+	public void setup(){
+		program = SyntheticProgramGenerator.builder().setAssignments(assignments).setCycleDensity(cycleDensity).build().generate();
+		if(isLegacy()){
+			graph = SyntheticGraph.createProgram(program);
+			configuration = BenchmarkConfigurations.quiet();
+		} else {
+			inferenceEngine = InferenceEngines.get(engine);
+			options = InferenceOptions.defaults();
+		}
+	}
+
+	@TearDown(Level.Invocation)
+	public void removeTags(){
+		if(graph != null){
+			graph.removeImmutabilityTags();
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown(){
+		if(graph != null){
+			graph.delete();
+			graph = null;
+		}
+		program = null;
+	}
+
+	@Benchmark
+	public Object infer(){
+		if(isLegacy()){
+			return ImmutabilityAnalysis.create(new AnalysisContext(configuration, graph.getScope())).analyze(new NullProgressMonitor());
+		}
+		return inferenceEngine.solve(new ConstraintExtractor(program, options).extract(), null);
+	}
+
+	private boolean isLegacy(){
+		return ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY.equals(engine);
+	}
+
+}
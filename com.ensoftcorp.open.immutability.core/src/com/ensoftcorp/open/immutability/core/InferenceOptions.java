@@ -0,0 +1,51 @@
+package com.ensoftcorp.open.immutability.core;
+
+/**
+ * The inference rule variants applied when constraints are extracted from a program graph
+ *
+ * The options correspond to the inference preferences of the Atlas plugin.
+ */
+public final class InferenceOptions {
+
+	private final boolean fieldAdaptations;
+	private final boolean containerConsideration;
+	private final boolean allowDefaultMutableInstanceVariables;
+
+	/**
+	 * @param fieldAdaptations Use field viewpoint adaptation for field reads and writes (FSE 2012) instead of method adaptation (OOPSLA 2012)
+	 * @param containerConsideration Mutations to a field also mutate the instances that contain the field
+	 * @param allowDefaultMutableInstanceVariables Instance variables include mutable by default
+	 */
+	public InferenceOptions(boolean fieldAdaptations, boolean containerConsideration, boolean allowDefaultMutableInstanceVariables){
+		this.fieldAdaptations = fieldAdaptations;
+		this.containerConsideration = containerConsideration;
+		this.allowDefaultMutableInstanceVariables = allowDefaultMutableInstanceVariables;
+	}
+
+	/**
+	 * Returns the options matching the default preferences of the Atlas plugin
+	 * @return
+	 */
+	public static InferenceOptions defaults(){
+		return new InferenceOptions(true, true, true);
+	}
+
+	public boolean isFieldAdaptationsEnabled() {
+		return fieldAdaptations;
+	}
+
+	public boolean isContainerConsiderationEnabled() {
+		return containerConsideration;
+	}
+
+	public boolean isAllowDefaultMutableInstanceVariablesEnabled() {
+		return allowDefaultMutableInstanceVariables;
+	}
+
+	@Override
+	public String toString() {
+		return "InferenceOptions [fieldAdaptations=" + fieldAdaptations + ", containerConsideration=" + containerConsideration
+				+ ", allowDefaultMutableInstanceVariables=" + allowDefaultMutableInstanceVariables + "]";
+	}
+
+}
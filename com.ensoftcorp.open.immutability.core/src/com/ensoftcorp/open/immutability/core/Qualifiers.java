@@ -0,0 +1,127 @@
+package com.ensoftcorp.open.immutability.core;
+
+/**
+ * The reference immutability qualifier lattice encoded as bit masks
+ *
+ * MUTABLE <: POLYREAD <: READONLY, where <: denotes a subtype relationship.
+ * A qualifier set is the mask of its qualifiers, so there are 7 nonempty sets.
+ * The masks match ImmutabilityTypes.getMask of the Atlas plugin.
+ */
+public final class Qualifiers {
+
+	public static final int MUTABLE = 1;
+	public static final int POLYREAD = 2;
+	public static final int READONLY = 4;
+
+	/**
+	 * The mask of all three qualifiers
+	 */
+	public static final int ALL = MUTABLE | POLYREAD | READONLY;
+
+	/**
+	 * The qualifiers in order from the most specific to the most generic
+	 */
+	private static final int[] QUALIFIERS = { MUTABLE, POLYREAD, READONLY };
+
+	private Qualifiers(){}
+
+	/**
+	 * Returns the single qualifiers in order from the most specific to the most generic
+	 * @return
+	 */
+	public static int[] values(){
+		return QUALIFIERS.clone();
+	}
+
+	/**
+	 * Returns true if qualifier a is a supertype of or equal to qualifier b (a :> b)
+	 * @param a A single qualifier
+	 * @param b A single qualifier
+	 * @return
+	 */
+	public static boolean isSupertypeOrEqual(int a, int b){
+		// the qualifier bits are ordered from the most specific to the most generic
+		return a >= b;
+	}
+
+	/**
+	 * Field viewpoint adaptation (FOOL 2012)
+	 * q fadapt READONLY = READONLY, q fadapt MUTABLE = q, q fadapt POLYREAD = q
+	 * @param context A single qualifier
+	 * @param declaration A single qualifier
+	 * @return
+	 */
+	public static int adaptField(int context, int declaration){
+		if(declaration == READONLY){
+			return READONLY;
+		} else {
+			return context;
+		}
+	}
+
+	/**
+	 * Method viewpoint adaptation (OOPSLA 2012)
+	 * q madapt READONLY = READONLY, q madapt MUTABLE = MUTABLE, q madapt POLYREAD = q
+	 * @param context A single qualifier
+	 * @param declaration A single qualifier
+	 * @return
+	 */
+	public static int adaptMethod(int context, int declaration){
+		if(declaration == POLYREAD){
+			return context;
+		} else {
+			return declaration;
+		}
+	}
+
+	/**
+	 * Returns the maximal qualifier of the mask or 0 if the mask is empty
+	 * @param mask
+	 * @return
+	 */
+	public static int getMaximal(int mask){
+		return Integer.highestOneBit(mask & ALL);
+	}
+
+	/**
+	 * Returns the number of qualifiers in the mask
+	 * @param mask
+	 * @return
+	 */
+	public static int size(int mask){
+		return Integer.bitCount(mask & ALL);
+	}
+
+	/**
+	 * Returns true if the mask contains the qualifier
+	 * @param mask
+	 * @param qualifier
+	 * @return
+	 */
+	public static boolean contains(int mask, int qualifier){
+		return (mask & qualifier) != 0;
+	}
+
+	/**
+	 * Returns a readable form of a qualifier mask, such as [MUTABLE, READONLY]
+	 * @param mask
+	 * @return
+	 */
+	public static String toString(int mask){
+		StringBuilder result = new StringBuilder("[");
+		String prefix = "";
+		if(contains(mask, MUTABLE)){
+			result.append(prefix).append("MUTABLE");
+			prefix = ", ";
+		}
+		if(contains(mask, POLYREAD)){
+			result.append(prefix).append("POLYREAD");
+			prefix = ", ";
+		}
+		if(contains(mask, READONLY)){
+			result.append(prefix).append("READONLY");
+		}
+		return result.append("]").toString();
+	}
+
+}
@@ -0,0 +1,682 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+import java.util.Arrays;
+
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.graph.EdgeKind;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+
+/**
+ * Extracts the constraints of the inference rules (TASSIGN, TWRITE, TREAD, TSWRITE,
+ * TSREAD, TCALL, TSCALL) from a program graph
+ *
+ * The rules are applied to each assignment once and the constraints they would
+ * check are recorded instead of being solved, so the fixed point can be computed
+ * by any InferenceEngine. The extracted rules follow the applyInferenceRules and
+ * the checkers of the Atlas plugin. Adding MUTABLE to instance variables is not
+ * monotone and cannot be expressed as a constraint, so that option is not supported.
+ */
+public final class ConstraintExtractor {
+
+	private static final int[] NONE = new int[0];
+
+	private final ProgramGraph graph;
+	private final InferenceOptions options;
+
+	private ConstraintSystem.Builder builder;
+	private int[][] references;
+	private int skippedReferences;
+	private int mismatchedOverrides;
+
+	public ConstraintExtractor(ProgramGraph graph, InferenceOptions options){
+		this.graph = graph;
+		this.options = options;
+	}
+
+	/**
+	 * Extracts the constraints of all assignments of the program graph
+	 * @return
+	 */
+	public ConstraintSystem extract(){
+		builder = ConstraintSystem.builder();
+		references = new int[Math.max(16, graph.getNodeCount())][];
+		skippedReferences = 0;
+		mismatchedOverrides = 0;
+		try {
+			for(int assignment : graph.getAssignments()){
+				extract(assignment);
+			}
+			return builder.build();
+		} finally {
+			builder = null;
+			references = null;
+		}
+	}
+
+	/**
+	 * Returns the number of references skipped by the last extraction because inner classes are unsupported
+	 * @return
+	 */
+	public int getSkippedReferenceCount(){
+		return skippedReferences;
+	}
+
+	/**
+	 * Returns the number of overriding methods whose parameters could not be matched by the last extraction
+	 * @return
+	 */
+	public int getMismatchedOverrideCount(){
+		return mismatchedOverrides;
+	}
+
+	private void extract(int to){
+		for(int from : graph.getPredecessors(to, EdgeKind.LOCAL_DATA_FLOW)){
+
+			// process constraints for array component assignments
+			if(graph.isKind(to, NodeKind.ARRAY_WRITE)){
+				for(int toReference : parseReferences(to)){
+					if(graph.isKind(toReference, NodeKind.ARRAY_COMPONENTS)){
+						extractArrayWrite(from, toReference);
+					}
+				}
+			}
+
+			boolean involvesField = false;
+			boolean involvesCallsiteRHS = false;
+
+			// Type Rule 3 - TWRITE, let x.f = y
+			if(graph.isKind(to, NodeKind.INSTANCE_VARIABLE_ASSIGNMENT)){
+				for(int y : parseReferences(from)){
+					for(int f : parseReferences(to)){
+						// Reference (x) -InstanceVariableAccessed-> InstanceVariableAssignment (f=)
+						int instanceVariableAccessed = first(graph.getPredecessors(to, EdgeKind.INSTANCE_VARIABLE_ACCESSED));
+						for(int x : parseReferences(instanceVariableAccessed)){
+							extractFieldWrite(x, f, y);
+							if(options.isContainerConsiderationEnabled() && graph.isKind(to, NodeKind.INSTANCE_VARIABLE_ACCESS)){
+								extractContainers(x, to);
+							}
+						}
+					}
+				}
+				involvesField = true;
+			}
+
+			// Type Rule 4 - TREAD, let x = y.f
+			if(graph.isKind(from, NodeKind.INSTANCE_VARIABLE_VALUE)){
+				for(int x : parseReferences(to)){
+					for(int f : parseReferences(from)){
+						// Reference (y) -InstanceVariableAccessed-> InstanceVariableValue (.f)
+						int instanceVariableAccessed = first(graph.getPredecessors(from, EdgeKind.INSTANCE_VARIABLE_ACCESSED));
+						for(int y : parseReferences(instanceVariableAccessed)){
+							// qx :> qy adapt qf
+							ConstraintType type = options.isFieldAdaptationsEnabled() ? ConstraintType.GREATER_EQUAL_FIELD_ADAPT : ConstraintType.GREATER_EQUAL_METHOD_ADAPT;
+							builder.addConstraint(type, Rule.TREAD, variable(x), variable(y), variable(f));
+						}
+					}
+				}
+				involvesField = true;
+			}
+
+			// Type Rule 7 - TSREAD, let x = sf (in m)
+			if(graph.isKind(from, NodeKind.CLASS_VARIABLE_VALUE)){
+				for(int x : parseReferences(to)){
+					int m = graph.getContainingMethod(to);
+					if(parseReferences(from).length > 0 && m != -1){
+						// qx :> qm
+						builder.addConstraint(ConstraintType.GREATER_EQUAL, Rule.TSREAD, variable(x), variable(m), -1);
+					}
+				}
+				involvesField = true;
+			}
+
+			// Type Rule 8 - TSWRITE, let sf = x (in m)
+			if(graph.isKind(to, NodeKind.CLASS_VARIABLE_ASSIGNMENT)){
+				if(parseReferences(to).length > 0 && parseReferences(from).length > 0){
+					extractStaticFieldWrite(graph.getContainingMethod(to));
+				}
+				involvesField = true;
+			}
+
+			// Type Rule 5 - TCALL, let x = y.m(z)
+			if(graph.isKind(from, NodeKind.DYNAMIC_DISPATCH_CALL_SITE)){
+				for(int x : parseReferences(to)){
+					extractCall(x, from);
+				}
+				involvesCallsiteRHS = true;
+			}
+
+			// Type Rule 8 - TSCALL, let x = m(z)
+			if(graph.isKind(from, NodeKind.STATIC_DISPATCH_CALL_SITE)){
+				for(int x : parseReferences(to)){
+					extractStaticCall(x, from);
+				}
+				involvesCallsiteRHS = true;
+			}
+
+			// Type Rule 2 - TASSIGN, let x = y
+			if((!involvesField && !involvesCallsiteRHS) || graph.isKind(to, NodeKind.PARAMETER_PASS)){
+				for(int x : parseReferences(to)){
+					for(int y : parseReferences(from)){
+						if(graph.isKind(y, NodeKind.INSTANCE_VARIABLE) && options.isFieldAdaptationsEnabled()){
+							// treat x :> y, as x fadapt y :> y
+							builder.addConstraint(ConstraintType.FIELD_ADAPT_GREATER_EQUAL, Rule.TASSIGN, variable(x), variable(y), variable(y));
+						} else {
+							builder.addConstraint(ConstraintType.GREATER_EQUAL, Rule.TASSIGN, variable(x), variable(y), -1);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * An assignment to array components mutates the array
+	 * @param from
+	 * @param arrayComponents
+	 */
+	private void extractArrayWrite(int from, int arrayComponents){
+		int[] arrayIdentities = NONE;
+		for(int arrayWrite : graph.getPredecessors(arrayComponents, EdgeKind.INTERPROCEDURAL_DATA_FLOW)){
+			for(int arrayIdentity : graph.getPredecessors(arrayWrite, EdgeKind.ARRAY_IDENTITY_FOR)){
+				arrayIdentities = addDistinct(arrayIdentities, arrayIdentity);
+			}
+		}
+		for(int arrayIdentity : arrayIdentities){
+			for(int arrayReference : parseReferences(arrayIdentity)){
+				builder.addRemove(Rule.ARRAY_WRITE, variable(arrayReference), Qualifiers.READONLY);
+			}
+			if(graph.isKind(arrayIdentity, NodeKind.INSTANCE_VARIABLE_VALUE)){
+				// the object instance containing the array was mutated as well, x.f[] = y
+				for(int instanceVariableAccessed : graph.getPredecessors(arrayIdentity, EdgeKind.INSTANCE_VARIABLE_ACCESSED)){
+					for(int x : parseReferences(instanceVariableAccessed)){
+						extractMutable(Rule.ARRAY_WRITE, x);
+						if(options.isContainerConsiderationEnabled()){
+							for(int container : getAccessedContainers(arrayIdentity)){
+								for(int containerReference : parseReferences(container)){
+									builder.addRemove(Rule.CONTAINER, variable(containerReference), Qualifiers.READONLY);
+								}
+							}
+						}
+					}
+				}
+			} else if(graph.isKind(arrayIdentity, NodeKind.CLASS_VARIABLE_VALUE)){
+				// the method where the assignment happened is not pure, sf[] = x
+				if(parseReferences(arrayIdentity).length > 0 && parseReferences(from).length > 0){
+					extractStaticFieldWrite(graph.getContainingMethod(arrayIdentity));
+				}
+			} else {
+				// local reference or parameter
+				builder.addRemove(Rule.ARRAY_WRITE, variable(arrayIdentity), Qualifiers.POLYREAD);
+			}
+		}
+	}
+
+	/**
+	 * TWRITE, qx = MUTABLE and qy <: MUTABLE adapt qf
+	 * @param x
+	 * @param f
+	 * @param y
+	 */
+	private void extractFieldWrite(int x, int f, int y){
+		extractMutable(Rule.TWRITE, x);
+		if(options.isFieldAdaptationsEnabled()){
+			// MUTABLE fadapt qf :> qy (FSE 2012)
+			builder.addConstraint(ConstraintType.FIELD_ADAPT_GREATER_EQUAL, Rule.TWRITE, builder.getConstant(Qualifiers.MUTABLE), variable(f), variable(y));
+		} else {
+			// qx madapt qf :> qy (OOPSLA 2012)
+			builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TWRITE, variable(x), variable(f), variable(y));
+		}
+	}
+
+	/**
+	 * The mutated reference x must be mutable
+	 * @param rule
+	 * @param x
+	 */
+	private void extractMutable(Rule rule, int x){
+		if(graph.isKind(x, NodeKind.INSTANCE_VARIABLE) && !options.isAllowDefaultMutableInstanceVariablesEnabled()){
+			// vanilla paper description
+			builder.addRemove(rule, variable(x), Qualifiers.READONLY);
+		} else {
+			builder.addRemove(rule, variable(x), Qualifiers.READONLY | Qualifiers.POLYREAD);
+		}
+	}
+
+	/**
+	 * A write to a static field means the containing method cannot be pure (readonly or polyread)
+	 * @param m
+	 */
+	private void extractStaticFieldWrite(int m){
+		if(m != -1){
+			builder.addRemove(Rule.TSWRITE, variable(m), Qualifiers.READONLY | Qualifiers.POLYREAD);
+		}
+	}
+
+	/**
+	 * If the mutated reference cannot be readonly then each instance containing it was mutated as well
+	 * @param reference
+	 * @param fieldAccess
+	 */
+	private void extractContainers(int reference, int fieldAccess){
+		for(int container : getAccessedContainers(fieldAccess)){
+			for(int containerReference : parseReferences(container)){
+				builder.addConstraint(ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY, Rule.CONTAINER, variable(reference), variable(containerReference), -1);
+			}
+		}
+	}
+
+	/**
+	 * TCALL, let x = y.m(z)
+	 * @param x
+	 * @param callsite
+	 */
+	private void extractCall(int x, int callsite){
+		// IdentityPass (.this) -IdentityPassedTo-> CallSite (m)
+		for(int identityPass : graph.getPredecessors(callsite, EdgeKind.IDENTITY_PASSED_TO)){
+			// Receiver (receiver) -LocalDataFlow-> IdentityPass (.this)
+			int receiver = first(graph.getPredecessors(identityPass, EdgeKind.LOCAL_DATA_FLOW));
+			for(int y : parseReferences(receiver)){
+				// ReturnValue (ret) -InterproceduralDataFlow-> CallSite (m)
+				int ret = first(graph.getPredecessors(callsite, EdgeKind.INTERPROCEDURAL_DATA_FLOW));
+				// Method (method) -Contains-> ReturnValue (ret)
+				int method = ret == -1 ? -1 : first(graph.getPredecessors(ret, EdgeKind.CONTAINS));
+				if(method == -1){
+					throw new IllegalStateException("Unresolved method for callsite " + graph.getName(callsite));
+				}
+
+				// the qualifiers of modeled methods are fixed so only the caller's references need to be constrained
+				if(graph.isModeled(method) && !options.isContainerConsiderationEnabled()){
+					extractModeledCall(x, y, callsite, method, ret);
+					continue;
+				}
+
+				for(int identity : getChildren(method, NodeKind.IDENTITY)){
+					int[][] parametersPassed = getParametersPassed(callsite, method);
+
+					// qx :> qx madapt qret
+					builder.addConstraint(ConstraintType.GREATER_EQUAL_METHOD_ADAPT, Rule.TCALL, variable(x), variable(x), variable(ret));
+					// qx madapt qthis :> qy
+					builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TCALL, variable(x), variable(identity), variable(y));
+					// qx madapt qp :> qz
+					extractParameters(Rule.TCALL, x, parametersPassed);
+					extractOverrides(method, identity, ret, parametersPassed);
+
+					if(options.isContainerConsiderationEnabled() && graph.isKind(receiver, NodeKind.INSTANCE_VARIABLE_ACCESS)){
+						extractContainers(y, receiver);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * TSCALL, let x = m(z)
+	 * @param x
+	 * @param callsite
+	 */
+	private void extractStaticCall(int x, int callsite){
+		int method = first(graph.getSuccessors(callsite, EdgeKind.INVOKED));
+		if(method == -1){
+			throw new IllegalStateException("Unresolved method for callsite " + graph.getName(callsite));
+		}
+
+		// ReturnValue (ret) -InterproceduralDataFlow-> CallSite (m)
+		int ret = first(graph.getPredecessors(callsite, EdgeKind.INTERPROCEDURAL_DATA_FLOW));
+
+		// the qualifiers of modeled methods are fixed so only the caller's references need to be constrained
+		if(graph.isModeled(method) && !options.isContainerConsiderationEnabled()){
+			extractModeledCall(x, -1, callsite, method, ret);
+			return;
+		}
+
+		// qx :> qx madapt qret
+		builder.addConstraint(ConstraintType.GREATER_EQUAL_METHOD_ADAPT, Rule.TSCALL, variable(x), variable(x), variable(ret));
+		// qx madapt qp :> qz
+		extractParameters(Rule.TSCALL, x, getParametersPassed(callsite, method));
+		// qx madapt qm :> qm', where m' is the method that contains the callsite
+		int containingMethod = graph.getContainingMethod(callsite);
+		builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TSCALL, variable(x), variable(method), variable(containingMethod));
+	}
+
+	/**
+	 * TCALL and TSCALL for a callsite of a modeled method, the modeled declarations are
+	 * constants so they are never reduced and constraints against readonly declarations
+	 * are skipped since they are always satisfied
+	 * @param x
+	 * @param y The receiver or -1 for static calls
+	 * @param callsite
+	 * @param method
+	 * @param ret
+	 */
+	private void extractModeledCall(int x, int y, int callsite, int method, int ret){
+		// qx :> qx madapt qret
+		builder.addConstraint(ConstraintType.GREATER_EQUAL_METHOD_ADAPT, Rule.TCALL_MODELED, variable(x), variable(x), declaration(ret));
+
+		// qx madapt qthis :> qy
+		if(y != -1){
+			int identity = graph.getModeledIdentity(method);
+			if(identity != -1 && !isReadonly(identity)){
+				builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TCALL_MODELED, variable(x), declaration(identity), variable(y));
+			}
+		}
+
+		// qy madapt qp :> qz for instance methods and qx madapt qp :> qz for static methods,
+		// a polyread element parameter of a container takes the qualifier of the container
+		int parameterContext = y != -1 ? y : x;
+		for(int z : getChildren(getParent(callsite), NodeKind.PARAMETER_PASS)){
+			int index = graph.getParameterIndex(z);
+			if(index < 0){
+				continue;
+			}
+			int p = graph.getModeledParameter(method, index);
+			if(p != -1 && !isReadonly(p)){
+				builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TCALL_MODELED, variable(parameterContext), declaration(p), variable(z));
+			}
+		}
+
+		// qx madapt qm :> qm'
+		if(y == -1 && !isReadonly(method)){
+			int containingMethod = graph.getContainingMethod(callsite);
+			builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, Rule.TCALL_MODELED, variable(x), declaration(method), variable(containingMethod));
+		}
+	}
+
+	/**
+	 * Returns the constant of the fixed qualifiers of a modeled declaration
+	 * @param node
+	 * @return
+	 */
+	private int declaration(int node){
+		return builder.getConstant(getInitialMask(node));
+	}
+
+	/**
+	 * Returns true if the only initial qualifier is readonly, any type adapted by
+	 * readonly is readonly so subtype constraints against it always hold
+	 * @param node
+	 * @return
+	 */
+	private boolean isReadonly(int node){
+		return getInitialMask(node) == Qualifiers.READONLY;
+	}
+
+	/**
+	 * qx madapt qp :> qz for each parameter pass z to parameter p
+	 * @param rule
+	 * @param x
+	 * @param parametersPassed
+	 */
+	private void extractParameters(Rule rule, int x, int[][] parametersPassed){
+		for(int[] parameterPassed : parametersPassed){
+			int z = parameterPassed[0];
+			int p = parameterPassed[1];
+			builder.addConstraint(ConstraintType.METHOD_ADAPT_GREATER_EQUAL, rule, variable(x), variable(p), variable(z));
+
+			// a mutation to a parameter mutates the containers of an instance variable passed as the argument
+			if(options.isContainerConsiderationEnabled()){
+				for(int parameterValue : graph.getPredecessors(z, EdgeKind.LOCAL_DATA_FLOW)){
+					if(graph.isKind(parameterValue, NodeKind.INSTANCE_VARIABLE_ACCESS)){
+						extractContainers(p, parameterValue);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * The overriding method must be a behavioral subtype of the overridden method
+	 * @param method
+	 * @param identity
+	 * @param ret
+	 * @param parametersPassed
+	 */
+	private void extractOverrides(int method, int identity, int ret, int[][] parametersPassed){
+		int overriddenMethod = first(graph.getSuccessors(method, EdgeKind.OVERRIDES));
+		if(overriddenMethod == -1){
+			return;
+		}
+
+		// qret :> qoverriddenRet
+		int overriddenRet = first(getChildren(overriddenMethod, NodeKind.RETURN_VALUE));
+		if(overriddenRet != -1){
+			builder.addConstraint(ConstraintType.GREATER_EQUAL, Rule.TCALL, variable(ret), variable(overriddenRet), -1);
+		}
+
+		// qoverriddenThis :> qthis
+		int overriddenIdentity = first(getChildren(overriddenMethod, NodeKind.IDENTITY));
+		if(overriddenIdentity != -1){
+			builder.addConstraint(ConstraintType.GREATER_EQUAL, Rule.TCALL, variable(overriddenIdentity), variable(identity), -1);
+		}
+
+		// qoverriddenP :> qp for each parameter and overridden parameter pair
+		int[] overriddenParameters = getChildren(overriddenMethod, NodeKind.PARAMETER);
+		int[] parameters = NONE;
+		for(int[] parameterPassed : parametersPassed){
+			parameters = addDistinct(parameters, parameterPassed[1]);
+		}
+		if(parameters.length != overriddenParameters.length){
+			// some Jimple methods are missing the parameter passed to edges
+			mismatchedOverrides++;
+			return;
+		}
+		for(int i=0; i<overriddenParameters.length; i++){
+			int p = getParameter(parameters, i);
+			int overriddenP = getParameter(overriddenParameters, i);
+			if(p != -1 && overriddenP != -1){
+				builder.addConstraint(ConstraintType.GREATER_EQUAL, Rule.TCALL, variable(overriddenP), variable(p), -1);
+			}
+		}
+	}
+
+	private int getParameter(int[] parameters, int index){
+		for(int parameter : parameters){
+			if(graph.getParameterIndex(parameter) == index){
+				return parameter;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the (parameter pass, parameter) pairs of a callsite, where
+	 * ParameterPassed (z1, z2, ...) -InterproceduralDataFlow-> Parameter (p1, p2, ...)
+	 * @param callsite
+	 * @param method
+	 * @return
+	 */
+	private int[][] getParametersPassed(int callsite, int method){
+		int[] parameters = getChildren(method, NodeKind.PARAMETER);
+		int[] parametersPassed = getChildren(getParent(callsite), NodeKind.PARAMETER_PASS);
+		int[][] result = new int[parametersPassed.length][];
+		int size = 0;
+		for(int z : parametersPassed){
+			for(int p : graph.getSuccessors(z, EdgeKind.INTERPROCEDURAL_DATA_FLOW)){
+				if(contains(parameters, p)){
+					if(size == result.length){
+						result = Arrays.copyOf(result, (size * 2) + 1);
+					}
+					result[size++] = new int[]{ z, p };
+				}
+			}
+		}
+		return size == result.length ? result : Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Returns the fields or local variables accessed for an instance variable access
+	 * @param fieldAccess
+	 * @return
+	 */
+	private int[] getAccessedContainers(int fieldAccess){
+		// the variables accessed are the reverse closure over instance variable accessed edges
+		int[] accessed = new int[]{ fieldAccess };
+		for(int i=0; i<accessed.length; i++){
+			for(int predecessor : graph.getPredecessors(accessed[i], EdgeKind.INSTANCE_VARIABLE_ACCESSED)){
+				accessed = addDistinct(accessed, predecessor);
+			}
+		}
+		int[] containers = NONE;
+		for(int variable : accessed){
+			if(graph.isKind(variable, NodeKind.INSTANCE_VARIABLE_ACCESS) || graph.isKind(variable, NodeKind.CLASS_VARIABLE_ACCESS)){
+				for(int field : graph.getPredecessors(variable, EdgeKind.INTERPROCEDURAL_DATA_FLOW)){
+					containers = addDistinct(containers, field);
+				}
+			} else {
+				containers = addDistinct(containers, variable);
+			}
+		}
+		return containers;
+	}
+
+	/**
+	 * Returns the typable references a node stands for, following casts, display nodes,
+	 * callsites, field accesses and array accesses to the references they read or write
+	 * @param node
+	 * @return
+	 */
+	private int[] parseReferences(int node){
+		if(node >= 0 && node < references.length && references[node] != null){
+			return references[node];
+		}
+		if(node < 0){
+			throw new IllegalStateException("Null reference in program graph");
+		}
+
+		int[] parsedReferences = NONE;
+		int[] worklist = new int[]{ node };
+		int size = 1;
+		int[] visited = NONE;
+		while(size > 0){
+			int reference = worklist[--size];
+			if(reference < 0){
+				throw new IllegalStateException("Null reference for node " + graph.getName(node));
+			}
+			if(contains(visited, reference)){
+				continue;
+			}
+			visited = addDistinct(visited, reference);
+			if(needsProcessing(reference)){
+				int[] next;
+				if(graph.isKind(reference, NodeKind.CAST)){
+					next = graph.getPredecessors(reference, EdgeKind.DATA_FLOW);
+				} else if(graph.isKind(reference, NodeKind.DISPLAY_NODE)){
+					next = graph.getSuccessors(reference, EdgeKind.DISPLAY_REFERENCE);
+				} else if(graph.isKind(reference, NodeKind.CALL_SITE)){
+					// a callsite on a callsite must be a callsite on the resulting object from the first callsite
+					int method = first(graph.getSuccessors(reference, EdgeKind.INVOKED));
+					next = new int[]{ method == -1 ? -1 : first(getChildren(method, NodeKind.RETURN_VALUE)) };
+				} else if(graph.isKind(reference, NodeKind.INSTANCE_VARIABLE_ASSIGNMENT) || graph.isKind(reference, NodeKind.CLASS_VARIABLE_ASSIGNMENT)
+						|| graph.isKind(reference, NodeKind.ARRAY_WRITE)){
+					// the field or array components being written to
+					next = graph.getSuccessors(reference, EdgeKind.INTERPROCEDURAL_DATA_FLOW);
+				} else if(graph.isKind(reference, NodeKind.INSTANCE_VARIABLE_VALUE) || graph.isKind(reference, NodeKind.CLASS_VARIABLE_VALUE)
+						|| graph.isKind(reference, NodeKind.ARRAY_READ)){
+					// the field or array components being read from
+					next = graph.getPredecessors(reference, EdgeKind.INTERPROCEDURAL_DATA_FLOW);
+				} else if(graph.getName(reference).contains("$")){
+					// inner classes are currently unsupported
+					skippedReferences++;
+					continue;
+				} else {
+					throw new IllegalStateException("Unhandled reference type for node " + graph.getName(node));
+				}
+				for(int workItem : next){
+					if(size == worklist.length){
+						worklist = Arrays.copyOf(worklist, size * 2);
+					}
+					worklist[size++] = workItem;
+				}
+			} else {
+				parsedReferences = addDistinct(parsedReferences, reference);
+			}
+		}
+
+		if(node >= references.length){
+			references = Arrays.copyOf(references, Math.max(references.length * 2, node + 1));
+		}
+		references[node] = parsedReferences;
+		return parsedReferences;
+	}
+
+	private boolean needsProcessing(int node){
+		if(graph.isKind(node, NodeKind.DISPLAY_NODE) || graph.isKind(node, NodeKind.CAST) || graph.isKind(node, NodeKind.CALL_SITE)){
+			return true;
+		}
+		if(graph.isKind(node, NodeKind.INSTANCE_VARIABLE_ACCESS) || graph.isKind(node, NodeKind.CLASS_VARIABLE_ACCESS)){
+			return true;
+		}
+		if(graph.isKind(node, NodeKind.ARRAY_ACCESS)){
+			return true;
+		}
+		return !DefaultQualifiers.isTypable(graph, node);
+	}
+
+	/**
+	 * Returns the variable of a typable node, creating it with the fixed or default qualifiers of the node
+	 * @param node
+	 * @return
+	 */
+	private int variable(int node){
+		if(node < 0){
+			throw new IllegalStateException("Null reference in program graph");
+		}
+		int variable = builder.findVariable(node);
+		if(variable == -1){
+			variable = builder.getVariable(node, getInitialMask(node));
+		}
+		return variable;
+	}
+
+	private int getInitialMask(int node){
+		int fixed = graph.getFixedQualifiers(node);
+		if(fixed >= 0){
+			return fixed;
+		}
+		return DefaultQualifiers.getDefaultQualifiers(graph, node, options);
+	}
+
+	private int getParent(int node){
+		return first(graph.getPredecessors(node, EdgeKind.CONTAINS));
+	}
+
+	private int[] getChildren(int node, NodeKind kind){
+		if(node == -1){
+			return NONE;
+		}
+		int[] children = NONE;
+		for(int child : graph.getSuccessors(node, EdgeKind.CONTAINS)){
+			if(graph.isKind(child, kind)){
+				children = addDistinct(children, child);
+			}
+		}
+		return children;
+	}
+
+	private static int first(int[] nodes){
+		return nodes.length > 0 ? nodes[0] : -1;
+	}
+
+	private static boolean contains(int[] values, int value){
+		for(int existing : values){
+			if(existing == value){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the values with the value appended if it is not already one of them
+	 */
+	private static int[] addDistinct(int[] values, int value){
+		if(contains(values, value)){
+			return values;
+		}
+		int[] result = Arrays.copyOf(values, values.length + 1);
+		result[values.length] = value;
+		return result;
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+/**
+ * The constraints each variable of a constraint system is an operand of
+ *
+ * The index is stored in compressed sparse row form: the constraints of variable v
+ * are getConstraints()[getOffset(v)] up to getConstraints()[getOffset(v+1)].
+ * The qualifier mask operand of REMOVE constraints is not a variable and is not indexed.
+ */
+public final class ConstraintIndex {
+
+	private final int[] offsets;
+	private final int[] constraints;
+
+	private ConstraintIndex(int[] offsets, int[] constraints){
+		this.offsets = offsets;
+		this.constraints = constraints;
+	}
+
+	/**
+	 * Indexes the constraints of the system by operand
+	 * @param system
+	 * @return
+	 */
+	public static ConstraintIndex of(ConstraintSystem system){
+		int variables = system.getVariableCount();
+		int[] offsets = new int[variables + 1];
+		for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+			int arity = system.getType(constraint).getArity();
+			for(int i=0; i<arity; i++){
+				int operand = system.getOperand(constraint, i);
+				if(!isRepeated(system, constraint, i, operand)){
+					offsets[operand + 1]++;
+				}
+			}
+		}
+		for(int variable=0; variable<variables; variable++){
+			offsets[variable + 1] += offsets[variable];
+		}
+		int[] constraints = new int[offsets[variables]];
+		int[] next = new int[variables];
+		for(int variable=0; variable<variables; variable++){
+			next[variable] = offsets[variable];
+		}
+		for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+			int arity = system.getType(constraint).getArity();
+			for(int i=0; i<arity; i++){
+				int operand = system.getOperand(constraint, i);
+				if(!isRepeated(system, constraint, i, operand)){
+					constraints[next[operand]++] = constraint;
+				}
+			}
+		}
+		return new ConstraintIndex(offsets, constraints);
+	}
+
+	/**
+	 * Returns true if the operand already appeared earlier in the same constraint, such as x in x :> x madapt ret
+	 */
+	private static boolean isRepeated(ConstraintSystem system, int constraint, int index, int operand){
+		for(int i=0; i<index; i++){
+			if(system.getOperand(constraint, i) == operand){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the start of the constraints of the variable in getConstraints()
+	 * @param variable
+	 * @return
+	 */
+	public int getOffset(int variable){
+		return offsets[variable];
+	}
+
+	/**
+	 * Returns the number of constraints the variable is an operand of
+	 * @param variable
+	 * @return
+	 */
+	public int getDegree(int variable){
+		return offsets[variable + 1] - offsets[variable];
+	}
+
+	/**
+	 * Returns the backing array of constraint ids, which must not be modified
+	 * @return
+	 */
+	public int[] getConstraints(){
+		return constraints;
+	}
+
+}
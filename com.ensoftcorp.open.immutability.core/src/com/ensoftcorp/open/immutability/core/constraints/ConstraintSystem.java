@@ -0,0 +1,331 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+import java.util.Arrays;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+
+/**
+ * An immutable set of qualifier variables and the constraints between them
+ *
+ * Variables are dense integer ids. A variable either stands for a typable node of
+ * the program graph it was extracted from, or is a constant whose qualifiers are
+ * never removed (for example the MUTABLE receiver of a field write). Constraints
+ * are stored in parallel arrays so that systems with tens of millions of
+ * constraints stay compact, and duplicate constraints are removed as they are added.
+ */
+public final class ConstraintSystem {
+
+	/**
+	 * The node id of constant variables
+	 */
+	public static final int NO_NODE = -1;
+
+	private final int variables;
+	private final int[] nodes;
+	private final byte[] initialMasks;
+	private final int constraints;
+	private final byte[] types;
+	private final byte[] rules;
+	private final int[] operands;
+
+	private ConstraintSystem(Builder builder){
+		this.variables = builder.variables;
+		this.nodes = Arrays.copyOf(builder.nodes, builder.variables);
+		this.initialMasks = Arrays.copyOf(builder.initialMasks, builder.variables);
+		this.constraints = builder.constraints;
+		this.types = Arrays.copyOf(builder.types, builder.constraints);
+		this.rules = Arrays.copyOf(builder.rules, builder.constraints);
+		this.operands = Arrays.copyOf(builder.operands, builder.constraints * 3);
+	}
+
+	/**
+	 * Returns the number of variables
+	 * @return
+	 */
+	public int getVariableCount(){
+		return variables;
+	}
+
+	/**
+	 * Returns the program graph node of the variable or NO_NODE for constants
+	 * @param variable
+	 * @return
+	 */
+	public int getNode(int variable){
+		return nodes[variable];
+	}
+
+	/**
+	 * Returns true if the qualifiers of the variable are never removed
+	 * @param variable
+	 * @return
+	 */
+	public boolean isConstant(int variable){
+		return nodes[variable] == NO_NODE;
+	}
+
+	/**
+	 * Returns the qualifier mask the variable starts with
+	 * @param variable
+	 * @return
+	 */
+	public int getInitialMask(int variable){
+		return initialMasks[variable];
+	}
+
+	/**
+	 * Returns a new array of the initial qualifier masks indexed by variable
+	 * @return
+	 */
+	public int[] getInitialMasks(){
+		int[] masks = new int[variables];
+		for(int i=0; i<variables; i++){
+			masks[i] = initialMasks[i];
+		}
+		return masks;
+	}
+
+	/**
+	 * Returns the number of constraints
+	 * @return
+	 */
+	public int getConstraintCount(){
+		return constraints;
+	}
+
+	public ConstraintType getType(int constraint){
+		return ConstraintType.getType(types[constraint]);
+	}
+
+	public Rule getRule(int constraint){
+		return Rule.getRule(rules[constraint]);
+	}
+
+	/**
+	 * Returns an operand of the constraint, or -1 for operands beyond the arity of the constraint
+	 * The second operand of a REMOVE constraint is the qualifier mask to remove.
+	 * @param constraint
+	 * @param index 0, 1 or 2
+	 * @return
+	 */
+	public int getOperand(int constraint, int index){
+		return operands[(constraint * 3) + index];
+	}
+
+	/**
+	 * Returns a readable form of the constraint
+	 * @param constraint
+	 * @return
+	 */
+	public String toString(int constraint){
+		ConstraintType type = getType(constraint);
+		StringBuilder result = new StringBuilder();
+		result.append(getRule(constraint)).append(" ").append(type).append(" (");
+		if(type == ConstraintType.REMOVE){
+			result.append("x=").append(getOperand(constraint, 0)).append(", Q=").append(Qualifiers.toString(getOperand(constraint, 1)));
+		} else {
+			String[] names = { "x", "y", "z" };
+			for(int i=0; i<type.getArity(); i++){
+				if(i > 0){
+					result.append(", ");
+				}
+				result.append(names[i]).append("=").append(getOperand(constraint, i));
+			}
+		}
+		return result.append(")").toString();
+	}
+
+	@Override
+	public String toString() {
+		return "ConstraintSystem [variables=" + variables + ", constraints=" + constraints + "]";
+	}
+
+	/**
+	 * Returns a builder for a new constraint system
+	 * @return
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	/**
+	 * Accumulates variables and constraints
+	 */
+	public static final class Builder {
+
+		private static final int EMPTY = -1;
+
+		private int variables = 0;
+		private int[] nodes = new int[1024];
+		private byte[] initialMasks = new byte[1024];
+		private int[] nodeVariables = new int[1024];
+		private int[] constants = new int[Qualifiers.ALL + 1];
+
+		private int constraints = 0;
+		private byte[] types = new byte[1024];
+		private byte[] rules = new byte[1024];
+		private int[] operands = new int[1024 * 3];
+
+		// open addressing table of constraint ids used to remove duplicate constraints
+		private int[] table = new int[2048];
+
+		private Builder(){
+			Arrays.fill(nodeVariables, EMPTY);
+			Arrays.fill(constants, EMPTY);
+			Arrays.fill(table, EMPTY);
+		}
+
+		/**
+		 * Returns the variable of a program graph node, creating it with the given
+		 * initial qualifiers if the node does not have a variable yet
+		 * @param node
+		 * @param initialMask
+		 * @return
+		 */
+		public int getVariable(int node, int initialMask){
+			if(node < 0){
+				throw new IllegalArgumentException("Invalid node id: " + node);
+			}
+			if(node >= nodeVariables.length){
+				int length = nodeVariables.length;
+				nodeVariables = Arrays.copyOf(nodeVariables, Math.max(length * 2, node + 1));
+				Arrays.fill(nodeVariables, length, nodeVariables.length, EMPTY);
+			}
+			int variable = nodeVariables[node];
+			if(variable == EMPTY){
+				variable = addVariable(node, initialMask);
+				nodeVariables[node] = variable;
+			}
+			return variable;
+		}
+
+		/**
+		 * Returns the variable of a program graph node or -1 if the node does not have a variable
+		 * @param node
+		 * @return
+		 */
+		public int findVariable(int node){
+			if(node < 0 || node >= nodeVariables.length){
+				return EMPTY;
+			}
+			return nodeVariables[node];
+		}
+
+		/**
+		 * Returns the constant variable with the given qualifiers
+		 * @param mask
+		 * @return
+		 */
+		public int getConstant(int mask){
+			if(mask <= 0 || mask > Qualifiers.ALL){
+				throw new IllegalArgumentException("Invalid qualifier mask: " + mask);
+			}
+			if(constants[mask] == EMPTY){
+				constants[mask] = addVariable(NO_NODE, mask);
+			}
+			return constants[mask];
+		}
+
+		private int addVariable(int node, int initialMask){
+			if(variables == nodes.length){
+				nodes = Arrays.copyOf(nodes, variables * 2);
+				initialMasks = Arrays.copyOf(initialMasks, variables * 2);
+			}
+			nodes[variables] = node;
+			initialMasks[variables] = (byte) (initialMask & Qualifiers.ALL);
+			return variables++;
+		}
+
+		/**
+		 * Adds a constraint over the given operands, operands beyond the arity of the
+		 * constraint type are ignored
+		 * @param type
+		 * @param rule
+		 * @param x
+		 * @param y
+		 * @param z
+		 * @return Returns true if the constraint was not already in the system
+		 */
+		public boolean addConstraint(ConstraintType type, Rule rule, int x, int y, int z){
+			int arity = type == ConstraintType.REMOVE ? 2 : type.getArity();
+			int a = x;
+			int b = arity > 1 ? y : EMPTY;
+			int c = arity > 2 ? z : EMPTY;
+			int hash = hash(type.ordinal(), a, b, c);
+			int mask = table.length - 1;
+			int slot = hash & mask;
+			while(table[slot] != EMPTY){
+				int existing = table[slot];
+				int offset = existing * 3;
+				if(types[existing] == type.ordinal() && operands[offset] == a && operands[offset + 1] == b && operands[offset + 2] == c){
+					return false;
+				}
+				slot = (slot + 1) & mask;
+			}
+			if(constraints == types.length){
+				types = Arrays.copyOf(types, constraints * 2);
+				rules = Arrays.copyOf(rules, constraints * 2);
+				operands = Arrays.copyOf(operands, constraints * 2 * 3);
+			}
+			int offset = constraints * 3;
+			types[constraints] = (byte) type.ordinal();
+			rules[constraints] = (byte) rule.ordinal();
+			operands[offset] = a;
+			operands[offset + 1] = b;
+			operands[offset + 2] = c;
+			table[slot] = constraints;
+			constraints++;
+			if(constraints * 2 > table.length){
+				rehash();
+			}
+			return true;
+		}
+
+		/**
+		 * Adds a REMOVE constraint
+		 * @param rule
+		 * @param x
+		 * @param mask The qualifiers to remove
+		 * @return Returns true if the constraint was not already in the system
+		 */
+		public boolean addRemove(Rule rule, int x, int mask){
+			return addConstraint(ConstraintType.REMOVE, rule, x, mask, EMPTY);
+		}
+
+		public int getVariableCount(){
+			return variables;
+		}
+
+		public int getConstraintCount(){
+			return constraints;
+		}
+
+		public ConstraintSystem build(){
+			return new ConstraintSystem(this);
+		}
+
+		private void rehash(){
+			table = new int[table.length * 2];
+			Arrays.fill(table, EMPTY);
+			int mask = table.length - 1;
+			for(int constraint=0; constraint<constraints; constraint++){
+				int offset = constraint * 3;
+				int slot = hash(types[constraint], operands[offset], operands[offset + 1], operands[offset + 2]) & mask;
+				while(table[slot] != EMPTY){
+					slot = (slot + 1) & mask;
+				}
+				table[slot] = constraint;
+			}
+		}
+
+		private static int hash(int type, int a, int b, int c){
+			int hash = type;
+			hash = (hash * 0x9E3779B1) + a;
+			hash = (hash * 0x9E3779B1) + b;
+			hash = (hash * 0x9E3779B1) + c;
+			return hash ^ (hash >>> 16);
+		}
+
+	}
+
+}
@@ -0,0 +1,79 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+/**
+ * The forms of qualifier constraints
+ *
+ * Each form corresponds to one of the constraint solvers of the Atlas plugin.
+ * Operands are variables of the constraint system, except for the qualifier mask
+ * of REMOVE which is stored as its second operand.
+ */
+public enum ConstraintType {
+
+	/**
+	 * x :> y
+	 */
+	GREATER_EQUAL(2, "x :> y"),
+
+	/**
+	 * x :> y fadapt z
+	 */
+	GREATER_EQUAL_FIELD_ADAPT(3, "x :> y fadapt z"),
+
+	/**
+	 * x :> y madapt z
+	 */
+	GREATER_EQUAL_METHOD_ADAPT(3, "x :> y madapt z"),
+
+	/**
+	 * x fadapt y :> z
+	 */
+	FIELD_ADAPT_GREATER_EQUAL(3, "x fadapt y :> z"),
+
+	/**
+	 * x madapt y :> z
+	 */
+	METHOD_ADAPT_GREATER_EQUAL(3, "x madapt y :> z"),
+
+	/**
+	 * The qualifiers of the mask are removed from x
+	 */
+	REMOVE(1, "x -= Q"),
+
+	/**
+	 * If x cannot be readonly then y cannot be readonly
+	 */
+	NOT_READONLY_IMPLIES_NOT_READONLY(2, "readonly !in x => readonly !in y");
+
+	private static final ConstraintType[] TYPES = values();
+
+	private final int arity;
+	private final String form;
+
+	private ConstraintType(int arity, String form){
+		this.arity = arity;
+		this.form = form;
+	}
+
+	/**
+	 * Returns the number of variable operands
+	 * @return
+	 */
+	public int getArity(){
+		return arity;
+	}
+
+	@Override
+	public String toString(){
+		return form;
+	}
+
+	/**
+	 * Returns the type with the given ordinal
+	 * @param ordinal
+	 * @return
+	 */
+	public static ConstraintType getType(int ordinal){
+		return TYPES[ordinal];
+	}
+
+}
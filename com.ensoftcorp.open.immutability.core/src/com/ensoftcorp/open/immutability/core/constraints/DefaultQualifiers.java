@@ -0,0 +1,98 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+
+/**
+ * The typable nodes of a program graph and the qualifiers they start with
+ *
+ * Mirrors AnalysisUtilities.isTypable and AnalysisUtilities.getDefaultTypes of the Atlas plugin.
+ */
+public final class DefaultQualifiers {
+
+	private DefaultQualifiers(){}
+
+	/**
+	 * Returns true if the node is a reference that is given a qualifier set
+	 * @param graph
+	 * @param node
+	 * @return
+	 */
+	public static boolean isTypable(ProgramGraph graph, int node){
+		// invalid types
+		if(graph.isKind(node, NodeKind.INSTANCE_VARIABLE_ACCESS) || graph.isKind(node, NodeKind.CLASS_VARIABLE_ACCESS)){
+			return false;
+		}
+		if(graph.isKind(node, NodeKind.ARRAY_ACCESS)){
+			return false;
+		}
+
+		// valid types
+		if(graph.isKind(node, NodeKind.DUMMY_ASSIGNMENT) || graph.isKind(node, NodeKind.DUMMY_RETURN)
+				|| graph.isKind(node, NodeKind.NULL)
+				|| graph.isKind(node, NodeKind.LITERAL) || graph.isKind(node, NodeKind.TYPE)
+				|| graph.isKind(node, NodeKind.INSTANTIATION) || graph.isKind(node, NodeKind.ARRAY_INSTANTIATION)
+				|| graph.isKind(node, NodeKind.METHOD)
+				|| graph.isKind(node, NodeKind.IDENTITY)
+				|| graph.isKind(node, NodeKind.PARAMETER)
+				|| graph.isKind(node, NodeKind.RETURN_VALUE)
+				|| graph.isKind(node, NodeKind.INSTANCE_VARIABLE) || graph.isKind(node, NodeKind.CLASS_VARIABLE)
+				|| graph.isKind(node, NodeKind.ARRAY_COMPONENTS)
+				|| graph.isKind(node, NodeKind.PARAMETER_PASS)
+				|| graph.isKind(node, NodeKind.OPERATOR)
+				|| graph.isKind(node, NodeKind.CAUGHT_VALUE)
+				|| graph.isKind(node, NodeKind.ELEMENT_FROM_COLLECTION)){
+			return true;
+		}
+
+		if(graph.isKind(node, NodeKind.ASSIGNMENT)){
+			return !graph.isKind(node, NodeKind.INSTANCE_VARIABLE_ASSIGNMENT) && !graph.isKind(node, NodeKind.CLASS_VARIABLE_ASSIGNMENT);
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the qualifier mask a typable node starts with
+	 * @param graph
+	 * @param node
+	 * @param options
+	 * @return
+	 */
+	public static int getDefaultQualifiers(ProgramGraph graph, int node, InferenceOptions options){
+		if(!isTypable(graph, node)){
+			throw new IllegalArgumentException("Unexpected graph element: " + graph.getName(node));
+		}
+		if(graph.isKind(node, NodeKind.DUMMY_ASSIGNMENT) || graph.isKind(node, NodeKind.DUMMY_RETURN)
+				|| graph.isKind(node, NodeKind.NULL)
+				|| graph.isKind(node, NodeKind.LITERAL) || graph.isKind(node, NodeKind.TYPE)){
+			// readonly for all practical purposes, the other types are initialized to satisfy constraints
+			return Qualifiers.ALL;
+		} else if(graph.isKind(node, NodeKind.INSTANTIATION) || graph.isKind(node, NodeKind.ARRAY_INSTANTIATION)){
+			// Type Rule 1 - TNEW
+			return Qualifiers.MUTABLE;
+		} else if(graph.isKind(node, NodeKind.RETURN_VALUE)){
+			// "Method returns are initialized S(ret) = {readonly, polyread} for each method m"
+			return Qualifiers.READONLY | Qualifiers.POLYREAD;
+		} else if(graph.isKind(node, NodeKind.PARAMETER) || graph.isKind(node, NodeKind.IDENTITY)){
+			return Qualifiers.ALL;
+		} else if(graph.isKind(node, NodeKind.INSTANCE_VARIABLE)){
+			// "Fields are initialized to S(f) = {readonly, polyread}"
+			if(options.isAllowDefaultMutableInstanceVariablesEnabled()){
+				return Qualifiers.ALL;
+			} else {
+				return Qualifiers.READONLY | Qualifiers.POLYREAD;
+			}
+		} else if(graph.isKind(node, NodeKind.CLASS_VARIABLE)){
+			// static fields are initialized to S(sf) = {readonly, mutable}
+			return Qualifiers.READONLY | Qualifiers.MUTABLE;
+		} else {
+			// methods, operators, array components, caught values, elements from collections,
+			// parameter passes and local references start with the maximal set of qualifiers
+			return Qualifiers.ALL;
+		}
+	}
+
+}
@@ -0,0 +1,236 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+
+/**
+ * Applies single constraints to an array of qualifier masks
+ *
+ * The removals of each constraint form are precomputed for every combination of
+ * operand masks, so applying a constraint is a table lookup. The removals match
+ * the constraint solvers of the Atlas plugin: the unsatisfiable qualifiers of all
+ * operands are computed from the masks before the constraint is applied, nothing
+ * is removed if any operand is empty, and the qualifiers of constants are never removed.
+ */
+public final class Propagator {
+
+	private static final int MASKS = Qualifiers.ALL + 1;
+
+	/**
+	 * Removals for x :> y indexed by (x << 3) | y, packed as rx | (ry << 3)
+	 */
+	private static final short[] GREATER_EQUAL = new short[MASKS * MASKS];
+
+	/**
+	 * Removals for the ternary forms indexed by (x << 6) | (y << 3) | z, packed as rx | (ry << 3) | (rz << 6)
+	 */
+	private static final short[][] TERNARY = new short[ConstraintType.values().length][];
+
+	static {
+		for(int x=1; x<MASKS; x++){
+			for(int y=1; y<MASKS; y++){
+				int rx = 0;
+				int ry = 0;
+				for(int qx : Qualifiers.values()){
+					if(!Qualifiers.contains(x, qx)) continue;
+					boolean satisfied = false;
+					for(int qy : Qualifiers.values()){
+						if(Qualifiers.contains(y, qy) && Qualifiers.isSupertypeOrEqual(qx, qy)){
+							satisfied = true;
+						}
+					}
+					if(!satisfied) rx |= qx;
+				}
+				for(int qy : Qualifiers.values()){
+					if(!Qualifiers.contains(y, qy)) continue;
+					boolean satisfied = false;
+					for(int qx : Qualifiers.values()){
+						if(Qualifiers.contains(x, qx) && Qualifiers.isSupertypeOrEqual(qx, qy)){
+							satisfied = true;
+						}
+					}
+					if(!satisfied) ry |= qy;
+				}
+				GREATER_EQUAL[(x << 3) | y] = (short) (rx | (ry << 3));
+			}
+		}
+		ConstraintType[] ternaryTypes = {
+			ConstraintType.GREATER_EQUAL_FIELD_ADAPT, ConstraintType.GREATER_EQUAL_METHOD_ADAPT,
+			ConstraintType.FIELD_ADAPT_GREATER_EQUAL, ConstraintType.METHOD_ADAPT_GREATER_EQUAL
+		};
+		for(ConstraintType type : ternaryTypes){
+			short[] table = new short[MASKS * MASKS * MASKS];
+			for(int x=1; x<MASKS; x++){
+				for(int y=1; y<MASKS; y++){
+					for(int z=1; z<MASKS; z++){
+						// a qualifier is kept if it is part of at least one satisfying assignment
+						int sx = 0;
+						int sy = 0;
+						int sz = 0;
+						for(int qx : Qualifiers.values()){
+							if(!Qualifiers.contains(x, qx)) continue;
+							for(int qy : Qualifiers.values()){
+								if(!Qualifiers.contains(y, qy)) continue;
+								for(int qz : Qualifiers.values()){
+									if(!Qualifiers.contains(z, qz)) continue;
+									if(isSatisfied(type, qx, qy, qz)){
+										sx |= qx;
+										sy |= qy;
+										sz |= qz;
+									}
+								}
+							}
+						}
+						int rx = x & ~sx;
+						int ry = y & ~sy;
+						int rz = z & ~sz;
+						table[(x << 6) | (y << 3) | z] = (short) (rx | (ry << 3) | (rz << 6));
+					}
+				}
+			}
+			TERNARY[type.ordinal()] = table;
+		}
+	}
+
+	private Propagator(){}
+
+	private static boolean isSatisfied(ConstraintType type, int qx, int qy, int qz){
+		switch(type){
+			case GREATER_EQUAL_FIELD_ADAPT:
+				return Qualifiers.isSupertypeOrEqual(qx, Qualifiers.adaptField(qy, qz));
+			case GREATER_EQUAL_METHOD_ADAPT:
+				return Qualifiers.isSupertypeOrEqual(qx, Qualifiers.adaptMethod(qy, qz));
+			case FIELD_ADAPT_GREATER_EQUAL:
+				return Qualifiers.isSupertypeOrEqual(Qualifiers.adaptField(qx, qy), qz);
+			case METHOD_ADAPT_GREATER_EQUAL:
+				return Qualifiers.isSupertypeOrEqual(Qualifiers.adaptMethod(qx, qy), qz);
+			default:
+				throw new IllegalArgumentException("Unexpected constraint type: " + type);
+		}
+	}
+
+	/**
+	 * Returns the packed removals of a ternary constraint form for the given operand masks,
+	 * the removals of x, y and z are the bits 0-2, 3-5 and 6-8
+	 * @param type
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @return
+	 */
+	public static int getRemovals(ConstraintType type, int x, int y, int z){
+		if(type == ConstraintType.GREATER_EQUAL){
+			return GREATER_EQUAL[(x << 3) | y];
+		}
+		return TERNARY[type.ordinal()][(x << 6) | (y << 3) | z];
+	}
+
+	/**
+	 * Returns the operand whose qualifiers caused a removal from another operand
+	 * The cause is the first other operand that would support a removed qualifier if it
+	 * had all qualifiers. If the removal only depends on the other operands together, the
+	 * cause is the other operand with the fewest qualifiers.
+	 * @param type
+	 * @param x The mask of x before the removal
+	 * @param y The mask of y before the removal
+	 * @param z The mask of z before the removal, ignored for binary forms
+	 * @param operand The operand the qualifiers were removed from, 0, 1 or 2
+	 * @param removed The removed qualifiers
+	 * @return Returns the causing operand or -1 if the removal has no operand as its cause
+	 */
+	public static int getCause(ConstraintType type, int x, int y, int z, int operand, int removed){
+		if(type == ConstraintType.REMOVE){
+			return -1;
+		}
+		if(type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+			return operand == 1 ? 0 : -1;
+		}
+		int[] masks = { x, y, z };
+		int cause = -1;
+		for(int other=0; other<type.getArity(); other++){
+			if(other == operand){
+				continue;
+			}
+			int relaxed = getRemovals(type, other == 0 ? Qualifiers.ALL : x, other == 1 ? Qualifiers.ALL : y, other == 2 ? Qualifiers.ALL : z);
+			if((((relaxed >>> (3 * operand)) & Qualifiers.ALL) & removed) != removed){
+				return other;
+			}
+			if(cause == -1 || Integer.bitCount(masks[other]) < Integer.bitCount(masks[cause])){
+				cause = other;
+			}
+		}
+		return cause;
+	}
+
+	/**
+	 * Applies a constraint to the qualifier masks of the variables
+	 * @param system
+	 * @param masks The qualifier masks indexed by variable
+	 * @param constraint
+	 * @param listener Notified of each removal or null
+	 * @return Returns true if any mask changed
+	 */
+	public static boolean propagate(ConstraintSystem system, int[] masks, int constraint, RemovalListener listener){
+		ConstraintType type = system.getType(constraint);
+		int a = system.getOperand(constraint, 0);
+		int b = system.getOperand(constraint, 1);
+		int c = system.getOperand(constraint, 2);
+		switch(type){
+			case REMOVE: {
+				return remove(system, masks, a, b, constraint, listener);
+			}
+			case NOT_READONLY_IMPLIES_NOT_READONLY: {
+				if(!Qualifiers.contains(masks[a], Qualifiers.READONLY)){
+					return remove(system, masks, b, Qualifiers.READONLY, constraint, listener);
+				}
+				return false;
+			}
+			case GREATER_EQUAL: {
+				int x = masks[a];
+				int y = masks[b];
+				if(x == 0 || y == 0){
+					return false;
+				}
+				int removals = GREATER_EQUAL[(x << 3) | y];
+				if(removals == 0){
+					return false;
+				}
+				boolean changed = remove(system, masks, a, removals & Qualifiers.ALL, constraint, listener);
+				changed |= remove(system, masks, b, (removals >> 3) & Qualifiers.ALL, constraint, listener);
+				return changed;
+			}
+			default: {
+				int x = masks[a];
+				int y = masks[b];
+				int z = masks[c];
+				if(x == 0 || y == 0 || z == 0){
+					return false;
+				}
+				int removals = TERNARY[type.ordinal()][(x << 6) | (y << 3) | z];
+				if(removals == 0){
+					return false;
+				}
+				boolean changed = remove(system, masks, a, removals & Qualifiers.ALL, constraint, listener);
+				changed |= remove(system, masks, b, (removals >> 3) & Qualifiers.ALL, constraint, listener);
+				changed |= remove(system, masks, c, (removals >> 6) & Qualifiers.ALL, constraint, listener);
+				return changed;
+			}
+		}
+	}
+
+	private static boolean remove(ConstraintSystem system, int[] masks, int variable, int removals, int constraint, RemovalListener listener){
+		if(removals == 0 || system.isConstant(variable)){
+			return false;
+		}
+		int before = masks[variable];
+		int after = before & ~removals;
+		if(after == before){
+			return false;
+		}
+		masks[variable] = after;
+		if(listener != null){
+			listener.removed(variable, before, after, constraint);
+		}
+		return true;
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+/**
+ * Observes the qualifiers an engine removes from variables
+ */
+public interface RemovalListener {
+
+	/**
+	 * Called after qualifiers were removed from a variable
+	 * @param variable The variable the qualifiers were removed from
+	 * @param before The qualifier mask before the removal
+	 * @param after The qualifier mask after the removal
+	 * @param constraint The constraint that removed the qualifiers
+	 */
+	public void removed(int variable, int before, int after, int constraint);
+
+}
@@ -0,0 +1,23 @@
+package com.ensoftcorp.open.immutability.core.constraints;
+
+/**
+ * The inference rules constraints are extracted for
+ *
+ * The names match the inference rules of the Atlas plugin.
+ */
+public enum Rule {
+
+	TASSIGN, TWRITE, TREAD, TSWRITE, TSREAD, TCALL, TSCALL, TCALL_MODELED, ARRAY_WRITE, CONTAINER;
+
+	private static final Rule[] RULES = values();
+
+	/**
+	 * Returns the rule with the given ordinal
+	 * @param ordinal
+	 * @return
+	 */
+	public static Rule getRule(int ordinal){
+		return RULES[ordinal];
+	}
+
+}
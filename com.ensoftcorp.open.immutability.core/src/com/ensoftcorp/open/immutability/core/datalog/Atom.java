@@ -0,0 +1,47 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+/**
+ * A relation applied to terms, relation(t1, ..., tn)
+ */
+public final class Atom {
+
+	private final String relation;
+	private final Term[] terms;
+
+	/**
+	 * @param relation The name of the relation
+	 * @param terms The arguments, one per column of the relation
+	 */
+	public Atom(String relation, Term... terms){
+		if(relation == null || terms.length == 0){
+			throw new IllegalArgumentException("An atom needs a relation and at least one term");
+		}
+		this.relation = relation;
+		this.terms = terms.clone();
+	}
+
+	public String getRelation(){
+		return relation;
+	}
+
+	public int getArity(){
+		return terms.length;
+	}
+
+	public Term getTerm(int column){
+		return terms[column];
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder(relation).append("(");
+		for(int i=0; i<terms.length; i++){
+			if(i > 0){
+				result.append(", ");
+			}
+			result.append(terms[i]);
+		}
+		return result.append(")").toString();
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A Horn clause, head :- body1, ..., bodyn
+ *
+ * The variables of the clause are numbered in order of their first occurrence in
+ * the body, and the bindings of a derivation are reported by these slots. Every
+ * variable of the head must occur in the body.
+ */
+public final class Clause {
+
+	private final Atom head;
+	private final Atom[] body;
+	private final List<String> variables = new ArrayList<String>();
+
+	/**
+	 * @param head
+	 * @param body At least one atom
+	 */
+	public Clause(Atom head, Atom... body){
+		if(body.length == 0){
+			throw new IllegalArgumentException("A clause needs at least one body atom: " + head);
+		}
+		this.head = head;
+		this.body = body.clone();
+		for(Atom atom : body){
+			for(int column=0; column<atom.getArity(); column++){
+				Term term = atom.getTerm(column);
+				if(term.isVariable() && !variables.contains(term.getVariable())){
+					variables.add(term.getVariable());
+				}
+			}
+		}
+		for(int column=0; column<head.getArity(); column++){
+			Term term = head.getTerm(column);
+			if(term.isVariable() && !variables.contains(term.getVariable())){
+				throw new IllegalArgumentException("Head variable " + term + " does not occur in the body of " + this);
+			}
+		}
+	}
+
+	public Atom getHead(){
+		return head;
+	}
+
+	public int getBodySize(){
+		return body.length;
+	}
+
+	public Atom getBody(int index){
+		return body[index];
+	}
+
+	/**
+	 * Returns the number of variables of the clause
+	 * @return
+	 */
+	public int getVariableCount(){
+		return variables.size();
+	}
+
+	/**
+	 * Returns the slot of a variable in the bindings of a derivation, or -1 if the clause has no such variable
+	 * @param variable
+	 * @return
+	 */
+	public int getSlot(String variable){
+		return variables.indexOf(variable);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder().append(head).append(" :- ");
+		for(int i=0; i<body.length; i++){
+			if(i > 0){
+				result.append(", ");
+			}
+			result.append(body[i]);
+		}
+		return result.append(".").toString();
+	}
+
+}
@@ -0,0 +1,405 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Evaluates rule sets over a database of relations bottom up with semi-naive evaluation
+ *
+ * The first round joins the clauses over all facts. Each following round only joins
+ * the facts derived in the previous round (the delta) with the other facts: a clause
+ * is evaluated once for each body atom, with that atom restricted to the delta, the
+ * atoms before it restricted to the facts of earlier rounds and the atoms after it
+ * unrestricted, so no derivation is repeated across rounds. A join starts at the delta
+ * atom and continues with the atom with the most bound columns, which is looked up
+ * in the hash index of its relation over those columns. The evaluation ends after a
+ * round that derives no new facts.
+ */
+public class Evaluator {
+
+	/**
+	 * Notified of each fact that is derived for the first time
+	 */
+	public static interface Listener {
+
+		/**
+		 * @param relation The relation of the new fact
+		 * @param tuple The id of the new fact in the relation
+		 * @param clause The clause that derived the fact
+		 * @param bindings The values of the variables of the clause by slot
+		 */
+		public void derived(Relation relation, int tuple, Clause clause, int[] bindings);
+
+	}
+
+	private final Map<String,Relation> relations = new LinkedHashMap<String,Relation>();
+	private final Map<String,Selection> selections = new HashMap<String,Selection>();
+	private int rounds = 0;
+	private long inferences = 0;
+
+	/**
+	 * Returns the relation with the given name, creating it if it does not exist
+	 * @param name
+	 * @param arity
+	 * @return
+	 */
+	public Relation getRelation(String name, int arity){
+		Relation relation = relations.get(name);
+		if(relation == null){
+			relation = new Relation(name, arity);
+			relations.put(name, relation);
+		} else if(relation.getArity() != arity){
+			throw new IllegalArgumentException("Relation " + name + " has arity " + relation.getArity() + ", found arity " + arity);
+		}
+		return relation;
+	}
+
+	/**
+	 * Returns the relation with the given name or null
+	 * @param name
+	 * @return
+	 */
+	public Relation getRelation(String name){
+		return relations.get(name);
+	}
+
+	public Collection<Relation> getRelations(){
+		return Collections.unmodifiableCollection(relations.values());
+	}
+
+	/**
+	 * Adds a fact to a relation, creating the relation if it does not exist
+	 * @param relation
+	 * @param tuple
+	 * @return Returns true if the fact is new
+	 */
+	public boolean addFact(String relation, int... tuple){
+		return getRelation(relation, tuple.length).add(tuple);
+	}
+
+	/**
+	 * Returns the number of rounds of the last evaluation
+	 * @return
+	 */
+	public int getRounds(){
+		return rounds;
+	}
+
+	/**
+	 * Returns the number of head facts produced by the joins of the last evaluation, including facts that already existed
+	 * @return
+	 */
+	public long getInferences(){
+		return inferences;
+	}
+
+	/**
+	 * Derives the facts of the rule set until nothing new is derived
+	 * @param rules
+	 * @param listener Notified of each new fact or null
+	 */
+	public void evaluate(RuleSet rules, Listener listener){
+		selections.clear();
+		List<Plan> plans = new ArrayList<Plan>();
+		for(Clause clause : rules.getClauses()){
+			for(int delta=0; delta<clause.getBodySize(); delta++){
+				plans.add(new Plan(clause, delta));
+			}
+		}
+		for(Relation relation : relations.values()){
+			relation.deltaStart = 0;
+			relation.deltaEnd = relation.size();
+		}
+		rounds = 0;
+		inferences = 0;
+		while(true){
+			rounds++;
+			for(Plan plan : plans){
+				if(plan.isApplicable()){
+					plan.join(0, listener);
+				}
+			}
+			boolean derived = false;
+			for(Relation relation : relations.values()){
+				relation.deltaStart = relation.deltaEnd;
+				relation.deltaEnd = relation.size();
+				if(relation.deltaEnd > relation.deltaStart){
+					derived = true;
+				}
+			}
+			if(!derived){
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Returns the selection of the delta of a relation by constants shared by the plans that start with it
+	 * @param relation
+	 * @param columns The columns of the constants
+	 * @param key The constants by column
+	 * @return
+	 */
+	private Selection getSelection(Relation relation, int columns, int[] key){
+		StringBuilder name = new StringBuilder(relation.getName()).append("/").append(columns);
+		for(int column=0; column<key.length; column++){
+			if((columns & (1 << column)) != 0){
+				name.append("/").append(key[column]);
+			}
+		}
+		Selection selection = selections.get(name.toString());
+		if(selection == null){
+			selection = new Selection(relation, columns, key.clone());
+			selections.put(name.toString(), selection);
+		}
+		return selection;
+	}
+
+	/**
+	 * The tuples of the delta of a relation with the given constants, selected once per round
+	 */
+	private final class Selection {
+
+		private final Relation relation;
+		private final int columns;
+		private final int[] key;
+		private int[] tuples = new int[16];
+		private int size = 0;
+		private int round = -1;
+
+		Selection(Relation relation, int columns, int[] key){
+			this.relation = relation;
+			this.columns = columns;
+			this.key = key;
+		}
+
+		/**
+		 * Returns the selected tuples of the current round, the first size entries are valid
+		 * @return
+		 */
+		int[] select(){
+			if(round != rounds){
+				round = rounds;
+				size = 0;
+				for(int tuple=relation.deltaStart; tuple<relation.deltaEnd; tuple++){
+					if(matches(tuple)){
+						if(size == tuples.length){
+							tuples = Arrays.copyOf(tuples, size * 2);
+						}
+						tuples[size++] = tuple;
+					}
+				}
+			}
+			return tuples;
+		}
+
+		private boolean matches(int tuple){
+			for(int column=0; column<key.length; column++){
+				if((columns & (1 << column)) != 0 && relation.get(tuple, column) != key[column]){
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+	/**
+	 * A clause joined starting from one of its body atoms restricted to the delta
+	 */
+	private final class Plan {
+
+		private static final int OLD = 0;
+		private static final int DELTA = 1;
+		private static final int ALL = 2;
+
+		private static final int KEY = 0;
+		private static final int BIND = 1;
+		private static final int CHECK = 2;
+
+		private final Clause clause;
+		private final Relation head;
+		private final int[] headTuple;
+		private final int[] headSlots;
+		private final int[] bindings;
+
+		// the steps of the join in order
+		private final Relation[] stepRelations;
+		private final int[] stepRanges;
+		private final int[] stepKeyColumns;
+		private final int[][] stepKeys;
+		private final int[][] stepActions;
+		private final int[][] stepSlots;
+		private final Selection selection;
+
+		Plan(Clause clause, int delta){
+			this.clause = clause;
+			this.head = getRelation(clause.getHead().getRelation(), clause.getHead().getArity());
+			this.headTuple = new int[head.getArity()];
+			this.headSlots = new int[head.getArity()];
+			for(int column=0; column<headSlots.length; column++){
+				Term term = clause.getHead().getTerm(column);
+				headSlots[column] = term.isVariable() ? clause.getSlot(term.getVariable()) : -1;
+				headTuple[column] = term.getValue();
+			}
+			this.bindings = new int[clause.getVariableCount()];
+			int steps = clause.getBodySize();
+			stepRelations = new Relation[steps];
+			stepRanges = new int[steps];
+			stepKeyColumns = new int[steps];
+			stepKeys = new int[steps][];
+			stepActions = new int[steps][];
+			stepSlots = new int[steps][];
+
+			boolean[] bound = new boolean[clause.getVariableCount()];
+			boolean[] used = new boolean[steps];
+			for(int step=0; step<steps; step++){
+				// start with the delta atom, then the atom with the most bound columns
+				int next = delta;
+				if(step > 0){
+					next = -1;
+					int best = -1;
+					for(int i=0; i<steps; i++){
+						if(!used[i]){
+							int boundColumns = Integer.bitCount(getBoundColumns(clause.getBody(i), bound));
+							if(boundColumns > best){
+								best = boundColumns;
+								next = i;
+							}
+						}
+					}
+				}
+				used[next] = true;
+				Atom atom = clause.getBody(next);
+				stepRelations[step] = getRelation(atom.getRelation(), atom.getArity());
+				stepRanges[step] = next < delta ? OLD : next == delta ? DELTA : ALL;
+				stepKeyColumns[step] = getBoundColumns(atom, bound);
+				stepKeys[step] = new int[atom.getArity()];
+				stepActions[step] = new int[atom.getArity()];
+				stepSlots[step] = new int[atom.getArity()];
+				for(int column=0; column<atom.getArity(); column++){
+					Term term = atom.getTerm(column);
+					if(!term.isVariable()){
+						stepActions[step][column] = KEY;
+						stepKeys[step][column] = term.getValue();
+						stepSlots[step][column] = -1;
+					} else {
+						int slot = clause.getSlot(term.getVariable());
+						stepSlots[step][column] = slot;
+						if((stepKeyColumns[step] & (1 << column)) != 0){
+							stepActions[step][column] = KEY;
+						} else if(bound[slot]){
+							// a repeated variable within the atom
+							stepActions[step][column] = CHECK;
+						} else {
+							stepActions[step][column] = BIND;
+							bound[slot] = true;
+						}
+					}
+				}
+			}
+			this.selection = getSelection(stepRelations[0], stepKeyColumns[0], stepKeys[0]);
+		}
+
+		private int getBoundColumns(Atom atom, boolean[] bound){
+			int columns = 0;
+			for(int column=0; column<atom.getArity(); column++){
+				Term term = atom.getTerm(column);
+				if(!term.isVariable() || bound[clause.getSlot(term.getVariable())]){
+					columns |= 1 << column;
+				}
+			}
+			return columns;
+		}
+
+		/**
+		 * Returns false if the delta atom has no delta or an atom restricted to earlier facts has none
+		 * @return
+		 */
+		boolean isApplicable(){
+			for(int step=0; step<stepRelations.length; step++){
+				Relation relation = stepRelations[step];
+				if(stepRanges[step] == DELTA && relation.deltaEnd == relation.deltaStart){
+					return false;
+				}
+				if(stepRanges[step] == OLD && relation.deltaStart == 0){
+					return false;
+				}
+			}
+			return true;
+		}
+
+		void join(int step, Listener listener){
+			if(step == stepRelations.length){
+				derive(listener);
+				return;
+			}
+			Relation relation = stepRelations[step];
+			int start = stepRanges[step] == DELTA ? relation.deltaStart : 0;
+			int end = stepRanges[step] == OLD ? relation.deltaStart : relation.deltaEnd;
+			int[] actions = stepActions[step];
+			int[] slots = stepSlots[step];
+			int[] key = stepKeys[step];
+			if(step == 0){
+				int[] tuples = selection.select();
+				for(int i=0; i<selection.size; i++){
+					if(bind(relation, tuples[i], actions, slots)){
+						join(step + 1, listener);
+					}
+				}
+				return;
+			}
+			for(int column=0; column<actions.length; column++){
+				if(actions[column] == KEY && slots[column] != -1){
+					key[column] = bindings[slots[column]];
+				}
+			}
+			if(stepKeyColumns[step] == (1 << key.length) - 1){
+				// a fully bound atom is a membership test
+				int tuple = relation.find(key);
+				if(tuple >= start && tuple < end){
+					join(step + 1, listener);
+				}
+				return;
+			}
+			Relation.Index index = relation.getIndex(stepKeyColumns[step]);
+			// the chains are ordered from the newest to the oldest tuple
+			for(int tuple=index.first(key); tuple >= start; tuple=index.next(tuple, key)){
+				if(tuple < end && bind(relation, tuple, actions, slots)){
+					join(step + 1, listener);
+				}
+			}
+		}
+
+		private boolean bind(Relation relation, int tuple, int[] actions, int[] slots){
+			for(int column=0; column<actions.length; column++){
+				if(actions[column] == BIND){
+					bindings[slots[column]] = relation.get(tuple, column);
+				} else if(actions[column] == CHECK && bindings[slots[column]] != relation.get(tuple, column)){
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void derive(Listener listener){
+			for(int column=0; column<headTuple.length; column++){
+				if(headSlots[column] != -1){
+					headTuple[column] = bindings[headSlots[column]];
+				}
+			}
+			inferences++;
+			if(head.add(headTuple) && listener != null){
+				listener.derived(head, head.size() - 1, clause, bindings);
+			}
+		}
+
+	}
+
+}
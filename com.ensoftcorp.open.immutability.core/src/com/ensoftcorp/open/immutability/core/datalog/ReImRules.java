@@ -0,0 +1,231 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+
+/**
+ * The ReIm inference rules as Datalog clauses over facts of the form cannot(x, q)
+ *
+ * A constraint of the system is a fact of the relation of its form, with the
+ * constraint id followed by the operands, for example greaterEqual(c, x, y). The
+ * qualifiers of the initial masks are facts initiallyNot(x, q), the variables that
+ * are not constants are facts variable(x), and a REMOVE constraint is a fact
+ * remove(c, x, q) per removed qualifier. A qualifier cannot be the type of an operand
+ * if every combination of qualifiers of the other operands that satisfies the
+ * constraint with it contains a qualifier they cannot be. The clauses of each form
+ * are the minimal such conditions, derived from the removal tables of the Propagator.
+ *
+ * Rule variants are rule sets: the forms the extractor uses for field reads and writes
+ * depend on the field adaptations option, and the container rule only exists with
+ * container consideration, so the rule set of the options is the union of the rule
+ * sets of these forms.
+ *
+ * Unlike the engines, the clauses do not skip a constraint when an operand has no
+ * qualifiers left, so the fixed points can differ on systems with type errors.
+ */
+public final class ReImRules {
+
+	public static final String CANNOT = "cannot";
+	public static final String VARIABLE = "variable";
+	public static final String INITIALLY_NOT = "initiallyNot";
+
+	/**
+	 * The variable of the constraint id in the clauses
+	 */
+	public static final String CONSTRAINT = "c";
+
+	private static final String[] OPERANDS = { "x", "y", "z" };
+
+	private ReImRules(){}
+
+	/**
+	 * Returns the name of the relation of the constraints of a form
+	 * @param type
+	 * @return
+	 */
+	public static String getRelation(ConstraintType type){
+		switch(type){
+			case GREATER_EQUAL:
+				return "greaterEqual";
+			case GREATER_EQUAL_FIELD_ADAPT:
+				return "greaterEqualFieldAdapt";
+			case GREATER_EQUAL_METHOD_ADAPT:
+				return "greaterEqualMethodAdapt";
+			case FIELD_ADAPT_GREATER_EQUAL:
+				return "fieldAdaptGreaterEqual";
+			case METHOD_ADAPT_GREATER_EQUAL:
+				return "methodAdaptGreaterEqual";
+			case REMOVE:
+				return "remove";
+			case NOT_READONLY_IMPLIES_NOT_READONLY:
+				return "notReadonlyImpliesNotReadonly";
+			default:
+				throw new IllegalArgumentException("Unexpected constraint type: " + type);
+		}
+	}
+
+	/**
+	 * Returns the clauses that carry the initial masks over to cannot facts
+	 * @return
+	 */
+	public static RuleSet getInitialRules(){
+		List<Clause> clauses = new ArrayList<Clause>();
+		clauses.add(new Clause(cannot(Term.variable("x"), Term.variable("q")), new Atom(INITIALLY_NOT, Term.variable("x"), Term.variable("q"))));
+		return new RuleSet("initial", clauses);
+	}
+
+	/**
+	 * Returns the clauses of a constraint form
+	 * @param type
+	 * @return
+	 */
+	public static RuleSet getRules(ConstraintType type){
+		List<Clause> clauses = new ArrayList<Clause>();
+		Term c = Term.variable(CONSTRAINT);
+		Term x = Term.variable(OPERANDS[0]);
+		Term y = Term.variable(OPERANDS[1]);
+		if(type == ConstraintType.REMOVE){
+			// cannot(x, q) :- remove(c, x, q), variable(x).
+			Term q = Term.variable("q");
+			clauses.add(new Clause(cannot(x, q), new Atom(getRelation(type), c, x, q), new Atom(VARIABLE, x)));
+		} else if(type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+			// cannot(y, readonly) :- notReadonlyImpliesNotReadonly(c, x, y), variable(y), cannot(x, readonly).
+			Term readonly = Term.constant(Qualifiers.READONLY);
+			clauses.add(new Clause(cannot(y, readonly), new Atom(getRelation(type), c, x, y), new Atom(VARIABLE, y), cannot(x, readonly)));
+		} else {
+			int arity = type.getArity();
+			Term[] constraint = new Term[arity + 1];
+			constraint[0] = c;
+			for(int operand=0; operand<arity; operand++){
+				constraint[operand + 1] = Term.variable(OPERANDS[operand]);
+			}
+			for(int operand=0; operand<arity; operand++){
+				for(int qualifier : Qualifiers.values()){
+					for(int implicant : getImplicants(type, operand, qualifier)){
+						List<Atom> body = new ArrayList<Atom>();
+						body.add(new Atom(getRelation(type), constraint));
+						body.add(new Atom(VARIABLE, constraint[operand + 1]));
+						for(int literal=0; literal<(arity - 1) * 3; literal++){
+							if((implicant & (1 << literal)) != 0){
+								int other = getOther(operand, literal / 3);
+								body.add(cannot(constraint[other + 1], Term.constant(Qualifiers.values()[literal % 3])));
+							}
+						}
+						clauses.add(new Clause(cannot(constraint[operand + 1], Term.constant(qualifier)), body.toArray(new Atom[body.size()])));
+					}
+				}
+			}
+		}
+		return new RuleSet(getRelation(type), clauses);
+	}
+
+	/**
+	 * Returns the clauses of the forms the extractor uses with the given options
+	 * @param options
+	 * @return
+	 */
+	public static RuleSet getRules(InferenceOptions options){
+		List<RuleSet> ruleSets = new ArrayList<RuleSet>();
+		ruleSets.add(getInitialRules());
+		ruleSets.add(getRules(ConstraintType.REMOVE));
+		ruleSets.add(getRules(ConstraintType.GREATER_EQUAL));
+		// calls are always adapted to the receiver
+		ruleSets.add(getRules(ConstraintType.GREATER_EQUAL_METHOD_ADAPT));
+		ruleSets.add(getRules(ConstraintType.METHOD_ADAPT_GREATER_EQUAL));
+		if(options.isFieldAdaptationsEnabled()){
+			ruleSets.add(getRules(ConstraintType.GREATER_EQUAL_FIELD_ADAPT));
+			ruleSets.add(getRules(ConstraintType.FIELD_ADAPT_GREATER_EQUAL));
+		}
+		if(options.isContainerConsiderationEnabled()){
+			ruleSets.add(getRules(ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY));
+		}
+		return RuleSet.union(options.toString(), ruleSets.toArray(new RuleSet[ruleSets.size()]));
+	}
+
+	/**
+	 * Returns the clauses of every constraint form
+	 * @return
+	 */
+	public static RuleSet getAllRules(){
+		List<RuleSet> ruleSets = new ArrayList<RuleSet>();
+		ruleSets.add(getInitialRules());
+		for(ConstraintType type : ConstraintType.values()){
+			ruleSets.add(getRules(type));
+		}
+		return RuleSet.union("all", ruleSets.toArray(new RuleSet[ruleSets.size()]));
+	}
+
+	private static Atom cannot(Term variable, Term qualifier){
+		return new Atom(CANNOT, variable, qualifier);
+	}
+
+	/**
+	 * Returns the operand index of the other operand with the given position
+	 */
+	private static int getOther(int operand, int position){
+		return position < operand ? position : position + 1;
+	}
+
+	/**
+	 * Returns the minimal sets of cannot literals of the other operands that rule out a
+	 * qualifier of an operand, as bit masks with bit 3 * position + qualifier index
+	 * @param type
+	 * @param operand
+	 * @param qualifier
+	 * @return
+	 */
+	private static List<Integer> getImplicants(ConstraintType type, int operand, int qualifier){
+		int arity = type.getArity();
+		int[] values = Qualifiers.values();
+
+		// each satisfying combination must be ruled out by a literal of the combination
+		List<Integer> combinations = new ArrayList<Integer>();
+		int count = arity == 2 ? values.length : values.length * values.length;
+		for(int combination=0; combination<count; combination++){
+			int[] qualifiers = new int[3];
+			int literals = 0;
+			for(int position=0, remaining=combination; position<arity - 1; position++, remaining/=values.length){
+				qualifiers[getOther(operand, position)] = values[remaining % values.length];
+				literals |= 1 << (3 * position + remaining % values.length);
+			}
+			qualifiers[operand] = qualifier;
+			if(Propagator.getRemovals(type, qualifiers[0], qualifiers[1], qualifiers[2]) == 0){
+				combinations.add(literals);
+			}
+		}
+
+		List<Integer> implicants = new ArrayList<Integer>();
+		int sets = 1 << ((arity - 1) * 3);
+		for(int size=0; size<=(arity - 1) * 3; size++){
+			for(int set=0; set<sets; set++){
+				if(Integer.bitCount(set) != size){
+					continue;
+				}
+				boolean covers = true;
+				for(int literals : combinations){
+					if((literals & set) == 0){
+						covers = false;
+						break;
+					}
+				}
+				boolean minimal = true;
+				for(int implicant : implicants){
+					if((implicant & set) == implicant){
+						minimal = false;
+						break;
+					}
+				}
+				if(covers && minimal){
+					implicants.add(set);
+				}
+			}
+		}
+		return implicants;
+	}
+
+}
@@ -0,0 +1,268 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+import java.util.Arrays;
+
+/**
+ * A set of integer tuples of a fixed arity with hash indexes over subsets of its columns
+ *
+ * Tuples are only ever added and are numbered in order of insertion, so the tuples
+ * added since a point of the evaluation are a range of tuple ids. An index over a
+ * set of columns is built the first time it is requested and is kept up to date as
+ * tuples are added. The tuples with the same values in the indexed columns are
+ * chained from the newest to the oldest.
+ */
+public final class Relation {
+
+	private static final int MAX_ARITY = 8;
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final String name;
+	private final int arity;
+	private int[] tuples;
+	private int size = 0;
+
+	// tuple ids + 1 by hash of all columns, 0 for empty slots
+	private int[] table = new int[INITIAL_CAPACITY * 2];
+	private final Index[] indexes;
+
+	// the tuples added in the previous round of the evaluation are [deltaStart, deltaEnd)
+	int deltaStart = 0;
+	int deltaEnd = 0;
+
+	/**
+	 * @param name
+	 * @param arity
+	 */
+	public Relation(String name, int arity){
+		if(arity < 1 || arity > MAX_ARITY){
+			throw new IllegalArgumentException("Relation " + name + " has arity " + arity + ", expected 1 to " + MAX_ARITY);
+		}
+		this.name = name;
+		this.arity = arity;
+		this.tuples = new int[INITIAL_CAPACITY * arity];
+		this.indexes = new Index[1 << arity];
+	}
+
+	public String getName(){
+		return name;
+	}
+
+	public int getArity(){
+		return arity;
+	}
+
+	/**
+	 * Returns the number of tuples
+	 * @return
+	 */
+	public int size(){
+		return size;
+	}
+
+	/**
+	 * Returns a column of a tuple
+	 * @param tuple
+	 * @param column
+	 * @return
+	 */
+	public int get(int tuple, int column){
+		return tuples[tuple * arity + column];
+	}
+
+	/**
+	 * Returns true if the relation contains the tuple
+	 * @param tuple
+	 * @return
+	 */
+	public boolean contains(int... tuple){
+		checkArity(tuple);
+		return find(tuple) != -1;
+	}
+
+	/**
+	 * Adds a tuple unless the relation already contains it
+	 * @param tuple
+	 * @return Returns true if the tuple was added
+	 */
+	public boolean add(int... tuple){
+		checkArity(tuple);
+		if(find(tuple) != -1){
+			return false;
+		}
+		if((size + 1) * arity > tuples.length){
+			tuples = Arrays.copyOf(tuples, tuples.length * 2);
+		}
+		System.arraycopy(tuple, 0, tuples, size * arity, arity);
+		int id = size++;
+		if(size * 2 > table.length){
+			table = new int[table.length * 2];
+			for(int i=0; i<size; i++){
+				insert(i);
+			}
+		} else {
+			insert(id);
+		}
+		for(Index index : indexes){
+			if(index != null){
+				index.add(id);
+			}
+		}
+		return true;
+	}
+
+	private void checkArity(int[] tuple){
+		if(tuple.length != arity){
+			throw new IllegalArgumentException("Relation " + name + " has arity " + arity + ", found a tuple of arity " + tuple.length);
+		}
+	}
+
+	/**
+	 * Returns the id of a tuple or -1 if the relation does not contain it
+	 * @param tuple
+	 * @return
+	 */
+	int find(int[] tuple){
+		int mask = table.length - 1;
+		for(int slot=hash(tuple, (1 << arity) - 1) & mask; table[slot] != 0; slot=(slot + 1) & mask){
+			if(matches(table[slot] - 1, tuple, (1 << arity) - 1)){
+				return table[slot] - 1;
+			}
+		}
+		return -1;
+	}
+
+	private void insert(int tuple){
+		int mask = table.length - 1;
+		int slot = hash(tuple, (1 << arity) - 1) & mask;
+		while(table[slot] != 0){
+			slot = (slot + 1) & mask;
+		}
+		table[slot] = tuple + 1;
+	}
+
+	/**
+	 * Returns the index over the given columns, building it on first use
+	 * @param columns A bit mask of the indexed columns
+	 * @return
+	 */
+	Index getIndex(int columns){
+		if(columns <= 0 || columns >= indexes.length){
+			throw new IllegalArgumentException("Invalid columns " + Integer.toBinaryString(columns) + " for relation " + name);
+		}
+		if(indexes[columns] == null){
+			indexes[columns] = new Index(columns);
+		}
+		return indexes[columns];
+	}
+
+	private boolean matches(int tuple, int[] key, int columns){
+		int offset = tuple * arity;
+		for(int column=0; column<arity; column++){
+			if((columns & (1 << column)) != 0 && tuples[offset + column] != key[column]){
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private int hash(int tuple, int columns){
+		int offset = tuple * arity;
+		int hash = 0;
+		for(int column=0; column<arity; column++){
+			if((columns & (1 << column)) != 0){
+				hash = hash * 31 + tuples[offset + column];
+			}
+		}
+		return mix(hash);
+	}
+
+	private int hash(int[] key, int columns){
+		int hash = 0;
+		for(int column=0; column<arity; column++){
+			if((columns & (1 << column)) != 0){
+				hash = hash * 31 + key[column];
+			}
+		}
+		return mix(hash);
+	}
+
+	private static int mix(int hash){
+		hash *= 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	@Override
+	public String toString() {
+		return name + "/" + arity + " [tuples=" + size + "]";
+	}
+
+	/**
+	 * Chains the tuples with equal values in a set of columns, newest first
+	 */
+	final class Index {
+
+		private final int columns;
+
+		// the newest tuple id + 1 of each bucket and the next older tuple id + 1 of each tuple
+		private int[] heads;
+		private int[] next;
+
+		private Index(int columns){
+			this.columns = columns;
+			this.heads = new int[Integer.highestOneBit(Math.max(INITIAL_CAPACITY, size)) * 4];
+			this.next = new int[Math.max(INITIAL_CAPACITY, size)];
+			for(int tuple=0; tuple<size; tuple++){
+				link(tuple);
+			}
+		}
+
+		private void add(int tuple){
+			if(tuple * 2 >= heads.length){
+				heads = new int[heads.length * 2];
+				next = new int[heads.length / 2];
+				for(int i=0; i<=tuple; i++){
+					link(i);
+				}
+			} else {
+				if(tuple >= next.length){
+					next = Arrays.copyOf(next, heads.length / 2);
+				}
+				link(tuple);
+			}
+		}
+
+		private void link(int tuple){
+			int bucket = hash(tuple, columns) & (heads.length - 1);
+			next[tuple] = heads[bucket];
+			heads[bucket] = tuple + 1;
+		}
+
+		/**
+		 * Returns the newest tuple matching the key in the indexed columns, or -1
+		 * @param key A tuple whose indexed columns are set
+		 * @return
+		 */
+		int first(int[] key){
+			return skip(heads[hash(key, columns) & (heads.length - 1)] - 1, key);
+		}
+
+		/**
+		 * Returns the next older tuple matching the key in the indexed columns, or -1
+		 * @param tuple
+		 * @param key
+		 * @return
+		 */
+		int next(int tuple, int[] key){
+			return skip(next[tuple] - 1, key);
+		}
+
+		private int skip(int tuple, int[] key){
+			while(tuple != -1 && !matches(tuple, key, columns)){
+				tuple = next[tuple] - 1;
+			}
+			return tuple;
+		}
+
+	}
+
+}
@@ -0,0 +1,71 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A named set of clauses that are evaluated together
+ */
+public final class RuleSet {
+
+	private final String name;
+	private final List<Clause> clauses;
+
+	/**
+	 * @param name
+	 * @param clauses
+	 */
+	public RuleSet(String name, List<Clause> clauses){
+		this.name = name;
+		this.clauses = Collections.unmodifiableList(new ArrayList<Clause>(clauses));
+	}
+
+	/**
+	 * Returns a rule set of the clauses of the given rule sets
+	 * @param name
+	 * @param ruleSets
+	 * @return
+	 */
+	public static RuleSet union(String name, RuleSet... ruleSets){
+		List<Clause> clauses = new ArrayList<Clause>();
+		for(RuleSet ruleSet : ruleSets){
+			clauses.addAll(ruleSet.getClauses());
+		}
+		return new RuleSet(name, clauses);
+	}
+
+	public String getName(){
+		return name;
+	}
+
+	public List<Clause> getClauses(){
+		return clauses;
+	}
+
+	/**
+	 * Returns the names of the relations used in the bodies of the clauses
+	 * @return
+	 */
+	public Set<String> getBodyRelations(){
+		Set<String> relations = new LinkedHashSet<String>();
+		for(Clause clause : clauses){
+			for(int i=0; i<clause.getBodySize(); i++){
+				relations.add(clause.getBody(i).getRelation());
+			}
+		}
+		return relations;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder result = new StringBuilder("% ").append(name);
+		for(Clause clause : clauses){
+			result.append("\n").append(clause);
+		}
+		return result.toString();
+	}
+
+}
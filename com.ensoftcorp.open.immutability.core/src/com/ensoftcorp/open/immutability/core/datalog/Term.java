@@ -0,0 +1,57 @@
+package com.ensoftcorp.open.immutability.core.datalog;
+
+/**
+ * A variable or an integer constant argument of an atom
+ */
+public final class Term {
+
+	private final String variable;
+	private final int value;
+
+	private Term(String variable, int value){
+		this.variable = variable;
+		this.value = value;
+	}
+
+	/**
+	 * Returns a variable, variables of the same name in a clause are the same variable
+	 * @param name
+	 * @return
+	 */
+	public static Term variable(String name){
+		if(name == null){
+			throw new IllegalArgumentException("Variable name must not be null");
+		}
+		return new Term(name, 0);
+	}
+
+	public static Term constant(int value){
+		return new Term(null, value);
+	}
+
+	public boolean isVariable(){
+		return variable != null;
+	}
+
+	/**
+	 * Returns the name of a variable
+	 * @return
+	 */
+	public String getVariable(){
+		return variable;
+	}
+
+	/**
+	 * Returns the value of a constant
+	 * @return
+	 */
+	public int getValue(){
+		return value;
+	}
+
+	@Override
+	public String toString() {
+		return variable != null ? variable : Integer.toString(value);
+	}
+
+}
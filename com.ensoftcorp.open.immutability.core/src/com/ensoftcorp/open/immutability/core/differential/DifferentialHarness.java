@@ -0,0 +1,222 @@
+package com.ensoftcorp.open.immutability.core.differential;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngine;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+
+/**
+ * Compares the fixed point of a candidate engine with the fixed point of a reference engine
+ *
+ * The engines solve the same constraint system and their qualifier masks are compared
+ * per variable. When the program graph of the system is known, the methods that are
+ * pure in only one of the solutions are compared as well. A divergent system can be
+ * minimized to a subset of its constraints on which the engines still diverge, using
+ * delta debugging over the constraints.
+ */
+public class DifferentialHarness {
+
+	private final InferenceEngine reference;
+	private final InferenceEngine candidate;
+
+	/**
+	 * @param reference The engine whose fixed point is trusted
+	 * @param candidate The engine that is checked
+	 */
+	public DifferentialHarness(InferenceEngine reference, InferenceEngine candidate){
+		this.reference = reference;
+		this.candidate = candidate;
+	}
+
+	public InferenceEngine getReference(){
+		return reference;
+	}
+
+	public InferenceEngine getCandidate(){
+		return candidate;
+	}
+
+	/**
+	 * Solves the system with both engines and compares the qualifier masks
+	 * @param system
+	 * @return Returns the divergence or null if the engines agree
+	 */
+	public Divergence compare(ConstraintSystem system){
+		return compare(null, system);
+	}
+
+	/**
+	 * Solves the system with both engines and compares the qualifier masks and the pure methods
+	 * @param program The program graph the system was extracted from or null
+	 * @param system
+	 * @return Returns the divergence or null if the engines agree
+	 */
+	public Divergence compare(ProgramGraph program, ConstraintSystem system){
+		Solution referenceSolution = reference.solve(system, null);
+		Solution candidateSolution = candidate.solve(system, null);
+		int[] variables = new int[0];
+		int count = 0;
+		for(int variable=0; variable<system.getVariableCount(); variable++){
+			if(referenceSolution.getMask(variable) != candidateSolution.getMask(variable)){
+				if(count == variables.length){
+					variables = Arrays.copyOf(variables, Math.max(16, count * 2));
+				}
+				variables[count++] = variable;
+			}
+		}
+		int[] methods = new int[0];
+		if(program != null){
+			BitSet differences = getPureMethods(program, system, referenceSolution);
+			differences.xor(getPureMethods(program, system, candidateSolution));
+			methods = new int[differences.cardinality()];
+			for(int i=0, method=differences.nextSetBit(0); method >= 0; i++, method=differences.nextSetBit(method + 1)){
+				methods[i] = method;
+			}
+		}
+		if(count == 0 && methods.length == 0){
+			return null;
+		}
+		return new Divergence(system, referenceSolution, candidateSolution, Arrays.copyOf(variables, count), methods);
+	}
+
+	/**
+	 * Returns true if the engines compute different qualifier masks for the system
+	 * @param system
+	 * @return
+	 */
+	private boolean diverges(ConstraintSystem system){
+		int[] referenceMasks = reference.solve(system, null).getMasks();
+		int[] candidateMasks = candidate.solve(system, null).getMasks();
+		return !Arrays.equals(referenceMasks, candidateMasks);
+	}
+
+	/**
+	 * Reduces a system the engines diverge on to a subset of its constraints on which
+	 * the engines still diverge and where removing any single constraint makes them agree
+	 * The variables of the reduced system are the variables its constraints refer to.
+	 * Since purity is decided by the qualifier masks, divergent pure methods always
+	 * come with divergent masks and the masks alone are minimized.
+	 * @param system
+	 * @return Returns the reduced system, or the system itself if the engines agree on it
+	 */
+	public ConstraintSystem minimize(ConstraintSystem system){
+		if(!diverges(system)){
+			return system;
+		}
+		int[] constraints = new int[system.getConstraintCount()];
+		for(int i=0; i<constraints.length; i++){
+			constraints[i] = i;
+		}
+		int granularity = 2;
+		while(constraints.length >= 2){
+			int chunk = (constraints.length + granularity - 1) / granularity;
+			boolean reduced = false;
+
+			// try to keep a single chunk
+			for(int start=0; start<constraints.length && !reduced; start+=chunk){
+				int[] subset = Arrays.copyOfRange(constraints, start, Math.min(constraints.length, start + chunk));
+				if(diverges(subsystem(system, subset))){
+					constraints = subset;
+					granularity = 2;
+					reduced = true;
+				}
+			}
+
+			// try to remove a single chunk
+			for(int start=0; start<constraints.length && !reduced; start+=chunk){
+				int end = Math.min(constraints.length, start + chunk);
+				int[] complement = new int[constraints.length - (end - start)];
+				System.arraycopy(constraints, 0, complement, 0, start);
+				System.arraycopy(constraints, end, complement, start, constraints.length - end);
+				if(diverges(subsystem(system, complement))){
+					constraints = complement;
+					granularity = Math.max(granularity - 1, 2);
+					reduced = true;
+				}
+			}
+
+			if(!reduced){
+				if(granularity >= constraints.length){
+					break;
+				}
+				granularity = Math.min(constraints.length, granularity * 2);
+			}
+		}
+		return subsystem(system, constraints);
+	}
+
+	/**
+	 * Returns a system of the given constraints over the variables they refer to
+	 * Variables keep their program graph nodes and initial masks.
+	 * @param system
+	 * @param constraints
+	 * @return
+	 */
+	static ConstraintSystem subsystem(ConstraintSystem system, int[] constraints){
+		ConstraintSystem.Builder builder = ConstraintSystem.builder();
+		int[] operands = new int[3];
+		for(int constraint : constraints){
+			ConstraintType type = system.getType(constraint);
+			if(type == ConstraintType.REMOVE){
+				builder.addRemove(system.getRule(constraint), getVariable(builder, system, system.getOperand(constraint, 0)), system.getOperand(constraint, 1));
+			} else {
+				Arrays.fill(operands, -1);
+				for(int i=0; i<type.getArity(); i++){
+					operands[i] = getVariable(builder, system, system.getOperand(constraint, i));
+				}
+				builder.addConstraint(type, system.getRule(constraint), operands[0], operands[1], operands[2]);
+			}
+		}
+		return builder.build();
+	}
+
+	private static int getVariable(ConstraintSystem.Builder builder, ConstraintSystem system, int variable){
+		if(system.isConstant(variable)){
+			return builder.getConstant(system.getInitialMask(variable));
+		}
+		return builder.getVariable(system.getNode(variable), system.getInitialMask(variable));
+	}
+
+	/**
+	 * Returns the methods of the program graph that are pure in the solution, as the
+	 * Atlas plugin tags them after extracting the maximal types
+	 * A method is pure if neither its parameters, its identity nor the method itself
+	 * (its mutations of static fields) are mutable. Modeled methods take their purity
+	 * from the model, which does not depend on the solution, so they are not included.
+	 * @param program
+	 * @param system
+	 * @param solution
+	 * @return Returns the set of pure method nodes
+	 */
+	public static BitSet getPureMethods(ProgramGraph program, ConstraintSystem system, Solution solution){
+		BitSet impure = new BitSet(program.getNodeCount());
+		for(int variable=0; variable<system.getVariableCount(); variable++){
+			if(system.isConstant(variable) || Qualifiers.getMaximal(solution.getMask(variable)) != Qualifiers.MUTABLE){
+				continue;
+			}
+			int node = system.getNode(variable);
+			if(program.isKind(node, NodeKind.METHOD)){
+				impure.set(node);
+			} else if(program.isKind(node, NodeKind.PARAMETER) || program.isKind(node, NodeKind.IDENTITY)){
+				int method = program.getContainingMethod(node);
+				if(method != -1){
+					impure.set(method);
+				}
+			}
+		}
+		BitSet pure = new BitSet(program.getNodeCount());
+		for(int node=0; node<program.getNodeCount(); node++){
+			if(program.isKind(node, NodeKind.METHOD) && !program.isModeled(node) && !impure.get(node)){
+				pure.set(node);
+			}
+		}
+		return pure;
+	}
+
+}
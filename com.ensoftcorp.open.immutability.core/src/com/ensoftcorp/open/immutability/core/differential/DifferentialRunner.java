@@ -0,0 +1,155 @@
+package com.ensoftcorp.open.immutability.core.differential;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintExtractor;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
+import com.ensoftcorp.open.immutability.core.engine.RoundRobinEngine;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+import com.ensoftcorp.open.immutability.core.replay.ConstraintRecording;
+import com.ensoftcorp.open.immutability.core.synthetic.SyntheticProgramGenerator;
+
+/**
+ * Runs the differential harness over recorded and generated constraint systems
+ *
+ * The reference engine defaults to the round-robin engine, which applies every
+ * constraint in passes until nothing changes like the legacy engine of the Atlas
+ * plugin. Each divergence is minimized and the minimized system is reported and
+ * optionally written as a constraint recording that the ReplayRunner can replay.
+ */
+public class DifferentialRunner {
+
+	private static final String SYNTHETIC = "synthetic:";
+
+	private final DifferentialHarness harness;
+	private final PrintStream out;
+	private File counterexampleDirectory = null;
+	private int counterexamples = 0;
+
+	/**
+	 * @param harness
+	 * @param out The stream the comparisons are reported to
+	 */
+	public DifferentialRunner(DifferentialHarness harness, PrintStream out){
+		this.harness = harness;
+		this.out = out;
+	}
+
+	/**
+	 * Compares engines and exits with status 1 if a candidate diverges from the reference
+	 * Usage: DifferentialRunner <comma separated candidate engines> [reference engine] [counterexample directory] [sources...]
+	 * A source is a constraint recording file or synthetic:assignments:programs, which compares the
+	 * given number of generated programs of the given size. The default sources are synthetic:200:50
+	 * and synthetic:10000:5. Use - to skip an optional argument.
+	 * @param args
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1){
+			System.err.println("Usage: DifferentialRunner <comma separated candidate engines> [reference engine] [counterexample directory] [sources...]");
+			System.exit(2);
+		}
+		String reference = args.length > 1 && !args[1].equals("-") ? args[1] : RoundRobinEngine.NAME;
+		File directory = args.length > 2 && !args[2].equals("-") ? new File(args[2]) : null;
+		List<String> sources = new ArrayList<String>();
+		for(int i=3; i<args.length; i++){
+			sources.add(args[i]);
+		}
+		if(sources.isEmpty()){
+			sources.add(SYNTHETIC + "200:50");
+			sources.add(SYNTHETIC + "10000:5");
+		}
+		boolean agree = true;
+		for(String candidate : args[0].split(",")){
+			DifferentialRunner runner = new DifferentialRunner(new DifferentialHarness(InferenceEngines.get(reference), InferenceEngines.get(candidate.trim())), System.out);
+			runner.setCounterexampleDirectory(directory);
+			for(String source : sources){
+				if(!runner.run(source)){
+					agree = false;
+				}
+			}
+		}
+		if(!agree){
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Sets the directory minimized counterexamples are written to as constraint recordings, or null
+	 * @param directory
+	 */
+	public void setCounterexampleDirectory(File directory){
+		this.counterexampleDirectory = directory;
+	}
+
+	/**
+	 * Compares the engines on a recording file or on generated programs
+	 * @param source A recording file or synthetic:assignments:programs
+	 * @return Returns true if the engines agree on every system of the source
+	 * @throws IOException
+	 */
+	public boolean run(String source) throws IOException {
+		if(source.startsWith(SYNTHETIC)){
+			String[] values = source.substring(SYNTHETIC.length()).split(":");
+			int assignments = Integer.parseInt(values[0]);
+			int programs = values.length > 1 ? Integer.parseInt(values[1]) : 1;
+			boolean agree = true;
+			for(int seed=0; seed<programs; seed++){
+				ProgramGraph program = SyntheticProgramGenerator.builder().setAssignments(assignments).setSeed(seed).build().generate();
+				ConstraintSystem system = new ConstraintExtractor(program, InferenceOptions.defaults()).extract();
+				if(!run(source + " seed " + seed, program, system)){
+					agree = false;
+				}
+			}
+			return agree;
+		}
+		return run(source, null, ConstraintRecording.read(new File(source)).getSystem());
+	}
+
+	/**
+	 * Compares the engines on a constraint system
+	 * @param name The name the system is reported by
+	 * @param program The program graph the system was extracted from or null
+	 * @param system
+	 * @return Returns true if the engines agree
+	 * @throws IOException
+	 */
+	public boolean run(String name, ProgramGraph program, ConstraintSystem system) throws IOException {
+		String engines = harness.getCandidate().getName() + " vs " + harness.getReference().getName();
+		Divergence divergence = harness.compare(program, system);
+		if(divergence == null){
+			out.println(engines + " on " + name + ": agree on " + system);
+			return true;
+		}
+		out.println(engines + " on " + name + ": " + divergence.toString(10));
+		ConstraintSystem minimized = harness.minimize(system);
+		Divergence minimal = harness.compare(minimized);
+		out.println("Minimized to " + minimized + (minimal != null && minimal.isTypeError() ? " (the reference has a type error)" : ""));
+		for(int variable=0; variable<minimized.getVariableCount(); variable++){
+			out.print("  variable " + variable + (minimized.isConstant(variable) ? " (constant)" : " (node " + minimized.getNode(variable) + ")")
+					+ ": " + Qualifiers.toString(minimized.getInitialMask(variable)));
+			if(minimal != null){
+				out.print(" -> " + Qualifiers.toString(minimal.getReferenceSolution().getMask(variable)) + " in the reference, "
+						+ Qualifiers.toString(minimal.getCandidateSolution().getMask(variable)) + " in the candidate");
+			}
+			out.println();
+		}
+		for(int constraint=0; constraint<minimized.getConstraintCount(); constraint++){
+			out.println("  constraint " + constraint + ": " + minimized.toString(constraint));
+		}
+		if(counterexampleDirectory != null){
+			File file = new File(counterexampleDirectory, "counterexample-" + harness.getCandidate().getName() + "-" + (counterexamples++) + ".imcs");
+			new ConstraintRecording(minimized).write(file);
+			out.println("Wrote the counterexample to " + file.getAbsolutePath());
+		}
+		return false;
+	}
+
+}
@@ -0,0 +1,92 @@
+package com.ensoftcorp.open.immutability.core.differential;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+
+/**
+ * The differences between the fixed points two engines computed for the same constraint system
+ */
+public final class Divergence {
+
+	private final ConstraintSystem system;
+	private final Solution reference;
+	private final Solution candidate;
+	private final int[] variables;
+	private final int[] methods;
+
+	Divergence(ConstraintSystem system, Solution reference, Solution candidate, int[] variables, int[] methods){
+		this.system = system;
+		this.reference = reference;
+		this.candidate = candidate;
+		this.variables = variables;
+		this.methods = methods;
+	}
+
+	public ConstraintSystem getSystem(){
+		return system;
+	}
+
+	public Solution getReferenceSolution(){
+		return reference;
+	}
+
+	public Solution getCandidateSolution(){
+		return candidate;
+	}
+
+	/**
+	 * Returns the variables whose qualifier masks differ
+	 * @return
+	 */
+	public int[] getVariables(){
+		return variables.clone();
+	}
+
+	/**
+	 * Returns the program graph nodes of the methods that are pure in only one of the solutions
+	 * @return
+	 */
+	public int[] getMethods(){
+		return methods.clone();
+	}
+
+	/**
+	 * Returns true if a variable lost all of its qualifiers in the reference solution, in which
+	 * case the fixed point depends on the order of the removals and engines may legitimately differ
+	 * @return
+	 */
+	public boolean isTypeError(){
+		for(int mask : reference.getMasks()){
+			if(mask == 0){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns a readable report of the divergence listing at most the given number of variables and methods
+	 * @param limit
+	 * @return
+	 */
+	public String toString(int limit){
+		StringBuilder result = new StringBuilder(toString());
+		for(int i=0; i<variables.length && i<limit; i++){
+			int variable = variables[i];
+			result.append("\n  variable ").append(variable).append(" (node ").append(system.getNode(variable)).append("): ")
+				.append(Qualifiers.toString(reference.getMask(variable))).append(" in the reference, ")
+				.append(Qualifiers.toString(candidate.getMask(variable))).append(" in the candidate");
+		}
+		for(int i=0; i<methods.length && i<limit; i++){
+			result.append("\n  method node ").append(methods[i]).append(" differs in purity");
+		}
+		return result.toString();
+	}
+
+	@Override
+	public String toString() {
+		return "Divergence [variables=" + variables.length + ", methods=" + methods.length + ", typeError=" + isTypeError() + ", system=" + system + "]";
+	}
+
+}
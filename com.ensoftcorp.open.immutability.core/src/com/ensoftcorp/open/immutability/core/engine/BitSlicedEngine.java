@@ -0,0 +1,454 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Solves the constraints 64 at a time over bitsets of the qualifiers
+ *
+ * The qualifier masks are stored as three bitsets over the variables, one per
+ * qualifier. The constraints of each form are a sparse matrix selecting their
+ * operands from the bitsets. They are evaluated in blocks of 64: the qualifier bits
+ * of the operands of a block are gathered into words, the supported qualifiers of
+ * every operand are computed for the whole block with a few word operations, and
+ * the unsupported qualifiers are cleared in the bitsets. A pass evaluates only the
+ * blocks with an operand that changed in the previous pass, and the engine stops
+ * after a pass that removes nothing. The removals are the removals of the Propagator,
+ * so the fixed point is the fixed point of the other engines.
+ */
+public class BitSlicedEngine implements InferenceEngine {
+
+	public static final String NAME = "bit-sliced";
+
+	private static final int BLOCK = 64;
+
+	/**
+	 * The qualifiers in the order of their bits in a mask
+	 */
+	private static final int[] QUALIFIERS = { Qualifiers.MUTABLE, Qualifiers.POLYREAD, Qualifiers.READONLY };
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, RemovalListener listener) {
+		State state = new State(system, listener);
+		List<Family> families = new ArrayList<Family>();
+		for(ConstraintType type : ConstraintType.values()){
+			if(type != ConstraintType.REMOVE){
+				Family family = Family.of(system, type);
+				if(family != null){
+					families.add(family);
+				}
+			}
+		}
+
+		// qualifiers are removed unconditionally, so they are removed once up front
+		for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+			if(system.getType(constraint) == ConstraintType.REMOVE){
+				state.remove(system.getOperand(constraint, 0), system.getOperand(constraint, 1), constraint);
+			}
+		}
+
+		long propagations = 0;
+		int rounds = 0;
+		for(Family family : families){
+			family.activateAll();
+		}
+		while(true){
+			rounds++;
+			state.startPass();
+			for(Family family : families){
+				propagations += family.evaluate(state);
+			}
+			if(!state.changed()){
+				break;
+			}
+			for(Family family : families){
+				family.activate(state.getChanged());
+			}
+		}
+		return new Solution(state.getMasks(), rounds, propagations);
+	}
+
+	/**
+	 * The qualifier bitsets and the variables changed by the current pass
+	 */
+	private static final class State {
+
+		private final ConstraintSystem system;
+		private final RemovalListener listener;
+		private final int variables;
+		private final long[][] slices = new long[QUALIFIERS.length][];
+		private final long[] constants;
+		private long[] changed;
+		private boolean anyChanged;
+
+		State(ConstraintSystem system, RemovalListener listener){
+			this.system = system;
+			this.listener = listener;
+			this.variables = system.getVariableCount();
+			int words = (variables + BLOCK - 1) / BLOCK;
+			for(int slice=0; slice<slices.length; slice++){
+				slices[slice] = new long[words];
+			}
+			constants = new long[words];
+			changed = new long[words];
+			for(int variable=0; variable<variables; variable++){
+				int mask = system.getInitialMask(variable);
+				for(int slice=0; slice<slices.length; slice++){
+					if((mask & QUALIFIERS[slice]) != 0){
+						slices[slice][variable >>> 6] |= 1L << variable;
+					}
+				}
+				if(system.isConstant(variable)){
+					constants[variable >>> 6] |= 1L << variable;
+				}
+			}
+		}
+
+		int getMask(int variable){
+			int word = variable >>> 6;
+			long bit = 1L << variable;
+			int mask = 0;
+			for(int slice=0; slice<slices.length; slice++){
+				if((slices[slice][word] & bit) != 0){
+					mask |= QUALIFIERS[slice];
+				}
+			}
+			return mask;
+		}
+
+		/**
+		 * Removes qualifiers from a variable unless it is a constant
+		 */
+		void remove(int variable, int removals, int constraint){
+			int word = variable >>> 6;
+			long bit = 1L << variable;
+			if((constants[word] & bit) != 0){
+				return;
+			}
+			int before = getMask(variable);
+			int after = before & ~removals;
+			if(after == before){
+				return;
+			}
+			for(int slice=0; slice<slices.length; slice++){
+				if((removals & QUALIFIERS[slice]) != 0){
+					slices[slice][word] &= ~bit;
+				}
+			}
+			changed[word] |= bit;
+			anyChanged = true;
+			if(listener != null){
+				listener.removed(variable, before, after, constraint);
+			}
+		}
+
+		void startPass(){
+			changed = new long[changed.length];
+			anyChanged = false;
+		}
+
+		boolean changed(){
+			return anyChanged;
+		}
+
+		long[] getChanged(){
+			return changed;
+		}
+
+		long[] getSlice(int slice){
+			return slices[slice];
+		}
+
+		int[] getMasks(){
+			int[] masks = new int[variables];
+			for(int variable=0; variable<variables; variable++){
+				masks[variable] = getMask(variable);
+			}
+			return masks;
+		}
+
+	}
+
+	/**
+	 * The constraints of one form as operand columns, split into blocks of 64 constraints
+	 */
+	private static final class Family {
+
+		private final ConstraintType type;
+		private final int arity;
+		private final int size;
+		private final int[] constraints;
+		private final int[][] operands;
+
+		// for each operand and qualifier, the qualifiers of the other operands that support it
+		// as pairs (or single qualifiers for binary forms) of slice indexes
+		private final int[][][] supports;
+
+		// the blocks each variable is an operand of in compressed sparse row form
+		private final int[] blockOffsets;
+		private final int[] blocks;
+		private final long[] active;
+
+		private Family(ConstraintSystem system, ConstraintType type, int[] constraints){
+			this.type = type;
+			this.arity = type.getArity();
+			this.size = constraints.length;
+			this.constraints = constraints;
+			this.operands = new int[arity][size];
+			for(int i=0; i<size; i++){
+				for(int operand=0; operand<arity; operand++){
+					operands[operand][i] = system.getOperand(constraints[i], operand);
+				}
+			}
+			this.supports = type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY ? null : getSupports(type);
+
+			int variables = system.getVariableCount();
+			int blockCount = (size + BLOCK - 1) / BLOCK;
+			int[] offsets = new int[variables + 1];
+			for(int block=0; block<blockCount; block++){
+				forEachOperand(block, offsets, null);
+			}
+			for(int variable=0; variable<variables; variable++){
+				offsets[variable + 1] += offsets[variable];
+			}
+			int[] blocks = new int[offsets[variables]];
+			int[] next = offsets.clone();
+			for(int block=0; block<blockCount; block++){
+				forEachOperand(block, next, blocks);
+			}
+			this.blockOffsets = offsets;
+			this.blocks = blocks;
+			this.active = new long[(blockCount + BLOCK - 1) / BLOCK];
+		}
+
+		/**
+		 * Counts (or records) the block once for each distinct operand variable of its constraints
+		 * Consecutive repeats of a variable within a block are skipped, other repeats are harmless
+		 */
+		private void forEachOperand(int block, int[] positions, int[] blocks){
+			int start = block * BLOCK;
+			int end = Math.min(size, start + BLOCK);
+			for(int operand=0; operand<arity; operand++){
+				int previous = -1;
+				for(int i=start; i<end; i++){
+					int variable = operands[operand][i];
+					if(variable == previous){
+						continue;
+					}
+					previous = variable;
+					if(blocks == null){
+						positions[variable + 1]++;
+					} else {
+						blocks[positions[variable]++] = block;
+					}
+				}
+			}
+		}
+
+		static Family of(ConstraintSystem system, ConstraintType type){
+			int count = 0;
+			for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+				if(system.getType(constraint) == type){
+					count++;
+				}
+			}
+			if(count == 0){
+				return null;
+			}
+			int[] constraints = new int[count];
+			int i = 0;
+			for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+				if(system.getType(constraint) == type){
+					constraints[i++] = constraint;
+				}
+			}
+			return new Family(system, type, constraints);
+		}
+
+		/**
+		 * Derives the supporting qualifiers of each operand from the removal tables of the
+		 * Propagator: a qualifier is supported by a combination of single qualifiers of
+		 * the other operands if the constraint removes nothing from the combination
+		 */
+		private static int[][][] getSupports(ConstraintType type){
+			int arity = type.getArity();
+			int[][][] supports = new int[arity][QUALIFIERS.length][];
+			for(int operand=0; operand<arity; operand++){
+				for(int slice=0; slice<QUALIFIERS.length; slice++){
+					List<int[]> combinations = new ArrayList<int[]>();
+					int others = arity == 2 ? QUALIFIERS.length : QUALIFIERS.length * QUALIFIERS.length;
+					for(int combination=0; combination<others; combination++){
+						int[] qualifiers = new int[arity];
+						int[] otherSlices = new int[arity - 1];
+						int remaining = combination;
+						for(int i=0, j=0; i<arity; i++){
+							if(i == operand){
+								qualifiers[i] = QUALIFIERS[slice];
+							} else {
+								otherSlices[j] = remaining % QUALIFIERS.length;
+								qualifiers[i] = QUALIFIERS[otherSlices[j]];
+								remaining /= QUALIFIERS.length;
+								j++;
+							}
+						}
+						int removals = Propagator.getRemovals(type, qualifiers[0], qualifiers[1], arity > 2 ? qualifiers[2] : 0);
+						if(removals == 0){
+							combinations.add(otherSlices);
+						}
+					}
+					int[] flattened = new int[combinations.size() * (arity - 1)];
+					for(int i=0; i<combinations.size(); i++){
+						System.arraycopy(combinations.get(i), 0, flattened, i * (arity - 1), arity - 1);
+					}
+					supports[operand][slice] = flattened;
+				}
+			}
+			return supports;
+		}
+
+		void activateAll(){
+			int blockCount = (size + BLOCK - 1) / BLOCK;
+			for(int block=0; block<blockCount; block++){
+				active[block >>> 6] |= 1L << block;
+			}
+		}
+
+		/**
+		 * Activates the blocks of the changed variables
+		 */
+		void activate(long[] changed){
+			for(int word=0; word<changed.length; word++){
+				long bits = changed[word];
+				while(bits != 0){
+					int variable = (word << 6) + Long.numberOfTrailingZeros(bits);
+					bits &= bits - 1;
+					if(variable + 1 >= blockOffsets.length){
+						continue;
+					}
+					for(int i=blockOffsets[variable]; i<blockOffsets[variable + 1]; i++){
+						int block = blocks[i];
+						active[block >>> 6] |= 1L << block;
+					}
+				}
+			}
+		}
+
+		/**
+		 * Evaluates the active blocks and clears them
+		 * @return Returns the number of constraints evaluated
+		 */
+		int evaluate(State state){
+			int evaluated = 0;
+			long[][] words = new long[arity][QUALIFIERS.length];
+			long[][] removals = new long[arity][QUALIFIERS.length];
+			for(int word=0; word<active.length; word++){
+				while(active[word] != 0){
+					int block = (word << 6) + Long.numberOfTrailingZeros(active[word]);
+					active[word] &= active[word] - 1;
+					evaluated += evaluate(state, block, words, removals);
+				}
+			}
+			return evaluated;
+		}
+
+		private int evaluate(State state, int block, long[][] words, long[][] removals){
+			int start = block * BLOCK;
+			int length = Math.min(size, start + BLOCK) - start;
+
+			// gather the qualifier bits of the operands
+			for(int operand=0; operand<arity; operand++){
+				for(int slice=0; slice<QUALIFIERS.length; slice++){
+					long[] bits = state.getSlice(slice);
+					int[] column = operands[operand];
+					long result = 0;
+					for(int i=0; i<length; i++){
+						int variable = column[start + i];
+						result |= ((bits[variable >>> 6] >>> variable) & 1L) << i;
+					}
+					words[operand][slice] = result;
+				}
+			}
+
+			// compute the unsupported qualifiers of the whole block
+			long valid = length == BLOCK ? -1L : (1L << length) - 1;
+			long any = 0;
+			if(supports == null){
+				// readonly !in x => readonly !in y
+				int readonly = 2;
+				for(int operand=0; operand<arity; operand++){
+					for(int slice=0; slice<QUALIFIERS.length; slice++){
+						removals[operand][slice] = 0;
+					}
+				}
+				removals[1][readonly] = ~words[0][readonly] & words[1][readonly] & valid;
+				any = removals[1][readonly];
+			} else {
+				// nothing is removed if an operand is empty
+				long nonEmpty = valid;
+				for(int operand=0; operand<arity; operand++){
+					nonEmpty &= words[operand][0] | words[operand][1] | words[operand][2];
+				}
+				for(int operand=0; operand<arity; operand++){
+					int first = operand == 0 ? 1 : 0;
+					int second = operand == 2 ? 1 : 2;
+					for(int slice=0; slice<QUALIFIERS.length; slice++){
+						int[] combinations = supports[operand][slice];
+						long supported = 0;
+						if(arity == 2){
+							long[] other = words[1 - operand];
+							for(int i=0; i<combinations.length; i++){
+								supported |= other[combinations[i]];
+							}
+						} else {
+							long[] a = words[first];
+							long[] b = words[second];
+							for(int i=0; i<combinations.length; i+=2){
+								supported |= a[combinations[i]] & b[combinations[i + 1]];
+							}
+						}
+						long removed = words[operand][slice] & ~supported & nonEmpty;
+						removals[operand][slice] = removed;
+						any |= removed;
+					}
+				}
+			}
+
+			// scatter the removals of each constraint with removals
+			while(any != 0){
+				int i = Long.numberOfTrailingZeros(any);
+				any &= any - 1;
+				long bit = 1L << i;
+				for(int operand=0; operand<arity; operand++){
+					int mask = 0;
+					for(int slice=0; slice<QUALIFIERS.length; slice++){
+						if((removals[operand][slice] & bit) != 0){
+							mask |= QUALIFIERS[slice];
+						}
+					}
+					if(mask != 0){
+						state.remove(operands[operand][start + i], mask, constraints[start + i]);
+					}
+				}
+			}
+			return length;
+		}
+
+		@Override
+		public String toString() {
+			return "Family [type=" + type + ", constraints=" + size + "]";
+		}
+
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import java.util.Set;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+import com.ensoftcorp.open.immutability.core.datalog.Clause;
+import com.ensoftcorp.open.immutability.core.datalog.Evaluator;
+import com.ensoftcorp.open.immutability.core.datalog.ReImRules;
+import com.ensoftcorp.open.immutability.core.datalog.Relation;
+import com.ensoftcorp.open.immutability.core.datalog.RuleSet;
+
+/**
+ * Solves the constraints by semi-naive Datalog evaluation of the ReIm rules
+ *
+ * The constraint system is loaded as facts and the cannot facts are derived with
+ * the rule set of the engine. Each new cannot fact removes its qualifier from the
+ * variable and is reported with the constraint of the clause that derived it. The
+ * rounds of the solution are evaluation rounds and the propagations are the facts
+ * produced by the joins.
+ */
+public class DatalogEngine implements InferenceEngine {
+
+	public static final String NAME = "datalog";
+
+	private final String name;
+	private final RuleSet rules;
+
+	/**
+	 * Creates an engine with the clauses of every constraint form
+	 */
+	public DatalogEngine(){
+		this(NAME, ReImRules.getAllRules());
+	}
+
+	/**
+	 * @param name
+	 * @param rules The rule set, which must have clauses for every form of the solved systems
+	 */
+	public DatalogEngine(String name, RuleSet rules){
+		this.name = name;
+		this.rules = rules;
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	public RuleSet getRules(){
+		return rules;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, final RemovalListener listener) {
+		Set<String> relations = rules.getBodyRelations();
+		Evaluator evaluator = new Evaluator();
+		for(int variable=0; variable<system.getVariableCount(); variable++){
+			if(!system.isConstant(variable)){
+				evaluator.addFact(ReImRules.VARIABLE, variable);
+			}
+			for(int qualifier : Qualifiers.values()){
+				if(!Qualifiers.contains(system.getInitialMask(variable), qualifier)){
+					evaluator.addFact(ReImRules.INITIALLY_NOT, variable, qualifier);
+				}
+			}
+		}
+		for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+			ConstraintType type = system.getType(constraint);
+			String relation = ReImRules.getRelation(type);
+			if(!relations.contains(relation)){
+				throw new IllegalArgumentException("The rule set " + rules.getName() + " has no clauses for constraints of the form " + type);
+			}
+			if(type == ConstraintType.REMOVE){
+				for(int qualifier : Qualifiers.values()){
+					if(Qualifiers.contains(system.getOperand(constraint, 1), qualifier)){
+						evaluator.addFact(relation, constraint, system.getOperand(constraint, 0), qualifier);
+					}
+				}
+			} else {
+				int[] tuple = new int[type.getArity() + 1];
+				tuple[0] = constraint;
+				for(int operand=0; operand<type.getArity(); operand++){
+					tuple[operand + 1] = system.getOperand(constraint, operand);
+				}
+				evaluator.addFact(relation, tuple);
+			}
+		}
+
+		final int[] masks = system.getInitialMasks();
+		final Relation cannot = evaluator.getRelation(ReImRules.CANNOT, 2);
+		evaluator.evaluate(rules, new Evaluator.Listener(){
+			@Override
+			public void derived(Relation relation, int tuple, Clause clause, int[] bindings) {
+				if(relation != cannot){
+					return;
+				}
+				int variable = relation.get(tuple, 0);
+				int before = masks[variable];
+				int after = before & ~relation.get(tuple, 1);
+				if(after == before){
+					return;
+				}
+				masks[variable] = after;
+				if(listener != null){
+					int slot = clause.getSlot(ReImRules.CONSTRAINT);
+					listener.removed(variable, before, after, slot == -1 ? -1 : bindings[slot]);
+				}
+			}
+		});
+		return new Solution(masks, evaluator.getRounds(), evaluator.getInferences());
+	}
+
+}
@@ -0,0 +1,34 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Computes the greatest fixed point of a constraint system
+ *
+ * Starting from the initial qualifier masks, an engine removes unsatisfiable
+ * qualifiers until no constraint removes any more. Since qualifiers are only
+ * removed and each removal is justified by a constraint, every engine reaches the
+ * same fixed point and engines differ only in the order and cost of the work.
+ * The exception is a system where a variable loses all of its qualifiers (a type
+ * error), since constraints over an empty variable remove nothing and the result
+ * then depends on when the variable became empty.
+ * Engines must not keep state between solves so they can be shared between threads.
+ */
+public interface InferenceEngine {
+
+	/**
+	 * Returns the name the engine is selected by
+	 * @return
+	 */
+	public String getName();
+
+	/**
+	 * Solves the constraint system
+	 * @param system
+	 * @param listener Notified of each removal or null
+	 * @return
+	 */
+	public Solution solve(ConstraintSystem system, RemovalListener listener);
+
+}
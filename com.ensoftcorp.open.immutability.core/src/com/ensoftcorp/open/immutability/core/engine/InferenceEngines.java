@@ -0,0 +1,56 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The registry of inference engines by name
+ */
+public final class InferenceEngines {
+
+	private static final Map<String,InferenceEngine> ENGINES = new LinkedHashMap<String,InferenceEngine>();
+
+	static {
+		register(new RoundRobinEngine());
+		register(new WorklistEngine());
+		register(new BitSlicedEngine());
+		register(new SupportCountingEngine());
+		register(new TwoPhaseEngine());
+		register(new DatalogEngine());
+	}
+
+	private InferenceEngines(){}
+
+	/**
+	 * Registers an engine, replacing any engine of the same name
+	 * @param engine
+	 */
+	public static synchronized void register(InferenceEngine engine){
+		ENGINES.put(engine.getName(), engine);
+	}
+
+	/**
+	 * Returns the engine with the given name
+	 * @param name
+	 * @return
+	 */
+	public static synchronized InferenceEngine get(String name){
+		InferenceEngine engine = ENGINES.get(name);
+		if(engine == null){
+			throw new IllegalArgumentException("Unknown inference engine: " + name + ", expected one of " + ENGINES.keySet());
+		}
+		return engine;
+	}
+
+	/**
+	 * Returns the names of the registered engines in registration order
+	 * @return
+	 */
+	public static synchronized List<String> getNames(){
+		return Collections.unmodifiableList(new ArrayList<String>(ENGINES.keySet()));
+	}
+
+}
@@ -0,0 +1,42 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Applies every constraint in order until a pass removes nothing
+ *
+ * This is the iteration strategy of the Atlas plugin's fixed point loop and serves
+ * as the reference the other engines are compared against.
+ */
+public class RoundRobinEngine implements InferenceEngine {
+
+	public static final String NAME = "round-robin";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, RemovalListener listener) {
+		int[] masks = system.getInitialMasks();
+		int constraints = system.getConstraintCount();
+		int rounds = 0;
+		long propagations = 0;
+		boolean changed = true;
+		while(changed){
+			changed = false;
+			rounds++;
+			for(int constraint=0; constraint<constraints; constraint++){
+				if(Propagator.propagate(system, masks, constraint, listener)){
+					changed = true;
+				}
+			}
+			propagations += constraints;
+		}
+		return new Solution(masks, rounds, propagations);
+	}
+
+}
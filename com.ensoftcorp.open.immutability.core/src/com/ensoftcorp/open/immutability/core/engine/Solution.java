@@ -0,0 +1,53 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+/**
+ * The fixed point qualifier masks of a constraint system and the work spent to compute them
+ */
+public final class Solution {
+
+	private final int[] masks;
+	private final int rounds;
+	private final long propagations;
+
+	/**
+	 * @param masks The qualifier masks indexed by variable
+	 * @param rounds The number of passes or rounds the engine made
+	 * @param propagations The number of constraint applications
+	 */
+	public Solution(int[] masks, int rounds, long propagations){
+		this.masks = masks;
+		this.rounds = rounds;
+		this.propagations = propagations;
+	}
+
+	/**
+	 * Returns the qualifier mask of the variable
+	 * @param variable
+	 * @return
+	 */
+	public int getMask(int variable){
+		return masks[variable];
+	}
+
+	/**
+	 * Returns the backing array of qualifier masks indexed by variable, which must not be modified
+	 * @return
+	 */
+	public int[] getMasks(){
+		return masks;
+	}
+
+	public int getRounds(){
+		return rounds;
+	}
+
+	public long getPropagations(){
+		return propagations;
+	}
+
+	@Override
+	public String toString() {
+		return "Solution [variables=" + masks.length + ", rounds=" + rounds + ", propagations=" + propagations + "]";
+	}
+
+}
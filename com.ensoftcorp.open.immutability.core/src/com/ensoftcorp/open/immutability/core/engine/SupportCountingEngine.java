@@ -0,0 +1,297 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintIndex;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Removes qualifiers when their support in a constraint runs out (AC-4 arc consistency)
+ *
+ * For each operand qualifier of each constraint the engine counts the combinations of
+ * qualifiers of the other operands that satisfy the constraint with it. The counts are
+ * computed once. A removed qualifier is queued, and when it is dequeued the counts of
+ * the combinations it was part of are decremented in the constraints of its variable.
+ * A qualifier whose count reaches zero has no support left and is removed. A combination
+ * is subtracted when the first of its qualifiers is dequeued, so every combination is
+ * counted down at most once and the total work is bounded by the number of constraints
+ * times the number of qualifier combinations, regardless of the order of the removals.
+ * Constraints with a repeated operand, such as x :> x madapt ret, recount their
+ * combinations instead. The removals are the removals of the Propagator.
+ */
+public class SupportCountingEngine implements InferenceEngine {
+
+	public static final String NAME = "support-counting";
+
+	/**
+	 * The qualifiers by their bit in a mask
+	 */
+	private static final int[] QUALIFIERS = { Qualifiers.MUTABLE, Qualifiers.POLYREAD, Qualifiers.READONLY };
+
+	private static final int READONLY = 2;
+
+	/**
+	 * The satisfying combinations of single qualifiers by form, indexed by the qualifier
+	 * bits of the operands as x * 9 + y * 3 + z, with z = 0 for binary forms
+	 */
+	private static final boolean[][] SATISFIED = new boolean[ConstraintType.values().length][];
+
+	static {
+		for(ConstraintType type : ConstraintType.values()){
+			if(type == ConstraintType.REMOVE || type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+				continue;
+			}
+			boolean[] satisfied = new boolean[QUALIFIERS.length * QUALIFIERS.length * QUALIFIERS.length];
+			int zs = type.getArity() == 2 ? 1 : QUALIFIERS.length;
+			for(int x=0; x<QUALIFIERS.length; x++){
+				for(int y=0; y<QUALIFIERS.length; y++){
+					for(int z=0; z<zs; z++){
+						int qz = type.getArity() == 2 ? 0 : QUALIFIERS[z];
+						satisfied[x * 9 + y * 3 + z] = Propagator.getRemovals(type, QUALIFIERS[x], QUALIFIERS[y], qz) == 0;
+					}
+				}
+			}
+			SATISFIED[type.ordinal()] = satisfied;
+		}
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, RemovalListener listener) {
+		Solver solver = new Solver(system, listener);
+		solver.solve();
+		return new Solution(solver.masks, 1, solver.propagations);
+	}
+
+	/**
+	 * The qualifier masks, the support counts and the queue of removals of one solve
+	 */
+	private static final class Solver {
+
+		private final ConstraintSystem system;
+		private final RemovalListener listener;
+		private final ConstraintIndex index;
+		private final int[] masks;
+
+		// the qualifiers that still count as support, which are the qualifiers of the mask and the removed qualifiers still queued
+		private final int[] unprocessed;
+
+		// the support counts of constraint c start at counts[offsets[c]], 3 per operand
+		private final int[] offsets;
+		private final byte[] counts;
+
+		// removals as variable << 2 | qualifier bit, each qualifier of a variable is queued at most once
+		private final int[] queue;
+		private int head = 0;
+		private int tail = 0;
+
+		private final int[] operands = new int[3];
+		private final int[] combination = new int[3];
+		private long propagations = 0;
+
+		Solver(ConstraintSystem system, RemovalListener listener){
+			this.system = system;
+			this.listener = listener;
+			this.index = ConstraintIndex.of(system);
+			this.masks = system.getInitialMasks();
+			this.unprocessed = system.getInitialMasks();
+			this.offsets = new int[system.getConstraintCount()];
+			int size = 0;
+			for(int constraint=0; constraint<offsets.length; constraint++){
+				offsets[constraint] = size;
+				if(SATISFIED[system.getType(constraint).ordinal()] != null){
+					size += system.getType(constraint).getArity() * QUALIFIERS.length;
+				}
+			}
+			this.counts = new byte[size];
+			this.queue = new int[system.getVariableCount() * QUALIFIERS.length];
+		}
+
+		void solve(){
+			int constraints = system.getConstraintCount();
+			for(int constraint=0; constraint<constraints; constraint++){
+				ConstraintType type = system.getType(constraint);
+				if(type == ConstraintType.REMOVE){
+					remove(system.getOperand(constraint, 0), system.getOperand(constraint, 1), constraint);
+				} else if(type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+					if(!Qualifiers.contains(masks[system.getOperand(constraint, 0)], Qualifiers.READONLY)){
+						remove(system.getOperand(constraint, 1), Qualifiers.READONLY, constraint);
+					}
+				} else {
+					count(constraint);
+				}
+				propagations++;
+			}
+			while(head < tail){
+				int removal = queue[head++];
+				process(removal >>> 2, removal & 3);
+			}
+		}
+
+		/**
+		 * Counts the supporting combinations of every operand qualifier of a constraint
+		 * and removes the qualifiers without support
+		 */
+		private void count(int constraint){
+			ConstraintType type = system.getType(constraint);
+			boolean[] satisfied = SATISFIED[type.ordinal()];
+			int arity = type.getArity();
+			getOperands(constraint, arity);
+			int base = offsets[constraint];
+			for(int i=0; i<arity * QUALIFIERS.length; i++){
+				counts[base + i] = 0;
+			}
+			int zs = arity == 2 ? 1 : QUALIFIERS.length;
+			for(int x=0; x<QUALIFIERS.length; x++){
+				if(!isUnprocessed(operands[0], x)) continue;
+				for(int y=0; y<QUALIFIERS.length; y++){
+					if(!isUnprocessed(operands[1], y)) continue;
+					for(int z=0; z<zs; z++){
+						if(arity == 3 && !isUnprocessed(operands[2], z)) continue;
+						if(satisfied[x * 9 + y * 3 + z]){
+							counts[base + x]++;
+							counts[base + QUALIFIERS.length + y]++;
+							if(arity == 3){
+								counts[base + 2 * QUALIFIERS.length + z]++;
+							}
+						}
+					}
+				}
+			}
+			for(int operand=0; operand<arity; operand++){
+				for(int qualifier=0; qualifier<QUALIFIERS.length; qualifier++){
+					if(counts[base + operand * QUALIFIERS.length + qualifier] == 0){
+						unsupported(constraint, arity, operand, qualifier);
+					}
+				}
+			}
+		}
+
+		/**
+		 * Withdraws the support of a dequeued removal from the constraints of its variable
+		 */
+		private void process(int variable, int qualifier){
+			unprocessed[variable] &= ~(1 << qualifier);
+			int[] constraints = index.getConstraints();
+			int end = index.getOffset(variable) + index.getDegree(variable);
+			for(int i=index.getOffset(variable); i<end; i++){
+				int constraint = constraints[i];
+				ConstraintType type = system.getType(constraint);
+				propagations++;
+				if(type == ConstraintType.REMOVE){
+					continue;
+				}
+				if(type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+					if(qualifier == READONLY && system.getOperand(constraint, 0) == variable){
+						remove(system.getOperand(constraint, 1), Qualifiers.READONLY, constraint);
+					}
+					continue;
+				}
+				int arity = type.getArity();
+				getOperands(constraint, arity);
+				int position = -1;
+				boolean repeated = false;
+				for(int operand=0; operand<arity; operand++){
+					if(operands[operand] == variable){
+						repeated = position != -1;
+						position = operand;
+					}
+				}
+				if(repeated){
+					count(constraint);
+				} else {
+					decrement(constraint, type, arity, position, qualifier);
+				}
+			}
+		}
+
+		/**
+		 * Subtracts the combinations with the qualifier at the position from the counts of the other operands
+		 */
+		private void decrement(int constraint, ConstraintType type, int arity, int position, int qualifier){
+			boolean[] satisfied = SATISFIED[type.ordinal()];
+			int base = offsets[constraint];
+			combination[position] = qualifier;
+			for(int operand=0; operand<arity; operand++){
+				if(operand == position){
+					continue;
+				}
+				int other = 3 - position - operand;
+				for(int supported=0; supported<QUALIFIERS.length; supported++){
+					combination[operand] = supported;
+					int combinations = 0;
+					if(arity == 2){
+						combination[2] = 0;
+						if(satisfied[combination[0] * 9 + combination[1] * 3]){
+							combinations = 1;
+						}
+					} else {
+						for(int third=0; third<QUALIFIERS.length; third++){
+							combination[other] = third;
+							if(isUnprocessed(operands[other], third) && satisfied[combination[0] * 9 + combination[1] * 3 + combination[2]]){
+								combinations++;
+							}
+						}
+					}
+					if(combinations > 0){
+						int slot = base + operand * QUALIFIERS.length + supported;
+						counts[slot] -= combinations;
+						if(counts[slot] == 0){
+							unsupported(constraint, arity, operand, supported);
+						}
+					}
+				}
+			}
+		}
+
+		/**
+		 * Removes a qualifier without support from an operand, unless an operand is empty
+		 */
+		private void unsupported(int constraint, int arity, int operand, int qualifier){
+			for(int i=0; i<arity; i++){
+				if(masks[system.getOperand(constraint, i)] == 0){
+					return;
+				}
+			}
+			remove(system.getOperand(constraint, operand), QUALIFIERS[qualifier], constraint);
+		}
+
+		private void remove(int variable, int removals, int constraint){
+			if(system.isConstant(variable)){
+				return;
+			}
+			int before = masks[variable];
+			int after = before & ~removals;
+			if(after == before){
+				return;
+			}
+			masks[variable] = after;
+			for(int qualifier=0; qualifier<QUALIFIERS.length; qualifier++){
+				if((before & ~after & QUALIFIERS[qualifier]) != 0){
+					queue[tail++] = (variable << 2) | qualifier;
+				}
+			}
+			if(listener != null){
+				listener.removed(variable, before, after, constraint);
+			}
+		}
+
+		private boolean isUnprocessed(int variable, int qualifier){
+			return (unprocessed[variable] & (1 << qualifier)) != 0;
+		}
+
+		private void getOperands(int constraint, int arity){
+			for(int operand=0; operand<arity; operand++){
+				operands[operand] = system.getOperand(constraint, operand);
+			}
+		}
+
+	}
+
+}
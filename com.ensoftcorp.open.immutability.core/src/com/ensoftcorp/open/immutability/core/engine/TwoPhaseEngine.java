@@ -0,0 +1,303 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintIndex;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Decides mutable and readonly with boolean propagation before solving the rest with the worklist
+ *
+ * The first phase only derives that a variable cannot be mutable or cannot be readonly.
+ * Assuming every other operand can still be polyread, each constraint form reduces to
+ * implications between these facts, such as "if x cannot be readonly then y cannot be
+ * readonly" for x :> y, or conjunctions of them for the adaptation forms. The
+ * implications are derived from the removal tables of the Propagator and are propagated
+ * with a counter of the unproven premises per implication, which is linear in the size
+ * of the system. Since assuming polyread can only add support, every removal of the first
+ * phase is also a removal of the full constraints, except that a removal that would leave
+ * a variable without qualifiers is left to the second phase. The second phase runs the
+ * worklist from the masks of the first phase, starting with only the constraints that
+ * still remove qualifiers, so the three-qualifier tables are only applied around
+ * polyread and the adaptations that depend on it.
+ */
+public class TwoPhaseEngine implements InferenceEngine {
+
+	public static final String NAME = "two-phase";
+
+	/**
+	 * The qualifiers of the first phase
+	 */
+	private static final int[] BOOLEAN_QUALIFIERS = { Qualifiers.MUTABLE, Qualifiers.READONLY };
+
+	/**
+	 * The implications of each constraint form by ordinal
+	 */
+	private static final Implication[][] IMPLICATIONS = new Implication[ConstraintType.values().length][];
+
+	static {
+		for(ConstraintType type : ConstraintType.values()){
+			List<Implication> implications = new ArrayList<Implication>();
+			if(type == ConstraintType.NOT_READONLY_IMPLIES_NOT_READONLY){
+				implications.add(new Implication(1, Qualifiers.READONLY, new int[]{ 0 }, new int[]{ Qualifiers.READONLY }));
+			} else if(type != ConstraintType.REMOVE){
+				for(int operand=0; operand<type.getArity(); operand++){
+					for(int qualifier : BOOLEAN_QUALIFIERS){
+						implications.addAll(getImplications(type, operand, qualifier));
+					}
+				}
+			}
+			IMPLICATIONS[type.ordinal()] = implications.toArray(new Implication[implications.size()]);
+		}
+	}
+
+	/**
+	 * "operand cannot be qualifier" if each premise operand cannot be its premise qualifier
+	 */
+	private static final class Implication {
+
+		private final int operand;
+		private final int qualifier;
+		private final int[] premiseOperands;
+		private final int[] premiseQualifiers;
+
+		Implication(int operand, int qualifier, int[] premiseOperands, int[] premiseQualifiers){
+			this.operand = operand;
+			this.qualifier = qualifier;
+			this.premiseOperands = premiseOperands;
+			this.premiseQualifiers = premiseQualifiers;
+		}
+
+	}
+
+	/**
+	 * Returns the minimal implications that rule out a qualifier of an operand from mutable and
+	 * readonly facts of the other operands, where the other operands can still be polyread
+	 */
+	private static List<Implication> getImplications(ConstraintType type, int operand, int qualifier){
+		int arity = type.getArity();
+		int others = arity - 1;
+		int[] values = Qualifiers.values();
+
+		// the premises that rule out each satisfying combination, as bits 2 * position + (0 for mutable, 1 for readonly)
+		List<Integer> combinations = new ArrayList<Integer>();
+		int count = others == 1 ? values.length : values.length * values.length;
+		for(int combination=0; combination<count; combination++){
+			int[] qualifiers = new int[3];
+			int premises = 0;
+			for(int position=0, remaining=combination; position<others; position++, remaining/=values.length){
+				int other = values[remaining % values.length];
+				qualifiers[position < operand ? position : position + 1] = other;
+				if(other != Qualifiers.POLYREAD){
+					premises |= 1 << (2 * position + (other == Qualifiers.READONLY ? 1 : 0));
+				}
+			}
+			qualifiers[operand] = qualifier;
+			if(Propagator.getRemovals(type, qualifiers[0], qualifiers[1], qualifiers[2]) == 0){
+				if(premises == 0){
+					// supported by polyread alone
+					return new ArrayList<Implication>();
+				}
+				combinations.add(premises);
+			}
+		}
+
+		List<Integer> minimal = new ArrayList<Integer>();
+		for(int size=0; size<=2 * others; size++){
+			for(int set=0; set<(1 << (2 * others)); set++){
+				if(Integer.bitCount(set) != size){
+					continue;
+				}
+				boolean covers = true;
+				for(int premises : combinations){
+					if((premises & set) == 0){
+						covers = false;
+					}
+				}
+				for(int implicant : minimal){
+					if((implicant & set) == implicant){
+						covers = false;
+					}
+				}
+				if(covers){
+					minimal.add(set);
+				}
+			}
+		}
+
+		List<Implication> implications = new ArrayList<Implication>();
+		for(int set : minimal){
+			int[] premiseOperands = new int[Integer.bitCount(set)];
+			int[] premiseQualifiers = new int[premiseOperands.length];
+			for(int bit=0, i=0; bit<2 * others; bit++){
+				if((set & (1 << bit)) != 0){
+					int position = bit / 2;
+					premiseOperands[i] = position < operand ? position : position + 1;
+					premiseQualifiers[i] = bit % 2 == 0 ? Qualifiers.MUTABLE : Qualifiers.READONLY;
+					i++;
+				}
+			}
+			implications.add(new Implication(operand, qualifier, premiseOperands, premiseQualifiers));
+		}
+		return implications;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, RemovalListener listener) {
+		ConstraintIndex index = ConstraintIndex.of(system);
+		int[] masks = system.getInitialMasks();
+		long implications = propagateBoolean(system, index, masks, listener);
+
+		// the constraints that still remove qualifiers
+		int[] seeds = new int[system.getConstraintCount()];
+		int seedCount = 0;
+		for(int constraint=0; constraint<system.getConstraintCount(); constraint++){
+			if(isUnsatisfied(system, masks, constraint)){
+				seeds[seedCount++] = constraint;
+			}
+		}
+		long propagations = WorklistEngine.propagate(system, index, masks, seeds, seedCount, listener);
+		return new Solution(masks, 2, implications + propagations);
+	}
+
+	/**
+	 * Applies the REMOVE constraints and propagates the mutable and readonly implications
+	 * @return Returns the number of implications that fired
+	 */
+	private static long propagateBoolean(ConstraintSystem system, ConstraintIndex index, int[] masks, RemovalListener listener){
+		int constraints = system.getConstraintCount();
+
+		// the unproven premises of the implications of constraint c start at premises[offsets[c]]
+		int[] offsets = new int[constraints + 1];
+		for(int constraint=0; constraint<constraints; constraint++){
+			offsets[constraint + 1] = offsets[constraint] + IMPLICATIONS[system.getType(constraint).ordinal()].length;
+		}
+		int[] premises = new int[offsets[constraints]];
+
+		// facts that a variable cannot be mutable or readonly, as variable << 3 | qualifier
+		int[] queue = new int[system.getVariableCount() * BOOLEAN_QUALIFIERS.length];
+		int tail = 0;
+		for(int variable=0; variable<system.getVariableCount(); variable++){
+			for(int qualifier : BOOLEAN_QUALIFIERS){
+				if(!Qualifiers.contains(masks[variable], qualifier)){
+					queue[tail++] = (variable << 3) | qualifier;
+				}
+			}
+		}
+
+		long fired = 0;
+		for(int constraint=0; constraint<constraints; constraint++){
+			ConstraintType type = system.getType(constraint);
+			if(type == ConstraintType.REMOVE){
+				tail = remove(system, masks, system.getOperand(constraint, 0), system.getOperand(constraint, 1), constraint, listener, queue, tail);
+				continue;
+			}
+			Implication[] implications = IMPLICATIONS[type.ordinal()];
+			for(int i=0; i<implications.length; i++){
+				premises[offsets[constraint] + i] = implications[i].premiseOperands.length;
+				if(implications[i].premiseOperands.length == 0){
+					fired++;
+					tail = conclude(system, masks, constraint, implications[i], listener, queue, tail);
+				}
+			}
+		}
+
+		int[] operands = index.getConstraints();
+		for(int head=0; head<tail; head++){
+			int variable = queue[head] >>> 3;
+			int qualifier = queue[head] & 7;
+			int end = index.getOffset(variable) + index.getDegree(variable);
+			for(int i=index.getOffset(variable); i<end; i++){
+				int constraint = operands[i];
+				Implication[] implications = IMPLICATIONS[system.getType(constraint).ordinal()];
+				for(int j=0; j<implications.length; j++){
+					Implication implication = implications[j];
+					for(int k=0; k<implication.premiseOperands.length; k++){
+						if(implication.premiseQualifiers[k] == qualifier && system.getOperand(constraint, implication.premiseOperands[k]) == variable){
+							if(--premises[offsets[constraint] + j] == 0){
+								fired++;
+								tail = conclude(system, masks, constraint, implication, listener, queue, tail);
+							}
+						}
+					}
+				}
+			}
+		}
+		return fired;
+	}
+
+	/**
+	 * Removes the qualifier of an implication whose premises hold, unless an operand is
+	 * empty or the removal would leave the variable without qualifiers
+	 */
+	private static int conclude(ConstraintSystem system, int[] masks, int constraint, Implication implication, RemovalListener listener, int[] queue, int tail){
+		int variable = system.getOperand(constraint, implication.operand);
+		if((masks[variable] & ~implication.qualifier) == 0){
+			return tail;
+		}
+		int arity = system.getType(constraint).getArity();
+		for(int operand=0; operand<arity; operand++){
+			if(masks[system.getOperand(constraint, operand)] == 0){
+				return tail;
+			}
+		}
+		return remove(system, masks, variable, implication.qualifier, constraint, listener, queue, tail);
+	}
+
+	private static int remove(ConstraintSystem system, int[] masks, int variable, int removals, int constraint, RemovalListener listener, int[] queue, int tail){
+		if(system.isConstant(variable)){
+			return tail;
+		}
+		int before = masks[variable];
+		int after = before & ~removals;
+		if(after == before){
+			return tail;
+		}
+		masks[variable] = after;
+		for(int qualifier : BOOLEAN_QUALIFIERS){
+			if((before & ~after & qualifier) != 0){
+				queue[tail++] = (variable << 3) | qualifier;
+			}
+		}
+		if(listener != null){
+			listener.removed(variable, before, after, constraint);
+		}
+		return tail;
+	}
+
+	/**
+	 * Returns true if applying the constraint to the masks would remove a qualifier
+	 */
+	private static boolean isUnsatisfied(ConstraintSystem system, int[] masks, int constraint){
+		ConstraintType type = system.getType(constraint);
+		int x = masks[system.getOperand(constraint, 0)];
+		switch(type){
+			case REMOVE:
+				return !system.isConstant(system.getOperand(constraint, 0)) && (x & system.getOperand(constraint, 1)) != 0;
+			case NOT_READONLY_IMPLIES_NOT_READONLY: {
+				int y = system.getOperand(constraint, 1);
+				return !Qualifiers.contains(x, Qualifiers.READONLY) && !system.isConstant(y) && Qualifiers.contains(masks[y], Qualifiers.READONLY);
+			}
+			case GREATER_EQUAL: {
+				int y = masks[system.getOperand(constraint, 1)];
+				return x != 0 && y != 0 && Propagator.getRemovals(type, x, y, 0) != 0;
+			}
+			default: {
+				int y = masks[system.getOperand(constraint, 1)];
+				int z = masks[system.getOperand(constraint, 2)];
+				return x != 0 && y != 0 && z != 0 && Propagator.getRemovals(type, x, y, z) != 0;
+			}
+		}
+	}
+
+}
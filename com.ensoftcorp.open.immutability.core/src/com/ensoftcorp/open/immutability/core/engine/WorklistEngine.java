@@ -0,0 +1,102 @@
+package com.ensoftcorp.open.immutability.core.engine;
+
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintIndex;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Reapplies only the constraints of variables whose qualifiers changed
+ *
+ * Every constraint is applied once, then a FIFO queue of constraints is drained
+ * where a removal from a variable queues the other constraints it is an operand of.
+ * A constraint is queued at most once at a time.
+ */
+public class WorklistEngine implements InferenceEngine {
+
+	public static final String NAME = "worklist";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public Solution solve(ConstraintSystem system, RemovalListener listener) {
+		int[] masks = system.getInitialMasks();
+		int constraints = system.getConstraintCount();
+		int[] all = new int[constraints];
+		for(int constraint=0; constraint<constraints; constraint++){
+			all[constraint] = constraint;
+		}
+		long propagations = propagate(system, ConstraintIndex.of(system), masks, all, constraints, listener);
+		int rounds = constraints == 0 ? 0 : (int) Math.min(Integer.MAX_VALUE, (propagations + constraints - 1) / constraints);
+		return new Solution(masks, rounds, propagations);
+	}
+
+	/**
+	 * Applies the given constraints and then drains the queue of the constraints of
+	 * changed variables, updating the masks in place
+	 * @param system
+	 * @param index The index of the system
+	 * @param masks The qualifier masks to start from
+	 * @param seeds The constraints that are queued first, in order
+	 * @param seedCount The number of seeds
+	 * @param listener Notified of each removal or null
+	 * @return Returns the number of constraints applied
+	 */
+	static long propagate(ConstraintSystem system, final ConstraintIndex index, int[] masks, int[] seeds, int seedCount, final RemovalListener listener){
+		int constraints = system.getConstraintCount();
+		final int[] operands = index.getConstraints();
+
+		// a ring buffer of queued constraints, the seeds start queued
+		final int[] queue = new int[Math.max(1, constraints)];
+		final boolean[] queued = new boolean[constraints];
+		int size = 0;
+		for(int i=0; i<seedCount; i++){
+			int constraint = seeds[i];
+			if(!queued[constraint]){
+				queue[size++] = constraint;
+				queued[constraint] = true;
+			}
+		}
+		final int[] tail = { size % queue.length };
+		int head = 0;
+
+		// queues the constraints of each variable a removal changed
+		final int[] pending = { 0 };
+		RemovalListener scheduler = new RemovalListener(){
+			@Override
+			public void removed(int variable, int before, int after, int constraint) {
+				if(listener != null){
+					listener.removed(variable, before, after, constraint);
+				}
+				int start = index.getOffset(variable);
+				int end = start + index.getDegree(variable);
+				for(int i=start; i<end; i++){
+					int dependent = operands[i];
+					if(!queued[dependent]){
+						queued[dependent] = true;
+						queue[tail[0]] = dependent;
+						tail[0] = (tail[0] + 1) % queue.length;
+						pending[0]++;
+					}
+				}
+			}
+		};
+
+		long propagations = 0;
+		while(size > 0){
+			int constraint = queue[head];
+			head = (head + 1) % queue.length;
+			size--;
+			queued[constraint] = false;
+			Propagator.propagate(system, masks, constraint, scheduler);
+			propagations++;
+			size += pending[0];
+			pending[0] = 0;
+		}
+		return propagations;
+	}
+
+}
@@ -0,0 +1,323 @@
+package com.ensoftcorp.open.immutability.core.graph;
+
+import java.util.Arrays;
+
+/**
+ * A program graph held in flat arrays, for programs that are not in an Atlas graph
+ *
+ * Each node has a shape, a combination of node kinds interned by the builder, so a
+ * node costs one byte of kinds. Edges of all kinds are stored once in compressed
+ * sparse row form in each direction with the kind of each edge alongside the target.
+ * Data flow edges are added as local or interprocedural data flow, and DATA_FLOW
+ * queries return both. Nodes are contained by a method through the containing method
+ * array, so Contains edges are only needed where the rules navigate them (the identity,
+ * parameters and return value of a method, and the parameter passes of a callsite).
+ */
+public final class CompactProgramGraph implements ProgramGraph {
+
+	private static final int[] NONE = new int[0];
+
+	private final int nodeCount;
+	private final long[] shapes;
+	private final byte[] nodeShapes;
+	private final int[] containingMethods;
+	private final byte[] parameterIndices;
+	private final int[] assignments;
+
+	private final int[] successorOffsets;
+	private final int[] successors;
+	private final byte[] successorKinds;
+	private final int[] predecessorOffsets;
+	private final int[] predecessors;
+	private final byte[] predecessorKinds;
+
+	private CompactProgramGraph(Builder builder){
+		this.nodeCount = builder.nodeCount;
+		this.shapes = Arrays.copyOf(builder.shapes, builder.shapeCount);
+		this.nodeShapes = Arrays.copyOf(builder.nodeShapes, nodeCount);
+		this.containingMethods = Arrays.copyOf(builder.containingMethods, nodeCount);
+		this.parameterIndices = Arrays.copyOf(builder.parameterIndices, nodeCount);
+
+		int size = 0;
+		int[] assignments = new int[1024];
+		long assignmentKinds = NodeKind.ASSIGNMENT.getMask() | NodeKind.PARAMETER_PASS.getMask();
+		for(int node=0; node<nodeCount; node++){
+			if((shapes[nodeShapes[node] & 0xFF] & assignmentKinds) != 0){
+				if(size == assignments.length){
+					assignments = Arrays.copyOf(assignments, size * 2);
+				}
+				assignments[size++] = node;
+			}
+		}
+		this.assignments = Arrays.copyOf(assignments, size);
+
+		int edgeCount = builder.edgeCount;
+		this.successorOffsets = new int[nodeCount + 1];
+		this.predecessorOffsets = new int[nodeCount + 1];
+		for(int edge=0; edge<edgeCount; edge++){
+			successorOffsets[builder.edgeSources[edge] + 1]++;
+			predecessorOffsets[builder.edgeTargets[edge] + 1]++;
+		}
+		for(int node=0; node<nodeCount; node++){
+			successorOffsets[node + 1] += successorOffsets[node];
+			predecessorOffsets[node + 1] += predecessorOffsets[node];
+		}
+		this.successors = new int[edgeCount];
+		this.successorKinds = new byte[edgeCount];
+		this.predecessors = new int[edgeCount];
+		this.predecessorKinds = new byte[edgeCount];
+		int[] nextSuccessor = Arrays.copyOf(successorOffsets, nodeCount);
+		int[] nextPredecessor = Arrays.copyOf(predecessorOffsets, nodeCount);
+		for(int edge=0; edge<edgeCount; edge++){
+			int source = builder.edgeSources[edge];
+			int target = builder.edgeTargets[edge];
+			byte kind = builder.edgeKinds[edge];
+			int successor = nextSuccessor[source]++;
+			successors[successor] = target;
+			successorKinds[successor] = kind;
+			int predecessor = nextPredecessor[target]++;
+			predecessors[predecessor] = source;
+			predecessorKinds[predecessor] = kind;
+		}
+	}
+
+	/**
+	 * Returns a builder of an empty program graph
+	 * @return
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Returns the number of edges, where a data flow edge is counted once
+	 * @return
+	 */
+	public int getEdgeCount(){
+		return successors.length;
+	}
+
+	@Override
+	public boolean isKind(int node, NodeKind kind) {
+		return (shapes[nodeShapes[node] & 0xFF] & kind.getMask()) != 0;
+	}
+
+	@Override
+	public int[] getSuccessors(int node, EdgeKind kind) {
+		return select(successors, successorKinds, successorOffsets[node], successorOffsets[node + 1], kind);
+	}
+
+	@Override
+	public int[] getPredecessors(int node, EdgeKind kind) {
+		return select(predecessors, predecessorKinds, predecessorOffsets[node], predecessorOffsets[node + 1], kind);
+	}
+
+	private static int[] select(int[] nodes, byte[] kinds, int start, int end, EdgeKind kind){
+		int count = 0;
+		for(int i=start; i<end; i++){
+			if(matches(kinds[i], kind)){
+				count++;
+			}
+		}
+		if(count == 0){
+			return NONE;
+		}
+		int[] result = new int[count];
+		count = 0;
+		for(int i=start; i<end; i++){
+			if(matches(kinds[i], kind)){
+				result[count++] = nodes[i];
+			}
+		}
+		return result;
+	}
+
+	private static boolean matches(byte edgeKind, EdgeKind kind){
+		if(kind == EdgeKind.DATA_FLOW){
+			return edgeKind == EdgeKind.LOCAL_DATA_FLOW.ordinal() || edgeKind == EdgeKind.INTERPROCEDURAL_DATA_FLOW.ordinal();
+		}
+		return edgeKind == kind.ordinal();
+	}
+
+	@Override
+	public int getContainingMethod(int node) {
+		return containingMethods[node];
+	}
+
+	@Override
+	public int getParameterIndex(int node) {
+		return parameterIndices[node];
+	}
+
+	@Override
+	public String getName(int node) {
+		return "n" + node;
+	}
+
+	@Override
+	public int[] getAssignments() {
+		return assignments;
+	}
+
+	@Override
+	public int getFixedQualifiers(int node) {
+		return -1;
+	}
+
+	@Override
+	public boolean isModeled(int method) {
+		return false;
+	}
+
+	@Override
+	public int getModeledIdentity(int method) {
+		return -1;
+	}
+
+	@Override
+	public int getModeledParameter(int method, int index) {
+		return -1;
+	}
+
+	/**
+	 * Collects the nodes and edges of a compact program graph
+	 */
+	public static final class Builder {
+
+		private static final int MAX_SHAPES = 256;
+
+		private long[] shapes = new long[16];
+		private int shapeCount = 0;
+
+		private int nodeCount = 0;
+		private byte[] nodeShapes = new byte[1024];
+		private int[] containingMethods = new int[1024];
+		private byte[] parameterIndices = new byte[1024];
+
+		private int edgeCount = 0;
+		private int[] edgeSources = new int[1024];
+		private int[] edgeTargets = new int[1024];
+		private byte[] edgeKinds = new byte[1024];
+
+		private Builder(){}
+
+		/**
+		 * Returns the shape of nodes with exactly the given kinds, shapes are reused across nodes
+		 * @param kinds
+		 * @return
+		 */
+		public int getShape(NodeKind... kinds){
+			long mask = 0;
+			for(NodeKind kind : kinds){
+				mask |= kind.getMask();
+			}
+			for(int shape=0; shape<shapeCount; shape++){
+				if(shapes[shape] == mask){
+					return shape;
+				}
+			}
+			if(shapeCount == MAX_SHAPES){
+				throw new IllegalStateException("A compact program graph supports at most " + MAX_SHAPES + " node shapes");
+			}
+			if(shapeCount == shapes.length){
+				shapes = Arrays.copyOf(shapes, shapeCount * 2);
+			}
+			shapes[shapeCount] = mask;
+			return shapeCount++;
+		}
+
+		/**
+		 * Adds a node of the given shape
+		 * @param shape
+		 * @param containingMethod The method containing the node or -1
+		 * @return Returns the id of the node
+		 */
+		public int addNode(int shape, int containingMethod){
+			if(shape < 0 || shape >= shapeCount){
+				throw new IllegalArgumentException("Unknown shape: " + shape);
+			}
+			if(nodeCount == nodeShapes.length){
+				int capacity = grow(nodeCount);
+				nodeShapes = Arrays.copyOf(nodeShapes, capacity);
+				containingMethods = Arrays.copyOf(containingMethods, capacity);
+				parameterIndices = Arrays.copyOf(parameterIndices, capacity);
+			}
+			nodeShapes[nodeCount] = (byte) shape;
+			containingMethods[nodeCount] = containingMethod;
+			parameterIndices[nodeCount] = -1;
+			return nodeCount++;
+		}
+
+		/**
+		 * Sets the parameter index of a parameter or parameter pass
+		 * @param node
+		 * @param index
+		 */
+		public void setParameterIndex(int node, int index){
+			if(index < 0 || index > Byte.MAX_VALUE){
+				throw new IllegalArgumentException("Unsupported parameter index: " + index);
+			}
+			parameterIndices[node] = (byte) index;
+		}
+
+		/**
+		 * Adds an edge, data flow edges must be added as local or interprocedural data flow
+		 * @param kind
+		 * @param from
+		 * @param to
+		 */
+		public void addEdge(EdgeKind kind, int from, int to){
+			if(kind == EdgeKind.DATA_FLOW){
+				throw new IllegalArgumentException("Data flow edges must be local or interprocedural");
+			}
+			if(from < 0 || from >= nodeCount || to < 0 || to >= nodeCount){
+				throw new IllegalArgumentException("Unknown node in edge " + from + " -> " + to);
+			}
+			if(edgeCount == edgeSources.length){
+				int capacity = grow(edgeCount);
+				edgeSources = Arrays.copyOf(edgeSources, capacity);
+				edgeTargets = Arrays.copyOf(edgeTargets, capacity);
+				edgeKinds = Arrays.copyOf(edgeKinds, capacity);
+			}
+			edgeSources[edgeCount] = from;
+			edgeTargets[edgeCount] = to;
+			edgeKinds[edgeCount] = (byte) kind.ordinal();
+			edgeCount++;
+		}
+
+		public int getNodeCount(){
+			return nodeCount;
+		}
+
+		public int getEdgeCount(){
+			return edgeCount;
+		}
+
+		/**
+		 * Builds the program graph, the builder should not be used afterwards
+		 * @return
+		 */
+		public CompactProgramGraph build(){
+			CompactProgramGraph graph = new CompactProgramGraph(this);
+			// release the edge list, the graph keeps its own copies
+			edgeSources = null;
+			edgeTargets = null;
+			edgeKinds = null;
+			return graph;
+		}
+
+		private static int grow(int size){
+			if(size >= Integer.MAX_VALUE - 8){
+				throw new IllegalStateException("Program graph is too large");
+			}
+			return (int) Math.min(Integer.MAX_VALUE - 8, size + (size >> 1) + 1L);
+		}
+
+	}
+
+}
@@ -0,0 +1,53 @@
+package com.ensoftcorp.open.immutability.core.graph;
+
+/**
+ * The kinds of program graph edges the inference rules follow
+ *
+ * The kinds correspond to the XCSG edge tags of an Atlas graph, except for
+ * DISPLAY_REFERENCE which connects a Jimple data flow display node to the
+ * references it displays.
+ */
+public enum EdgeKind {
+
+	/**
+	 * Any data flow, both local and interprocedural
+	 */
+	DATA_FLOW,
+
+	LOCAL_DATA_FLOW,
+
+	INTERPROCEDURAL_DATA_FLOW,
+
+	/**
+	 * Reference (x) -InstanceVariableAccessed-> InstanceVariableAccess (x.f)
+	 */
+	INSTANCE_VARIABLE_ACCESSED,
+
+	/**
+	 * IdentityPass (.this) -IdentityPassedTo-> CallSite (m)
+	 */
+	IDENTITY_PASSED_TO,
+
+	/**
+	 * Array reference (a) -ArrayIdentityFor-> ArrayAccess (a[i])
+	 */
+	ARRAY_IDENTITY_FOR,
+
+	/**
+	 * CallSite -InvokedSignature or InvokedFunction-> Method
+	 */
+	INVOKED,
+
+	/**
+	 * Method -Overrides-> overridden Method
+	 */
+	OVERRIDES,
+
+	/**
+	 * Parent -Contains-> Child
+	 */
+	CONTAINS,
+
+	DISPLAY_REFERENCE;
+
+}
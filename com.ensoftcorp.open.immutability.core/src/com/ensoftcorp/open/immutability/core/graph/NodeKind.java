@@ -0,0 +1,65 @@
+package com.ensoftcorp.open.immutability.core.graph;
+
+/**
+ * The kinds of program graph nodes the inference rules distinguish
+ *
+ * A node may have several kinds, for example an instance variable assignment is
+ * also an assignment and an instance variable access. The kinds correspond to the
+ * XCSG tags (and the Java and Jimple commons stop gap tags) of an Atlas graph.
+ */
+public enum NodeKind {
+
+	// methods and their structure
+	METHOD,
+	IDENTITY,
+	PARAMETER,
+	RETURN_VALUE,
+
+	// fields
+	INSTANCE_VARIABLE,
+	CLASS_VARIABLE,
+
+	// statements
+	ASSIGNMENT,
+	PARAMETER_PASS,
+	INSTANCE_VARIABLE_ACCESS,
+	INSTANCE_VARIABLE_ASSIGNMENT,
+	INSTANCE_VARIABLE_VALUE,
+	CLASS_VARIABLE_ACCESS,
+	CLASS_VARIABLE_ASSIGNMENT,
+	CLASS_VARIABLE_VALUE,
+	ARRAY_ACCESS,
+	ARRAY_READ,
+	ARRAY_WRITE,
+	ARRAY_COMPONENTS,
+	CAST,
+	CALL_SITE,
+	DYNAMIC_DISPATCH_CALL_SITE,
+	STATIC_DISPATCH_CALL_SITE,
+
+	// values
+	INSTANTIATION,
+	ARRAY_INSTANTIATION,
+	NULL,
+	LITERAL,
+	TYPE,
+	OPERATOR,
+	CAUGHT_VALUE,
+	ELEMENT_FROM_COLLECTION,
+
+	// Jimple data flow display nodes, which stand for the references they display
+	DISPLAY_NODE,
+
+	// readonly placeholders for unassigned callsites and void methods
+	DUMMY_ASSIGNMENT,
+	DUMMY_RETURN;
+
+	/**
+	 * Returns the bit of this kind in a kind mask
+	 * @return
+	 */
+	public long getMask(){
+		return 1L << ordinal();
+	}
+
+}
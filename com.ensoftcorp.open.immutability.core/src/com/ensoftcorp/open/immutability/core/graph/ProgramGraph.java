@@ -0,0 +1,104 @@
+package com.ensoftcorp.open.immutability.core.graph;
+
+/**
+ * The program graph the inference rules are applied to
+ *
+ * Nodes are identified by dense non-negative integer ids. An implementation may
+ * assign ids as nodes are discovered, so ids are only valid for the graph that
+ * returned them. Where a rule expects a single neighbor (for example the return
+ * value of a method) the first neighbor returned is used.
+ *
+ * The Atlas plugin implements this interface over the Atlas graph. Other
+ * implementations allow the engine to run in an ordinary JVM.
+ */
+public interface ProgramGraph {
+
+	/**
+	 * Returns the number of node ids assigned so far
+	 * @return
+	 */
+	public int getNodeCount();
+
+	/**
+	 * Returns true if the node has the given kind
+	 * @param node
+	 * @param kind
+	 * @return
+	 */
+	public boolean isKind(int node, NodeKind kind);
+
+	/**
+	 * Returns the nodes reached by outgoing edges of the given kind
+	 * @param node
+	 * @param kind
+	 * @return
+	 */
+	public int[] getSuccessors(int node, EdgeKind kind);
+
+	/**
+	 * Returns the nodes reached by incoming edges of the given kind
+	 * @param node
+	 * @param kind
+	 * @return
+	 */
+	public int[] getPredecessors(int node, EdgeKind kind);
+
+	/**
+	 * Returns the method containing the node or -1 if the node is not contained by a method
+	 * @param node
+	 * @return
+	 */
+	public int getContainingMethod(int node);
+
+	/**
+	 * Returns the parameter index of a parameter or parameter pass or -1 if the node has none
+	 * @param node
+	 * @return
+	 */
+	public int getParameterIndex(int node);
+
+	/**
+	 * Returns the name of the node, used for diagnostics and the inner class check
+	 * @param node
+	 * @return
+	 */
+	public String getName(int node);
+
+	/**
+	 * Returns the assignments and parameter passes to analyze
+	 * @return
+	 */
+	public int[] getAssignments();
+
+	/**
+	 * Returns the qualifier mask of a node whose qualifiers were fixed before the
+	 * analysis, such as by a method model or an imported summary, or -1 if the node
+	 * starts with its default qualifiers
+	 * @param node
+	 * @return
+	 */
+	public int getFixedQualifiers(int node);
+
+	/**
+	 * Returns true if the method is described by a method model instead of being analyzed
+	 * @param method
+	 * @return
+	 */
+	public boolean isModeled(int method);
+
+	/**
+	 * Returns the node holding the modeled qualifiers of the receiver of a modeled method or -1
+	 * @param method
+	 * @return
+	 */
+	public int getModeledIdentity(int method);
+
+	/**
+	 * Returns the node holding the modeled qualifiers of a parameter of a modeled method or -1
+	 * @param method
+	 * @param index
+	 * @return
+	 */
+	public int getModeledParameter(int method, int index);
+
+}
@@ -0,0 +1,349 @@
+package com.ensoftcorp.open.immutability.core.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Rule;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+
+/**
+ * A constraint system together with the fixed point an engine computed for it,
+ * stored in a compact binary file so that the solve can be replayed away from
+ * the program it was extracted from
+ *
+ * The file is gzip compressed and starts with the magic number "IMCS" and a
+ * format version, followed by the variables (their program graph node plus one,
+ * zero for constants, and their initial masks packed two per byte), the constraints
+ * (a byte of type and rule, then the operands as variable length integers relative
+ * to the previous constraint), and optionally the name of the engine with its
+ * fixed point masks, rounds and propagations and the removal trace of the solve.
+ * Constraints keep their order, so a replayed system has the same variable and
+ * constraint ids as the recorded one.
+ */
+public final class ConstraintRecording {
+
+	private static final int MAGIC = 0x494D4353;
+	private static final int VERSION = 1;
+
+	private static final int HAS_SOLUTION = 1;
+	private static final int HAS_TRACE = 2;
+
+	private final ConstraintSystem system;
+	private final String engine;
+	private final Solution solution;
+	private final RemovalTrace trace;
+
+	/**
+	 * @param system The recorded constraint system
+	 * @param engine The name of the engine that solved the system or null
+	 * @param solution The solution of the engine or null
+	 * @param trace The removals of the solve or null
+	 */
+	public ConstraintRecording(ConstraintSystem system, String engine, Solution solution, RemovalTrace trace){
+		if(trace != null && solution == null){
+			throw new IllegalArgumentException("A removal trace is recorded with the solution it leads to");
+		}
+		if(solution != null && engine == null){
+			throw new IllegalArgumentException("A solution is recorded with the engine that computed it");
+		}
+		this.system = system;
+		this.engine = engine;
+		this.solution = solution;
+		this.trace = trace;
+	}
+
+	/**
+	 * Records a system without a solution
+	 * @param system
+	 */
+	public ConstraintRecording(ConstraintSystem system){
+		this(system, null, null, null);
+	}
+
+	public ConstraintSystem getSystem(){
+		return system;
+	}
+
+	/**
+	 * Returns the name of the engine that computed the recorded solution or null
+	 * @return
+	 */
+	public String getEngine(){
+		return engine;
+	}
+
+	/**
+	 * Returns the recorded solution or null
+	 * @return
+	 */
+	public Solution getSolution(){
+		return solution;
+	}
+
+	/**
+	 * Returns the recorded removal trace or null
+	 * @return
+	 */
+	public RemovalTrace getTrace(){
+		return trace;
+	}
+
+	/**
+	 * Writes the recording to a file
+	 * @param file
+	 * @throws IOException
+	 */
+	public void write(File file) throws IOException {
+		OutputStream output = new FileOutputStream(file);
+		try {
+			write(output);
+		} finally {
+			output.close();
+		}
+	}
+
+	/**
+	 * Writes the recording to a stream, which is left open
+	 * @param output
+	 * @throws IOException
+	 */
+	public void write(OutputStream output) throws IOException {
+		GZIPOutputStream compressed = new GZIPOutputStream(new BufferedOutputStream(output, 1 << 16));
+		DataOutputStream data = new DataOutputStream(compressed);
+		data.writeInt(MAGIC);
+		data.writeByte(VERSION);
+		data.writeByte((solution != null ? HAS_SOLUTION : 0) | (trace != null ? HAS_TRACE : 0));
+
+		int variables = system.getVariableCount();
+		writeInt(data, variables);
+		for(int variable=0; variable<variables; variable++){
+			writeInt(data, system.getNode(variable) + 1);
+		}
+		writeMasks(data, system.getInitialMasks());
+
+		int constraints = system.getConstraintCount();
+		writeInt(data, constraints);
+		int previous = 0;
+		for(int constraint=0; constraint<constraints; constraint++){
+			ConstraintType type = system.getType(constraint);
+			data.writeByte((type.ordinal() << 4) | system.getRule(constraint).ordinal());
+			int x = system.getOperand(constraint, 0);
+			writeSignedInt(data, x - previous);
+			previous = x;
+			if(type == ConstraintType.REMOVE){
+				data.writeByte(system.getOperand(constraint, 1));
+			} else {
+				for(int i=1; i<type.getArity(); i++){
+					writeSignedInt(data, system.getOperand(constraint, i) - x);
+				}
+			}
+		}
+
+		if(solution != null){
+			data.writeUTF(engine);
+			writeMasks(data, solution.getMasks());
+			writeInt(data, solution.getRounds());
+			writeLong(data, solution.getPropagations());
+		}
+
+		if(trace != null){
+			writeInt(data, trace.size());
+			int previousVariable = 0;
+			int previousConstraint = 0;
+			for(int removal=0; removal<trace.size(); removal++){
+				int variable = trace.getVariable(removal);
+				int constraint = trace.getConstraint(removal);
+				writeSignedInt(data, variable - previousVariable);
+				writeSignedInt(data, constraint - previousConstraint);
+				data.writeByte((trace.getBefore(removal) << 4) | trace.getAfter(removal));
+				previousVariable = variable;
+				previousConstraint = constraint;
+			}
+		}
+		data.flush();
+		compressed.finish();
+		compressed.flush();
+	}
+
+	/**
+	 * Reads a recording from a file
+	 * @param file
+	 * @return
+	 * @throws IOException
+	 */
+	public static ConstraintRecording read(File file) throws IOException {
+		InputStream input = new FileInputStream(file);
+		try {
+			return read(input);
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * Reads a recording from a stream
+	 * @param input
+	 * @return
+	 * @throws IOException if the stream is not a recording or the recording is corrupt
+	 */
+	public static ConstraintRecording read(InputStream input) throws IOException {
+		DataInputStream data = new DataInputStream(new GZIPInputStream(new BufferedInputStream(input, 1 << 16)));
+		if(data.readInt() != MAGIC){
+			throw new IOException("Not a constraint recording");
+		}
+		int version = data.readUnsignedByte();
+		if(version != VERSION){
+			throw new IOException("Unsupported constraint recording version: " + version);
+		}
+		int flags = data.readUnsignedByte();
+
+		int variables = readInt(data);
+		int[] nodes = new int[variables];
+		for(int variable=0; variable<variables; variable++){
+			nodes[variable] = readInt(data) - 1;
+		}
+		int[] initialMasks = readMasks(data, variables);
+		ConstraintSystem.Builder builder = ConstraintSystem.builder();
+		for(int variable=0; variable<variables; variable++){
+			int id = nodes[variable] == ConstraintSystem.NO_NODE ? builder.getConstant(initialMasks[variable]) : builder.getVariable(nodes[variable], initialMasks[variable]);
+			if(id != variable){
+				throw new IOException("Corrupt constraint recording, variable " + variable + " is a duplicate of variable " + id);
+			}
+		}
+
+		int constraints = readInt(data);
+		int previous = 0;
+		for(int constraint=0; constraint<constraints; constraint++){
+			int header = data.readUnsignedByte();
+			ConstraintType type = ConstraintType.getType(header >> 4);
+			Rule rule = Rule.getRule(header & 0xF);
+			int x = previous + readSignedInt(data);
+			previous = x;
+			boolean added;
+			if(type == ConstraintType.REMOVE){
+				added = builder.addRemove(rule, checkVariable(x, variables), data.readUnsignedByte());
+			} else {
+				int y = type.getArity() > 1 ? x + readSignedInt(data) : -1;
+				int z = type.getArity() > 2 ? x + readSignedInt(data) : -1;
+				added = builder.addConstraint(type, rule, checkVariable(x, variables), checkVariable(y, variables), checkVariable(z, variables));
+			}
+			if(!added){
+				throw new IOException("Corrupt constraint recording, constraint " + constraint + " is a duplicate");
+			}
+		}
+		ConstraintSystem system = builder.build();
+
+		String engine = null;
+		Solution solution = null;
+		if((flags & HAS_SOLUTION) != 0){
+			engine = data.readUTF();
+			int[] masks = readMasks(data, variables);
+			int rounds = readInt(data);
+			long propagations = readLong(data);
+			solution = new Solution(masks, rounds, propagations);
+		}
+
+		RemovalTrace trace = null;
+		if((flags & HAS_TRACE) != 0){
+			int removals = readInt(data);
+			trace = new RemovalTrace(removals);
+			int variable = 0;
+			int constraint = 0;
+			for(int removal=0; removal<removals; removal++){
+				variable += readSignedInt(data);
+				constraint += readSignedInt(data);
+				int transition = data.readUnsignedByte();
+				trace.removed(variable, transition >> 4, transition & 0xF, constraint);
+			}
+		}
+		return new ConstraintRecording(system, engine, solution, trace);
+	}
+
+	private static int checkVariable(int variable, int variables) throws IOException {
+		if(variable < -1 || variable >= variables){
+			throw new IOException("Corrupt constraint recording, invalid variable: " + variable);
+		}
+		return variable;
+	}
+
+	private static void writeMasks(DataOutputStream data, int[] masks) throws IOException {
+		for(int i=0; i<masks.length; i+=2){
+			int low = masks[i] & Qualifiers.ALL;
+			int high = i + 1 < masks.length ? masks[i + 1] & Qualifiers.ALL : 0;
+			data.writeByte(low | (high << 4));
+		}
+	}
+
+	private static int[] readMasks(DataInputStream data, int count) throws IOException {
+		int[] masks = new int[count];
+		for(int i=0; i<count; i+=2){
+			int packed = data.readUnsignedByte();
+			masks[i] = packed & 0xF;
+			if(i + 1 < count){
+				masks[i + 1] = packed >> 4;
+			}
+		}
+		return masks;
+	}
+
+	private static void writeSignedInt(DataOutputStream data, int value) throws IOException {
+		writeInt(data, (value << 1) ^ (value >> 31));
+	}
+
+	private static int readSignedInt(DataInputStream data) throws IOException {
+		int value = readInt(data);
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeInt(DataOutputStream data, int value) throws IOException {
+		writeLong(data, value & 0xFFFFFFFFL);
+	}
+
+	private static int readInt(DataInputStream data) throws IOException {
+		long value = readLong(data);
+		if(value > 0xFFFFFFFFL){
+			throw new IOException("Corrupt constraint recording, integer out of range");
+		}
+		return (int) value;
+	}
+
+	private static void writeLong(DataOutputStream data, long value) throws IOException {
+		while((value & ~0x7FL) != 0){
+			data.writeByte((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		data.writeByte((int) value);
+	}
+
+	private static long readLong(DataInputStream data) throws IOException {
+		long value = 0;
+		for(int shift=0; shift<64; shift+=7){
+			int b = data.readUnsignedByte();
+			value |= (long) (b & 0x7F) << shift;
+			if((b & 0x80) == 0){
+				return value;
+			}
+		}
+		throw new EOFException("Corrupt constraint recording, variable length integer too long");
+	}
+
+	@Override
+	public String toString() {
+		return "ConstraintRecording [system=" + system + ", engine=" + engine + ", solution=" + solution + ", trace=" + trace + "]";
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.ensoftcorp.open.immutability.core.replay;
+
+import java.util.Arrays;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+
+/**
+ * Records the qualifier removals of a solve in the order the engine made them
+ *
+ * Each removal is stored in parallel arrays so that traces of millions of removals
+ * stay compact. A trace is only comparable between runs of the same engine, since
+ * engines differ in the order they apply constraints in.
+ */
+public final class RemovalTrace implements RemovalListener {
+
+	private int size = 0;
+	private int[] variables;
+	private int[] constraints;
+	private byte[] transitions;
+
+	public RemovalTrace(){
+		this(1024);
+	}
+
+	/**
+	 * @param capacity The expected number of removals
+	 */
+	public RemovalTrace(int capacity){
+		capacity = Math.max(1, capacity);
+		variables = new int[capacity];
+		constraints = new int[capacity];
+		transitions = new byte[capacity];
+	}
+
+	@Override
+	public void removed(int variable, int before, int after, int constraint) {
+		if(size == variables.length){
+			variables = Arrays.copyOf(variables, size * 2);
+			constraints = Arrays.copyOf(constraints, size * 2);
+			transitions = Arrays.copyOf(transitions, size * 2);
+		}
+		variables[size] = variable;
+		constraints[size] = constraint;
+		transitions[size] = (byte) ((before << 4) | (after & 0xF));
+		size++;
+	}
+
+	/**
+	 * Returns the number of recorded removals
+	 * @return
+	 */
+	public int size(){
+		return size;
+	}
+
+	public int getVariable(int removal){
+		return variables[removal];
+	}
+
+	public int getBefore(int removal){
+		return (transitions[removal] >> 4) & 0xF;
+	}
+
+	public int getAfter(int removal){
+		return transitions[removal] & 0xF;
+	}
+
+	public int getConstraint(int removal){
+		return constraints[removal];
+	}
+
+	/**
+	 * Returns the index of the first removal that differs from the other trace, or -1
+	 * if the traces are identical. A removal beyond the end of the shorter trace differs.
+	 * @param other
+	 * @return
+	 */
+	public int findFirstDifference(RemovalTrace other){
+		int common = Math.min(size, other.size);
+		for(int i=0; i<common; i++){
+			if(variables[i] != other.variables[i] || constraints[i] != other.constraints[i] || transitions[i] != other.transitions[i]){
+				return i;
+			}
+		}
+		return size == other.size ? -1 : common;
+	}
+
+	/**
+	 * Returns a readable form of the removal
+	 * @param removal
+	 * @return
+	 */
+	public String toString(int removal){
+		return "variable " + getVariable(removal) + ": " + Qualifiers.toString(getBefore(removal)) + " -> " + Qualifiers.toString(getAfter(removal)) + " by constraint " + getConstraint(removal);
+	}
+
+	@Override
+	public String toString() {
+		return "RemovalTrace [removals=" + size + "]";
+	}
+
+}
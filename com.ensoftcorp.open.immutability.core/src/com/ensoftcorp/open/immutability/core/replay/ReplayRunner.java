@@ -0,0 +1,125 @@
+package com.ensoftcorp.open.immutability.core.replay;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngine;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+
+/**
+ * Replays a constraint recording through inference engines without Atlas or Eclipse
+ *
+ * Each engine solves the recorded system and its fixed point is compared with the
+ * recorded one. When the recording has a removal trace, the engine that made the
+ * recording must also reproduce the trace removal for removal. The time of each
+ * solve is reported so that engines can be profiled on recorded workloads.
+ */
+public class ReplayRunner {
+
+	private final ConstraintRecording recording;
+	private final PrintStream out;
+
+	/**
+	 * @param recording
+	 * @param out The stream the replay is reported to
+	 */
+	public ReplayRunner(ConstraintRecording recording, PrintStream out){
+		this.recording = recording;
+		this.out = out;
+	}
+
+	/**
+	 * Replays a recording and exits with status 1 if an engine does not reproduce it
+	 * Usage: ReplayRunner <recording file> [comma separated engines] [repetitions]
+	 * @param args
+	 * @throws IOException
+	 */
+	public static void main(String[] args) throws IOException {
+		if(args.length < 1){
+			System.err.println("Usage: ReplayRunner <recording file> [comma separated engines] [repetitions]");
+			System.exit(2);
+		}
+		ConstraintRecording recording = ConstraintRecording.read(new File(args[0]));
+		List<String> engines = args.length > 1 ? Arrays.asList(args[1].split(",")) : InferenceEngines.getNames();
+		int repetitions = args.length > 2 ? Integer.parseInt(args[2]) : 1;
+		ReplayRunner runner = new ReplayRunner(recording, System.out);
+		boolean reproduced = true;
+		for(String engine : engines){
+			if(!runner.replay(InferenceEngines.get(engine.trim()), repetitions)){
+				reproduced = false;
+			}
+		}
+		if(!reproduced){
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Solves the recorded system with the engine and compares the result with the recording
+	 * @param engine
+	 * @param repetitions The number of solves to time, the first of which is compared
+	 * @return Returns true if the engine reproduced the recorded fixed point (and trace)
+	 */
+	public boolean replay(InferenceEngine engine, int repetitions){
+		ConstraintSystem system = recording.getSystem();
+		boolean compareTrace = recording.getTrace() != null && engine.getName().equals(recording.getEngine());
+		RemovalTrace trace = compareTrace ? new RemovalTrace(recording.getTrace().size()) : null;
+
+		long[] times = new long[Math.max(1, repetitions)];
+		Solution solution = null;
+		for(int i=0; i<times.length; i++){
+			long start = System.nanoTime();
+			Solution result = engine.solve(system, i == 0 ? trace : null);
+			times[i] = System.nanoTime() - start;
+			if(i == 0){
+				solution = result;
+			}
+		}
+		Arrays.sort(times);
+		out.println(engine.getName() + ": " + solution + " in " + format(times[times.length / 2]) + " ms (median), " + format(times[0]) + " ms (min) over " + times.length + " solves of " + system);
+
+		boolean reproduced = true;
+		Solution recorded = recording.getSolution();
+		if(recorded != null){
+			int mismatches = 0;
+			for(int variable=0; variable<system.getVariableCount(); variable++){
+				if(solution.getMask(variable) != recorded.getMask(variable)){
+					if(mismatches == 0){
+						out.println(engine.getName() + ": variable " + variable + " (node " + system.getNode(variable) + ") is "
+								+ Qualifiers.toString(solution.getMask(variable)) + ", recorded " + Qualifiers.toString(recorded.getMask(variable)));
+					}
+					mismatches++;
+				}
+			}
+			if(mismatches > 0){
+				out.println(engine.getName() + ": " + mismatches + " variables differ from the fixed point recorded by " + recording.getEngine());
+				reproduced = false;
+			} else {
+				out.println(engine.getName() + ": reproduced the fixed point recorded by " + recording.getEngine());
+			}
+		}
+		if(compareTrace){
+			int difference = trace.findFirstDifference(recording.getTrace());
+			if(difference != -1){
+				String actual = difference < trace.size() ? trace.toString(difference) : "no removal";
+				String expected = difference < recording.getTrace().size() ? recording.getTrace().toString(difference) : "no removal";
+				out.println(engine.getName() + ": removal " + difference + " is " + actual + ", recorded " + expected);
+				reproduced = false;
+			} else {
+				out.println(engine.getName() + ": reproduced the " + trace.size() + " recorded removals");
+			}
+		}
+		return reproduced;
+	}
+
+	private static String format(long nanos){
+		return String.format("%.3f", nanos / 1000.0 / 1000.0);
+	}
+
+}
@@ -0,0 +1,637 @@
+package com.ensoftcorp.open.immutability.core.synthetic;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import com.ensoftcorp.open.immutability.core.graph.CompactProgramGraph;
+import com.ensoftcorp.open.immutability.core.graph.EdgeKind;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+
+/**
+ * Generates reproducible synthetic programs with the node and edge shapes of an XCSG program graph
+ *
+ * The program is a set of classes with instance fields, a static field and array components.
+ * Classes form inheritance chains in which the instance methods of a class override the methods
+ * of the previous class. Methods are divided into call graph layers, and each method body is a
+ * random sequence of statements over a pool of local references:
+ * <ul>
+ * <li>instantiations, array instantiations and null assignments (TNEW)</li>
+ * <li>local assignments, some of them through casts (TASSIGN)</li>
+ * <li>field reads and writes through field access chains (TREAD, TWRITE)</li>
+ * <li>static field reads and writes (TSREAD, TSWRITE)</li>
+ * <li>array reads and writes, including writes to arrays held by fields</li>
+ * <li>calls to the methods of the next layer with parameter and identity passes (TCALL, TSCALL)</li>
+ * </ul>
+ * The cycle density is the probability that a call targets a method of the same or an earlier
+ * layer (recursion) and that a local assignment also receives a value assigned after it (a loop).
+ * The same seed and parameters always generate the same graph.
+ */
+public final class SyntheticProgramGenerator {
+
+	// cumulative statement weights out of 100
+	private static final int NEW = 6;
+	private static final int NEW_ARRAY = NEW + 2;
+	private static final int NULL = NEW_ARRAY + 2;
+	private static final int ASSIGN = NULL + 28;
+	private static final int FIELD_READ = ASSIGN + 15;
+	private static final int FIELD_WRITE = FIELD_READ + 10;
+	private static final int STATIC_READ = FIELD_WRITE + 4;
+	private static final int STATIC_WRITE = STATIC_READ + 2;
+	private static final int ARRAY_READ = STATIC_WRITE + 3;
+	private static final int ARRAY_WRITE = ARRAY_READ + 5;
+
+	private final int assignments;
+	private final int statementsPerMethod;
+	private final int methodsPerClass;
+	private final int parametersPerMethod;
+	private final int fieldsPerClass;
+	private final int callDepth;
+	private final double cycleDensity;
+	private final int fieldChainDepth;
+	private final int hierarchyDepth;
+	private final long seed;
+
+	private SyntheticProgramGenerator(Builder builder){
+		this.assignments = builder.assignments;
+		this.statementsPerMethod = builder.statementsPerMethod;
+		this.methodsPerClass = builder.methodsPerClass;
+		this.parametersPerMethod = builder.parametersPerMethod;
+		this.fieldsPerClass = builder.fieldsPerClass;
+		this.callDepth = builder.callDepth;
+		this.cycleDensity = builder.cycleDensity;
+		this.fieldChainDepth = builder.fieldChainDepth;
+		this.hierarchyDepth = builder.hierarchyDepth;
+		this.seed = builder.seed;
+	}
+
+	/**
+	 * Returns a builder of a generator with the default parameters
+	 * @return
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	/**
+	 * Returns a generator of a program with about the given number of assignments and the default shape
+	 * @param assignments
+	 * @return
+	 */
+	public static SyntheticProgramGenerator of(int assignments){
+		return builder().setAssignments(assignments).build();
+	}
+
+	/**
+	 * Generates the program
+	 * @return
+	 */
+	public CompactProgramGraph generate(){
+		return new Generation().generate();
+	}
+
+	/**
+	 * Returns the target number of assignments and parameter passes
+	 * @return
+	 */
+	public int getAssignments() {
+		return assignments;
+	}
+
+	public int getStatementsPerMethod() {
+		return statementsPerMethod;
+	}
+
+	public int getMethodsPerClass() {
+		return methodsPerClass;
+	}
+
+	public int getParametersPerMethod() {
+		return parametersPerMethod;
+	}
+
+	public int getFieldsPerClass() {
+		return fieldsPerClass;
+	}
+
+	public int getCallDepth() {
+		return callDepth;
+	}
+
+	public double getCycleDensity() {
+		return cycleDensity;
+	}
+
+	public int getFieldChainDepth() {
+		return fieldChainDepth;
+	}
+
+	public int getHierarchyDepth() {
+		return hierarchyDepth;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	@Override
+	public String toString() {
+		return "SyntheticProgramGenerator [assignments=" + assignments + ", statementsPerMethod=" + statementsPerMethod
+				+ ", methodsPerClass=" + methodsPerClass + ", parametersPerMethod=" + parametersPerMethod
+				+ ", fieldsPerClass=" + fieldsPerClass + ", callDepth=" + callDepth + ", cycleDensity=" + cycleDensity
+				+ ", fieldChainDepth=" + fieldChainDepth + ", hierarchyDepth=" + hierarchyDepth + ", seed=" + seed + "]";
+	}
+
+	/**
+	 * The state of a single generation
+	 */
+	private class Generation {
+
+		private final SplittableRandom random = new SplittableRandom(seed);
+		private final CompactProgramGraph.Builder graph = CompactProgramGraph.builder();
+
+		// node shapes
+		private final int classShape = graph.getShape(NodeKind.TYPE);
+		private final int instanceVariableShape = graph.getShape(NodeKind.INSTANCE_VARIABLE);
+		private final int classVariableShape = graph.getShape(NodeKind.CLASS_VARIABLE);
+		private final int arrayComponentsShape = graph.getShape(NodeKind.ARRAY_COMPONENTS);
+		private final int methodShape = graph.getShape(NodeKind.METHOD);
+		private final int identityShape = graph.getShape(NodeKind.IDENTITY);
+		private final int parameterShape = graph.getShape(NodeKind.PARAMETER);
+		private final int returnShape = graph.getShape(NodeKind.RETURN_VALUE, NodeKind.ASSIGNMENT);
+		private final int assignmentShape = graph.getShape(NodeKind.ASSIGNMENT);
+		private final int instantiationShape = graph.getShape(NodeKind.INSTANTIATION);
+		private final int arrayInstantiationShape = graph.getShape(NodeKind.ARRAY_INSTANTIATION);
+		private final int nullShape = graph.getShape(NodeKind.NULL);
+		private final int castShape = graph.getShape(NodeKind.CAST);
+		private final int fieldValueShape = graph.getShape(NodeKind.INSTANCE_VARIABLE_VALUE, NodeKind.INSTANCE_VARIABLE_ACCESS);
+		private final int fieldAssignmentShape = graph.getShape(NodeKind.ASSIGNMENT, NodeKind.INSTANCE_VARIABLE_ASSIGNMENT, NodeKind.INSTANCE_VARIABLE_ACCESS);
+		private final int staticValueShape = graph.getShape(NodeKind.CLASS_VARIABLE_VALUE, NodeKind.CLASS_VARIABLE_ACCESS);
+		private final int staticAssignmentShape = graph.getShape(NodeKind.ASSIGNMENT, NodeKind.CLASS_VARIABLE_ASSIGNMENT, NodeKind.CLASS_VARIABLE_ACCESS);
+		private final int arrayReadShape = graph.getShape(NodeKind.ARRAY_READ, NodeKind.ARRAY_ACCESS);
+		private final int arrayWriteShape = graph.getShape(NodeKind.ASSIGNMENT, NodeKind.ARRAY_WRITE, NodeKind.ARRAY_ACCESS);
+		private final int statementShape = graph.getShape();
+		private final int dynamicCallsiteShape = graph.getShape(NodeKind.CALL_SITE, NodeKind.DYNAMIC_DISPATCH_CALL_SITE);
+		private final int staticCallsiteShape = graph.getShape(NodeKind.CALL_SITE, NodeKind.STATIC_DISPATCH_CALL_SITE);
+		private final int parameterPassShape = graph.getShape(NodeKind.PARAMETER_PASS);
+
+		private int[] types;
+		private int[] fields;
+		private int[] staticFields;
+		private int[] arrayComponents;
+		private int[] methods;
+		private int[] identities;
+		private int[] returns;
+		private int[] parameters;
+		private int[] layerStarts;
+		private int layers;
+
+		// the local references of the method body being generated
+		private int methodIndex;
+		private int method;
+		private int[] pool = new int[64];
+		private int poolSize;
+		private int[] locals = new int[64];
+		private int[] localPositions = new int[64];
+		private int localCount;
+		private int produced;
+
+		public CompactProgramGraph generate(){
+			int methodCount = Math.max(1, assignments / statementsPerMethod);
+			int classCount = (methodCount + methodsPerClass - 1) / methodsPerClass;
+			createClasses(classCount);
+			createMethods(methodCount);
+
+			for(int m=0; m<methodCount; m++){
+				long quota = ((long) assignments * (m + 1) / methodCount) - ((long) assignments * m / methodCount);
+				createBody(m, (int) Math.max(1, quota));
+			}
+			return graph.build();
+		}
+
+		private void createClasses(int classCount){
+			types = new int[classCount];
+			fields = new int[classCount * fieldsPerClass];
+			staticFields = new int[classCount];
+			arrayComponents = new int[classCount];
+			for(int c=0; c<classCount; c++){
+				int type = graph.addNode(classShape, -1);
+				types[c] = type;
+				for(int f=0; f<fieldsPerClass; f++){
+					fields[(c * fieldsPerClass) + f] = graph.addNode(instanceVariableShape, -1);
+					graph.addEdge(EdgeKind.CONTAINS, type, fields[(c * fieldsPerClass) + f]);
+				}
+				staticFields[c] = graph.addNode(classVariableShape, -1);
+				graph.addEdge(EdgeKind.CONTAINS, type, staticFields[c]);
+				arrayComponents[c] = graph.addNode(arrayComponentsShape, -1);
+			}
+		}
+
+		private void createMethods(int methodCount){
+			methods = new int[methodCount];
+			identities = new int[methodCount];
+			returns = new int[methodCount];
+			parameters = new int[methodCount * parametersPerMethod];
+			for(int m=0; m<methodCount; m++){
+				methods[m] = graph.addNode(methodShape, -1);
+				graph.addEdge(EdgeKind.CONTAINS, types[m / methodsPerClass], methods[m]);
+				if(isStatic(m)){
+					identities[m] = -1;
+				} else {
+					identities[m] = graph.addNode(identityShape, methods[m]);
+					graph.addEdge(EdgeKind.CONTAINS, methods[m], identities[m]);
+				}
+				for(int p=0; p<parametersPerMethod; p++){
+					int parameter = graph.addNode(parameterShape, methods[m]);
+					graph.setParameterIndex(parameter, p);
+					graph.addEdge(EdgeKind.CONTAINS, methods[m], parameter);
+					parameters[(m * parametersPerMethod) + p] = parameter;
+				}
+				returns[m] = graph.addNode(returnShape, methods[m]);
+				graph.addEdge(EdgeKind.CONTAINS, methods[m], returns[m]);
+
+				// the instance methods of a class override the methods in the same position of its superclass
+				int classIndex = m / methodsPerClass;
+				if(!isStatic(m) && classIndex % hierarchyDepth != 0){
+					graph.addEdge(EdgeKind.OVERRIDES, methods[m], methods[m - methodsPerClass]);
+				}
+			}
+
+			// divide the methods into call graph layers
+			layers = Math.min(callDepth, methodCount);
+			layerStarts = new int[layers + 1];
+			for(int layer=0; layer<=layers; layer++){
+				layerStarts[layer] = (int) (((long) layer * methodCount + layers - 1) / layers);
+			}
+		}
+
+		private boolean isStatic(int m){
+			return (m % methodsPerClass) % 4 == 3;
+		}
+
+		private int getLayer(int m){
+			return (int) ((long) m * layers / methods.length);
+		}
+
+		private void createBody(int m, int quota){
+			methodIndex = m;
+			method = methods[m];
+			poolSize = 0;
+			localCount = 0;
+			produced = 0;
+			if(identities[m] != -1){
+				addToPool(identities[m]);
+			}
+			for(int p=0; p<parametersPerMethod; p++){
+				addToPool(parameters[(m * parametersPerMethod) + p]);
+			}
+			if(poolSize == 0){
+				createNew(instantiationShape);
+			}
+
+			// the return statement is the last assignment of the body
+			while(produced < quota - 1){
+				int roll = random.nextInt(100);
+				if(roll < NEW){
+					createNew(instantiationShape);
+				} else if(roll < NEW_ARRAY){
+					createNew(arrayInstantiationShape);
+				} else if(roll < NULL){
+					createNew(nullShape);
+				} else if(roll < ASSIGN){
+					createAssign();
+				} else if(roll < FIELD_READ){
+					createFieldRead();
+				} else if(roll < FIELD_WRITE){
+					createFieldWrite();
+				} else if(roll < STATIC_READ){
+					createStaticRead();
+				} else if(roll < STATIC_WRITE){
+					createStaticWrite();
+				} else if(roll < ARRAY_READ){
+					createArrayRead();
+				} else if(roll < ARRAY_WRITE){
+					createArrayWrite();
+				} else if(!createCall(m)){
+					createAssign();
+				}
+			}
+
+			// return x
+			graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), returns[m]);
+			produced++;
+
+			// loops, a local also receives a value assigned after it
+			for(int i=0; i<localCount; i++){
+				int position = localPositions[i];
+				if(position + 1 < poolSize && random.nextDouble() < cycleDensity){
+					int later = pool[position + 1 + random.nextInt(poolSize - position - 1)];
+					graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, later, locals[i]);
+				}
+			}
+		}
+
+		/**
+		 * x = new C(), x = new C[], x = null
+		 */
+		private void createNew(int valueShape){
+			int value = graph.addNode(valueShape, method);
+			createAssignment(value);
+		}
+
+		/**
+		 * x = y or x = (C) y
+		 */
+		private void createAssign(){
+			int value = pickLocal();
+			if(random.nextInt(8) == 0){
+				int cast = graph.addNode(castShape, method);
+				graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, value, cast);
+				value = cast;
+			}
+			int x = createAssignment(value);
+			if(locals.length == localCount){
+				locals = Arrays.copyOf(locals, localCount * 2);
+				localPositions = Arrays.copyOf(localPositions, localCount * 2);
+			}
+			locals[localCount] = x;
+			localPositions[localCount] = poolSize - 1;
+			localCount++;
+		}
+
+		/**
+		 * x = y.f1.f2...fn
+		 */
+		private void createFieldRead(){
+			int value = createFieldChain(pickLocal(), 1 + random.nextInt(fieldChainDepth));
+			createAssignment(value);
+		}
+
+		/**
+		 * y.f1.f2...fn = x
+		 */
+		private void createFieldWrite(){
+			int base = createFieldChain(pickLocal(), random.nextInt(fieldChainDepth));
+			int write = graph.addNode(fieldAssignmentShape, method);
+			graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), write);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, write, pickField());
+			graph.addEdge(EdgeKind.INSTANCE_VARIABLE_ACCESSED, base, write);
+			produced++;
+		}
+
+		/**
+		 * Returns the value of a chain of field reads of the given length from the base reference
+		 */
+		private int createFieldChain(int base, int length){
+			int previous = base;
+			for(int i=0; i<length; i++){
+				int value = graph.addNode(fieldValueShape, method);
+				graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, pickField(), value);
+				graph.addEdge(EdgeKind.INSTANCE_VARIABLE_ACCESSED, previous, value);
+				previous = value;
+			}
+			return previous;
+		}
+
+		/**
+		 * x = sf
+		 */
+		private void createStaticRead(){
+			int value = graph.addNode(staticValueShape, method);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, staticFields[random.nextInt(staticFields.length)], value);
+			createAssignment(value);
+		}
+
+		/**
+		 * sf = x
+		 */
+		private void createStaticWrite(){
+			int write = graph.addNode(staticAssignmentShape, method);
+			graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), write);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, write, staticFields[random.nextInt(staticFields.length)]);
+			produced++;
+		}
+
+		/**
+		 * x = a[i]
+		 */
+		private void createArrayRead(){
+			int read = graph.addNode(arrayReadShape, method);
+			graph.addEdge(EdgeKind.ARRAY_IDENTITY_FOR, pickLocal(), read);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, arrayComponents[random.nextInt(arrayComponents.length)], read);
+			createAssignment(read);
+		}
+
+		/**
+		 * a[i] = x or y.f[i] = x
+		 */
+		private void createArrayWrite(){
+			int array = random.nextBoolean() ? pickLocal() : createFieldChain(pickLocal(), 1);
+			int write = graph.addNode(arrayWriteShape, method);
+			graph.addEdge(EdgeKind.ARRAY_IDENTITY_FOR, array, write);
+			graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), write);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, write, arrayComponents[random.nextInt(arrayComponents.length)]);
+			produced++;
+		}
+
+		/**
+		 * x = y.m(z1, z2, ...) or x = m(z1, z2, ...), returns false if the method has no callee
+		 */
+		private boolean createCall(int caller){
+			int layer = getLayer(caller);
+			int target;
+			if(random.nextDouble() < cycleDensity){
+				// a call back into the same or an earlier layer closes a cycle in the call graph
+				target = random.nextInt(layerStarts[layer + 1]);
+			} else if(layer + 1 < layers){
+				target = layerStarts[layer + 1] + random.nextInt(layerStarts[layer + 2] - layerStarts[layer + 1]);
+			} else {
+				return false;
+			}
+
+			int statement = graph.addNode(statementShape, method);
+			boolean dynamic = identities[target] != -1;
+			int callsite = graph.addNode(dynamic ? dynamicCallsiteShape : staticCallsiteShape, method);
+			graph.addEdge(EdgeKind.CONTAINS, statement, callsite);
+			graph.addEdge(EdgeKind.INVOKED, callsite, methods[target]);
+			graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, returns[target], callsite);
+			if(dynamic){
+				int identityPass = graph.addNode(parameterPassShape, method);
+				graph.addEdge(EdgeKind.CONTAINS, statement, identityPass);
+				graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), identityPass);
+				graph.addEdge(EdgeKind.IDENTITY_PASSED_TO, identityPass, callsite);
+				graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, identityPass, identities[target]);
+				produced++;
+			}
+			for(int p=0; p<parametersPerMethod; p++){
+				int parameterPass = graph.addNode(parameterPassShape, method);
+				graph.setParameterIndex(parameterPass, p);
+				graph.addEdge(EdgeKind.CONTAINS, statement, parameterPass);
+				graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, pickLocal(), parameterPass);
+				graph.addEdge(EdgeKind.INTERPROCEDURAL_DATA_FLOW, parameterPass, parameters[(target * parametersPerMethod) + p]);
+				produced++;
+			}
+			createAssignment(callsite);
+			return true;
+		}
+
+		/**
+		 * Creates an assignment of the value to a new local reference
+		 */
+		private int createAssignment(int value){
+			int x = graph.addNode(assignmentShape, method);
+			graph.addEdge(EdgeKind.LOCAL_DATA_FLOW, value, x);
+			addToPool(x);
+			produced++;
+			return x;
+		}
+
+		private void addToPool(int reference){
+			if(poolSize == pool.length){
+				pool = Arrays.copyOf(pool, poolSize * 2);
+			}
+			pool[poolSize++] = reference;
+		}
+
+		/**
+		 * Returns a local reference, half of the time the most recent one so that data flows form long chains
+		 */
+		private int pickLocal(){
+			if(random.nextBoolean()){
+				return pool[poolSize - 1];
+			}
+			return pool[random.nextInt(poolSize)];
+		}
+
+		/**
+		 * Returns a field, half of the time of the class of the current method
+		 */
+		private int pickField(){
+			if(random.nextBoolean()){
+				return fields[random.nextInt(fields.length)];
+			}
+			int classIndex = methodIndex / methodsPerClass;
+			return fields[(classIndex * fieldsPerClass) + random.nextInt(fieldsPerClass)];
+		}
+
+	}
+
+	/**
+	 * The parameters of a synthetic program
+	 */
+	public static final class Builder {
+
+		private int assignments = 10000;
+		private int statementsPerMethod = 16;
+		private int methodsPerClass = 8;
+		private int parametersPerMethod = 2;
+		private int fieldsPerClass = 4;
+		private int callDepth = 8;
+		private double cycleDensity = 0.05;
+		private int fieldChainDepth = 3;
+		private int hierarchyDepth = 3;
+		private long seed = 0;
+
+		private Builder(){}
+
+		/**
+		 * Sets the approximate number of assignments and parameter passes to generate
+		 * @param assignments
+		 * @return
+		 */
+		public Builder setAssignments(int assignments) {
+			this.assignments = assignments;
+			return this;
+		}
+
+		/**
+		 * Sets the average number of assignments and parameter passes in a method body
+		 * @param statementsPerMethod
+		 * @return
+		 */
+		public Builder setStatementsPerMethod(int statementsPerMethod) {
+			this.statementsPerMethod = statementsPerMethod;
+			return this;
+		}
+
+		public Builder setMethodsPerClass(int methodsPerClass) {
+			this.methodsPerClass = methodsPerClass;
+			return this;
+		}
+
+		public Builder setParametersPerMethod(int parametersPerMethod) {
+			this.parametersPerMethod = parametersPerMethod;
+			return this;
+		}
+
+		public Builder setFieldsPerClass(int fieldsPerClass) {
+			this.fieldsPerClass = fieldsPerClass;
+			return this;
+		}
+
+		/**
+		 * Sets the number of call graph layers, methods call the methods of the next layer
+		 * @param callDepth
+		 * @return
+		 */
+		public Builder setCallDepth(int callDepth) {
+			this.callDepth = callDepth;
+			return this;
+		}
+
+		/**
+		 * Sets the probability of recursive calls and loop carried local assignments
+		 * @param cycleDensity
+		 * @return
+		 */
+		public Builder setCycleDensity(double cycleDensity) {
+			this.cycleDensity = cycleDensity;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum length of a chain of field accesses, such as 3 for x.f.g.h
+		 * @param fieldChainDepth
+		 * @return
+		 */
+		public Builder setFieldChainDepth(int fieldChainDepth) {
+			this.fieldChainDepth = fieldChainDepth;
+			return this;
+		}
+
+		/**
+		 * Sets the length of the inheritance chains of classes whose methods override each other
+		 * @param hierarchyDepth
+		 * @return
+		 */
+		public Builder setHierarchyDepth(int hierarchyDepth) {
+			this.hierarchyDepth = hierarchyDepth;
+			return this;
+		}
+
+		public Builder setSeed(long seed) {
+			this.seed = seed;
+			return this;
+		}
+
+		public SyntheticProgramGenerator build(){
+			if(assignments < 1){
+				throw new IllegalArgumentException("Assignments must be positive: " + assignments);
+			}
+			if(statementsPerMethod < 2){
+				throw new IllegalArgumentException("Statements per method must be at least 2: " + statementsPerMethod);
+			}
+			if(methodsPerClass < 1 || fieldsPerClass < 1 || callDepth < 1 || fieldChainDepth < 1 || hierarchyDepth < 1){
+				throw new IllegalArgumentException("Methods per class, fields per class, call depth, field chain depth and hierarchy depth must be positive");
+			}
+			if(parametersPerMethod < 0 || parametersPerMethod > Byte.MAX_VALUE){
+				throw new IllegalArgumentException("Unsupported parameters per method: " + parametersPerMethod);
+			}
+			if(cycleDensity < 0 || cycleDensity > 1){
+				throw new IllegalArgumentException("Cycle density must be a probability: " + cycleDensity);
+			}
+			return new SyntheticProgramGenerator(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,441 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+import com.ensoftcorp.open.pointsto.preferences.PointsToPreferences;
+
+/**
+ * An immutable snapshot of the analysis preferences
+ *
+ * The snapshot is captured once when an analysis starts and is passed to the
+ * engine, checkers, and utilities so that a run is not affected by preference
+ * changes made while it is in progress and the mode checks are plain final
+ * field reads.
+ */
+public final class AnalysisConfiguration {
+
+	private final boolean inferenceAnalysisMode;
+	private final boolean pointsToAnalysisMode;
+	private final boolean hybridAnalysisMode;
+	private final boolean pointsToResults;
+	private final boolean generalLogging;
+	private final boolean debugLogging;
+	private final boolean inferenceRuleLogging;
+	private final boolean runSanityChecks;
+	private final boolean onlineInvariantMonitoring;
+	private final int traceBufferSize;
+	private final boolean provenanceRecording;
+	private final int sanityChecksSampleSize;
+	private final int parallelism;
+	private final String inferenceEngine;
+	private final String constraintRecordingFile;
+	private final boolean constraintRecordingTrace;
+	private final boolean generateSummaries;
+	private final boolean loadSummaries;
+	private final boolean allowAddMutableInstanceVariables;
+	private final boolean allowDefaultMutableInstanceVariables;
+	private final boolean containerConsideration;
+	private final boolean fieldAdaptations;
+	private final boolean methodModels;
+	private final String methodModelsFile;
+	private final String summaryFile;
+
+	private AnalysisConfiguration(){
+		inferenceAnalysisMode = ImmutabilityPreferences.isInferenceAnalysisModeEnabled();
+		pointsToAnalysisMode = ImmutabilityPreferences.isPointsToAnalysisModeEnabled();
+		hybridAnalysisMode = ImmutabilityPreferences.isHybridAnalysisModeEnabled();
+		pointsToResults = PointsToPreferences.isPointsToAnalysisEnabled();
+		generalLogging = ImmutabilityPreferences.isGeneralLoggingEnabled();
+		debugLogging = ImmutabilityPreferences.isDebugLoggingEnabled();
+		inferenceRuleLogging = ImmutabilityPreferences.isInferenceRuleLoggingEnabled();
+		runSanityChecks = ImmutabilityPreferences.isRunSanityChecksEnabled();
+		onlineInvariantMonitoring = ImmutabilityPreferences.isOnlineInvariantMonitoringEnabled();
+		traceBufferSize = ImmutabilityPreferences.getTraceBufferSize();
+		provenanceRecording = ImmutabilityPreferences.isProvenanceRecordingEnabled();
+		sanityChecksSampleSize = ImmutabilityPreferences.getSanityChecksSampleSize();
+		parallelism = ImmutabilityPreferences.getParallelism();
+		inferenceEngine = ImmutabilityPreferences.getInferenceEngine();
+		constraintRecordingFile = ImmutabilityPreferences.getConstraintRecordingFile();
+		constraintRecordingTrace = ImmutabilityPreferences.isConstraintRecordingTraceEnabled();
+		generateSummaries = ImmutabilityPreferences.isGenerateSummariesEnabled();
+		loadSummaries = ImmutabilityPreferences.isLoadSummariesEnabled();
+		allowAddMutableInstanceVariables = ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled();
+		allowDefaultMutableInstanceVariables = ImmutabilityPreferences.isAllowDefaultMutableInstancesVariablesEnabled();
+		containerConsideration = ImmutabilityPreferences.isContainerConsiderationEnabled();
+		fieldAdaptations = ImmutabilityPreferences.isFieldAdaptationsEnabled();
+		methodModels = ImmutabilityPreferences.isMethodModelsEnabled();
+		methodModelsFile = ImmutabilityPreferences.getMethodModelsFile();
+		summaryFile = null;
+	}
+
+	private AnalysisConfiguration(Builder builder){
+		inferenceAnalysisMode = builder.analysisMode.equals(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE);
+		pointsToAnalysisMode = builder.analysisMode.equals(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_POINTSTO_MODE);
+		hybridAnalysisMode = builder.analysisMode.equals(ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_HYBRID_MODE);
+		pointsToResults = builder.pointsToResults;
+		generalLogging = builder.generalLogging;
+		debugLogging = builder.debugLogging;
+		inferenceRuleLogging = builder.inferenceRuleLogging;
+		runSanityChecks = builder.runSanityChecks;
+		onlineInvariantMonitoring = builder.onlineInvariantMonitoring;
+		traceBufferSize = builder.traceBufferSize;
+		provenanceRecording = builder.provenanceRecording;
+		sanityChecksSampleSize = builder.sanityChecksSampleSize;
+		parallelism = builder.parallelism;
+		inferenceEngine = builder.inferenceEngine;
+		constraintRecordingFile = builder.constraintRecordingFile;
+		constraintRecordingTrace = builder.constraintRecordingTrace;
+		generateSummaries = builder.generateSummaries;
+		loadSummaries = builder.loadSummaries;
+		allowAddMutableInstanceVariables = builder.allowAddMutableInstanceVariables;
+		allowDefaultMutableInstanceVariables = builder.allowDefaultMutableInstanceVariables;
+		containerConsideration = builder.containerConsideration;
+		fieldAdaptations = builder.fieldAdaptations;
+		methodModels = builder.methodModels;
+		methodModelsFile = builder.methodModelsFile;
+		summaryFile = builder.summaryFile;
+	}
+
+	/**
+	 * Captures the current analysis preferences
+	 * @return
+	 */
+	public static AnalysisConfiguration fromPreferences(){
+		return new AnalysisConfiguration();
+	}
+
+	/**
+	 * Returns a builder for configurations that are not backed by the preference store,
+	 * such as the configurations of headless runs and benchmarks
+	 * The builder starts from the default preference values
+	 * @return
+	 */
+	public static Builder builder(){
+		return new Builder();
+	}
+
+	public boolean isInferenceAnalysisModeEnabled() {
+		return inferenceAnalysisMode;
+	}
+
+	public boolean isPointsToAnalysisModeEnabled() {
+		return pointsToAnalysisMode;
+	}
+
+	public boolean isHybridAnalysisModeEnabled() {
+		return hybridAnalysisMode;
+	}
+
+	/**
+	 * Returns true if the points-to analysis is enabled, so that its results are available
+	 * to the points-to and hybrid analysis modes
+	 * @return
+	 */
+	public boolean isPointsToResultsEnabled() {
+		return pointsToResults;
+	}
+
+	public boolean isGeneralLoggingEnabled() {
+		return generalLogging;
+	}
+
+	public boolean isDebugLoggingEnabled() {
+		return debugLogging;
+	}
+
+	public boolean isInferenceRuleLoggingEnabled() {
+		return inferenceRuleLogging;
+	}
+
+	public boolean isRunSanityChecksEnabled() {
+		return runSanityChecks;
+	}
+
+	public boolean isOnlineInvariantMonitoringEnabled() {
+		return onlineInvariantMonitoring;
+	}
+
+	public int getTraceBufferSize() {
+		return traceBufferSize;
+	}
+
+	public boolean isProvenanceRecordingEnabled() {
+		return provenanceRecording;
+	}
+
+	public int getSanityChecksSampleSize() {
+		return sanityChecksSampleSize;
+	}
+
+	/**
+	 * Returns the configured number of worker threads (0 uses all available processors)
+	 * @return
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * Returns the name of the engine used to compute the inference fixed point
+	 * @return
+	 */
+	public String getInferenceEngine() {
+		return inferenceEngine;
+	}
+
+	/**
+	 * Returns true if the inference fixed point is computed by the legacy engine on the Atlas graph
+	 * @return
+	 */
+	public boolean isLegacyInferenceEngineEnabled() {
+		return inferenceEngine.equals(ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY);
+	}
+
+	/**
+	 * Returns the file the constraint system is recorded to, or an empty string if recording is disabled
+	 * @return
+	 */
+	public String getConstraintRecordingFile() {
+		return constraintRecordingFile;
+	}
+
+	public boolean isConstraintRecordingEnabled() {
+		return constraintRecordingFile != null && !constraintRecordingFile.isEmpty();
+	}
+
+	public boolean isConstraintRecordingTraceEnabled() {
+		return constraintRecordingTrace;
+	}
+
+	public boolean isGenerateSummariesEnabled() {
+		return generateSummaries;
+	}
+
+	public boolean isLoadSummariesEnabled() {
+		return loadSummaries;
+	}
+
+	public boolean isAllowAddMutableInstanceVariablesEnabled() {
+		return allowAddMutableInstanceVariables;
+	}
+
+	public boolean isAllowDefaultMutableInstancesVariablesEnabled() {
+		return allowDefaultMutableInstanceVariables;
+	}
+
+	public boolean isContainerConsiderationEnabled() {
+		return containerConsideration;
+	}
+
+	public boolean isFieldAdaptationsEnabled() {
+		return fieldAdaptations;
+	}
+
+	public boolean isMethodModelsEnabled() {
+		return methodModels;
+	}
+
+	public String getMethodModelsFile() {
+		return methodModelsFile;
+	}
+
+	/**
+	 * Returns the summary file to load or generate, or null if the file is chosen with a file dialog
+	 * @return
+	 */
+	public String getSummaryFile() {
+		return summaryFile;
+	}
+
+	@Override
+	public String toString() {
+		return "AnalysisConfiguration [inferenceAnalysisMode=" + inferenceAnalysisMode + ", pointsToAnalysisMode=" + pointsToAnalysisMode
+				+ ", hybridAnalysisMode=" + hybridAnalysisMode + ", pointsToResults=" + pointsToResults + ", generalLogging=" + generalLogging + ", debugLogging=" + debugLogging
+				+ ", inferenceRuleLogging=" + inferenceRuleLogging + ", runSanityChecks=" + runSanityChecks
+				+ ", onlineInvariantMonitoring=" + onlineInvariantMonitoring + ", traceBufferSize=" + traceBufferSize
+				+ ", provenanceRecording=" + provenanceRecording + ", sanityChecksSampleSize=" + sanityChecksSampleSize
+				+ ", parallelism=" + parallelism + ", inferenceEngine=" + inferenceEngine
+				+ ", constraintRecordingFile=" + constraintRecordingFile + ", constraintRecordingTrace=" + constraintRecordingTrace + ", generateSummaries=" + generateSummaries + ", loadSummaries=" + loadSummaries
+				+ ", allowAddMutableInstanceVariables=" + allowAddMutableInstanceVariables
+				+ ", allowDefaultMutableInstanceVariables=" + allowDefaultMutableInstanceVariables
+				+ ", containerConsideration=" + containerConsideration + ", fieldAdaptations=" + fieldAdaptations
+				+ ", methodModels=" + methodModels + ", methodModelsFile=" + methodModelsFile + ", summaryFile=" + summaryFile + "]";
+	}
+
+	/**
+	 * Builds a configuration from explicit values instead of the preference store
+	 */
+	public static final class Builder {
+
+		private String analysisMode = ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_MODE_DEFAULT;
+		private boolean pointsToResults = PointsToPreferences.isPointsToAnalysisEnabled();
+		private boolean generalLogging = ImmutabilityPreferences.GENERAL_LOGGING_DEFAULT;
+		private boolean debugLogging = ImmutabilityPreferences.DEBUG_LOGGING_DEFAULT;
+		private boolean inferenceRuleLogging = ImmutabilityPreferences.INFERENCE_RULE_LOGGING_DEFAULT;
+		private boolean runSanityChecks = ImmutabilityPreferences.RUN_SANITY_CHECKS_DEFAULT;
+		private boolean onlineInvariantMonitoring = ImmutabilityPreferences.ONLINE_INVARIANT_MONITORING_DEFAULT;
+		private int traceBufferSize = ImmutabilityPreferences.TRACE_BUFFER_SIZE_DEFAULT;
+		private boolean provenanceRecording = ImmutabilityPreferences.PROVENANCE_RECORDING_DEFAULT;
+		private int sanityChecksSampleSize = ImmutabilityPreferences.SANITY_CHECKS_SAMPLE_SIZE_DEFAULT;
+		private int parallelism = ImmutabilityPreferences.PARALLELISM_DEFAULT;
+		private String inferenceEngine = ImmutabilityPreferences.INFERENCE_ENGINE_DEFAULT;
+		private String constraintRecordingFile = ImmutabilityPreferences.CONSTRAINT_RECORDING_FILE_DEFAULT;
+		private boolean constraintRecordingTrace = ImmutabilityPreferences.CONSTRAINT_RECORDING_TRACE_DEFAULT;
+		private boolean generateSummaries = ImmutabilityPreferences.GENERATE_SUMMARIES_DEFAULT;
+		private boolean loadSummaries = ImmutabilityPreferences.LOAD_SUMMARIES_DEFAULT;
+		private boolean allowAddMutableInstanceVariables = ImmutabilityPreferences.ALLOW_ADD_MUTABLE_INSTANCE_VARIABLES_DEFAULT;
+		private boolean allowDefaultMutableInstanceVariables = ImmutabilityPreferences.ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES_DEFAULT;
+		private boolean containerConsideration = ImmutabilityPreferences.CONSIDER_CONTAINERS_DEFAULT;
+		private boolean fieldAdaptations = ImmutabilityPreferences.USE_FIELD_ADAPTATIONS_DEFAULT;
+		private boolean methodModels = ImmutabilityPreferences.METHOD_MODELS_DEFAULT;
+		private String methodModelsFile = ImmutabilityPreferences.METHOD_MODELS_FILE_DEFAULT;
+		private String summaryFile = null;
+
+		private Builder(){}
+
+		/**
+		 * Sets the analysis mode to one of the ImmutabilityPreferences analysis mode values
+		 * @param analysisMode
+		 * @return
+		 */
+		public Builder setAnalysisMode(String analysisMode) {
+			this.analysisMode = analysisMode;
+			return this;
+		}
+
+		/**
+		 * Sets whether the points-to results are available, defaults to the points-to analysis preference
+		 * @param pointsToResults
+		 * @return
+		 */
+		public Builder setPointsToResults(boolean pointsToResults) {
+			this.pointsToResults = pointsToResults;
+			return this;
+		}
+
+		public Builder setGeneralLogging(boolean generalLogging) {
+			this.generalLogging = generalLogging;
+			return this;
+		}
+
+		public Builder setDebugLogging(boolean debugLogging) {
+			this.debugLogging = debugLogging;
+			return this;
+		}
+
+		public Builder setInferenceRuleLogging(boolean inferenceRuleLogging) {
+			this.inferenceRuleLogging = inferenceRuleLogging;
+			return this;
+		}
+
+		public Builder setRunSanityChecks(boolean runSanityChecks) {
+			this.runSanityChecks = runSanityChecks;
+			return this;
+		}
+
+		public Builder setOnlineInvariantMonitoring(boolean onlineInvariantMonitoring) {
+			this.onlineInvariantMonitoring = onlineInvariantMonitoring;
+			return this;
+		}
+
+		public Builder setTraceBufferSize(int traceBufferSize) {
+			this.traceBufferSize = traceBufferSize;
+			return this;
+		}
+
+		public Builder setProvenanceRecording(boolean provenanceRecording) {
+			this.provenanceRecording = provenanceRecording;
+			return this;
+		}
+
+		public Builder setSanityChecksSampleSize(int sanityChecksSampleSize) {
+			this.sanityChecksSampleSize = sanityChecksSampleSize;
+			return this;
+		}
+
+		public Builder setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		/**
+		 * Sets the inference engine to the legacy engine or the name of a core engine
+		 * @param inferenceEngine
+		 * @return
+		 */
+		public Builder setInferenceEngine(String inferenceEngine) {
+			this.inferenceEngine = inferenceEngine;
+			return this;
+		}
+
+		/**
+		 * Sets the file the constraint system is recorded to, an empty string disables recording
+		 * @param constraintRecordingFile
+		 * @return
+		 */
+		public Builder setConstraintRecordingFile(String constraintRecordingFile) {
+			this.constraintRecordingFile = constraintRecordingFile;
+			return this;
+		}
+
+		public Builder setConstraintRecordingTrace(boolean constraintRecordingTrace) {
+			this.constraintRecordingTrace = constraintRecordingTrace;
+			return this;
+		}
+
+		public Builder setGenerateSummaries(boolean generateSummaries) {
+			this.generateSummaries = generateSummaries;
+			return this;
+		}
+
+		public Builder setLoadSummaries(boolean loadSummaries) {
+			this.loadSummaries = loadSummaries;
+			return this;
+		}
+
+		public Builder setAllowAddMutableInstanceVariables(boolean allowAddMutableInstanceVariables) {
+			this.allowAddMutableInstanceVariables = allowAddMutableInstanceVariables;
+			return this;
+		}
+
+		public Builder setAllowDefaultMutableInstanceVariables(boolean allowDefaultMutableInstanceVariables) {
+			this.allowDefaultMutableInstanceVariables = allowDefaultMutableInstanceVariables;
+			return this;
+		}
+
+		public Builder setContainerConsideration(boolean containerConsideration) {
+			this.containerConsideration = containerConsideration;
+			return this;
+		}
+
+		public Builder setFieldAdaptations(boolean fieldAdaptations) {
+			this.fieldAdaptations = fieldAdaptations;
+			return this;
+		}
+
+		public Builder setMethodModels(boolean methodModels) {
+			this.methodModels = methodModels;
+			return this;
+		}
+
+		public Builder setMethodModelsFile(String methodModelsFile) {
+			this.methodModelsFile = methodModelsFile;
+			return this;
+		}
+
+		/**
+		 * Sets the summary file to load or generate without asking, for headless runs
+		 * @param summaryFile
+		 * @return
+		 */
+		public Builder setSummaryFile(String summaryFile) {
+			this.summaryFile = summaryFile;
+			return this;
+		}
+
+		public AnalysisConfiguration build() {
+			return new AnalysisConfiguration(this);
+		}
+
+	}
+
+}
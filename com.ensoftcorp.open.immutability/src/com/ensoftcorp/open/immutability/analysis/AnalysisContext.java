@@ -0,0 +1,171 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.ensoftcorp.atlas.core.db.graph.GraphElement;
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+
+/**
+ * The state of a single immutability analysis
+ *
+ * Each analysis owns its context, which holds the configuration, the program scope,
+ * the qualifier sets of the references the analysis typed, the resolved method models,
+ * and the monitors of the fixed point computation. The qualifier sets are kept in the
+ * context until the results are published to the graph as tags, so analyses of
+ * different scopes can run concurrently in separate threads. The context is passed
+ * explicitly to the constraint solvers and the qualifier accessors of AnalysisUtilities.
+ * The graph itself is shared: the dummy return assignments are added once for all
+ * running analyses, and the results are published one analysis at a time, merging
+ * the qualifiers of the references several analyses typed (see ResultMaterializer).
+ */
+public class AnalysisContext {
+
+	private final AnalysisConfiguration configuration;
+	private final Q scope;
+	private final Map<GraphElement,EnumSet<ImmutabilityTypes>> qualifiers = new ConcurrentHashMap<GraphElement,EnumSet<ImmutabilityTypes>>();
+	private final AtlasSet<Node> typedReferences = new AtlasHashSet<Node>();
+	private final MethodModels methodModels;
+	private final TraceBuffer traceBuffer;
+	private final InvariantMonitor invariantMonitor;
+	private final ProvenanceRecorder provenanceRecorder;
+	private final OscillationGuard oscillationGuard;
+	private final AnalysisStatistics statistics = new AnalysisStatistics();
+
+	/**
+	 * Creates a context for an analysis of the whole program
+	 * @param configuration
+	 */
+	public AnalysisContext(AnalysisConfiguration configuration){
+		this(configuration, Common.universe());
+	}
+
+	/**
+	 * Creates a context for an analysis of the given scope
+	 *
+	 * Only the assignments in the scope are analyzed, but qualifiers are also given to
+	 * the references outside of the scope that the assignments flow to or from.
+	 * Scopes of concurrent analyses may overlap and may share library references.
+	 *
+	 * @param configuration
+	 * @param scope The program elements to analyze
+	 */
+	public AnalysisContext(AnalysisConfiguration configuration, Q scope){
+		this.configuration = configuration;
+		this.scope = scope;
+		this.methodModels = new MethodModels(configuration);
+		this.traceBuffer = new TraceBuffer(configuration);
+		this.invariantMonitor = new InvariantMonitor(configuration, traceBuffer);
+		this.provenanceRecorder = new ProvenanceRecorder(configuration, traceBuffer);
+		this.oscillationGuard = new OscillationGuard(configuration);
+	}
+
+	public AnalysisConfiguration getConfiguration() {
+		return configuration;
+	}
+
+	/**
+	 * Returns the program elements to analyze
+	 * @return
+	 */
+	public Q getScope() {
+		return scope;
+	}
+
+	/**
+	 * Returns the references that were given qualifier sets by this analysis
+	 * @return
+	 */
+	public AtlasSet<Node> getTypedReferences() {
+		return typedReferences;
+	}
+
+	/**
+	 * Records that a reference was given a qualifier set
+	 * @param node
+	 */
+	void typed(Node node){
+		synchronized(typedReferences){
+			typedReferences.add(node);
+		}
+	}
+
+	/**
+	 * Returns the qualifier set of a graph element or null if it was not given one
+	 * @param ge
+	 * @return
+	 */
+	EnumSet<ImmutabilityTypes> getQualifiers(GraphElement ge){
+		return qualifiers.get(ge);
+	}
+
+	/**
+	 * Gives a graph element a qualifier set unless it already has one
+	 * @param ge
+	 * @param initialQualifiers
+	 * @return Returns the qualifier set of the graph element
+	 */
+	EnumSet<ImmutabilityTypes> initializeQualifiers(GraphElement ge, EnumSet<ImmutabilityTypes> initialQualifiers){
+		EnumSet<ImmutabilityTypes> existing = qualifiers.putIfAbsent(ge, initialQualifiers);
+		return existing != null ? existing : initialQualifiers;
+	}
+
+	/**
+	 * Replaces the qualifier set of a graph element
+	 * @param ge
+	 * @param qualifierSet
+	 */
+	void setQualifiers(GraphElement ge, EnumSet<ImmutabilityTypes> qualifierSet){
+		qualifiers.put(ge, qualifierSet);
+	}
+
+	/**
+	 * Returns true if the graph element was given a qualifier set
+	 * @param ge
+	 * @return
+	 */
+	public boolean hasQualifiers(GraphElement ge){
+		return qualifiers.containsKey(ge);
+	}
+
+	/**
+	 * Releases the qualifier sets once the results have been materialized
+	 */
+	public void clearQualifiers(){
+		qualifiers.clear();
+	}
+
+	public MethodModels getMethodModels() {
+		return methodModels;
+	}
+
+	public TraceBuffer getTraceBuffer() {
+		return traceBuffer;
+	}
+
+	public InvariantMonitor getInvariantMonitor() {
+		return invariantMonitor;
+	}
+
+	public ProvenanceRecorder getProvenanceRecorder() {
+		return provenanceRecorder;
+	}
+
+	public OscillationGuard getOscillationGuard() {
+		return oscillationGuard;
+	}
+
+	/**
+	 * Returns the phase times, iterations and constraint count of the analysis
+	 * @return
+	 */
+	public AnalysisStatistics getStatistics() {
+		return statistics;
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The measurements of a single analysis run
+ *
+ * The analysis records the time spent in each phase, the iterations it took to
+ * reach the fixed point and the number of constraints it solved. The statistics
+ * belong to the context of the run, so they remain queryable after the analysis.
+ */
+public class AnalysisStatistics {
+
+	/**
+	 * The phases of an analysis run
+	 */
+	public static enum Phase {
+
+		/**
+		 * Adding the stop gap tags and the dummy return and assignment nodes to the program graph
+		 */
+		PREPARE,
+
+		/**
+		 * Seeding, applying method models and computing the fixed point (or the points-to mutations)
+		 */
+		SOLVE,
+
+		/**
+		 * Converting the qualifier sets to tags and tagging pure methods
+		 */
+		MATERIALIZE,
+
+		/**
+		 * Checking the results for consistency
+		 */
+		SANITY_CHECKS,
+
+		/**
+		 * Importing and exporting summaries
+		 */
+		SUMMARY_IO;
+
+	}
+
+	private final Map<Phase,Long> phaseTimes = new EnumMap<Phase,Long>(Phase.class);
+	private long totalTime = 0;
+	private int iterations = 0;
+	private long constraints = 0;
+
+	AnalysisStatistics(){
+		for(Phase phase : Phase.values()){
+			phaseTimes.put(phase, 0L);
+		}
+	}
+
+	/**
+	 * Adds time spent in a phase
+	 * @param phase
+	 * @param nanos
+	 */
+	public void addTime(Phase phase, long nanos){
+		phaseTimes.put(phase, phaseTimes.get(phase) + nanos);
+	}
+
+	/**
+	 * Returns the time spent in a phase in nanoseconds
+	 * @param phase
+	 * @return
+	 */
+	public long getTime(Phase phase){
+		return phaseTimes.get(phase);
+	}
+
+	void setTotalTime(long nanos){
+		this.totalTime = nanos;
+	}
+
+	/**
+	 * Returns the time the whole analysis took in nanoseconds
+	 * @return
+	 */
+	public long getTotalTime(){
+		return totalTime;
+	}
+
+	void setIterations(int iterations){
+		this.iterations = iterations;
+	}
+
+	/**
+	 * Returns the iterations (or rounds of a core engine) it took to reach the fixed point
+	 * @return
+	 */
+	public int getIterations(){
+		return iterations;
+	}
+
+	void setConstraints(long constraints){
+		this.constraints = constraints;
+	}
+
+	/**
+	 * Returns the number of constraints solved, which are the assignments the inference rules
+	 * are applied to for the legacy engine, the extracted constraints for the core engines,
+	 * and the mutated aliases for the points-to analysis
+	 * @return
+	 */
+	public long getConstraints(){
+		return constraints;
+	}
+
+	@Override
+	public String toString() {
+		return "AnalysisStatistics [phaseTimes=" + phaseTimes + ", totalTime=" + totalTime + ", iterations=" + iterations
+				+ ", constraints=" + constraints + "]";
+	}
+
+}
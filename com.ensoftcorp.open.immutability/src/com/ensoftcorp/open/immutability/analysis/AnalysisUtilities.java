@@ -13,7 +13,6 @@ import com.ensoftcorp.atlas.core.query.Q;
 import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
 import com.ensoftcorp.open.jimple.commons.wishful.JimpleStopGap;
 
@@ -61,20 +60,16 @@ public class AnalysisUtilities {
 //		return type.taggedWith(XCSG.Primitive) || defaultReadonlyTypes.contains(type);
 //	}
 	
-	/**
-	 * Used as an attribute key to temporarily compute the potential immutability qualifiers
-	 */
-	public static final String IMMUTABILITY_QUALIFIERS = "IMMUTABILITY_QUALIFIERS";
-	
 	public static final String DUMMY_ASSIGNMENT_NODE = "DUMMY_ASSIGNMENT_NODE";
 	public static final String DUMMY_RETURN_NODE = "DUMMY_RETURN_NODE";
 	public static final String DUMMY_RETURN_EDGE = "DUMMY_RETURN_EDGE";
 	
 	/**
 	 * Adds DUMMY_RETURN_NODE to void methods and DUMMY_ASSIGNMENT_NODE from unassigned callsites to a dummy assignment node
+	 * @param configuration
 	 */
-	public static void addDummyReturnAssignments(){
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Adding dummy return assignments...");
+	public static void addDummyReturnAssignments(AnalysisConfiguration configuration){
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Adding dummy return assignments...");
 		Q returnsEdges = Common.universe().edgesTaggedWithAny(XCSG.Returns).retainEdges();
 		Q voidMethods = returnsEdges.predecessors(Common.types("void"));
 		for(GraphElement voidMethod : voidMethods.eval().nodes()){
@@ -190,9 +185,10 @@ public class AnalysisUtilities {
 	
 	/**
 	 * Removes DUMMY_RETURN_NODE and DUMMY_ASSIGNMENT_NODE nodes and any edges connected to them
+	 * @param configuration
 	 */
-	public static void removeDummyReturnAssignments(){
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Removing dummy return assignments...");
+	public static void removeDummyReturnAssignments(AnalysisConfiguration configuration){
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Removing dummy return assignments...");
 		// edges connected to the dummy nodes will be removed once the nodes are removed
 		Q dummyNodes = Common.universe().nodesTaggedWithAny(DUMMY_RETURN_NODE, DUMMY_ASSIGNMENT_NODE);
 		AtlasHashSet<Node> dummyNodesToRemove = new AtlasHashSet<Node>();
@@ -234,18 +230,34 @@ public class AnalysisUtilities {
 	
 	/**
 	 * Sets the type qualifier for a graph element
+	 * @param context
 	 * @param node
 	 * @param qualifier
 	 * @return Returns true if the type qualifier changed
 	 */
-	public static boolean removeTypes(Node node, Set<ImmutabilityTypes> typesToRemove){
-		if(node != null){
-			Set<ImmutabilityTypes> typeSet = getTypes(node);
-			String logMessage = "Remove: " + typesToRemove.toString() + " from " + typeSet.toString() + " for " + node.getAttr(XCSG.name);
+	public static boolean removeTypes(AnalysisContext context, Node node, Set<ImmutabilityTypes> typesToRemove){
+		if(node != null && !context.getOscillationGuard().isPinned(node)){
+			Set<ImmutabilityTypes> typeSet = getTypes(context, node);
+			boolean debugLogging = context.getConfiguration().isDebugLoggingEnabled();
+			TraceBuffer traceBuffer = context.getTraceBuffer();
+			ProvenanceRecorder provenanceRecorder = context.getProvenanceRecorder();
+			InvariantMonitor invariantMonitor = context.getInvariantMonitor();
+			// the update is only described when it is traced or logged
+			int beforeMask = 0;
+			String logMessage = null;
+			if(traceBuffer.isEnabled() || provenanceRecorder.isRecording() || debugLogging){
+				beforeMask = ImmutabilityTypes.getMask(typeSet);
+				if(debugLogging){
+					logMessage = "Remove: " + typesToRemove.toString() + " from " + typeSet.toString() + " for " + node.getAttr(XCSG.name);
+				}
+			}
 			boolean typesChanged = typeSet.removeAll(typesToRemove);
 			if(typesChanged){
-				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info(logMessage);
-				if(ImmutabilityPreferences.isDebugLoggingEnabled() && getTypes(node).isEmpty()) {
+				if(traceBuffer.isEnabled()) traceBuffer.record(node, beforeMask, ImmutabilityTypes.getMask(typeSet));
+				if(provenanceRecorder.isRecording()) provenanceRecorder.removed(node, beforeMask & ~ImmutabilityTypes.getMask(typeSet));
+				if(invariantMonitor.isMonitoring()) invariantMonitor.removed(node, typeSet);
+				if(logMessage != null) Log.info(logMessage);
+				if(debugLogging && typeSet.isEmpty()) {
 					Log.warning("Remove on '" + node.getAttr(XCSG.name).toString() + "' resulted in an empty type set.\n" + node.toString(), 
 						new RuntimeException(node.getAttr(XCSG.name).toString() + " is untyped."));
 				}
@@ -258,17 +270,18 @@ public class AnalysisUtilities {
 	
 	/**
 	 * Sets the type qualifier for a graph element
+	 * @param context
 	 * @param node
 	 * @param qualifier
 	 * @return Returns true if the type qualifier changed
 	 */
-	public static boolean removeTypes(Node node, ImmutabilityTypes... types){
+	public static boolean removeTypes(AnalysisContext context, Node node, ImmutabilityTypes... types){
 		if(node != null){
 			EnumSet<ImmutabilityTypes> typesToRemove = EnumSet.noneOf(ImmutabilityTypes.class);
 			for(ImmutabilityTypes type : types){
 				typesToRemove.add(type);
 			}
-			return removeTypes(node, typesToRemove);
+			return removeTypes(context, node, typesToRemove);
 		} else {
 			return false;
 		}
@@ -278,13 +291,14 @@ public class AnalysisUtilities {
 	 * Adds the MUTABLE type qualifier for a graph element
 	 * USE EXTREME CAUTION WHEN USING THIS METHOD!!!!
 	 * ADDING TYPES CAN BREAK FIXED POINT GUARENTEES!!!
+	 * @param context
 	 * @param node
 	 * @param qualifier
 	 * @return Returns true if the type qualifier changed
 	 */
-	public static boolean addMutable(Node node){
+	public static boolean addMutable(AnalysisContext context, Node node){
 		if(node != null){
-			return addTypes(node, ImmutabilityTypes.MUTABLE);
+			return addTypes(context, node, ImmutabilityTypes.MUTABLE);
 		} else {
 			return false;
 		}
@@ -317,17 +331,18 @@ public class AnalysisUtilities {
 	 * Adds a type qualifier for a graph element
 	 * USE EXTREME CAUTION WHEN USING THIS METHOD!!!!
 	 * ADDING TYPES CAN BREAK FIXED POINT GUARENTEES!!!
+	 * @param context
 	 * @param node
 	 * @param qualifier
 	 * @return Returns true if the type qualifier changed
 	 */
-	public static boolean addTypes(Node node, ImmutabilityTypes... types){
+	public static boolean addTypes(AnalysisContext context, Node node, ImmutabilityTypes... types){
 		if(node != null){
 			EnumSet<ImmutabilityTypes> typesToAdd = EnumSet.noneOf(ImmutabilityTypes.class);
 			for(ImmutabilityTypes type : types){
 				typesToAdd.add(type);
 			}
-			return addTypes(node, typesToAdd);
+			return addTypes(context, node, typesToAdd);
 		} else {
 			return false;
 		}
@@ -337,17 +352,33 @@ public class AnalysisUtilities {
 	 * Sets the type qualifier for a graph element
 	 * USE EXTREME CAUTION WHEN USING THIS METHOD!!!!
 	 * ADDING TYPES CAN BREAK FIXED POINT GUARENTEES!!!
+	 * @param context
 	 * @param node
 	 * @param qualifier
 	 * @return Returns true if the type qualifier changed
 	 */
-	public static boolean addTypes(Node node, Set<ImmutabilityTypes> typesToAdd){
-		if(node != null){
-		Set<ImmutabilityTypes> typeSet = getTypes(node);
-			String logMessage = "Add: " + typesToAdd.toString() + " to " + typeSet.toString() + " for " + node.getAttr(XCSG.name);
+	public static boolean addTypes(AnalysisContext context, Node node, Set<ImmutabilityTypes> typesToAdd){
+		OscillationGuard oscillationGuard = context.getOscillationGuard();
+		if(node != null && !oscillationGuard.isPinned(node)){
+			Set<ImmutabilityTypes> typeSet = getTypes(context, node);
+			boolean debugLogging = context.getConfiguration().isDebugLoggingEnabled();
+			TraceBuffer traceBuffer = context.getTraceBuffer();
+			InvariantMonitor invariantMonitor = context.getInvariantMonitor();
+			// the update is only described when it is traced or logged
+			int beforeMask = 0;
+			String logMessage = null;
+			if(traceBuffer.isEnabled() || debugLogging){
+				beforeMask = ImmutabilityTypes.getMask(typeSet);
+				if(debugLogging){
+					logMessage = "Add: " + typesToAdd.toString() + " to " + typeSet.toString() + " for " + node.getAttr(XCSG.name);
+				}
+			}
 			boolean typesChanged = typeSet.addAll(typesToAdd);
 			if(typesChanged){
-				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info(logMessage);
+				if(traceBuffer.isEnabled()) traceBuffer.record(node, beforeMask, ImmutabilityTypes.getMask(typeSet));
+				oscillationGuard.added(context, node);
+				if(invariantMonitor.isMonitoring()) invariantMonitor.added(node, typeSet);
+				if(logMessage != null) Log.info(logMessage);
 			}
 			return typesChanged;
 		} else {
@@ -355,15 +386,38 @@ public class AnalysisUtilities {
 		}
 	}
 	
-	@SuppressWarnings("unchecked")
-	public static Set<ImmutabilityTypes> getTypes(GraphElement ge){
-		if(ge.hasAttr(IMMUTABILITY_QUALIFIERS)){
-			return (Set<ImmutabilityTypes>) ge.getAttr(IMMUTABILITY_QUALIFIERS);
-		} else {
-			EnumSet<ImmutabilityTypes> qualifiers = getDefaultTypes(ge);
-			ge.putAttr(IMMUTABILITY_QUALIFIERS, qualifiers);
+	/**
+	 * Returns the qualifier set of a graph element in the given analysis, 
+	 * giving the graph element its default types on first use
+	 * @param context
+	 * @param ge
+	 * @return
+	 */
+	public static Set<ImmutabilityTypes> getTypes(AnalysisContext context, GraphElement ge){
+		EnumSet<ImmutabilityTypes> qualifiers = context.getQualifiers(ge);
+		if(qualifiers != null){
 			return qualifiers;
 		}
+		EnumSet<ImmutabilityTypes> defaultQualifiers = getDefaultTypes(context.getConfiguration(), ge);
+		qualifiers = context.initializeQualifiers(ge, defaultQualifiers);
+		if(qualifiers == defaultQualifiers && ge instanceof Node){
+			context.typed((Node) ge);
+			context.getOscillationGuard().typed();
+			if(context.getInvariantMonitor().isMonitoring()) context.getInvariantMonitor().initialized((Node) ge, qualifiers);
+		}
+		return qualifiers;
+	}
+	
+	/**
+	 * Replaces the qualifier set of a node without checking the qualifier set invariants
+	 * Used to fix the qualifiers of references before the fixed point is computed
+	 * @param context
+	 * @param node
+	 * @param qualifiers
+	 */
+	static void setTypes(AnalysisContext context, Node node, EnumSet<ImmutabilityTypes> qualifiers){
+		context.setQualifiers(node, qualifiers);
+		context.typed(node);
 	}
 	
 	public static GraphElement getObjectType(GraphElement ge) {
@@ -568,7 +622,13 @@ public class AnalysisUtilities {
 		return false;
 	}
 	
-	public static EnumSet<ImmutabilityTypes> getDefaultTypes(GraphElement ge) {
+	/**
+	 * Returns the default types of a graph element under the given configuration
+	 * @param configuration
+	 * @param ge
+	 * @return
+	 */
+	public static EnumSet<ImmutabilityTypes> getDefaultTypes(AnalysisConfiguration configuration, GraphElement ge) {
 		if(!isTypable(ge)){
 			RuntimeException e = new RuntimeException("Unexpected graph element: " + ge.address());
 			Log.error("Unexpected graph element: " + ge.address(), e);
@@ -633,7 +693,7 @@ public class AnalysisUtilities {
 //			// of fields...we could promote mutables to polyread after the 
 //			// fact if we wanted to clean things up
 //			// Reference: https://github.com/proganalysis/type-inference/blob/master/object-immutability/src/edu/rpi/reim/ReimTransformer.java#L250
-			if(ImmutabilityPreferences.isAllowDefaultMutableInstancesVariablesEnabled()){
+			if(configuration.isAllowDefaultMutableInstancesVariablesEnabled()){
 				qualifiers.add(ImmutabilityTypes.MUTABLE);
 			}
 		} else if(ge.taggedWith(XCSG.ClassVariable)){
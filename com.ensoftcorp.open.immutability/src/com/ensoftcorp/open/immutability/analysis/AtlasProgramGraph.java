@@ -0,0 +1,360 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import com.ensoftcorp.atlas.core.db.graph.Edge;
+import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.core.graph.EdgeKind;
+import com.ensoftcorp.open.immutability.core.graph.NodeKind;
+import com.ensoftcorp.open.immutability.core.graph.ProgramGraph;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
+import com.ensoftcorp.open.jimple.commons.wishful.JimpleStopGap;
+
+/**
+ * Adapts the Atlas graph of an analysis scope to the program graph of the core inference engine
+ *
+ * Node ids are assigned as nodes are reached from the assignments of the scope or
+ * from the edges of an edge kind. The kinds of a node are read from its tags once,
+ * the first time they are queried. The edges of each edge kind are evaluated once,
+ * the first time the kind is followed, and are held in compressed sparse row form
+ * in each direction, so following an edge is an array lookup instead of a query.
+ */
+public class AtlasProgramGraph implements ProgramGraph {
+
+	private static final int[] NONE = new int[0];
+
+	/**
+	 * Set in the kinds of a node once its tags have been read
+	 */
+	private static final long KINDS_READ = 1L << 63;
+
+	/**
+	 * The tag of each node kind
+	 */
+	private static final String[] TAGS = new String[NodeKind.values().length];
+
+	static {
+		for(NodeKind kind : NodeKind.values()){
+			TAGS[kind.ordinal()] = getTag(kind);
+		}
+	}
+
+	private final AnalysisContext context;
+	private final Map<Node,Integer> ids = new HashMap<Node,Integer>();
+	private final ArrayList<Node> nodes = new ArrayList<Node>();
+	private long[] kinds = new long[1024];
+	private final Map<EdgeKind,Q> edges = new EnumMap<EdgeKind,Q>(EdgeKind.class);
+	private final Map<EdgeKind,Adjacency> adjacencies = new EnumMap<EdgeKind,Adjacency>(EdgeKind.class);
+	private final MethodContainmentIndex containmentIndex = new MethodContainmentIndex();
+	private int[] assignments = null;
+
+	public AtlasProgramGraph(AnalysisContext context){
+		this.context = context;
+		edges.put(EdgeKind.DATA_FLOW, Common.universe().edgesTaggedWithAny(XCSG.DataFlow_Edge));
+		edges.put(EdgeKind.LOCAL_DATA_FLOW, Common.universe().edgesTaggedWithAny(XCSG.LocalDataFlow));
+		edges.put(EdgeKind.INTERPROCEDURAL_DATA_FLOW, Common.universe().edgesTaggedWithAny(XCSG.InterproceduralDataFlow));
+		edges.put(EdgeKind.INSTANCE_VARIABLE_ACCESSED, Common.universe().edgesTaggedWithAny(XCSG.InstanceVariableAccessed));
+		edges.put(EdgeKind.IDENTITY_PASSED_TO, Common.universe().edgesTaggedWithAny(XCSG.IdentityPassedTo));
+		edges.put(EdgeKind.ARRAY_IDENTITY_FOR, Common.universe().edgesTaggedWithAny(XCSG.ArrayIdentityFor));
+		edges.put(EdgeKind.INVOKED, Common.universe().edgesTaggedWithAny(XCSG.InvokedSignature, XCSG.InvokedFunction));
+		edges.put(EdgeKind.OVERRIDES, Common.universe().edgesTaggedWithAny(XCSG.Overrides));
+		edges.put(EdgeKind.CONTAINS, Common.universe().edgesTaggedWithAny(XCSG.Contains));
+	}
+
+	/**
+	 * Returns the id of a node, assigning the next id if the node has none, or -1 for null
+	 * @param node
+	 * @return
+	 */
+	public int getId(Node node){
+		if(node == null){
+			return -1;
+		}
+		Integer id = ids.get(node);
+		if(id == null){
+			id = nodes.size();
+			ids.put(node, id);
+			nodes.add(node);
+			if(id == kinds.length){
+				kinds = Arrays.copyOf(kinds, id * 2);
+			}
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the node with the given id
+	 * @param id
+	 * @return
+	 */
+	public Node getNode(int id){
+		return nodes.get(id);
+	}
+
+	@Override
+	public int getNodeCount() {
+		return nodes.size();
+	}
+
+	@Override
+	public boolean isKind(int node, NodeKind kind) {
+		long mask = kinds[node];
+		if((mask & KINDS_READ) == 0){
+			Node reference = getNode(node);
+			mask = KINDS_READ;
+			for(NodeKind nodeKind : NodeKind.values()){
+				if(reference.taggedWith(TAGS[nodeKind.ordinal()])){
+					mask |= nodeKind.getMask();
+				}
+			}
+			kinds[node] = mask;
+		}
+		return (mask & kind.getMask()) != 0;
+	}
+
+	@Override
+	public int[] getSuccessors(int node, EdgeKind kind) {
+		if(kind == EdgeKind.DISPLAY_REFERENCE){
+			return toIds(JimpleStopGap.getDisplayNodeReferences(getNode(node)));
+		}
+		Adjacency adjacency = getAdjacency(kind);
+		return adjacency.select(adjacency.successorOffsets, adjacency.successors, node);
+	}
+
+	@Override
+	public int[] getPredecessors(int node, EdgeKind kind) {
+		if(kind == EdgeKind.DISPLAY_REFERENCE){
+			throw new UnsupportedOperationException("Display references are only followed forward");
+		}
+		Adjacency adjacency = getAdjacency(kind);
+		return adjacency.select(adjacency.predecessorOffsets, adjacency.predecessors, node);
+	}
+
+	/**
+	 * Returns the adjacency of an edge kind, evaluating its edges on first use
+	 * @param kind
+	 * @return
+	 */
+	private Adjacency getAdjacency(EdgeKind kind){
+		Adjacency adjacency = adjacencies.get(kind);
+		if(adjacency == null){
+			adjacency = new Adjacency(edges.get(kind).eval().edges());
+			adjacencies.put(kind, adjacency);
+		}
+		return adjacency;
+	}
+
+	@Override
+	public int getContainingMethod(int node) {
+		return getId(containmentIndex.getContainingMethod(getNode(node)));
+	}
+
+	@Override
+	public int getParameterIndex(int node) {
+		Node parameter = getNode(node);
+		if(parameter.hasAttr(XCSG.parameterIndex)){
+			return Integer.parseInt(parameter.getAttr(XCSG.parameterIndex).toString());
+		}
+		return -1;
+	}
+
+	@Override
+	public String getName(int node) {
+		Object name = getNode(node).getAttr(XCSG.name);
+		return name == null ? "" : name.toString();
+	}
+
+	/**
+	 * Returns the assignments and parameter passes of the scope, excluding the bodies of modeled methods
+	 */
+	@Override
+	public int[] getAssignments() {
+		if(assignments == null){
+			Q scopeAssignments = context.getScope().nodesTaggedWithAny(XCSG.Assignment, XCSG.ParameterPass);
+			scopeAssignments = Common.resolve(new NullProgressMonitor(), scopeAssignments);
+			MethodModels methodModels = context.getMethodModels();
+			ArrayList<Node> workItems = new ArrayList<Node>();
+			for(Node assignment : scopeAssignments.eval().nodes()){
+				if(methodModels.isModeled(containmentIndex.getContainingMethod(assignment))){
+					continue;
+				}
+				workItems.add(assignment);
+			}
+			assignments = new int[workItems.size()];
+			for(int i=0; i<assignments.length; i++){
+				assignments[i] = getId(workItems.get(i));
+			}
+		}
+		return assignments;
+	}
+
+	/**
+	 * Returns the mask of the qualifier set the node was given before the fixed point,
+	 * such as by seeding, a method model or an imported summary
+	 */
+	@Override
+	public int getFixedQualifiers(int node) {
+		Node reference = getNode(node);
+		if(context.hasQualifiers(reference)){
+			return ImmutabilityTypes.getMask(AnalysisUtilities.getTypes(context, reference));
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean isModeled(int method) {
+		return context.getMethodModels().isModeled(getNode(method));
+	}
+
+	@Override
+	public int getModeledIdentity(int method) {
+		return getId(context.getMethodModels().getModeledIdentity(getNode(method)));
+	}
+
+	@Override
+	public int getModeledParameter(int method, int index) {
+		return getId(context.getMethodModels().getModeledParameter(getNode(method), index));
+	}
+
+	private int[] toIds(AtlasSet<Node> set){
+		if(set == null || set.isEmpty()){
+			return NONE;
+		}
+		int[] result = new int[(int) set.size()];
+		int i = 0;
+		for(Node node : set){
+			result[i++] = getId(node);
+		}
+		return result;
+	}
+
+	/**
+	 * The edges of one edge kind in compressed sparse row form in each direction
+	 *
+	 * The endpoints of every edge are assigned ids when the adjacency is built, so a
+	 * node that is assigned an id later has no edges of the kind. Parallel edges are
+	 * stored once, matching the node sets returned by Atlas queries.
+	 */
+	private final class Adjacency {
+
+		private final int[] successorOffsets;
+		private final int[] successors;
+		private final int[] predecessorOffsets;
+		private final int[] predecessors;
+
+		Adjacency(AtlasSet<Edge> edgeSet){
+			int edgeCount = (int) edgeSet.size();
+			int[] sources = new int[edgeCount];
+			int[] targets = new int[edgeCount];
+			int edge = 0;
+			for(Edge atlasEdge : edgeSet){
+				sources[edge] = getId(atlasEdge.getNode(EdgeDirection.FROM));
+				targets[edge] = getId(atlasEdge.getNode(EdgeDirection.TO));
+				edge++;
+			}
+			int nodeCount = nodes.size();
+			successorOffsets = new int[nodeCount + 1];
+			successors = index(sources, targets, edge, successorOffsets);
+			predecessorOffsets = new int[nodeCount + 1];
+			predecessors = index(targets, sources, edge, predecessorOffsets);
+		}
+
+		/**
+		 * Groups the targets by source into the offsets and returns the grouped targets
+		 * with the duplicates of each row removed
+		 */
+		private int[] index(int[] sources, int[] targets, int edgeCount, int[] offsets){
+			int nodeCount = offsets.length - 1;
+			for(int edge=0; edge<edgeCount; edge++){
+				offsets[sources[edge] + 1]++;
+			}
+			for(int node=0; node<nodeCount; node++){
+				offsets[node + 1] += offsets[node];
+			}
+			int[] grouped = new int[edgeCount];
+			int[] next = Arrays.copyOf(offsets, nodeCount);
+			for(int edge=0; edge<edgeCount; edge++){
+				grouped[next[sources[edge]]++] = targets[edge];
+			}
+			// sort and compact each row in place
+			int size = 0;
+			for(int node=0; node<nodeCount; node++){
+				int start = offsets[node];
+				int end = offsets[node + 1];
+				offsets[node] = size;
+				Arrays.sort(grouped, start, end);
+				for(int i=start; i<end; i++){
+					if(i == start || grouped[i] != grouped[i - 1]){
+						grouped[size++] = grouped[i];
+					}
+				}
+			}
+			offsets[nodeCount] = size;
+			return size == edgeCount ? grouped : Arrays.copyOf(grouped, size);
+		}
+
+		int[] select(int[] offsets, int[] adjacent, int node){
+			if(node >= offsets.length - 1 || offsets[node] == offsets[node + 1]){
+				return NONE;
+			}
+			return Arrays.copyOfRange(adjacent, offsets[node], offsets[node + 1]);
+		}
+
+	}
+
+	/**
+	 * Returns the Atlas tag of a node kind
+	 * @param kind
+	 * @return
+	 */
+	public static String getTag(NodeKind kind){
+		switch(kind){
+			case METHOD: return XCSG.Method;
+			case IDENTITY: return XCSG.Identity;
+			case PARAMETER: return XCSG.Parameter;
+			case RETURN_VALUE: return XCSG.ReturnValue;
+			case INSTANCE_VARIABLE: return XCSG.InstanceVariable;
+			case CLASS_VARIABLE: return XCSG.ClassVariable;
+			case ASSIGNMENT: return XCSG.Assignment;
+			case PARAMETER_PASS: return XCSG.ParameterPass;
+			case INSTANCE_VARIABLE_ACCESS: return XCSG.InstanceVariableAccess;
+			case INSTANCE_VARIABLE_ASSIGNMENT: return XCSG.InstanceVariableAssignment;
+			case INSTANCE_VARIABLE_VALUE: return XCSG.InstanceVariableValue;
+			case CLASS_VARIABLE_ACCESS: return JavaStopGap.CLASS_VARIABLE_ACCESS;
+			case CLASS_VARIABLE_ASSIGNMENT: return JavaStopGap.CLASS_VARIABLE_ASSIGNMENT;
+			case CLASS_VARIABLE_VALUE: return JavaStopGap.CLASS_VARIABLE_VALUE;
+			case ARRAY_ACCESS: return XCSG.ArrayAccess;
+			case ARRAY_READ: return XCSG.ArrayRead;
+			case ARRAY_WRITE: return XCSG.ArrayWrite;
+			case ARRAY_COMPONENTS: return XCSG.ArrayComponents;
+			case CAST: return XCSG.Cast;
+			case CALL_SITE: return XCSG.CallSite;
+			case DYNAMIC_DISPATCH_CALL_SITE: return XCSG.DynamicDispatchCallSite;
+			case STATIC_DISPATCH_CALL_SITE: return XCSG.StaticDispatchCallSite;
+			case INSTANTIATION: return XCSG.Instantiation;
+			case ARRAY_INSTANTIATION: return XCSG.ArrayInstantiation;
+			case NULL: return XCSG.Null;
+			case LITERAL: return XCSG.Literal;
+			case TYPE: return XCSG.Type;
+			case OPERATOR: return XCSG.Operator;
+			case CAUGHT_VALUE: return XCSG.CaughtValue;
+			case ELEMENT_FROM_COLLECTION: return XCSG.ElementFromCollection;
+			case DISPLAY_NODE: return JimpleStopGap.DATAFLOW_DISPLAY_NODE;
+			case DUMMY_ASSIGNMENT: return AnalysisUtilities.DUMMY_ASSIGNMENT_NODE;
+			case DUMMY_RETURN: return AnalysisUtilities.DUMMY_RETURN_NODE;
+			default: throw new IllegalArgumentException("Unexpected node kind: " + kind);
+		}
+	}
+
+}
@@ -0,0 +1,108 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+import com.ensoftcorp.open.immutability.core.constraints.Rule;
+
+/**
+ * Forwards the removals of a core inference engine to the trace buffer, invariant monitor
+ * and provenance recorder of an analysis
+ *
+ * Variables are mapped back to the Atlas nodes they were extracted from and constraints
+ * to the inference rule they were extracted for. The masks of all variables are mirrored
+ * from the removals, so the provenance recorder sees the operand masks at the time of
+ * each removal. Constraints are not tied to a single assignment once they are extracted,
+ * so removals made by a core engine have no work item.
+ */
+class CoreEngineMonitor implements RemovalListener {
+
+	private static final InferenceRule[] RULES = new InferenceRule[Rule.values().length];
+
+	static {
+		for(Rule rule : Rule.values()){
+			RULES[rule.ordinal()] = InferenceRule.valueOf(rule.name());
+		}
+	}
+
+	private final AtlasProgramGraph graph;
+	private final ConstraintSystem system;
+	private final RemovalListener delegate;
+	private final TraceBuffer traceBuffer;
+	private final InvariantMonitor invariantMonitor;
+	private final ProvenanceRecorder provenanceRecorder;
+	private final int[] masks;
+	private final Node[] operands = new Node[3];
+	private final int[] operandMasks = new int[3];
+
+	/**
+	 * @param context The analysis whose monitors are notified, the monitors must have been started
+	 * @param graph The graph the constraint system was extracted from
+	 * @param system
+	 * @param delegate A listener that is notified of each removal after the monitors or null
+	 */
+	CoreEngineMonitor(AnalysisContext context, AtlasProgramGraph graph, ConstraintSystem system, RemovalListener delegate){
+		this.graph = graph;
+		this.system = system;
+		this.delegate = delegate;
+		this.traceBuffer = context.getTraceBuffer();
+		this.invariantMonitor = context.getInvariantMonitor();
+		this.provenanceRecorder = context.getProvenanceRecorder();
+		this.masks = system.getInitialMasks();
+		invariantMonitor.setCurrentConstraint(null);
+		provenanceRecorder.setCurrentConstraint(null);
+		if(invariantMonitor.isMonitoring()){
+			for(int variable=0; variable<masks.length; variable++){
+				if(masks[variable] == 0 && !system.isConstant(variable)){
+					invariantMonitor.initialized(getNode(variable), ImmutabilityTypes.getTypes(0));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns true if any of the monitors of the analysis observe removals
+	 * @param context
+	 * @return
+	 */
+	static boolean isMonitoring(AnalysisContext context){
+		return context.getTraceBuffer().isEnabled() || context.getInvariantMonitor().isMonitoring() || context.getProvenanceRecorder().isRecording();
+	}
+
+	@Override
+	public void removed(int variable, int before, int after, int constraint) {
+		Node node = getNode(variable);
+		traceBuffer.setRule(constraint < 0 ? InferenceRule.NONE : RULES[system.getRule(constraint).ordinal()]);
+		if(traceBuffer.isEnabled()) traceBuffer.record(node, before, after);
+		if(provenanceRecorder.isRecording()){
+			if(constraint < 0){
+				provenanceRecorder.clearOperands();
+			} else {
+				setOperands(constraint);
+			}
+			provenanceRecorder.removed(node, before & ~after);
+		}
+		masks[variable] = after;
+		if(invariantMonitor.isMonitoring()) invariantMonitor.removed(node, ImmutabilityTypes.getTypes(after));
+		if(delegate != null){
+			delegate.removed(variable, before, after, constraint);
+		}
+	}
+
+	private void setOperands(int constraint){
+		ConstraintType type = system.getType(constraint);
+		for(int i=0; i<operands.length; i++){
+			// the second operand of a REMOVE constraint is the mask to remove, not a variable
+			int operand = i < type.getArity() ? system.getOperand(constraint, i) : -1;
+			operands[i] = operand == -1 || system.isConstant(operand) ? null : getNode(operand);
+			operandMasks[i] = operand == -1 ? 0 : masks[operand];
+		}
+		provenanceRecorder.setOperands(type, operands[0], operandMasks[0], operands[1], operandMasks[1], operands[2], operandMasks[2]);
+	}
+
+	private Node getNode(int variable){
+		return graph.getNode(system.getNode(variable));
+	}
+
+}
@@ -0,0 +1,75 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.text.DecimalFormat;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.log.Log;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
+
+/**
+ * Inference based immutability analysis that is seeded with the mutations
+ * proven by the points-to analysis
+ *
+ * Before the fixed point is computed READONLY is removed from the local
+ * references that may point to a mutated object and whose value flows into
+ * the receiver of a mutation. The inference rules would remove READONLY from
+ * each of these references as well (a reference that flows into a mutable
+ * reference must itself be mutable), so the seeding only saves iterations and
+ * the fixed point is the same as in the inference mode. POLYREAD and context
+ * sensitivity are left to the inference rules.
+ */
+public class HybridImmutabilityAnalysis extends InferenceImmutabilityAnalysis {
+
+	/**
+	 * Helper for formatting decimal strings
+	 */
+	private static final DecimalFormat FORMAT = new DecimalFormat("#.##");
+
+	public HybridImmutabilityAnalysis(AnalysisContext context) {
+		super(context);
+	}
+
+	@Override
+	protected void seedTypes() {
+		if(!configuration.isPointsToResultsEnabled()){
+			Log.warning("Points-to analysis is not enabled, hybrid immutability analysis will not be seeded with points-to results.");
+			return;
+		}
+
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Seeding immutability types with points-to results...");
+		long startSeeding = System.nanoTime();
+
+		// only the references in the scope are seeded, since only those are visited by the inference
+		Q scope = context.getScope();
+		PointsToMutations mutations = new PointsToMutations(configuration, scope);
+
+		// the data flow into the receivers of mutations, stopping at fields, array components, and
+		// return values where the inference rules adapt qualifiers and mutability may not carry through
+		Q dataFlowEdges = scope.edgesTaggedWithAny(XCSG.LocalDataFlow, XCSG.InterproceduralDataFlow);
+		Q adaptationPoints = scope.nodesTaggedWithAny(XCSG.InstanceVariable, XCSG.ClassVariable, XCSG.ArrayComponents, XCSG.ReturnValue);
+		Q flowsToMutations = dataFlowEdges.difference(adaptationPoints).reverse(Common.toQ(mutations.getMutatedReceivers()));
+
+		// only the local references that are also proven to alias a mutated object are seeded
+		Q localReferences = scope.nodesTaggedWithAny(XCSG.Assignment, XCSG.ParameterPass, XCSG.Parameter, XCSG.Identity)
+				.difference(scope.nodesTaggedWithAny(XCSG.InstanceVariableAssignment, JavaStopGap.CLASS_VARIABLE_ASSIGNMENT));
+		AtlasSet<Node> seeds = flowsToMutations.intersection(localReferences, Common.toQ(mutations.getMutatedAliases())).eval().nodes();
+
+		long seeded = 0;
+		context.getTraceBuffer().setRule(InferenceRule.SEED);
+		for(Node seed : seeds){
+			if(AnalysisUtilities.isTypable(seed)){
+				if(AnalysisUtilities.removeTypes(context, seed, ImmutabilityTypes.READONLY)){
+					seeded++;
+				}
+			}
+		}
+
+		long stopSeeding = System.nanoTime();
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Seeded " + seeded + " references with points-to results in " + FORMAT.format((stopSeeding-startSeeding)/1000.0/1000.0) + " ms");
+	}
+
+}
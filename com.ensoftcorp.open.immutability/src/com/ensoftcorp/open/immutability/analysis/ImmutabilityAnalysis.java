@@ -1,10 +1,15 @@
 package com.ensoftcorp.open.immutability.analysis;
 
 import java.text.DecimalFormat;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 
+import com.ensoftcorp.atlas.core.db.graph.Edge;
 import com.ensoftcorp.atlas.core.db.graph.GraphElement;
+import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.db.set.AtlasSet;
 import com.ensoftcorp.atlas.core.query.Q;
@@ -12,7 +17,8 @@ import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
+import com.ensoftcorp.open.jimple.commons.wishful.JimpleStopGap;
 
 /**
  * An Atlas native implementation a context-sensitive reference immutability analysis
@@ -30,6 +36,67 @@ public abstract class ImmutabilityAnalysis {
 	 */
 	private static final DecimalFormat FORMAT = new DecimalFormat("#.##"); 
 
+	/**
+	 * The number of running analyses that share the prepared program graph
+	 * The preparation is the same for every analysis and is the only state the
+	 * running analyses of a workspace share before their results are published
+	 */
+	private static int preparedAnalyses = 0;
+
+	/**
+	 * Serializes the publication of results to the shared program graph
+	 */
+	protected static final Object PUBLISH_LOCK = new Object();
+
+	/**
+	 * The state owned by this analysis
+	 */
+	protected final AnalysisContext context;
+	
+	/**
+	 * The preferences snapshot the analysis runs with
+	 */
+	protected final AnalysisConfiguration configuration;
+	
+	protected ImmutabilityAnalysis(AnalysisContext context){
+		this.context = context;
+		this.configuration = context.getConfiguration();
+	}
+	
+	/**
+	 * Returns the state owned by this analysis, which remains queryable after the analysis has run
+	 * @return
+	 */
+	public AnalysisContext getContext(){
+		return context;
+	}
+	
+	/**
+	 * Returns the preferences snapshot the analysis runs with
+	 * @return
+	 */
+	public AnalysisConfiguration getConfiguration(){
+		return configuration;
+	}
+	
+	/**
+	 * Creates the analysis selected by the analysis mode of the given context
+	 * @param context
+	 * @return
+	 */
+	public static ImmutabilityAnalysis create(AnalysisContext context){
+		AnalysisConfiguration configuration = context.getConfiguration();
+		if(configuration.isInferenceAnalysisModeEnabled()){
+			return new InferenceImmutabilityAnalysis(context);
+		} else if(configuration.isPointsToAnalysisModeEnabled()){
+			return new PointsToImmutabilityAnalysis(context);
+		} else if(configuration.isHybridAnalysisModeEnabled()){
+			return new HybridImmutabilityAnalysis(context);
+		} else {
+			throw new RuntimeException("No immutability analysis mode was specified!");
+		}
+	}
+	
 	/**
 	 * Runs the implementation of immutability analysis
 	 * Returns true if the analysis completed in a consistent state
@@ -44,115 +111,180 @@ public abstract class ImmutabilityAnalysis {
 	 * @return Returns the time in milliseconds taken to complete the analysis
 	 */
 	public static boolean runAnalysis(IProgressMonitor monitor){
+		return runAnalysis(AnalysisConfiguration.fromPreferences(), monitor);
+	}
+	
+	/**
+	 * Runs the reference immutability analysis with the given configuration
+	 * @param configuration 
+	 * @param monitor 
+	 * @return Returns the time in milliseconds taken to complete the analysis
+	 */
+	public static boolean runAnalysis(AnalysisConfiguration configuration, IProgressMonitor monitor){
+		return create(new AnalysisContext(configuration)).analyze(monitor);
+	}
+	
+	/**
+	 * Runs this analysis on the current thread
+	 * Analyses with their own contexts may run concurrently on separate threads
+	 * @param monitor
+	 * @return Returns true if the analysis completed in a consistent state
+	 */
+	public boolean analyze(IProgressMonitor monitor){
 		Log.info("Immutability analysis started");
-		ImmutabilityAnalysis analysis;
-		if(ImmutabilityPreferences.isInferenceAnalysisModeEnabled()){
-			analysis = new InferenceImmutabilityAnalysis();
-		} else if(ImmutabilityPreferences.isPointsToAnalysisModeEnabled()){
-			analysis = new PointsToImmutabilityAnalysis();
-		} else {
-			throw new RuntimeException("No immutability analysis mode was specified!");
-		}
-		
 		long start = System.nanoTime();
-		boolean isSane = analysis.run(monitor);
+		boolean isSane = run(monitor);
 		long stop = System.nanoTime();
+		context.getStatistics().setTotalTime(stop-start);
 		double runtime = (stop-start)/1000.0/1000.0;
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) {
-			if(ImmutabilityPreferences.isGenerateSummariesEnabled()){
+		if(configuration.isGeneralLoggingEnabled()) {
+			if(configuration.isGenerateSummariesEnabled()){
 				Log.info("Immutability analysis completed in " + FORMAT.format(runtime) + " ms\n");
 			} else {
-				long numReadOnly = Common.universe().nodesTaggedWithAny(ImmutabilityTags.READONLY).eval().nodes().size();
-				long numPolyRead = Common.universe().nodesTaggedWithAny(ImmutabilityTags.POLYREAD).eval().nodes().size();
-				long numMutable = Common.universe().nodesTaggedWithAny(ImmutabilityTags.MUTABLE).eval().nodes().size();
-				long numPure = Common.universe().nodesTaggedWithAny(ImmutabilityTags.PURE_METHOD).eval().nodes().size();
+				Q scope = context.getScope();
+				long numReadOnly = scope.nodesTaggedWithAny(ImmutabilityTags.READONLY).eval().nodes().size();
+				long numPolyRead = scope.nodesTaggedWithAny(ImmutabilityTags.POLYREAD).eval().nodes().size();
+				long numMutable = scope.nodesTaggedWithAny(ImmutabilityTags.MUTABLE).eval().nodes().size();
+				long numPure = scope.nodesTaggedWithAny(ImmutabilityTags.PURE_METHOD).eval().nodes().size();
 				String summary = "READONLY: " + numReadOnly + ", POLYREAD: " + numPolyRead + ", MUTABLE: " + numMutable  + ", PURE: " + numPure;
 				Log.info("Immutability analysis completed in " + FORMAT.format(runtime) + " ms\n" + summary);
 			}
 		}
 		return isSane;
 	}
-
-		
+	
 	/**
-	 * Tags pure methods with "PURE"
+	 * Adds the tags and dummy return assignments the analysis relies on to the program graph
+	 * The preparation covers the whole workspace, not only the scope, since scoped analyses
+	 * also type the references outside of their scope. It is only made by the first of
+	 * several concurrent analyses and is shared by the others.
+	 * @param configuration
 	 */
-	protected void tagPureMethods(){
-		AtlasSet<Node> methods = Common.universe().nodesTaggedWithAny(XCSG.Method).eval().nodes();
-		for(GraphElement method : methods){
-			if(isPureMethod(method)){
-				method.tag(ImmutabilityTags.PURE_METHOD);
-			}
-			method.tags().remove(ImmutabilityTags.READONLY);
-			method.tags().remove(ImmutabilityTags.POLYREAD);
-			method.tags().remove(ImmutabilityTags.MUTABLE);
+	protected static synchronized void prepareProgramGraph(AnalysisConfiguration configuration){
+		if(preparedAnalyses++ == 0){
+			// TODO: remove when there are appropriate alternatives
+			JavaStopGap.addClassVariableAccessTags();
+			JimpleStopGap.addDataFlowDisplayNodeTags();
+			
+			AnalysisUtilities.addDummyReturnAssignments(configuration);
 		}
 	}
 	
 	/**
-	 * Returns true if the method is pure
+	 * Removes the tags and dummy return assignments added by prepareProgramGraph
+	 * once the last of several concurrent analyses has completed
+	 * @param configuration
+	 */
+	protected static synchronized void releaseProgramGraph(AnalysisConfiguration configuration){
+		if(--preparedAnalyses == 0){
+			AnalysisUtilities.removeDummyReturnAssignments(configuration);
+			
+			// TODO: remove when there are appropriate alternatives
+			JimpleStopGap.removeDataFlowDisplayNodeTags();
+			JavaStopGap.removeClassVariableAccessTags();
+		}
+	}
+	
+	/**
+	 * Tags pure methods with "PURE"
 	 * Assumes the maximal immutability qualifiers have already been extracted
-	 * @param method
+	 * 
+	 * Purity is computed for all methods in a single pass, the mutable parameters
+	 * and identities are folded into a bitset over their parent methods. Since the
+	 * published qualifiers are merged with those of other analyses, the PURE tags
+	 * another analysis published are removed from methods that are not pure any more.
+	 * Must be called while holding the PUBLISH_LOCK.
 	 */
-	private boolean isPureMethod(GraphElement method){
-		if(!method.taggedWith(XCSG.Method)){
-			return false;
-		} else if(isPureMethodDefault(method)){
-			return true;
-		} else {
-			// from reference 1 section 3
-			// a method is pure if 
-			// 1) it does not mutate (not readonly or polyread) prestates reachable through parameters
-			// this includes the formal parameters and implicit "this" parameter
-			Q parameters = Common.toQ(method).children().nodesTaggedWithAny(XCSG.Parameter);
-			Q mutableParameters = parameters.nodesTaggedWithAny(ImmutabilityTags.MUTABLE);
-			if(mutableParameters.eval().nodes().size() > 0){
-				return false;
+	protected void tagPureMethods(){
+		AtlasSet<Node> methodSet = context.getScope().nodesTaggedWithAny(XCSG.Method).eval().nodes();
+		Node[] methods = new Node[(int) methodSet.size()];
+		Map<Node,Integer> methodIds = new HashMap<Node,Integer>();
+		for(Node method : methodSet){
+			methodIds.put(method, methodIds.size());
+			methods[methodIds.size()-1] = method;
+		}
+		
+		// from reference 1 section 3
+		// a method is pure if 
+		// 1) it does not mutate (not readonly or polyread) prestates reachable through parameters
+		// this includes the formal parameters and implicit "this" parameter
+		// Method -Contains-> Parameter / Identity
+		BitSet mutatesParameters = new BitSet(methods.length);
+		Q containsEdges = Common.universe().edgesTaggedWithAny(XCSG.Contains);
+		Q mutableParameters = Common.universe().nodesTaggedWithAny(XCSG.Parameter, XCSG.Identity).nodesTaggedWithAny(ImmutabilityTags.MUTABLE);
+		for(Edge containsEdge : containsEdges.reverseStep(mutableParameters).eval().edges()){
+			Integer methodId = methodIds.get(containsEdge.getNode(EdgeDirection.FROM));
+			if(methodId != null){
+				mutatesParameters.set(methodId);
 			}
-			Q mutableIdentity = Common.toQ(method).children().nodesTaggedWithAny(XCSG.Identity).nodesTaggedWithAny(ImmutabilityTags.MUTABLE);
-			if(mutableIdentity.eval().nodes().size() > 0){
-				return false;
+		}
+		
+		// the native methods of java.lang.Object are resolved once for all methods
+		AtlasSet<Node> objectNativeMethods = Common.typeSelect("java.lang", "Object").children().nodesTaggedWithAny(XCSG.Java.nativeMethod).eval().nodes();
+		
+		for(int methodId=0; methodId<methods.length; methodId++){
+			Node method = methods[methodId];
+			boolean isPure;
+			MethodModels.MethodModel model = context.getMethodModels().getModel(method);
+			if(model != null){
+				// modeled methods are not analyzed, so their purity is taken from the model
+				isPure = model.isPure();
+			} else if(isPureMethodDefault(method, objectNativeMethods)){
+				isPure = true;
+			} else {
+				// 2) it does not mutate prestates reachable through static fields
+				// (its static type is not readonly or polyread)
+				isPure = !mutatesParameters.get(methodId) && !method.taggedWith(ImmutabilityTags.MUTABLE);
 			}
-			
-			// 2) it does not mutate prestates reachable through static fields
-			// (its static type is not readonly or polyread)
-			if(method.taggedWith(ImmutabilityTags.MUTABLE)){
-				return false;
+			if(isPure){
+				method.tag(ImmutabilityTags.PURE_METHOD);
+			} else {
+				method.tags().remove(ImmutabilityTags.PURE_METHOD);
+			}
+			method.tags().remove(ImmutabilityTags.READONLY);
+			method.tags().remove(ImmutabilityTags.POLYREAD);
+			method.tags().remove(ImmutabilityTags.MUTABLE);
+		}
+		
+		// the mutable parameters this analysis typed outside of its scope
+		// also make the methods another analysis published as pure impure
+		Q typedMutableParameters = Common.toQ(context.getTypedReferences()).intersection(mutableParameters);
+		for(Edge containsEdge : containsEdges.reverseStep(typedMutableParameters).eval().edges()){
+			Node method = containsEdge.getNode(EdgeDirection.FROM);
+			if(!methodIds.containsKey(method)){
+				method.tags().remove(ImmutabilityTags.PURE_METHOD);
 			}
-			
-			return true;
 		}
 	}
 	
 	/**
 	 * Returns true if the method is a default pure method
 	 * @param method
+	 * @param objectNativeMethods The native methods of java.lang.Object
 	 * @return
 	 */
-	private boolean isPureMethodDefault(GraphElement method){
+	private boolean isPureMethodDefault(GraphElement method, AtlasSet<Node> objectNativeMethods){
 		// note by convention .equals, .hashCode, .toString, and .compareTo
 		// are pure methods, but this is not enforced in overridden methods
 		// so we are not assuming it to be universally true (unlike ReIm)
 		
 		// we could however consider some of the java.lang.Object native methods as pure
 		// Object's native methods include: getClass, clone, hashCode, notifyAll, notify, wait, registerNatives
-		if(method.taggedWith(XCSG.Java.nativeMethod)){
-			if(!Common.toQ(method).intersection(Common.typeSelect("java.lang", "Object").children()).eval().nodes().isEmpty()){
-				if(method.getAttr(XCSG.name).equals("getClass")){
-					return true;
-				}
-				if(method.getAttr(XCSG.name).equals("hashCode")){
-					return true;
-				}
-				if(method.getAttr(XCSG.name).equals("clone")){
-					// clone is a pure method, but it is also a special case
-					// to be consider since its return type is a duplication 
-					// of a reference
-					// see https://en.wikipedia.org/wiki/Clone_(Java_method)
-					return true;
-				}
-				return false;
+		if(objectNativeMethods.contains(method)){
+			if(method.getAttr(XCSG.name).equals("getClass")){
+				return true;
+			}
+			if(method.getAttr(XCSG.name).equals("hashCode")){
+				return true;
 			}
+			if(method.getAttr(XCSG.name).equals("clone")){
+				// clone is a pure method, but it is also a special case
+				// to be consider since its return type is a duplication 
+				// of a reference
+				// see https://en.wikipedia.org/wiki/Clone_(Java_method)
+				return true;
+			}
+			return false;
 		}
 
 		return false;
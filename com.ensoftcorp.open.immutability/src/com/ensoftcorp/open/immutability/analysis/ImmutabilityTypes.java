@@ -1,5 +1,8 @@
 package com.ensoftcorp.open.immutability.analysis;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
 
 /**
@@ -14,6 +17,11 @@ public enum ImmutabilityTypes {
 	// MUTABLE is the most specific type and READONLY is the most generic type
 	MUTABLE(ImmutabilityTags.MUTABLE), POLYREAD(ImmutabilityTags.POLYREAD), READONLY(ImmutabilityTags.READONLY);
 	
+	/**
+	 * The types in ordinal order, cached since values() returns a new array on each call
+	 */
+	private static final ImmutabilityTypes[] TYPES = values();
+	
 	private String name;
 	
 	private ImmutabilityTypes(String name){
@@ -25,6 +33,58 @@ public enum ImmutabilityTypes {
 		return name;
 	}
 	
+	/**
+	 * Returns the bit representing this type in a type mask
+	 * @return
+	 */
+	public int getMask(){
+		return 1 << ordinal();
+	}
+	
+	/**
+	 * Returns the mask of the given set of types
+	 * @param types
+	 * @return
+	 */
+	public static int getMask(Set<ImmutabilityTypes> types){
+		int mask = 0;
+		for(ImmutabilityTypes type : TYPES){
+			if(types.contains(type)){
+				mask |= type.getMask();
+			}
+		}
+		return mask;
+	}
+	
+	/**
+	 * Returns the maximal type of the given mask or null if the mask is empty
+	 * Since the types are declared from most specific to most generic 
+	 * the maximal type is the highest bit set in the mask
+	 * @param mask
+	 * @return
+	 */
+	public static ImmutabilityTypes getMaximalType(int mask){
+		if(mask == 0){
+			return null;
+		}
+		return TYPES[31 - Integer.numberOfLeadingZeros(mask)];
+	}
+	
+	/**
+	 * Returns the types in the given mask
+	 * @param mask
+	 * @return
+	 */
+	public static EnumSet<ImmutabilityTypes> getTypes(int mask){
+		EnumSet<ImmutabilityTypes> types = EnumSet.noneOf(ImmutabilityTypes.class);
+		for(ImmutabilityTypes type : TYPES){
+			if((mask & type.getMask()) != 0){
+				types.add(type);
+			}
+		}
+		return types;
+	}
+	
 	/**
 	 * Viewpoint adaptation is a concept from Universe Types, 
 	 * it deals with context-sensitivity issues.
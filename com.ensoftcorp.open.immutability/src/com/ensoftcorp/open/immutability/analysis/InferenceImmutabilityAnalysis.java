@@ -6,10 +6,8 @@ import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.remove
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Set;
 
 import javax.xml.stream.XMLStreamException;
 
@@ -35,11 +33,17 @@ import com.ensoftcorp.open.immutability.analysis.checkers.CallChecker;
 import com.ensoftcorp.open.immutability.analysis.checkers.FieldAssignmentChecker;
 import com.ensoftcorp.open.immutability.analysis.checkers.SanityChecks;
 import com.ensoftcorp.open.immutability.analysis.solvers.XEqualsYConstraintSolver;
-import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+import com.ensoftcorp.open.immutability.core.InferenceOptions;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintExtractor;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintSystem;
+import com.ensoftcorp.open.immutability.core.constraints.RemovalListener;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngine;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
+import com.ensoftcorp.open.immutability.core.engine.Solution;
+import com.ensoftcorp.open.immutability.core.replay.ConstraintRecording;
+import com.ensoftcorp.open.immutability.core.replay.RemovalTrace;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
-import com.ensoftcorp.open.jimple.commons.wishful.JimpleStopGap;
 
 public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 
@@ -47,6 +51,10 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 	 * Helper for formatting decimal strings
 	 */
 	private static final DecimalFormat FORMAT = new DecimalFormat("#.##"); 
+
+	public InferenceImmutabilityAnalysis(AnalysisContext context) {
+		super(context);
+	}
 	
 	/**
 	 * Helper class to store a File object result
@@ -60,26 +68,35 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 	 */
 	public boolean run(IProgressMonitor monitor){
 		final FileResult fileResult = new FileResult();
-		if(ImmutabilityPreferences.isLoadSummariesEnabled()){
-			Display.getDefault().syncExec(new Runnable(){
-				@Override
-				public void run() {
-					FileDialog dialog = new FileDialog(Display.getDefault().getActiveShell(), SWT.OPEN);
-					dialog.setFilterNames(new String[] { "Immutability Analysis Results", "All Files (*.*)" });
-					dialog.setFilterExtensions(new String[] { "*.xml", "*.*" });
-					fileResult.file = new File(dialog.open());
-				}
-			});
+		AnalysisStatistics statistics = context.getStatistics();
+		if(configuration.isLoadSummariesEnabled()){
+			if(configuration.getSummaryFile() != null){
+				fileResult.file = new File(configuration.getSummaryFile());
+			} else {
+				Display.getDefault().syncExec(new Runnable(){
+					@Override
+					public void run() {
+						FileDialog dialog = new FileDialog(Display.getDefault().getActiveShell(), SWT.OPEN);
+						dialog.setFilterNames(new String[] { "Immutability Analysis Results", "All Files (*.*)" });
+						dialog.setFilterExtensions(new String[] { "*.xml", "*.*" });
+						fileResult.file = new File(dialog.open());
+					}
+				});
+			}
+			long startImport = System.nanoTime();
 			try {
-				SummaryUtilities.importSummary(fileResult.file);
+				new SummaryImporter(context).importSummary(fileResult.file);
 			} catch (FileNotFoundException e) {
 				DisplayUtils.showError(e, "Could not find summary file.");
 			} catch (XMLStreamException e) {
 				DisplayUtils.showError(e, "Error parsing summary file.");
 			}
+			statistics.addTime(AnalysisStatistics.Phase.SUMMARY_IO, System.nanoTime()-startImport);
 			fileResult.file = null;
 		}
-		if(ImmutabilityPreferences.isGenerateSummariesEnabled()){
+		if(configuration.isGenerateSummariesEnabled() && configuration.getSummaryFile() != null){
+			fileResult.file = new File(configuration.getSummaryFile());
+		} else if(configuration.isGenerateSummariesEnabled()){
 			Display.getDefault().syncExec(new Runnable(){
 				@Override
 				public void run() {
@@ -96,7 +113,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 		}
 		File outputFile = fileResult.file;
 		
-		if(ImmutabilityPreferences.isGenerateSummariesEnabled()){
+		if(configuration.isGenerateSummariesEnabled()){
 			if(outputFile==null){
 				Log.warning("No output file selected, immutability results will not be serialized to XML file.");
 			} else {
@@ -104,94 +121,185 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 			}
 		}
 		
-		// TODO: remove when there are appropriate alternatives
-		JavaStopGap.addClassVariableAccessTags();
-		JimpleStopGap.addDataFlowDisplayNodeTags();
+		long startPreparation = System.nanoTime();
+		prepareProgramGraph(configuration);
+		statistics.addTime(AnalysisStatistics.Phase.PREPARE, System.nanoTime()-startPreparation);
+		try {
+			return infer(outputFile);
+		} finally {
+			releaseProgramGraph(configuration);
+		}
+	}
+	
+	/**
+	 * Computes the fixed point over the assignments in the scope and materializes the results
+	 * @param outputFile The summary file to write or null if no summary should be written
+	 * @return Returns true if the analysis completed in a consistent state
+	 */
+	private boolean infer(File outputFile){
+		InvariantMonitor invariantMonitor = context.getInvariantMonitor();
+		TraceBuffer traceBuffer = context.getTraceBuffer();
+		ProvenanceRecorder provenanceRecorder = context.getProvenanceRecorder();
+		OscillationGuard oscillationGuard = context.getOscillationGuard();
+		MethodModels methodModels = context.getMethodModels();
+		AnalysisStatistics statistics = context.getStatistics();
+		long startSolve = System.nanoTime();
 		
-		AnalysisUtilities.addDummyReturnAssignments();
-
-		AtlasHashSet<Node> worklist = new AtlasHashSet<Node>();
-
-		// add all assignments to worklist
-		// treating parameter passes as assignments (for all purposes they are...)
-		// this includes dummy return assignments which are fillers for providing 
-		// context sensitivity when the return value of a call is unused
-		Q assignments = Common.universe().nodesTaggedWithAny(XCSG.Assignment, XCSG.ParameterPass);
-		assignments = Common.resolve(new NullProgressMonitor(), assignments);
-		for(Node assignment : assignments.eval().nodes()){
-			worklist.add(assignment);
+		// adding mutable types is not monotone, so it can only be applied by the legacy engine
+		boolean legacyEngine = configuration.isLegacyInferenceEngineEnabled();
+		if(!legacyEngine && configuration.isAllowAddMutableInstanceVariablesEnabled()){
+			Log.warning("Adding mutable types to instance variables is only supported by the legacy inference engine, using the legacy engine instead of " + configuration.getInferenceEngine());
+			legacyEngine = true;
 		}
 		
-		int iteration = 1;
-		while(true){
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Immutability analysis iteration: " + iteration);
-			long startIteration = System.nanoTime();
-			
-			boolean typesChanged = false;
-			for(Node workItem : worklist){
-				try {
-					if(applyInferenceRules(workItem)){
-						typesChanged = true;
-					}
-				} catch (Exception e){
-					Log.error("Error applying inference rules for work item: " + workItem.address().toAddressString() + "\n" + workItem.toString(), e);
-					throw e;
+		// check the qualifier set invariants as the updates happen
+		invariantMonitor.start();
+		traceBuffer.start();
+		provenanceRecorder.start();
+		
+		// give subclasses a chance to remove qualifiers that are already known before the fixed point
+		seedTypes();
+		
+		// fix the qualifiers of modeled library methods
+		int modeledMethods = methodModels.resolveModels();
+		methodModels.applyModels(context);
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Applied method models to " + modeledMethods + " methods");
+
+		if(!legacyEngine){
+			solveConstraints();
+		} else {
+			// the legacy engine is deprecated and frozen, rule changes go to the ConstraintExtractor of the core module
+			if(configuration.isConstraintRecordingEnabled()){
+				Log.warning("Constraint recording requires a core inference engine, the legacy engine does not extract constraints");
+			}
+			AtlasHashSet<Node> worklist = new AtlasHashSet<Node>();
+
+			// add all assignments to worklist
+			// treating parameter passes as assignments (for all purposes they are...)
+			// this includes dummy return assignments which are fillers for providing 
+			// context sensitivity when the return value of a call is unused
+			// the bodies of modeled methods do not need to be analyzed
+			Q assignments = context.getScope().nodesTaggedWithAny(XCSG.Assignment, XCSG.ParameterPass);
+			assignments = Common.resolve(new NullProgressMonitor(), assignments);
+			MethodContainmentIndex containmentIndex = modeledMethods > 0 ? new MethodContainmentIndex() : null;
+			for(Node assignment : assignments.eval().nodes()){
+				if(containmentIndex != null && methodModels.isModeled(containmentIndex.getContainingMethod(assignment))){
+					continue;
 				}
+				worklist.add(assignment);
 			}
+			statistics.setConstraints(worklist.size());
 			
-			long stopIteration = System.nanoTime();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Immutability analysis iteration: " + iteration + " completed in " + FORMAT.format((stopIteration-startIteration)/1000.0/1000.0) + " ms");
+			// non-monotone updates are bounded by pinning oscillating references
+			oscillationGuard.start();
 			
-			// the worklist consists of assignments (including stack assignments)
-			// in the worst case an iteration through the worklist only removes one type from one reference in an assignment
-			// since there are at most only 3 valid types for each reference, the algorithm must reach fixed point in
-			// O(3*n) iterations where n is the number of typed references used in the set of assignments
-			if(!typesChanged){
-				if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Immutability analysis reached fixed point in " + iteration + " iterations");
-				break;
-			} else {
-				// fixed point has not been reached
-				// go for another pass
-				iteration++;
+			int iteration = 1;
+			while(true){
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Immutability analysis iteration: " + iteration);
+				long startIteration = System.nanoTime();
+				
+				boolean typesChanged = false;
+				for(Node workItem : worklist){
+					invariantMonitor.setCurrentConstraint(workItem);
+					provenanceRecorder.setCurrentConstraint(workItem);
+					try {
+						if(applyInferenceRules(workItem)){
+							typesChanged = true;
+						}
+					} catch (Exception e){
+						String trace = traceBuffer.isEnabled() ? "\n" + traceBuffer.render() : "";
+						Log.error("Error applying inference rules for work item: " + workItem.address().toAddressString() + "\n" + workItem.toString() + trace, e);
+						traceBuffer.clear();
+						throw e;
+					}
+				}
+				
+				long stopIteration = System.nanoTime();
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Immutability analysis iteration: " + iteration + " completed in " + FORMAT.format((stopIteration-startIteration)/1000.0/1000.0) + " ms");
+				
+				// the worklist consists of assignments (including stack assignments)
+				// in the worst case an iteration through the worklist only removes one type from one reference in an assignment
+				// since there are at most only 3 valid types for each reference, the algorithm must reach fixed point in
+				// O(3*n) iterations where n is the number of typed references used in the set of assignments
+				if(!typesChanged){
+					if(configuration.isGeneralLoggingEnabled()) Log.info("Immutability analysis reached fixed point in " + iteration + " iterations");
+					statistics.setIterations(iteration);
+					break;
+				} else {
+					// fixed point has not been reached
+					// if types were added back the bound may not hold, so oscillating references are pinned once it is exceeded
+					oscillationGuard.checkIteration(context, iteration);
+					// go for another pass
+					iteration++;
+				}
 			}
+			oscillationGuard.report();
+			oscillationGuard.stop();
+		}
+		
+		// the monitored invariants replace the post analysis scans for untyped references and gained types
+		boolean monitoredInvariants = invariantMonitor.isMonitoring();
+		boolean monitoredSane = true;
+		if(monitoredInvariants){
+			monitoredSane = invariantMonitor.report();
+		}
+		invariantMonitor.stop();
+		if(traceBuffer.isEnabled() && configuration.isDebugLoggingEnabled()){
+			Log.info(traceBuffer.render());
 		}
+		traceBuffer.clear();
+		// the recorded removals remain queryable after the analysis
+		provenanceRecorder.stop();
+		statistics.addTime(AnalysisStatistics.Phase.SOLVE, System.nanoTime()-startSolve);
 		
-		if(ImmutabilityPreferences.isGenerateSummariesEnabled()){
-			// serialize immutability sets to Atlas tags
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Converting immutability sets into tags...");
-			convertImmutabilityTypesToTags();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Converted immutability sets into tags.");
+		// the results are published to the shared program graph one analysis at a time
+		synchronized(PUBLISH_LOCK){
+			long startMaterialization = System.nanoTime();
+			long exportTime = 0;
+			if(configuration.isGenerateSummariesEnabled()){
+				// serialize immutability sets to Atlas tags
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Converting immutability sets into tags...");
+				ResultMaterializer.convertTypesToTags(context);
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Converted immutability sets into tags.");
 			
-			// serialize field and method tags
-			if(outputFile != null){
-				try {
-					SummaryUtilities.exportSummary(outputFile);
-				} catch (Exception e){
-					Log.error("Could not save summaries.", e);
-					DisplayUtils.showError(e, "Could not save summaries.");
+				// serialize field and method tags
+				if(outputFile != null){
+					long startExport = System.nanoTime();
+					try {
+						new SummaryExporter(context.getScope()).exportSummary(outputFile);
+					} catch (Exception e){
+						Log.error("Could not save summaries.", e);
+						DisplayUtils.showError(e, "Could not save summaries.");
+					}
+					exportTime = System.nanoTime()-startExport;
+					statistics.addTime(AnalysisStatistics.Phase.SUMMARY_IO, exportTime);
 				}
-			}
-		} else {
-			// flattens the type hierarchy to the maximal types
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Extracting maximal types...");
-			long startExtraction = System.nanoTime();
-			extractMaximalTypes();
-			long stopExtraction = System.nanoTime();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Extracted maximal types in " + FORMAT.format((stopExtraction-startExtraction)/1000.0/1000.0) + " ms");
+			} else {
+				// flattens the type hierarchy to the maximal types
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Extracting maximal types...");
+				long startExtraction = System.nanoTime();
+				ResultMaterializer.extractMaximalTypes(context, true);
+				long stopExtraction = System.nanoTime();
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Extracted maximal types in " + FORMAT.format((stopExtraction-startExtraction)/1000.0/1000.0) + " ms");
 			
-			// tags pure methods
-			// must be run after extractMaximalTypes
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Applying method immutability tags...");
-			long startImmutabilityTagging = System.nanoTime();
-			tagPureMethods();
-			long stopImmutabilityTagging = System.nanoTime();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Applied method immutability tags in " + FORMAT.format((stopImmutabilityTagging-startImmutabilityTagging)/1000.0/1000.0) + " ms");
+				// tags pure methods
+				// must be run after extractMaximalTypes
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Applying method immutability tags...");
+				long startImmutabilityTagging = System.nanoTime();
+				tagPureMethods();
+				long stopImmutabilityTagging = System.nanoTime();
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Applied method immutability tags in " + FORMAT.format((stopImmutabilityTagging-startImmutabilityTagging)/1000.0/1000.0) + " ms");
+			}
+		
+			statistics.addTime(AnalysisStatistics.Phase.MATERIALIZE, System.nanoTime()-startMaterialization-exportTime);
 		}
 		
-		boolean isSane = true;
-		if(ImmutabilityPreferences.isRunSanityChecksEnabled()){
+		boolean isSane = monitoredSane;
+		if(configuration.isRunSanityChecksEnabled()){
 			Log.info("Running sanity checks...");
-			isSane = SanityChecks.run();
+			long startSanityChecks = System.nanoTime();
+			isSane &= SanityChecks.run(configuration, !monitoredInvariants);
+			statistics.addTime(AnalysisStatistics.Phase.SANITY_CHECKS, System.nanoTime()-startSanityChecks);
 			if(isSane){
 				Log.info("Sanity checks completed. Everything is sane.");
 			} else {
@@ -199,26 +307,89 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 			}
 		}
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Performing cleanup...");
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Performing cleanup...");
 
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Removing Immutability Qualifier Sets...");
-		AtlasSet<Node> attributedNodes = Common.universe().selectNode(AnalysisUtilities.IMMUTABILITY_QUALIFIERS).eval().nodes();
-		AtlasHashSet<Node> attributedNodesToUnattribute = new AtlasHashSet<Node>(attributedNodes);
-		while(!attributedNodesToUnattribute.isEmpty()){
-			Node attributedNode = attributedNodesToUnattribute.getFirst();
-			attributedNodesToUnattribute.remove(attributedNode);
-			attributedNode.removeAttr(AnalysisUtilities.IMMUTABILITY_QUALIFIERS);
-		}
+		// the qualifier sets have been materialized as tags
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Removing Immutability Qualifier Sets...");
+		context.clearQualifiers();
 		
-		AnalysisUtilities.removeDummyReturnAssignments();
+		return isSane;
+	}
+
+	/**
+	 * Computes the fixed point with an engine of the core module
+	 * The constraints of the inference rules are extracted from the Atlas graph once, 
+	 * solved outside of the graph, and the resulting qualifier sets are written back
+	 */
+	private void solveConstraints(){
+		InferenceEngine engine = InferenceEngines.get(configuration.getInferenceEngine());
+		InferenceOptions options = new InferenceOptions(configuration.isFieldAdaptationsEnabled(), 
+				configuration.isContainerConsiderationEnabled(), configuration.isAllowDefaultMutableInstancesVariablesEnabled());
+		AtlasProgramGraph graph = new AtlasProgramGraph(context);
 		
-		// TODO: remove when there are appropriate alternatives
-		JimpleStopGap.removeDataFlowDisplayNodeTags();
-		JavaStopGap.removeClassVariableAccessTags();
+		long startExtraction = System.nanoTime();
+		ConstraintExtractor extractor = new ConstraintExtractor(graph, options);
+		ConstraintSystem system = extractor.extract();
+		long stopExtraction = System.nanoTime();
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Extracted " + system.getConstraintCount() + " constraints over " + system.getVariableCount() + " references in " + FORMAT.format((stopExtraction-startExtraction)/1000.0/1000.0) + " ms");
+		if(extractor.getSkippedReferenceCount() > 0){
+			Log.warning("Inner classes are currently unsupported, skipped " + extractor.getSkippedReferenceCount() + " references");
+		}
+		if(extractor.getMismatchedOverrideCount() > 0){
+			Log.warning("Parameter counts do not match for " + extractor.getMismatchedOverrideCount() + " overriding methods");
+		}
 		
-		return isSane;
+		RemovalTrace trace = configuration.isConstraintRecordingEnabled() && configuration.isConstraintRecordingTraceEnabled() ? new RemovalTrace() : null;
+		// the monitors observe the removals of the engine through the Atlas nodes of the variables
+		RemovalListener listener = trace;
+		if(CoreEngineMonitor.isMonitoring(context)){
+			listener = new CoreEngineMonitor(context, graph, system, trace);
+		}
+		long startSolve = System.nanoTime();
+		Solution solution = engine.solve(system, listener);
+		long stopSolve = System.nanoTime();
+		if(configuration.isConstraintRecordingEnabled()){
+			recordConstraints(new ConstraintRecording(system, engine.getName(), solution, trace));
+		}
+		context.getStatistics().setConstraints(system.getConstraintCount());
+		context.getStatistics().setIterations(solution.getRounds());
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Immutability analysis reached fixed point in " + solution.getRounds() + " rounds (" + solution.getPropagations() + " propagations) in " + FORMAT.format((stopSolve-startSolve)/1000.0/1000.0) + " ms using the " + engine.getName() + " engine");
+		
+		for(int variable=0; variable<system.getVariableCount(); variable++){
+			if(system.isConstant(variable)){
+				continue;
+			}
+			Node reference = graph.getNode(system.getNode(variable));
+			int mask = solution.getMask(variable);
+			if(mask == 0 && configuration.isDebugLoggingEnabled()){
+				Log.warning("Constraints resulted in an empty type set for " + reference.getAttr(XCSG.name));
+			}
+			AnalysisUtilities.setTypes(context, reference, ImmutabilityTypes.getTypes(mask));
+		}
+	}
+
+	/**
+	 * Writes the constraint system and its fixed point to the configured recording file
+	 * A recording that cannot be written is logged and does not fail the analysis
+	 * @param recording
+	 */
+	private void recordConstraints(ConstraintRecording recording){
+		File file = new File(configuration.getConstraintRecordingFile());
+		try {
+			recording.write(file);
+			if(configuration.isGeneralLoggingEnabled()) Log.info("Recorded " + recording + " to " + file.getAbsolutePath());
+		} catch (IOException e){
+			Log.error("Could not record the constraint system to " + file.getAbsolutePath(), e);
+		}
 	}
 
+	/**
+	 * Removes qualifiers that are already known to be unsatisfiable before the fixed point is computed
+	 * Implementations must only remove qualifiers that the inference rules would also remove, 
+	 * by default no qualifiers are seeded
+	 */
+	protected void seedTypes(){}
+
 	/**
 	 * Given a graph element, each inference rule (TNEW, TASSIGN, TWRITE, TREAD, TCALL) is checked
 	 * and unsatisfied qualifier types are removed or reduced (a new type may be added, but it will 
@@ -227,7 +398,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 	 * @param workItem Returns true if any type qualifier sets changed
 	 * @return
 	 */
-	private static boolean applyInferenceRules(Node workItem) throws RuntimeException {
+	private boolean applyInferenceRules(Node workItem) throws RuntimeException {
 		
 		boolean typesChanged = false;
 		
@@ -253,12 +424,13 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 						Q arrayIdentityForEdges = Common.universe().edgesTaggedWithAny(XCSG.ArrayIdentityFor);
 						Q arrayWrite = interproceduralDataFlowEdges.predecessors(Common.toQ(arrayComponents));
 						for(Node arrayIdentity : arrayIdentityForEdges.predecessors(arrayWrite).eval().nodes()){
-							if(ImmutabilityPreferences.isDebugLoggingEnabled()){
+							if(configuration.isDebugLoggingEnabled()){
 								Log.info("Array components were updated which mutated array: " + arrayIdentity.getAttr(XCSG.name).toString());
 							}
 							// the array has been mutated
+							context.getTraceBuffer().setRule(InferenceRule.ARRAY_WRITE);
 							for(Node arrayReference : AnalysisUtilities.parseReferences(arrayIdentity)){
-								if(AnalysisUtilities.removeTypes(arrayReference, ImmutabilityTypes.READONLY)){
+								if(AnalysisUtilities.removeTypes(context, arrayReference, ImmutabilityTypes.READONLY)){
 									typesChanged = true;
 								}
 							}
@@ -272,40 +444,41 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 									for(Node x : AnalysisUtilities.parseReferences(instanceVariableAccessed)){
 										// x must be mutable
 										if (x.taggedWith(XCSG.InstanceVariable)) {
-											if (ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled()) {
-												addMutable(x); // doesn't count as a type change
+											if (configuration.isAllowAddMutableInstanceVariablesEnabled()) {
+												addMutable(context, x); // doesn't count as a type change
 											}
-											if(ImmutabilityPreferences.isAllowDefaultMutableInstancesVariablesEnabled() || ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled()){
-												if(XEqualsYConstraintSolver.satisfy(x, ImmutabilityTypes.MUTABLE)){
-													if(ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled() && getTypes(x).isEmpty()){
-														addMutable(x);
+											if(configuration.isAllowDefaultMutableInstancesVariablesEnabled() || configuration.isAllowAddMutableInstanceVariablesEnabled()){
+												if(XEqualsYConstraintSolver.satisfy(context, x, ImmutabilityTypes.MUTABLE)){
+													if(configuration.isAllowAddMutableInstanceVariablesEnabled() && getTypes(context, x).isEmpty()){
+														addMutable(context, x);
 													}
 													typesChanged = true;
 												}
 											} else {
 												// vanilla paper description
-												if(removeTypes(x, ImmutabilityTypes.READONLY)){
+												if(removeTypes(context, x, ImmutabilityTypes.READONLY)){
 													typesChanged = true;
 												}
 											}
 										} else {
-											if(XEqualsYConstraintSolver.satisfy(x, ImmutabilityTypes.MUTABLE)){
+											if(XEqualsYConstraintSolver.satisfy(context, x, ImmutabilityTypes.MUTABLE)){
 												typesChanged = true;
 											}
 										}
 		
 										// each instance containing x has been mutated as well
-										if(ImmutabilityPreferences.isContainerConsiderationEnabled()){
+										if(configuration.isContainerConsiderationEnabled()){
 											// TODO: should this be like a basic assignment constraint 
 											// between each parent container field or just all are not readonly???
 											// for now going with the latter since its easier to implement...
 											
+											context.getTraceBuffer().setRule(InferenceRule.CONTAINER);
 											for(Node container : AnalysisUtilities.getAccessedContainers(arrayIdentity)){
 												for(Node containerReference : AnalysisUtilities.parseReferences(container)){
-													if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
+													if(configuration.isDebugLoggingEnabled()) {
 														Log.info("A mutation to " + arrayIdentity.getAttr(XCSG.name).toString() + " mutated container " + containerReference.getAttr(XCSG.name).toString());
 													}
-													if(removeTypes(containerReference, ImmutabilityTypes.READONLY)){
+													if(removeTypes(context, containerReference, ImmutabilityTypes.READONLY)){
 														typesChanged = true;
 													}
 												}
@@ -323,7 +496,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 									Node m = StandardQueries.getContainingFunction(arrayIdentity);
 									AtlasSet<Node> xReferences = AnalysisUtilities.parseReferences(from);
 									for(Node x : xReferences){
-										if(FieldAssignmentChecker.handleStaticFieldWrite(sf, x, m)){
+										if(FieldAssignmentChecker.handleStaticFieldWrite(context, sf, x, m)){
 											typesChanged = true;
 										}
 									}
@@ -331,7 +504,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 							}
 							// local reference or parameter
 							else {
-								removeTypes(arrayIdentity, ImmutabilityTypes.POLYREAD);
+								removeTypes(context, arrayIdentity, ImmutabilityTypes.POLYREAD);
 							}
 						}
 						continue; // no further constraints apply to this reference
@@ -356,22 +529,23 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 						Node instanceVariableAccessed = instanceVariableAccessedEdges.predecessors(Common.toQ(instanceVariableAssignment)).eval().nodes().getFirst();
 						AtlasSet<Node> xReferences = AnalysisUtilities.parseReferences(instanceVariableAccessed);
 						for(Node x : xReferences){
-							if(FieldAssignmentChecker.handleFieldWrite(x, f, y)){
+							if(FieldAssignmentChecker.handleFieldWrite(context, x, f, y)){
 								typesChanged = true;
 							}
 							
-							if(ImmutabilityPreferences.isContainerConsiderationEnabled()){
-								if(to.taggedWith(XCSG.InstanceVariableAccess) && !getTypes(x).contains(ImmutabilityTypes.READONLY)){
+							if(configuration.isContainerConsiderationEnabled()){
+								if(to.taggedWith(XCSG.InstanceVariableAccess) && !getTypes(context, x).contains(ImmutabilityTypes.READONLY)){
 									// each instance containing x has been mutated as well
 									// TODO: should this be like a basic assignment constraint 
 									// between each parent container field or just all are not readonly???
 									// for now going with the latter since its easier to implement...
+									context.getTraceBuffer().setRule(InferenceRule.CONTAINER);
 									for(Node container : AnalysisUtilities.getAccessedContainers(to)){
 										for(Node containerReference : AnalysisUtilities.parseReferences(container)){
-											if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
+											if(configuration.isDebugLoggingEnabled()) {
 												Log.info("A mutation to " + to.getAttr(XCSG.name).toString() + " mutated container " + containerReference.getAttr(XCSG.name).toString());
 											}
-											if(removeTypes(containerReference, ImmutabilityTypes.READONLY)){
+											if(removeTypes(context, containerReference, ImmutabilityTypes.READONLY)){
 												typesChanged = true;
 											}
 										}
@@ -397,7 +571,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 						Node instanceVariableAccessed = instanceVariableAccessedEdges.predecessors(Common.toQ(instanceVariableValue)).eval().nodes().getFirst();
 						AtlasSet<Node> yReferences = AnalysisUtilities.parseReferences(instanceVariableAccessed);
 						for(Node y : yReferences){
-							if(FieldAssignmentChecker.handleFieldRead(x, y, f)){
+							if(FieldAssignmentChecker.handleFieldRead(context, x, y, f)){
 								typesChanged = true;
 							}
 						}
@@ -414,7 +588,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 					Node m = StandardQueries.getContainingFunction(to);
 					AtlasSet<Node> sfReferences = AnalysisUtilities.parseReferences(from);
 					for(Node sf : sfReferences){
-						if(FieldAssignmentChecker.handleStaticFieldRead(x, sf, m)){
+						if(FieldAssignmentChecker.handleStaticFieldRead(context, x, sf, m)){
 							typesChanged = true;
 						}
 					}
@@ -430,7 +604,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 					Node m = StandardQueries.getContainingFunction(to);
 					AtlasSet<Node> xReferences = AnalysisUtilities.parseReferences(from);
 					for(Node x : xReferences){
-						if(FieldAssignmentChecker.handleStaticFieldWrite(sf, x, m)){
+						if(FieldAssignmentChecker.handleStaticFieldWrite(context, sf, x, m)){
 							typesChanged = true;
 						}
 					}
@@ -448,8 +622,8 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 					// I don't think we ever needed this, but adding it here for posterity 
 					// left possible hack here for posterity
 //					if(x.taggedWith(XCSG.InstanceVariable)){
-//						if (ImmutabilityPreferences.isAllowMutableInstancesVariablesEnabled()) {
-//							typesChanged = addMutable(x);
+//						if (configuration.isAllowMutableInstancesVariablesEnabled()) {
+//							typesChanged = addMutable(context, x);
 //						}
 //					}
 					
@@ -483,7 +657,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 //							AtlasSet<Edge> parametersPassedEdges = interproceduralDataFlowEdges
 //									.betweenStep(Common.toQ(parametersPassed), Common.toQ(parameters)).eval().edges();
 //							
-//							if(CallChecker.handleCall(x, y, identity, method, ret, parametersPassedEdges, containingMethod)){
+//							if(CallChecker.handleCall(context, x, y, identity, method, ret, parametersPassedEdges, containingMethod)){
 //								typesChanged = true;
 //							}
 //						}
@@ -498,7 +672,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 						for(Node y : yReferences){
 //							// if y is an instance variable it may need a mutable type
 //							if(y.taggedWith(XCSG.InstanceVariable)){
-//								if (ImmutabilityPreferences.isSetMutableInstancesVariablesEnabled()) {
+//								if (configuration.isSetMutableInstancesVariablesEnabled()) {
 //									if(setMutable(y)){
 //										typesChanged = true;
 //									}
@@ -511,6 +685,15 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 							// Method (method) -Contains-> ReturnValue (ret)
 							Node method = Common.toQ(ret).parent().eval().nodes().getFirst();
 							
+							// the qualifiers of modeled methods are fixed so only the caller's references need to be constrained
+							if(context.getMethodModels().isModeled(method) && !configuration.isContainerConsiderationEnabled()){
+								AtlasSet<Node> parametersPassed = Common.toQ(callsite).parent().children().nodesTaggedWithAny(XCSG.ParameterPass).eval().nodes();
+								if(CallChecker.handleModeledCall(context, x, y, callsite, method, ret, parametersPassed)){
+									typesChanged = true;
+								}
+								continue;
+							}
+							
 							// Method (method) -Contains-> Identity
 							// there should only be one identity node, but in case the graph is malformed this will act as an early prevention measure
 							// TODO: assert this property through a sanity check before running this computation
@@ -528,22 +711,23 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 								AtlasSet<Edge> parametersPassedEdges = Common.universe().edgesTaggedWithAny(XCSG.InterproceduralDataFlow)
 										.betweenStep(Common.toQ(parametersPassed), Common.toQ(parameters)).eval().edges();
 								
-								if(CallChecker.handleCall(x, y, identity, method, ret, parametersPassedEdges, containingMethod)){
+								if(CallChecker.handleCall(context, x, y, identity, method, ret, parametersPassedEdges, containingMethod)){
 									typesChanged = true;
 								}
 								
-								if(ImmutabilityPreferences.isContainerConsiderationEnabled()){
-									if(reciever.taggedWith(XCSG.InstanceVariableAccess) && !getTypes(y).contains(ImmutabilityTypes.READONLY)){
+								if(configuration.isContainerConsiderationEnabled()){
+									if(reciever.taggedWith(XCSG.InstanceVariableAccess) && !getTypes(context, y).contains(ImmutabilityTypes.READONLY)){
 										// each instance containing x has been mutated as well
 										// TODO: should this be like a basic assignment constraint 
 										// between each parent container field or just all are not readonly???
 										// for now going with the latter since its easier to implement...
+										context.getTraceBuffer().setRule(InferenceRule.CONTAINER);
 										for(Node container : AnalysisUtilities.getAccessedContainers(reciever)){
 											for(Node containerReference : AnalysisUtilities.parseReferences(container)){
-												if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
+												if(configuration.isDebugLoggingEnabled()) {
 													Log.info("A mutation to " + reciever.getAttr(XCSG.name).toString() + " mutated container " + containerReference.getAttr(XCSG.name).toString());
 												}
-												if(removeTypes(containerReference, ImmutabilityTypes.READONLY)){
+												if(removeTypes(context, containerReference, ImmutabilityTypes.READONLY)){
 													typesChanged = true;
 												}
 											}
@@ -570,6 +754,15 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 					// ReturnValue (ret) -InterproceduralDataFlow-> CallSite (m)
 					Node ret = interproceduralDataFlowEdges.predecessors(Common.toQ(callsite)).eval().nodes().getFirst();
 					
+					// the qualifiers of modeled methods are fixed so only the caller's references need to be constrained
+					if(context.getMethodModels().isModeled(method) && !configuration.isContainerConsiderationEnabled()){
+						AtlasSet<Node> parametersPassed = Common.toQ(callsite).parent().children().nodesTaggedWithAny(XCSG.ParameterPass).eval().nodes();
+						if(CallChecker.handleModeledCall(context, x, null, callsite, method, ret, parametersPassed)){
+							typesChanged = true;
+						}
+						continue;
+					}
+					
 					// Method (method) -Contains-> Parameter (p1, p2, ...)
 					AtlasSet<Node> parameters = Common.toQ(method).children().nodesTaggedWithAny(XCSG.Parameter).eval().nodes();
 					
@@ -582,7 +775,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 					AtlasSet<Edge> parametersPassedEdges = Common.universe().edgesTaggedWithAny(XCSG.InterproceduralDataFlow)
 							.betweenStep(Common.toQ(parametersPassed), Common.toQ(parameters)).eval().edges();
 
-					if(CallChecker.handleStaticCall(x, callsite, method, ret, parametersPassedEdges)){
+					if(CallChecker.handleStaticCall(context, x, callsite, method, ret, parametersPassedEdges)){
 						typesChanged = true;
 					}
 				}
@@ -596,7 +789,7 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 				for(Node x : xReferences){
 					AtlasSet<Node> yReferences = AnalysisUtilities.parseReferences(from);;
 					for(Node y : yReferences){
-						if(BasicAssignmentChecker.handleAssignment(x, y)){
+						if(BasicAssignmentChecker.handleAssignment(context, x, y)){
 							typesChanged = true;
 						}
 					}
@@ -607,82 +800,4 @@ public class InferenceImmutabilityAnalysis extends ImmutabilityAnalysis {
 		return typesChanged;
 	}
 	
-	/**
-	 * Converts the immutability types to tags for partial program analysis
-	 */
-	private void convertImmutabilityTypesToTags(){
-		Q typesToExtract = Common.universe().selectNode(AnalysisUtilities.IMMUTABILITY_QUALIFIERS);
-		AtlasSet<Node> attributedNodes = Common.resolve(new NullProgressMonitor(), typesToExtract.eval()).nodes();
-		for(GraphElement attributedNode : attributedNodes){
-			Set<ImmutabilityTypes> types = getTypes(attributedNode);
-			if(types.isEmpty()){
-				attributedNode.tag(ImmutabilityTags.UNTYPED);
-			} else {
-				for(ImmutabilityTypes type : types){
-					attributedNode.tag(type.toString());
-				}
-			}
-		}
-		
-		AtlasSet<Node> itemsToTrack = getUntrackedItems(attributedNodes);
-		for(GraphElement untouchedTrackedItem : itemsToTrack){
-			Set<ImmutabilityTypes> defaultTypes = AnalysisUtilities.getDefaultTypes(untouchedTrackedItem);
-			for(ImmutabilityTypes type : defaultTypes){
-				untouchedTrackedItem.tag(type.toString());
-			}
-		}
-	}
-	
-	private ImmutabilityTypes getDefaultMaximalType(GraphElement ge) {
-		ImmutabilityTypes maximalType;
-		if(ge.taggedWith(XCSG.Instantiation) || ge.taggedWith(XCSG.ArrayInstantiation)){
-			maximalType = ImmutabilityTypes.MUTABLE;
-		} else {
-			// all other cases default to readonly as the maximal type
-			maximalType = ImmutabilityTypes.READONLY;
-		}
-		return maximalType;
-	}
-	
-	/**
-	 * Flattens the remaining immutability qualifiers to the maximal type
-	 * and applies the maximal type as a tag
-	 */
-	private void extractMaximalTypes(){
-		Q typesToExtract = Common.universe().selectNode(AnalysisUtilities.IMMUTABILITY_QUALIFIERS);
-		AtlasSet<Node> attributedNodes = Common.resolve(new NullProgressMonitor(), typesToExtract.eval()).nodes();
-		for(Node attributedNode : attributedNodes){
-			Set<ImmutabilityTypes> types = getTypes(attributedNode);
-			ArrayList<ImmutabilityTypes> orderedTypes = new ArrayList<ImmutabilityTypes>(types.size());
-			orderedTypes.addAll(types);
-			if(orderedTypes.isEmpty()){
-				attributedNode.tag(ImmutabilityTags.UNTYPED);
-			} else {
-				Collections.sort(orderedTypes);
-				ImmutabilityTypes maximalType = orderedTypes.get(orderedTypes.size()-1);
-				attributedNode.tag(maximalType.toString());
-			}
-		}
-		AtlasSet<Node> itemsToTrack = getUntrackedItems(attributedNodes);
-		for(GraphElement untouchedTrackedItem : itemsToTrack){
-			ImmutabilityTypes maximalType = getDefaultMaximalType(untouchedTrackedItem);
-			untouchedTrackedItem.tag(maximalType.toString());
-		}
-	}
-	
-	private AtlasSet<Node> getUntrackedItems(AtlasSet<Node> attributedNodes) {
-		Q literals = Common.universe().nodesTaggedWithAll(XCSG.Literal);
-		Q parameters = Common.universe().nodesTaggedWithAny(XCSG.Parameter);
-		Q returnValues = Common.universe().nodesTaggedWithAny(XCSG.ReturnValue);
-		Q instanceVariables = Common.universe().nodesTaggedWithAny(XCSG.InstanceVariable);
-		Q thisNodes = Common.universe().nodesTaggedWithAny(XCSG.Identity);
-		Q classVariables = Common.universe().nodesTaggedWithAny(XCSG.ClassVariable);
-		// note local variables may also get tracked, but only if need be during the analysis
-		Q trackedItems = literals.union(parameters, returnValues, instanceVariables, thisNodes, classVariables);
-		Q untouchedTrackedItems = trackedItems.difference(trackedItems.nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE), Common.toQ(attributedNodes));
-		AtlasSet<Node> itemsToTrack = new AtlasHashSet<Node>();
-		itemsToTrack.addAll(untouchedTrackedItems.eval().nodes());
-		return itemsToTrack;
-	}
-	
 }
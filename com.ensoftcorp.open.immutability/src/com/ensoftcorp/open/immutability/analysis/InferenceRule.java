@@ -0,0 +1,21 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+/**
+ * The inference rules that update qualifier sets, used to attribute traced updates
+ */
+public enum InferenceRule {
+	
+	NONE, SEED, TASSIGN, TWRITE, TREAD, TSWRITE, TSREAD, TCALL, TSCALL, TCALL_MODELED, ARRAY_WRITE, CONTAINER;
+	
+	private static final InferenceRule[] RULES = values();
+	
+	/**
+	 * Returns the rule with the given ordinal
+	 * @param ordinal
+	 * @return
+	 */
+	public static InferenceRule getRule(int ordinal){
+		return RULES[ordinal];
+	}
+	
+}
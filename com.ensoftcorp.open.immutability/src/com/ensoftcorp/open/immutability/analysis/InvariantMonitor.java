@@ -0,0 +1,155 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.Set;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.log.Log;
+
+/**
+ * Monitors the invariants of the qualifier sets while the fixed point is computed
+ *
+ * Qualifier sets may only shrink and may never hold types that are not in their
+ * default types. Each update made through AnalysisUtilities or by a core inference
+ * engine (see CoreEngineMonitor) is checked as it happens, so violations are reported
+ * with the constraint that caused them and the post analysis scans for untyped
+ * references and gained types can be skipped.
+ */
+public class InvariantMonitor {
+
+	/**
+	 * The number of traced updates reported with each violation
+	 */
+	private static final int RECENT_EVENTS = 16;
+
+	private final AnalysisConfiguration configuration;
+	private final TraceBuffer traceBuffer;
+	
+	private boolean monitoring = false;
+
+	/**
+	 * The assignment whose constraints are currently being solved
+	 */
+	private Node currentConstraint = null;
+
+	/**
+	 * The nodes whose qualifier sets are currently empty
+	 */
+	private AtlasSet<Node> emptyNodes = new AtlasHashSet<Node>();
+
+	private long additions = 0;
+	private long gainedTypes = 0;
+	private long emptiedSets = 0;
+
+	InvariantMonitor(AnalysisConfiguration configuration, TraceBuffer traceBuffer){
+		this.configuration = configuration;
+		this.traceBuffer = traceBuffer;
+	}
+
+	/**
+	 * Starts monitoring qualifier set updates if online invariant monitoring is enabled
+	 */
+	public void start(){
+		monitoring = configuration.isOnlineInvariantMonitoringEnabled();
+		currentConstraint = null;
+		emptyNodes = new AtlasHashSet<Node>();
+		additions = 0;
+		gainedTypes = 0;
+		emptiedSets = 0;
+	}
+
+	/**
+	 * Stops monitoring qualifier set updates
+	 */
+	public void stop(){
+		monitoring = false;
+		currentConstraint = null;
+	}
+
+	/**
+	 * Returns true if qualifier set updates are being monitored
+	 * @return
+	 */
+	public boolean isMonitoring(){
+		return monitoring;
+	}
+
+	/**
+	 * Sets the assignment whose constraints are currently being solved
+	 * @param constraint
+	 */
+	public void setCurrentConstraint(Node constraint){
+		currentConstraint = constraint;
+	}
+
+	/**
+	 * Records the initialization of a qualifier set to its default types
+	 * @param node
+	 * @param types
+	 */
+	void initialized(Node node, Set<ImmutabilityTypes> types){
+		if(types.isEmpty()){
+			emptyNodes.add(node);
+		}
+	}
+
+	/**
+	 * Records the removal of types from a qualifier set
+	 * @param node
+	 * @param types The updated qualifier set
+	 */
+	void removed(Node node, Set<ImmutabilityTypes> types){
+		if(types.isEmpty() && emptyNodes.add(node)){
+			emptiedSets++;
+			String trace = traceBuffer.isEnabled() ? "\n" + traceBuffer.render(RECENT_EVENTS) : "";
+			Log.warning("Qualifiers of " + getName(node) + " became empty while solving " + getName(currentConstraint) + ".\n" + node.toString() + trace);
+		}
+	}
+
+	/**
+	 * Records the addition of types to a qualifier set
+	 * Additions break the monotone shrinkage of the qualifier sets and are counted,
+	 * additions of types that are not default types are reported as violations
+	 * @param node
+	 * @param types The updated qualifier set
+	 */
+	void added(Node node, Set<ImmutabilityTypes> types){
+		additions++;
+		emptyNodes.remove(node);
+		Set<ImmutabilityTypes> defaultTypes = AnalysisUtilities.getDefaultTypes(configuration, node);
+		if(!defaultTypes.containsAll(types)){
+			gainedTypes++;
+			String trace = traceBuffer.isEnabled() ? "\n" + traceBuffer.render(RECENT_EVENTS) : "";
+			Log.warning("Qualifiers of " + getName(node) + " gained types " + types.toString() + " beyond the default types " + defaultTypes.toString()
+					+ " while solving " + getName(currentConstraint) + ".\n" + node.toString() + trace);
+		}
+	}
+
+	/**
+	 * Reports the monitored invariants
+	 * @return Returns true if no invariants were violated
+	 */
+	public boolean report(){
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Monitored " + additions + " qualifier additions, " + gainedTypes + " gained types, and " + emptiedSets + " emptied qualifier sets.");
+		boolean isSane = true;
+		if(!emptyNodes.isEmpty()){
+			isSane = false;
+			Log.warning("There are " + emptyNodes.size() + " references with no immutability types!");
+		}
+		if(gainedTypes > 0){
+			isSane = false;
+			Log.warning("There were " + gainedTypes + " updates that gained unexpected types over thier defaults.");
+		}
+		return isSane;
+	}
+
+	private String getName(Node node){
+		if(node == null){
+			return "<none>";
+		}
+		return (node.hasAttr(XCSG.name) ? node.getAttr(XCSG.name).toString() : "") + " (" + node.address().toAddressString() + ")";
+	}
+
+}
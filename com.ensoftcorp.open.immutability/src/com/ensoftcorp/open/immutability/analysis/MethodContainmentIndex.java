@@ -0,0 +1,101 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.ensoftcorp.atlas.core.db.graph.Edge;
+import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+
+/**
+ * A precomputed lookup from program elements to their containing methods
+ *
+ * The containment tree is read with a single query over the XCSG.Contains
+ * edges of the program or of the ancestors of a scope. Lookups walk up the
+ * tree in memory and remember the containing method of every element visited
+ * along the way, so repeated lookups inside the same method are constant time.
+ */
+public class MethodContainmentIndex {
+
+	/**
+	 * Maps each element to its parent in the containment tree
+	 */
+	private final Map<Node,Node> parents = new HashMap<Node,Node>();
+
+	/**
+	 * Memoized containing methods, elements outside of any method map to null
+	 */
+	private final Map<Node,Node> containingMethods = new HashMap<Node,Node>();
+
+	/**
+	 * Indexes the containment tree of the whole program
+	 */
+	public MethodContainmentIndex(){
+		index(Common.universe().edgesTaggedWithAny(XCSG.Contains));
+	}
+
+	/**
+	 * Indexes the containment tree of the given scope up to the root
+	 * Lookups of elements outside of the scope return null
+	 * @param scope
+	 */
+	public MethodContainmentIndex(Q scope){
+		index(Common.universe().edgesTaggedWithAny(XCSG.Contains).reverse(scope));
+	}
+
+	private void index(Q containment){
+		for(Edge containsEdge : containment.edgesTaggedWithAny(XCSG.Contains).eval().edges()){
+			parents.put(containsEdge.getNode(EdgeDirection.TO), containsEdge.getNode(EdgeDirection.FROM));
+		}
+	}
+
+	/**
+	 * Returns the method containing the given element or null if the element is not inside a method
+	 * @param element
+	 * @return
+	 */
+	public Node getContainingMethod(Node element){
+		ArrayList<Node> visited = new ArrayList<Node>();
+		Node method = null;
+		Node current = parents.get(element);
+		while(current != null){
+			if(containingMethods.containsKey(current)){
+				method = containingMethods.get(current);
+				break;
+			}
+			if(current.taggedWith(XCSG.Method)){
+				method = current;
+				break;
+			}
+			visited.add(current);
+			current = parents.get(current);
+		}
+		for(Node node : visited){
+			containingMethods.put(node, method);
+		}
+		return method;
+	}
+
+	/**
+	 * Returns the methods containing any of the given elements
+	 * @param elements
+	 * @return
+	 */
+	public AtlasSet<Node> getContainingMethods(Iterable<Node> elements){
+		AtlasSet<Node> methods = new AtlasHashSet<Node>();
+		for(Node element : elements){
+			Node method = getContainingMethod(element);
+			if(method != null){
+				methods.add(method);
+			}
+		}
+		return methods;
+	}
+
+}
@@ -0,0 +1,378 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.eclipse.core.runtime.Platform;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.Activator;
+import com.ensoftcorp.open.immutability.log.Log;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
+
+/**
+ * Declarative models of known pure and known side effecting library methods
+ *
+ * The models are read from models/method-models.xml (and an optional user model file)
+ * into a hash index keyed by package, class, and method name. Before the analysis
+ * runs the models are resolved against the method nodes of the program and the
+ * qualifiers of each modeled method, its identity, parameters, and return value are
+ * fixed so that the bodies of modeled methods never need to be analyzed.
+ *
+ * A model file has the form
+ * <pre>
+ * &lt;models&gt;
+ *   &lt;method package="java.lang" class="String" name="length" pure="true" immutability="READONLY"&gt;
+ *     &lt;this immutability="READONLY"/&gt;
+ *     &lt;parameter index="0" immutability="READONLY"/&gt;
+ *     &lt;return immutability="READONLY"/&gt;
+ *   &lt;/method&gt;
+ * &lt;/models&gt;
+ * </pre>
+ * The optional signature attribute restricts a model to a single overload.
+ *
+ * The parsed model files are shared, each analysis resolves them into its own instance.
+ */
+public class MethodModels {
+
+	/**
+	 * The path of the bundled model file
+	 */
+	private static final String DEFAULT_MODELS_PATH = "models/method-models.xml";
+
+	/**
+	 * A model of a library method
+	 */
+	public static class MethodModel {
+		private String pkg;
+		private String parentClass;
+		private String name;
+		private String signature;
+		private boolean pure = false;
+		private EnumSet<ImmutabilityTypes> immutabilityQualifiers;
+		private EnumSet<ImmutabilityTypes> identityImmutabilityQualifiers;
+		private EnumSet<ImmutabilityTypes> returnImmutabilityQualifiers;
+		private Map<Integer,EnumSet<ImmutabilityTypes>> parameterImmutabilityQualifiers = new HashMap<Integer,EnumSet<ImmutabilityTypes>>();
+
+		/**
+		 * Returns true if the modeled method does not mutate any prestate
+		 * @return
+		 */
+		public boolean isPure(){
+			return pure;
+		}
+
+		private String getKey(){
+			return MethodModels.getKey(pkg, parentClass, name);
+		}
+
+		@Override
+		public String toString() {
+			return "MethodModel [package=" + pkg + ", class=" + parentClass + ", name=" + name + ", signature=" + signature
+					+ ", pure=" + pure + ", immutabilityQualifiers=" + immutabilityQualifiers
+					+ ", identityImmutabilityQualifiers=" + identityImmutabilityQualifiers
+					+ ", parameterImmutabilityQualifiers=" + parameterImmutabilityQualifiers
+					+ ", returnImmutabilityQualifiers=" + returnImmutabilityQualifiers + "]";
+		}
+	}
+
+	/**
+	 * The loaded models indexed by package, class, and method name
+	 * The index is never modified once it has been loaded
+	 */
+	private static Map<String,List<MethodModel>> loadedModels = null;
+
+	/**
+	 * The user model file the models were loaded with
+	 */
+	private static String loadedModelsFile = null;
+
+	private final AnalysisConfiguration configuration;
+
+	/**
+	 * The models resolved to the method nodes of the current program
+	 */
+	private Map<Node,MethodModel> resolvedModels = new HashMap<Node,MethodModel>();
+	
+	/**
+	 * The identities and parameters (by parameter index) of the modeled methods
+	 */
+	private Map<Node,Node> modeledIdentities = new HashMap<Node,Node>();
+	private Map<Node,Map<Integer,Node>> modeledParameters = new HashMap<Node,Map<Integer,Node>>();
+
+	MethodModels(AnalysisConfiguration configuration){
+		this.configuration = configuration;
+	}
+
+	private static String getKey(String pkg, String parentClass, String name){
+		return pkg + "." + parentClass + "#" + name;
+	}
+
+	/**
+	 * Loads the model files into the model index if they have not already been loaded
+	 * @param modelsFile
+	 * @return
+	 */
+	private static synchronized Map<String,List<MethodModel>> loadModels(String modelsFile){
+		if(loadedModels != null && modelsFile.equals(loadedModelsFile)){
+			return loadedModels;
+		}
+		Map<String,List<MethodModel>> models = new HashMap<String,List<MethodModel>>();
+		try {
+			URL defaultModels = Platform.getBundle(Activator.PLUGIN_ID).getEntry(DEFAULT_MODELS_PATH);
+			if(defaultModels == null){
+				Log.warning("Missing default method models: " + DEFAULT_MODELS_PATH);
+			} else {
+				InputStream input = defaultModels.openStream();
+				try {
+					parseModels(input, models);
+				} finally {
+					input.close();
+				}
+			}
+			if(!modelsFile.isEmpty()){
+				InputStream input = new FileInputStream(new File(modelsFile));
+				try {
+					parseModels(input, models);
+				} finally {
+					input.close();
+				}
+			}
+		} catch (IOException | XMLStreamException e) {
+			Log.error("Error loading method models.", e);
+		}
+		loadedModels = models;
+		loadedModelsFile = modelsFile;
+		return models;
+	}
+
+	private static void parseModels(InputStream input, Map<String,List<MethodModel>> models) throws XMLStreamException {
+		XMLInputFactory xmlif = XMLInputFactory.newInstance();
+		XMLStreamReader xmlr = xmlif.createXMLStreamReader(input);
+		MethodModel model = null;
+		while (xmlr.hasNext()) {
+			model = processEvent(xmlr, model, models);
+			xmlr.next();
+		}
+		xmlr.close();
+	}
+
+	/**
+	 * Processes a parser event
+	 * @param xmlr
+	 * @param model The model being parsed, or null if no model is being parsed
+	 * @param models
+	 * @return Returns the model being parsed after the event
+	 */
+	private static MethodModel processEvent(XMLStreamReader xmlr, MethodModel model, Map<String,List<MethodModel>> models) {
+		switch (xmlr.getEventType()) {
+			case XMLStreamConstants.START_ELEMENT:
+				String startElementName = xmlr.getLocalName();
+				if(startElementName.equals("method")){
+					model = new MethodModel();
+					for(int i=0; i < xmlr.getAttributeCount(); i++){
+						String name = xmlr.getAttributeLocalName(i);
+						String value = xmlr.getAttributeValue(i);
+						if (name.equals("package")) {
+							model.pkg = value;
+						} else if (name.equals("class")) {
+							model.parentClass = value;
+						} else if (name.equals("name")) {
+							model.name = value;
+						} else if (name.equals("signature")) {
+							model.signature = value;
+						} else if (name.equals("pure")) {
+							model.pure = Boolean.parseBoolean(value);
+						} else if (name.equals("immutability")) {
+							model.immutabilityQualifiers = parseImmutabilityQualifiers(value);
+						}
+					}
+				} else if(startElementName.equals("this") && model != null){
+					String value = xmlr.getAttributeValue(null, "immutability");
+					if(value != null){
+						model.identityImmutabilityQualifiers = parseImmutabilityQualifiers(value);
+					}
+				} else if(startElementName.equals("return") && model != null){
+					String value = xmlr.getAttributeValue(null, "immutability");
+					if(value != null){
+						model.returnImmutabilityQualifiers = parseImmutabilityQualifiers(value);
+					}
+				} else if(startElementName.equals("parameter") && model != null){
+					String index = xmlr.getAttributeValue(null, "index");
+					String value = xmlr.getAttributeValue(null, "immutability");
+					if(index != null && value != null){
+						model.parameterImmutabilityQualifiers.put(Integer.parseInt(index), parseImmutabilityQualifiers(value));
+					}
+				}
+				break;
+			case XMLStreamConstants.END_ELEMENT:
+				if(xmlr.getLocalName().equals("method") && model != null){
+					if(model.pkg == null || model.parentClass == null || model.name == null){
+						Log.warning("Skipping incomplete method model.\n" + model.toString());
+					} else {
+						List<MethodModel> keyedModels = models.get(model.getKey());
+						if(keyedModels == null){
+							keyedModels = new ArrayList<MethodModel>();
+							models.put(model.getKey(), keyedModels);
+						}
+						keyedModels.add(model);
+					}
+					model = null;
+				}
+				break;
+			default:
+				break;
+		}
+		return model;
+	}
+
+	private static EnumSet<ImmutabilityTypes> parseImmutabilityQualifiers(String immutabilityQualifiersString){
+		EnumSet<ImmutabilityTypes> qualifiers = EnumSet.noneOf(ImmutabilityTypes.class);
+		for(String immutabilityQualifier : immutabilityQualifiersString.trim().split(",")){
+			immutabilityQualifier = immutabilityQualifier.trim();
+			if(immutabilityQualifier.equals(ImmutabilityTypes.READONLY.toString())){
+				qualifiers.add(ImmutabilityTypes.READONLY);
+			} else if(immutabilityQualifier.equals(ImmutabilityTypes.POLYREAD.toString())){
+				qualifiers.add(ImmutabilityTypes.POLYREAD);
+			} else if(immutabilityQualifier.equals(ImmutabilityTypes.MUTABLE.toString())){
+				qualifiers.add(ImmutabilityTypes.MUTABLE);
+			} else {
+				Log.warning("Ignoring unknown qualifier in method model: " + immutabilityQualifier);
+			}
+		}
+		return qualifiers;
+	}
+
+	/**
+	 * Resolves the loaded models against the methods of the current program
+	 * Each modeled class is queried once and its methods are matched through the model index
+	 * @return Returns the number of methods that were modeled
+	 */
+	public int resolveModels(){
+		resolvedModels = new HashMap<Node,MethodModel>();
+		modeledIdentities = new HashMap<Node,Node>();
+		modeledParameters = new HashMap<Node,Map<Integer,Node>>();
+		if(!configuration.isMethodModelsEnabled()){
+			return 0;
+		}
+		Map<String,List<MethodModel>> models = loadModels(configuration.getMethodModelsFile());
+
+		// group the model keys by their declaring class so each class is only queried once
+		Map<String,String[]> modeledClasses = new HashMap<String,String[]>();
+		for(List<MethodModel> keyedModels : models.values()){
+			MethodModel keyedModel = keyedModels.get(0);
+			modeledClasses.put(keyedModel.pkg + "." + keyedModel.parentClass, new String[]{ keyedModel.pkg, keyedModel.parentClass });
+		}
+
+		for(String[] modeledClass : modeledClasses.values()){
+			Q packages = Common.universe().nodesTaggedWithAny(XCSG.Package).selectNode(XCSG.name, modeledClass[0]);
+			Q parents = packages.contained().nodesTaggedWithAny(XCSG.Type).selectNode(XCSG.name, modeledClass[1]);
+			for(Node method : parents.children().nodesTaggedWithAny(XCSG.Method).eval().nodes()){
+				List<MethodModel> keyedModels = models.get(getKey(modeledClass[0], modeledClass[1], method.getAttr(XCSG.name).toString()));
+				if(keyedModels == null){
+					continue;
+				}
+				for(MethodModel keyedModel : keyedModels){
+					if(keyedModel.signature == null || (method.hasAttr(JavaStopGap.SIGNATURE) && keyedModel.signature.equals(method.getAttr(JavaStopGap.SIGNATURE).toString()))){
+						resolvedModels.put(method, keyedModel);
+						break;
+					}
+				}
+			}
+		}
+		return resolvedModels.size();
+	}
+
+	/**
+	 * Returns the model of the given method or null if the method is not modeled
+	 * Only valid after the models have been resolved
+	 * @param method
+	 * @return
+	 */
+	public MethodModel getModel(Node method){
+		return resolvedModels.get(method);
+	}
+
+	/**
+	 * Returns true if the given method is modeled
+	 * @param method
+	 * @return
+	 */
+	public boolean isModeled(Node method){
+		return resolvedModels.containsKey(method);
+	}
+
+	/**
+	 * Returns the identity of a modeled method or null if the method has no identity
+	 * Only valid after the models have been applied
+	 * @param method
+	 * @return
+	 */
+	public Node getModeledIdentity(Node method){
+		return modeledIdentities.get(method);
+	}
+
+	/**
+	 * Returns the parameter of a modeled method with the given index or null if there is no such parameter
+	 * Only valid after the models have been applied
+	 * @param method
+	 * @param index
+	 * @return
+	 */
+	public Node getModeledParameter(Node method, int index){
+		Map<Integer,Node> parameters = modeledParameters.get(method);
+		return parameters == null ? null : parameters.get(index);
+	}
+
+	/**
+	 * Fixes the qualifiers of each resolved method model
+	 * The qualifiers of the method, its identity, parameters, and return value are replaced
+	 * with the modeled qualifiers, elements without a modeled qualifier keep their defaults
+	 * @param context The analysis that is given the modeled qualifiers
+	 */
+	public void applyModels(AnalysisContext context){
+		for(Entry<Node,MethodModel> entry : resolvedModels.entrySet()){
+			Node method = entry.getKey();
+			MethodModel model = entry.getValue();
+			if(model.immutabilityQualifiers != null){
+				AnalysisUtilities.setTypes(context, method, EnumSet.copyOf(model.immutabilityQualifiers));
+			}
+			Map<Integer,Node> parameters = new HashMap<Integer,Node>();
+			modeledParameters.put(method, parameters);
+			for(Node child : Common.toQ(method).children().nodesTaggedWithAny(XCSG.Identity, XCSG.Parameter, XCSG.ReturnValue).eval().nodes()){
+				EnumSet<ImmutabilityTypes> qualifiers = null;
+				if(child.taggedWith(XCSG.Identity)){
+					modeledIdentities.put(method, child);
+					qualifiers = model.identityImmutabilityQualifiers;
+				} else if(child.taggedWith(XCSG.ReturnValue)){
+					qualifiers = model.returnImmutabilityQualifiers;
+				} else if(child.hasAttr(XCSG.parameterIndex)){
+					Integer index = Integer.parseInt(child.getAttr(XCSG.parameterIndex).toString());
+					parameters.put(index, child);
+					qualifiers = model.parameterImmutabilityQualifiers.get(index);
+				}
+				if(qualifiers != null){
+					AnalysisUtilities.setTypes(context, child, EnumSet.copyOf(qualifiers));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.log.Log;
+
+/**
+ * Guards the fixed point computation against non-monotone qualifier updates
+ *
+ * Without additions each iteration removes at least one type from one typed reference,
+ * so the fixed point is reached within 3*n iterations for n typed references. Adding
+ * types back (see ALLOW_ADD_MUTABLE_INSTANCE_VARIABLES) breaks that argument, so the
+ * additions are counted per node and once the iteration bound is exceeded every node
+ * that was added to is pinned to a fixed MUTABLE qualifier. Pinned nodes ignore any
+ * further updates, so the remaining updates are monotone and the analysis terminates.
+ */
+public class OscillationGuard {
+
+	private final AnalysisConfiguration configuration;
+	private boolean active = false;
+	private boolean boundExceeded = false;
+	private long typedReferences = 0;
+	private Map<Node,Integer> additions = new HashMap<Node,Integer>();
+	private AtlasSet<Node> pinned = new AtlasHashSet<Node>();
+
+	OscillationGuard(AnalysisConfiguration configuration){
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Starts tracking the qualifier updates of a fixed point computation
+	 */
+	public void start(){
+		active = true;
+		boundExceeded = false;
+		typedReferences = 0;
+		additions = new HashMap<Node,Integer>();
+		pinned = new AtlasHashSet<Node>();
+	}
+
+	/**
+	 * Stops tracking qualifier updates, pinned nodes are released
+	 */
+	public void stop(){
+		active = false;
+		pinned = new AtlasHashSet<Node>();
+	}
+
+	/**
+	 * Returns true if the qualifiers of the given node are fixed and may not be updated
+	 * @param node
+	 * @return
+	 */
+	public boolean isPinned(Node node){
+		return active && !pinned.isEmpty() && pinned.contains(node);
+	}
+
+	/**
+	 * Records that a reference was given a qualifier set
+	 */
+	void typed(){
+		if(active){
+			typedReferences++;
+		}
+	}
+
+	/**
+	 * Records the addition of types to the qualifier set of a node
+	 * Once the iteration bound has been exceeded the node is pinned immediately
+	 * @param context
+	 * @param node
+	 */
+	void added(AnalysisContext context, Node node){
+		if(!active){
+			return;
+		}
+		Integer count = additions.get(node);
+		additions.put(node, count == null ? 1 : count + 1);
+		if(boundExceeded){
+			pin(context, node);
+		}
+	}
+
+	/**
+	 * Returns the iteration bound of a monotone fixed point computation over the current typed references
+	 * @return
+	 */
+	public long getIterationBound(){
+		return 3 * Math.max(typedReferences, 1);
+	}
+
+	/**
+	 * Checks the completed iteration against the iteration bound and pins
+	 * each node that has been added to once the bound is exceeded
+	 * @param context
+	 * @param iteration
+	 */
+	public void checkIteration(AnalysisContext context, int iteration){
+		if(!active || boundExceeded || iteration <= getIterationBound()){
+			return;
+		}
+		boundExceeded = true;
+		Log.warning("Immutability analysis exceeded the iteration bound of " + getIterationBound() + " iterations, "
+				+ additions.size() + " references with non-monotone updates will be fixed as " + ImmutabilityTypes.MUTABLE.toString());
+		for(Node node : additions.keySet()){
+			pin(context, node);
+		}
+	}
+
+	private void pin(AnalysisContext context, Node node){
+		if(pinned.add(node)){
+			Set<ImmutabilityTypes> types = AnalysisUtilities.getTypes(context, node);
+			types.clear();
+			types.add(ImmutabilityTypes.MUTABLE);
+		}
+	}
+
+	/**
+	 * Reports the pinned nodes
+	 * @return Returns the number of pinned nodes
+	 */
+	public long report(){
+		if(!pinned.isEmpty()){
+			Log.warning("There are " + pinned.size() + " references that oscillated and were fixed as " + ImmutabilityTypes.MUTABLE.toString() + ".");
+			for(Node node : pinned){
+				Integer count = additions.get(node);
+				Log.warning("Oscillating reference " + (node.hasAttr(XCSG.name) ? node.getAttr(XCSG.name).toString() : "")
+						+ " (" + node.address().toAddressString() + ") had " + (count == null ? 0 : count) + " additions.");
+			}
+		} else if(configuration.isGeneralLoggingEnabled() && !additions.isEmpty()){
+			Log.info(additions.size() + " references had non-monotone updates but converged within the iteration bound.");
+		}
+		return pinned.size();
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+
+/**
+ * Helpers for splitting analysis work across a shared pool of worker threads
+ *
+ * Workers should only read plain data such as arrays, maps and bitsets that the
+ * calling thread filled from Atlas beforehand. Atlas queries are evaluated by the
+ * calling thread. Results are returned to the calling thread in chunk order so that
+ * any graph writes can be applied in bulk by the caller.
+ */
+public class ParallelUtilities {
+
+	/**
+	 * The minimum number of items given to a single worker
+	 */
+	private static final int MINIMUM_CHUNK_SIZE = 1024;
+
+	/**
+	 * The worker threads shared by all runs, idle workers are kept for reuse for a minute
+	 */
+	private static ExecutorService executor = null;
+
+	/**
+	 * A unit of work over the index range [start, end)
+	 */
+	public static interface ChunkTask<T> {
+		public T run(int start, int end);
+	}
+
+	/**
+	 * Returns the number of worker threads to use
+	 * @param configuration
+	 * @return
+	 */
+	public static int getParallelism(AnalysisConfiguration configuration){
+		int parallelism = configuration.getParallelism();
+		if(parallelism <= 0){
+			parallelism = Runtime.getRuntime().availableProcessors();
+		}
+		return Math.max(1, parallelism);
+	}
+
+	private static synchronized ExecutorService getExecutor(){
+		if(executor == null){
+			final AtomicInteger threads = new AtomicInteger();
+			executor = Executors.newCachedThreadPool(new ThreadFactory(){
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "Immutability Analysis Worker " + threads.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+		return executor;
+	}
+
+	/**
+	 * Splits the index range [0, size) into chunks and runs the task on each chunk
+	 * Returns the results of each chunk in chunk order
+	 * The calling thread works on the chunks together with at most parallelism - 1 shared workers
+	 * @param configuration
+	 * @param size
+	 * @param task
+	 * @return
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> run(AnalysisConfiguration configuration, int size, final ChunkTask<T> task){
+		int parallelism = getParallelism(configuration);
+		if(parallelism == 1 || size <= MINIMUM_CHUNK_SIZE){
+			List<T> results = new ArrayList<T>();
+			results.add(task.run(0, size));
+			return results;
+		}
+
+		// use a few chunks per worker to even out unbalanced chunks
+		final int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, (size / (parallelism * 4)) + 1);
+		final int chunks = (size + chunkSize - 1) / chunkSize;
+		final int total = size;
+		final Object[] results = new Object[chunks];
+		final AtomicInteger nextChunk = new AtomicInteger();
+		Callable<Void> worker = new Callable<Void>(){
+			@Override
+			public Void call() throws Exception {
+				for(int chunk=nextChunk.getAndIncrement(); chunk<chunks; chunk=nextChunk.getAndIncrement()){
+					int start = chunk * chunkSize;
+					results[chunk] = task.run(start, Math.min(total, start + chunkSize));
+				}
+				return null;
+			}
+		};
+
+		List<Future<Void>> futures = new ArrayList<Future<Void>>();
+		for(int i=1; i<Math.min(parallelism, chunks); i++){
+			futures.add(getExecutor().submit(worker));
+		}
+		try {
+			worker.call();
+			for(Future<Void> future : futures){
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while waiting for analysis workers", e);
+		} catch (ExecutionException e) {
+			if(e.getCause() instanceof RuntimeException){
+				throw (RuntimeException) e.getCause();
+			}
+			throw new RuntimeException("Analysis worker failed", e.getCause());
+		} catch (RuntimeException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new RuntimeException("Analysis worker failed", e);
+		} finally {
+			// stop the workers from claiming further chunks if a chunk failed
+			nextChunk.set(chunks);
+		}
+		return (List<T>) Arrays.asList(results);
+	}
+
+}
@@ -0,0 +1,220 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.ParallelUtilities.ChunkTask;
+import com.ensoftcorp.open.pointsto.common.PointsToAnalysis;
+
+/**
+ * An inverted index of the points-to analysis results
+ *
+ * Each allocation site is assigned a dense id and each reference is mapped to
+ * the bitset of allocation sites it may point to. The index is built once so
+ * that questions about aliasing can be answered with bitset operations instead
+ * of issuing a new Atlas query for every allocation site.
+ */
+public class PointsToAliasIndex {
+
+	/**
+	 * The configuration the worker pool is sized from
+	 */
+	private final AnalysisConfiguration configuration;
+
+	/**
+	 * Allocation sites indexed by their dense id
+	 */
+	private final ArrayList<Node> allocationSites = new ArrayList<Node>();
+
+	/**
+	 * Maps each allocation site to its dense id
+	 */
+	private final Map<Node,Integer> allocationSiteIds = new HashMap<Node,Integer>();
+
+	/**
+	 * Maps each (non-allocation site) reference to the allocation sites it may point to
+	 */
+	private Map<Node,BitSet> pointsToSets = new HashMap<Node,BitSet>();
+	
+	/**
+	 * The indexed references and their points-to sets as parallel arrays for chunked sweeps
+	 */
+	private Node[] references;
+	private BitSet[] referencePointsToSets;
+
+	/**
+	 * An empty points-to set returned for references the points-to analysis did not reach
+	 * Callers must not modify the returned set
+	 */
+	private static final BitSet EMPTY_POINTS_TO_SET = new BitSet(0);
+
+	/**
+	 * Builds the index for the given allocation sites
+	 * The alias sets of the allocation sites are evaluated once and inverted across the worker pool
+	 * @param configuration
+	 * @param objectInstantiations The allocation sites to index
+	 */
+	public PointsToAliasIndex(AnalysisConfiguration configuration, Q objectInstantiations){
+		this.configuration = configuration;
+		for(Node allocationSite : objectInstantiations.eval().nodes()){
+			allocationSiteIds.put(allocationSite, allocationSites.size());
+			allocationSites.add(allocationSite);
+		}
+		
+		// the alias sets are evaluated by the calling thread, allocation sites are not indexed as references
+		final Node[][] aliasesBySite = new Node[allocationSites.size()][];
+		List<Node> siteAliases = new ArrayList<Node>();
+		for(int id=0; id<allocationSites.size(); id++){
+			siteAliases.clear();
+			for(Node alias : PointsToAnalysis.getAliases(allocationSites.get(id)).eval().nodes()){
+				if(!allocationSiteIds.containsKey(alias) && !isObjectInstantiation(alias)){
+					siteAliases.add(alias);
+				}
+			}
+			aliasesBySite[id] = siteAliases.toArray(new Node[siteAliases.size()]);
+		}
+
+		// each worker inverts the alias sets of a range of allocation sites into a private map
+		List<Map<Node,BitSet>> partialIndexes = ParallelUtilities.run(configuration, allocationSites.size(), new ChunkTask<Map<Node,BitSet>>(){
+			@Override
+			public Map<Node,BitSet> run(int start, int end) {
+				Map<Node,BitSet> partialIndex = new HashMap<Node,BitSet>();
+				for(int id=start; id<end; id++){
+					for(Node alias : aliasesBySite[id]){
+						BitSet pointsToSet = partialIndex.get(alias);
+						if(pointsToSet == null){
+							pointsToSet = new BitSet(aliasesBySite.length);
+							partialIndex.put(alias, pointsToSet);
+						}
+						pointsToSet.set(id);
+					}
+				}
+				return partialIndex;
+			}
+		});
+		
+		// merge the partial indexes, points-to sets only grow so the merge is a union
+		for(Map<Node,BitSet> partialIndex : partialIndexes){
+			if(pointsToSets.isEmpty()){
+				pointsToSets = partialIndex;
+				continue;
+			}
+			for(Entry<Node,BitSet> entry : partialIndex.entrySet()){
+				BitSet pointsToSet = pointsToSets.get(entry.getKey());
+				if(pointsToSet == null){
+					pointsToSets.put(entry.getKey(), entry.getValue());
+				} else {
+					pointsToSet.or(entry.getValue());
+				}
+			}
+		}
+		
+		references = new Node[pointsToSets.size()];
+		referencePointsToSets = new BitSet[pointsToSets.size()];
+		int index = 0;
+		for(Entry<Node,BitSet> entry : pointsToSets.entrySet()){
+			references[index] = entry.getKey();
+			referencePointsToSets[index] = entry.getValue();
+			index++;
+		}
+	}
+
+	private static boolean isObjectInstantiation(Node node){
+		if(node.taggedWith(XCSG.Instantiation) || node.taggedWith(XCSG.ArrayInstantiation)){
+			return true;
+		}
+		return node.taggedWith(XCSG.Java.EnumConstant) && !node.taggedWith(XCSG.Null);
+	}
+
+	/**
+	 * Returns the number of indexed allocation sites
+	 * @return
+	 */
+	public int getAllocationSiteCount(){
+		return allocationSites.size();
+	}
+
+	/**
+	 * Returns the allocation site with the given dense id
+	 * @param id
+	 * @return
+	 */
+	public Node getAllocationSite(int id){
+		return allocationSites.get(id);
+	}
+
+	/**
+	 * Returns the dense id of the given allocation site or -1 if the node is not an indexed allocation site
+	 * @param allocationSite
+	 * @return
+	 */
+	public int getAllocationSiteId(Node allocationSite){
+		Integer id = allocationSiteIds.get(allocationSite);
+		return id == null ? -1 : id;
+	}
+
+	/**
+	 * Returns the set of allocation sites the reference may point to
+	 * The returned set is owned by the index and must not be modified
+	 * @param reference
+	 * @return
+	 */
+	public BitSet getPointsToSet(Node reference){
+		BitSet pointsToSet = pointsToSets.get(reference);
+		return pointsToSet == null ? EMPTY_POINTS_TO_SET : pointsToSet;
+	}
+
+	/**
+	 * Returns the set of allocation sites that any of the given references may point to
+	 * @param references
+	 * @return
+	 */
+	public BitSet getPointsToSet(AtlasSet<Node> references){
+		BitSet result = new BitSet(allocationSites.size());
+		for(Node reference : references){
+			result.or(getPointsToSet(reference));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns every indexed reference whose points-to set intersects the given allocation sites
+	 * The references are swept in parallel chunks and gathered by the calling thread
+	 * @param allocationSites
+	 * @return
+	 */
+	public AtlasSet<Node> getAliases(final BitSet allocationSites){
+		AtlasSet<Node> aliases = new AtlasHashSet<Node>();
+		if(allocationSites.isEmpty()){
+			return aliases;
+		}
+		List<List<Node>> partialAliases = ParallelUtilities.run(configuration, references.length, new ChunkTask<List<Node>>(){
+			@Override
+			public List<Node> run(int start, int end) {
+				List<Node> partialAliases = new ArrayList<Node>();
+				for(int i=start; i<end; i++){
+					if(referencePointsToSets[i].intersects(allocationSites)){
+						partialAliases.add(references[i]);
+					}
+				}
+				return partialAliases;
+			}
+		});
+		for(List<Node> chunk : partialAliases){
+			for(Node alias : chunk){
+				aliases.add(alias);
+			}
+		}
+		return aliases;
+	}
+
+}
@@ -0,0 +1,167 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ensoftcorp.atlas.core.db.graph.Edge;
+import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.ParallelUtilities.ChunkTask;
+import com.ensoftcorp.open.pointsto.common.PointsToAnalysis;
+
+/**
+ * An index from array allocation sites to the array component writes that may
+ * update them
+ *
+ * The array memory model of the points-to analysis gives the array components
+ * of each array allocation. Component writes (XCSG.ArrayWrite) are matched to
+ * array components once for the whole program so that the array allocations
+ * mutated by component writes, and the objects holding those arrays in their
+ * fields, can be computed in a single bulk pass.
+ */
+public class PointsToArrayComponentIndex {
+
+	/**
+	 * The alias index the array allocation site ids are taken from
+	 */
+	private final PointsToAliasIndex aliasIndex;
+
+	/**
+	 * The component writes of each array allocation site, indexed by allocation site id
+	 * Entries for allocation sites that are not arrays or have no component writes are null
+	 */
+	private final List<Node>[] componentWrites;
+
+	/**
+	 * The array allocation sites with at least one component write
+	 */
+	private final BitSet mutatedArrays = new BitSet();
+
+	/**
+	 * Builds the index for the array allocation sites in the given alias index
+	 * @param configuration
+	 * @param aliasIndex
+	 */
+	@SuppressWarnings("unchecked")
+	public PointsToArrayComponentIndex(AnalysisConfiguration configuration, PointsToAliasIndex aliasIndex){
+		this.aliasIndex = aliasIndex;
+		this.componentWrites = new List[aliasIndex.getAllocationSiteCount()];
+
+		// ArrayWrite (a[i]=) -InterproceduralDataFlow-> ArrayComponents
+		Q interproceduralDataFlowEdges = Common.universe().edgesTaggedWithAny(XCSG.InterproceduralDataFlow);
+		Q arrayWrites = Common.universe().nodesTaggedWithAny(XCSG.ArrayWrite);
+		Q arrayComponents = Common.universe().nodesTaggedWithAny(XCSG.ArrayComponents);
+		final Map<Node,List<Node>> writesByComponents = new HashMap<Node,List<Node>>();
+		for(Edge componentWriteEdge : interproceduralDataFlowEdges.betweenStep(arrayWrites, arrayComponents).eval().edges()){
+			Node arrayWrite = componentWriteEdge.getNode(EdgeDirection.FROM);
+			Node components = componentWriteEdge.getNode(EdgeDirection.TO);
+			List<Node> writes = writesByComponents.get(components);
+			if(writes == null){
+				writes = new ArrayList<Node>();
+				writesByComponents.put(components, writes);
+			}
+			writes.add(arrayWrite);
+		}
+
+		// the array memory models are resolved by the calling thread
+		final Node[][] arrayMemoryModelAliases = new Node[aliasIndex.getAllocationSiteCount()][];
+		for(int id=0; id<arrayMemoryModelAliases.length; id++){
+			Node allocationSite = aliasIndex.getAllocationSite(id);
+			if(allocationSite.taggedWith(XCSG.ArrayInstantiation)){
+				AtlasSet<Node> aliases = PointsToAnalysis.getArrayMemoryModelAliases(allocationSite);
+				arrayMemoryModelAliases[id] = new Node[(int) aliases.size()];
+				int index = 0;
+				for(Node alias : aliases){
+					arrayMemoryModelAliases[id][index++] = alias;
+				}
+			}
+		}
+
+		// each worker matches the component writes of a range of allocation sites
+		// and fills the slots of its own range, so no two workers write the same slot
+		List<BitSet> partialMutatedArrays = ParallelUtilities.run(configuration, arrayMemoryModelAliases.length, new ChunkTask<BitSet>(){
+			@Override
+			public BitSet run(int start, int end) {
+				BitSet partialMutatedArrays = new BitSet();
+				for(int id=start; id<end; id++){
+					if(arrayMemoryModelAliases[id] == null){
+						continue;
+					}
+					List<Node> siteWrites = null;
+					for(Node arrayMemoryModelAlias : arrayMemoryModelAliases[id]){
+						List<Node> writes = writesByComponents.get(arrayMemoryModelAlias);
+						if(writes != null){
+							if(siteWrites == null){
+								siteWrites = new ArrayList<Node>();
+							}
+							siteWrites.addAll(writes);
+						}
+					}
+					if(siteWrites != null){
+						componentWrites[id] = siteWrites;
+						partialMutatedArrays.set(id);
+					}
+				}
+				return partialMutatedArrays;
+			}
+		});
+		for(BitSet partial : partialMutatedArrays){
+			mutatedArrays.or(partial);
+		}
+	}
+
+	/**
+	 * Returns the component writes that may update the array allocated at the given allocation site
+	 * @param allocationSite
+	 * @return
+	 */
+	public List<Node> getComponentWrites(Node allocationSite){
+		int id = aliasIndex.getAllocationSiteId(allocationSite);
+		if(id == -1 || componentWrites[id] == null){
+			return Collections.emptyList();
+		}
+		return Collections.unmodifiableList(componentWrites[id]);
+	}
+
+	/**
+	 * Returns the array allocation sites that are mutated by a component write
+	 * The returned set is a copy and may be modified by the caller
+	 * @return
+	 */
+	public BitSet getMutatedArrays(){
+		return (BitSet) mutatedArrays.clone();
+	}
+
+	/**
+	 * Returns the receivers of instance variables holding arrays that are mutated by a component write
+	 *
+	 * x.f[i] = y mutates the array referenced by x.f and so also mutates x
+	 * @return
+	 */
+	public AtlasSet<Node> getMutatedContainers(){
+		AtlasSet<Node> mutatedComponentWrites = new AtlasHashSet<Node>();
+		for(int id = mutatedArrays.nextSetBit(0); id >= 0; id = mutatedArrays.nextSetBit(id+1)){
+			for(Node componentWrite : componentWrites[id]){
+				mutatedComponentWrites.add(componentWrite);
+			}
+		}
+
+		// ArrayIdentity (x.f) -ArrayIdentityFor-> ArrayWrite (x.f[i]=)
+		// Reference (x) -InstanceVariableAccessed-> InstanceVariableValue (x.f)
+		Q arrayIdentityForEdges = Common.universe().edgesTaggedWithAny(XCSG.ArrayIdentityFor);
+		Q instanceVariableAccessedEdges = Common.universe().edgesTaggedWithAny(XCSG.InstanceVariableAccessed);
+		Q arrayIdentities = arrayIdentityForEdges.predecessors(Common.toQ(mutatedComponentWrites));
+		Q instanceVariableArrays = arrayIdentities.nodesTaggedWithAny(XCSG.InstanceVariableValue);
+		return instanceVariableAccessedEdges.predecessors(instanceVariableArrays).eval().nodes();
+	}
+
+}
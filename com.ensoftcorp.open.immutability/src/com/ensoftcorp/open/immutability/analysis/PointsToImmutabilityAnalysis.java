@@ -1,16 +1,12 @@
 package com.ensoftcorp.open.immutability.analysis;
 
-import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.getTypes;
-
 import java.text.DecimalFormat;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Set;
+import java.util.BitSet;
 
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 
-import com.ensoftcorp.atlas.core.db.graph.GraphElement;
+import com.ensoftcorp.atlas.core.db.graph.Edge;
+import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
 import com.ensoftcorp.atlas.core.db.set.AtlasSet;
@@ -19,9 +15,8 @@ import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
 import com.ensoftcorp.open.pointsto.common.PointsToAnalysis;
-import com.ensoftcorp.open.pointsto.preferences.PointsToPreferences;
 
 public class PointsToImmutabilityAnalysis extends ImmutabilityAnalysis {
 
@@ -30,64 +25,75 @@ public class PointsToImmutabilityAnalysis extends ImmutabilityAnalysis {
 	 */
 	private static final DecimalFormat FORMAT = new DecimalFormat("#.##"); 
 	
+	public PointsToImmutabilityAnalysis(AnalysisContext context) {
+		super(context);
+	}
+	
 	@Override
 	public boolean run(IProgressMonitor monitor) {
-		if(PointsToPreferences.isPointsToAnalysisEnabled()){
-			// considers primitives, String literals, and enum constants
-			// note: this set also includes null, but that case is explicitly handled in address creation
-			//       so all null literals are represented with a single address id to save on space
+		if(configuration.isPointsToResultsEnabled()){
+//			Q scope = SetDefinitions.app(); // only consider mutations inside the application
+			Q scope = context.getScope();
+			AnalysisStatistics statistics = context.getStatistics();
+			long startSolve = System.nanoTime();
 			
-//			Q context = SetDefinitions.app(); // only consider mutations inside the application
-			Q context = Common.universe();
+			PointsToMutations mutations = new PointsToMutations(configuration, scope);
 			
-			Q specialInstantiations = Common.universe().nodesTaggedWithAny(XCSG.Java.EnumConstant).difference(Common.universe().nodesTaggedWithAny(XCSG.Null));
-			Q objectInstantiations = Common.universe().nodesTaggedWithAny(XCSG.Instantiation, XCSG.ArrayInstantiation).union(specialInstantiations);
-			Q instanceVariableWrittenEdges = Common.universe().edgesTaggedWithAny(XCSG.InstanceVariableWritten);
-			Q instanceVariableAssignments = Common.universe().nodesTaggedWithAny(XCSG.InstanceVariableAssignment);
-			for(Node objectInstantiation : context.intersection(objectInstantiations).eval().nodes()){
-				Q aliases = PointsToAnalysis.getAliases(objectInstantiation).difference(objectInstantiations).intersection(context);
-				boolean readonly = instanceVariableWrittenEdges.predecessors(instanceVariableAssignments).intersection(aliases).eval().nodes().isEmpty();
-				markMutableAliases(aliases, readonly);
-				if(objectInstantiation.taggedWith(XCSG.ArrayInstantiation)){
-					Node arrayInstantiation = objectInstantiation;
-					Q arrayMemoryModelAliases = Common.toQ(PointsToAnalysis.getArrayMemoryModelAliases(arrayInstantiation)).difference(objectInstantiations);
-					readonly = instanceVariableWrittenEdges.predecessors(instanceVariableAssignments).intersection(arrayMemoryModelAliases).eval().nodes().isEmpty();
-					// mutations to the array components mutate the array itself
-					markMutableAliases(aliases, readonly);
-				}
-				
-				// if a class variable also has this alias then any mutation to 
-				// that alias makes the method where the mutation happened impure
-				// TODO: implement
-			}
+			// every reference that may point to a mutated allocation site is mutable
+			// the aliases are gathered in parallel and the qualifier updates are applied in bulk on this thread
+			// since the updates only ever remove qualifiers the order they are applied in does not matter
+			Q mutatedAliases = Common.toQ(mutations.getMutatedAliases()).intersection(scope);
+			markMutableAliases(mutatedAliases);
+			statistics.setConstraints(mutatedAliases.eval().nodes().size());
+			statistics.setIterations(1);
+			
+			// if a class variable also has this alias then any mutation to 
+			// that alias makes the method where the mutation happened impure
+			if(configuration.isGeneralLoggingEnabled()) Log.info("Marking methods that mutate static state...");
+			long startStaticMutations = System.nanoTime();
+			AtlasSet<Node> staticStateMutatingMethods = getStaticStateMutatingMethods(mutations);
+			long stopStaticMutations = System.nanoTime();
+			if(configuration.isGeneralLoggingEnabled()) Log.info("Marked " + staticStateMutatingMethods.size() + " methods that mutate static state in " + FORMAT.format((stopStaticMutations-startStaticMutations)/1000.0/1000.0) + " ms");
+			statistics.addTime(AnalysisStatistics.Phase.SOLVE, stopStaticMutations-startSolve);
 			
 			// todo: consider open world assumptions
 			// returns and parameters of library methods not known to be immutable are assumed mutable
 			
-			// flattens the type hierarchy to the maximal types
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Extracting maximal types...");
-			long startExtraction = System.nanoTime();
-			extractMaximalTypes();
-			long stopExtraction = System.nanoTime();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Extracted maximal types in " + FORMAT.format((stopExtraction-startExtraction)/1000.0/1000.0) + " ms");
+			// the results are published to the shared program graph one analysis at a time
+			synchronized(PUBLISH_LOCK){
+				for(Node method : staticStateMutatingMethods){
+					method.tag(ImmutabilityTags.MUTABLE);
+				}
+			
+				// flattens the type hierarchy to the maximal types
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Extracting maximal types...");
+				long startExtraction = System.nanoTime();
+				ResultMaterializer.extractMaximalTypes(context, false);
+				long stopExtraction = System.nanoTime();
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Extracted maximal types in " + FORMAT.format((stopExtraction-startExtraction)/1000.0/1000.0) + " ms");
 			
-			// tags pure methods
-			// must be run after extractMaximalTypes
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Applying method immutability tags...");
-			long startImmutabilityTagging = System.nanoTime();
-			tagPureMethods();
-			long stopImmutabilityTagging = System.nanoTime();
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Applied method immutability tags in " + FORMAT.format((stopImmutabilityTagging-startImmutabilityTagging)/1000.0/1000.0) + " ms");
+				// tags pure methods
+				// must be run after extractMaximalTypes
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Applying method immutability tags...");
+				long startImmutabilityTagging = System.nanoTime();
+				context.getMethodModels().resolveModels();
+				tagPureMethods();
+				long stopImmutabilityTagging = System.nanoTime();
+				if(configuration.isGeneralLoggingEnabled()) Log.info("Applied method immutability tags in " + FORMAT.format((stopImmutabilityTagging-startImmutabilityTagging)/1000.0/1000.0) + " ms");
+				statistics.addTime(AnalysisStatistics.Phase.MATERIALIZE, stopImmutabilityTagging-startExtraction);
+			}
 			
 			// sanity checks
 			boolean isSane = true;
 			
 			// the points-to analysis should not produce untyped references
-			AtlasSet<Node> untypedReferences = Common.universe().nodesTaggedWithAny(ImmutabilityTags.UNTYPED).eval().nodes();
+			long startSanityChecks = System.nanoTime();
+			AtlasSet<Node> untypedReferences = scope.nodesTaggedWithAny(ImmutabilityTags.UNTYPED).eval().nodes();
 			if(!untypedReferences.isEmpty()){
 				isSane = false;
 				Log.warning("The points-to analysis reported untyped references!");
 			}
+			statistics.addTime(AnalysisStatistics.Phase.SANITY_CHECKS, System.nanoTime()-startSanityChecks);
 			
 			return isSane;
 		} else {
@@ -97,75 +103,64 @@ public class PointsToImmutabilityAnalysis extends ImmutabilityAnalysis {
 		}
 	}
 
-	private void markMutableAliases(Q aliases, boolean readonly) {
+	/**
+	 * Returns the methods that mutate an object reachable through a class variable
+	 * 
+	 * A method mutates static state if it contains an instance variable write or an array
+	 * component write whose receiver may point to an allocation site referenced by a class 
+	 * variable, or if it assigns a class variable directly. Only the class variables and
+	 * mutations in the scope of the analysis are considered.
+	 * @param mutations
+	 * @return
+	 */
+	private AtlasSet<Node> getStaticStateMutatingMethods(PointsToMutations mutations){
+		PointsToAliasIndex aliasIndex = mutations.getAliasIndex();
+		PointsToArrayComponentIndex arrayComponentIndex = mutations.getArrayComponentIndex();
+		Q scope = context.getScope();
+		AtlasSet<Node> classVariables = scope.nodesTaggedWithAny(XCSG.ClassVariable).eval().nodes();
+		BitSet staticAllocationSites = aliasIndex.getPointsToSet(classVariables);
+		
+		AtlasSet<Node> staticMutations = new AtlasHashSet<Node>();
+		
+		// Reference (x) -InstanceVariableWritten-> InstanceVariableAssignment (x.f=)
+		if(!staticAllocationSites.isEmpty()){
+			for(Edge instanceVariableWrittenEdge : scope.edgesTaggedWithAny(XCSG.InstanceVariableWritten).eval().edges()){
+				Node receiver = instanceVariableWrittenEdge.getNode(EdgeDirection.FROM);
+				if(aliasIndex.getPointsToSet(receiver).intersects(staticAllocationSites)){
+					staticMutations.add(instanceVariableWrittenEdge.getNode(EdgeDirection.TO));
+				}
+			}
+			
+			// ArrayWrite (a[i]=) where a may point to a static array
+			AtlasSet<Node> componentWrites = new AtlasHashSet<Node>();
+			for(int id = staticAllocationSites.nextSetBit(0); id >= 0; id = staticAllocationSites.nextSetBit(id+1)){
+				for(Node componentWrite : arrayComponentIndex.getComponentWrites(aliasIndex.getAllocationSite(id))){
+					componentWrites.add(componentWrite);
+				}
+			}
+			staticMutations.addAll(Common.toQ(componentWrites).intersection(scope).eval().nodes());
+		}
+		
+		// S.f = y
+		staticMutations.addAll(scope.nodesTaggedWithAny(JavaStopGap.CLASS_VARIABLE_ASSIGNMENT).eval().nodes());
+		
+		return new MethodContainmentIndex(scope).getContainingMethods(staticMutations);
+	}
+
+	private void markMutableAliases(Q aliases) {
 		for(Node alias : aliases.eval().nodes()){
 			// since we are only placing types for the convenience of client analyses
 			// we will only place types on references that would be typed in the reiminfer system
 			// note: we actually known something more important (whether any of the aliases could
 			// mutate the object they reference), this is just record now
 			if(AnalysisUtilities.isTypable(alias)){
-				if(!readonly) {
-					if(alias.taggedWith(XCSG.InstanceVariable) || alias.taggedWith(XCSG.ReturnValue)){
-						AnalysisUtilities.removeTypes(alias, ImmutabilityTypes.READONLY);
-					} else {
-						AnalysisUtilities.removeTypes(alias, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
-					}
+				if(alias.taggedWith(XCSG.InstanceVariable) || alias.taggedWith(XCSG.ReturnValue)){
+					AnalysisUtilities.removeTypes(context, alias, ImmutabilityTypes.READONLY);
+				} else {
+					AnalysisUtilities.removeTypes(context, alias, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
 				}
 			}
 		}
 	}
 	
-	private ImmutabilityTypes getDefaultMaximalType(GraphElement ge) {
-		ImmutabilityTypes maximalType;
-		if(ge.taggedWith(XCSG.Instantiation) || ge.taggedWith(XCSG.ArrayInstantiation)){
-			maximalType = ImmutabilityTypes.MUTABLE;
-		} else {
-			// all other cases default to readonly as the maximal type
-			maximalType = ImmutabilityTypes.READONLY;
-		}
-		return maximalType;
-	}
-	
-	/**
-	 * Flattens the remaining immutability qualifiers to the maximal type
-	 * and applies the maximal type as a tag
-	 */
-	private void extractMaximalTypes(){
-		Q methods = Common.universe().nodesTaggedWithAny(XCSG.Method);
-		Q typesToExtract = Common.universe().selectNode(AnalysisUtilities.IMMUTABILITY_QUALIFIERS).difference(methods);
-		AtlasSet<Node> attributedNodes = Common.resolve(new NullProgressMonitor(), typesToExtract.eval()).nodes();
-		for(Node attributedNode : attributedNodes){
-			Set<ImmutabilityTypes> types = getTypes(attributedNode);
-			ArrayList<ImmutabilityTypes> orderedTypes = new ArrayList<ImmutabilityTypes>(types.size());
-			orderedTypes.addAll(types);
-			if(orderedTypes.isEmpty()){
-				attributedNode.tag(ImmutabilityTags.UNTYPED);
-			} else {
-				Collections.sort(orderedTypes);
-				ImmutabilityTypes maximalType = orderedTypes.get(orderedTypes.size()-1);
-				attributedNode.tag(maximalType.toString());
-			}
-		}
-		AtlasSet<Node> itemsToTrack = getUntrackedItems(attributedNodes);
-		for(GraphElement untouchedTrackedItem : itemsToTrack){
-			ImmutabilityTypes maximalType = getDefaultMaximalType(untouchedTrackedItem);
-			untouchedTrackedItem.tag(maximalType.toString());
-		}
-	}
-	
-	private AtlasSet<Node> getUntrackedItems(AtlasSet<Node> attributedNodes) {
-		Q literals = Common.universe().nodesTaggedWithAll(XCSG.Literal);
-		Q parameters = Common.universe().nodesTaggedWithAny(XCSG.Parameter);
-		Q returnValues = Common.universe().nodesTaggedWithAny(XCSG.ReturnValue);
-		Q instanceVariables = Common.universe().nodesTaggedWithAny(XCSG.InstanceVariable);
-		Q thisNodes = Common.universe().nodesTaggedWithAny(XCSG.Identity);
-		Q classVariables = Common.universe().nodesTaggedWithAny(XCSG.ClassVariable);
-		// note local variables may also get tracked, but only if need be during the analysis
-		Q trackedItems = literals.union(parameters, returnValues, instanceVariables, thisNodes, classVariables);
-		Q untouchedTrackedItems = trackedItems.difference(trackedItems.nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE), Common.toQ(attributedNodes));
-		AtlasSet<Node> itemsToTrack = new AtlasHashSet<Node>();
-		itemsToTrack.addAll(untouchedTrackedItems.eval().nodes());
-		return itemsToTrack;
-	}
-
 }
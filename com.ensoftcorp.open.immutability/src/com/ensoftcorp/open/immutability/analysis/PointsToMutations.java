@@ -0,0 +1,121 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.text.DecimalFormat;
+import java.util.BitSet;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasHashSet;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.log.Log;
+
+/**
+ * The mutation facts proven by the points-to analysis
+ *
+ * An allocation site is mutated if any of its aliases is the receiver of an
+ * instance variable write, if it is an array with a component write, or if it
+ * holds a mutated array in one of its instance variables. The facts are shared
+ * by the points-to and hybrid analysis modes.
+ */
+public class PointsToMutations {
+
+	/**
+	 * Helper for formatting decimal strings
+	 */
+	private static final DecimalFormat FORMAT = new DecimalFormat("#.##");
+
+	private final PointsToAliasIndex aliasIndex;
+	private final PointsToArrayComponentIndex arrayComponentIndex;
+	private final AtlasSet<Node> mutatedReceivers;
+	private final BitSet mutatedAllocationSites;
+
+	/**
+	 * Computes the mutated allocation sites for the allocation sites in the given context
+	 * @param configuration
+	 * @param context
+	 */
+	public PointsToMutations(AnalysisConfiguration configuration, Q context){
+		// considers primitives, String literals, and enum constants
+		// note: this set also includes null, but that case is explicitly handled in address creation
+		//       so all null literals are represented with a single address id to save on space
+		Q specialInstantiations = Common.universe().nodesTaggedWithAny(XCSG.Java.EnumConstant).difference(Common.universe().nodesTaggedWithAny(XCSG.Null));
+		Q objectInstantiations = Common.universe().nodesTaggedWithAny(XCSG.Instantiation, XCSG.ArrayInstantiation).union(specialInstantiations);
+		Q instanceVariableWrittenEdges = Common.universe().edgesTaggedWithAny(XCSG.InstanceVariableWritten);
+		Q instanceVariableAssignments = Common.universe().nodesTaggedWithAny(XCSG.InstanceVariableAssignment);
+		Q arrayIdentityForEdges = Common.universe().edgesTaggedWithAny(XCSG.ArrayIdentityFor);
+		Q arrayWrites = Common.universe().nodesTaggedWithAny(XCSG.ArrayWrite);
+
+		// invert the points-to sets once so that each reference maps to the allocation sites it may point to
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Indexing points-to sets...");
+		long startIndexing = System.nanoTime();
+		aliasIndex = new PointsToAliasIndex(configuration, context.intersection(objectInstantiations));
+		long stopIndexing = System.nanoTime();
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Indexed points-to sets of " + aliasIndex.getAllocationSiteCount() + " allocation sites in " + FORMAT.format((stopIndexing-startIndexing)/1000.0/1000.0) + " ms");
+
+		// an allocation site is mutated if any of its aliases is the receiver of an instance variable write
+		AtlasSet<Node> instanceVariableReceivers = instanceVariableWrittenEdges.predecessors(instanceVariableAssignments).eval().nodes();
+		mutatedAllocationSites = aliasIndex.getPointsToSet(instanceVariableReceivers);
+
+		// mutations to the array components mutate the array itself
+		// and arrays held in instance variables mutate the objects holding them
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Indexing array component writes...");
+		long startArrayIndexing = System.nanoTime();
+		arrayComponentIndex = new PointsToArrayComponentIndex(configuration, aliasIndex);
+		mutatedAllocationSites.or(arrayComponentIndex.getMutatedArrays());
+		mutatedAllocationSites.or(aliasIndex.getPointsToSet(arrayComponentIndex.getMutatedContainers()));
+		long stopArrayIndexing = System.nanoTime();
+		if(configuration.isGeneralLoggingEnabled()) Log.info("Indexed array component writes in " + FORMAT.format((stopArrayIndexing-startArrayIndexing)/1000.0/1000.0) + " ms");
+
+		// the references a mutation is made through
+		// Reference (x) -InstanceVariableWritten-> InstanceVariableAssignment (x.f=)
+		// ArrayIdentity (a) -ArrayIdentityFor-> ArrayWrite (a[i]=)
+		mutatedReceivers = new AtlasHashSet<Node>();
+		mutatedReceivers.addAll(instanceVariableReceivers);
+		mutatedReceivers.addAll(arrayIdentityForEdges.predecessors(arrayWrites).eval().nodes());
+	}
+
+	/**
+	 * Returns the points-to alias index the facts were computed from
+	 * @return
+	 */
+	public PointsToAliasIndex getAliasIndex(){
+		return aliasIndex;
+	}
+
+	/**
+	 * Returns the array component write index the facts were computed from
+	 * @return
+	 */
+	public PointsToArrayComponentIndex getArrayComponentIndex(){
+		return arrayComponentIndex;
+	}
+
+	/**
+	 * Returns the references that are directly used to mutate an object
+	 * (receivers of instance variable writes and arrays of array component writes)
+	 * @return
+	 */
+	public AtlasSet<Node> getMutatedReceivers(){
+		return mutatedReceivers;
+	}
+
+	/**
+	 * Returns the ids of the mutated allocation sites
+	 * The returned set is a copy and may be modified by the caller
+	 * @return
+	 */
+	public BitSet getMutatedAllocationSites(){
+		return (BitSet) mutatedAllocationSites.clone();
+	}
+
+	/**
+	 * Returns every reference that may point to a mutated allocation site
+	 * @return
+	 */
+	public AtlasSet<Node> getMutatedAliases(){
+		return aliasIndex.getAliases(mutatedAllocationSites);
+	}
+
+}
@@ -0,0 +1,392 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
+
+/**
+ * Records why each immutability qualifier was removed
+ *
+ * Each removal is recorded as one entry holding the node the types were removed from,
+ * the removed types, the constraint (work item) and rule being solved, and the operand
+ * of the constraint that caused the removal. The operands are given in the order of
+ * the constraint form, and the cause is the operand the Propagator finds would have
+ * supported the removed qualifiers. Nodes are mapped to dense ids and entries
+ * are stored in growable primitive arrays, so there is at most one entry per removed
+ * qualifier bit. The entries of each node are chained so that the causal chain of any
+ * node can be reconstructed after the analysis has completed.
+ */
+public class ProvenanceRecorder {
+
+	private static final int NONE = -1;
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final AnalysisConfiguration configuration;
+	private final TraceBuffer traceBuffer;
+	
+	private boolean recording = false;
+
+	// the form, operands (x, y, z) and operand masks of the constraint currently being solved
+	private ConstraintType currentType = null;
+	private final Node[] operands = new Node[3];
+	private final int[] operandMasks = new int[3];
+	private Node currentConstraint = null;
+
+	// dense node ids
+	private Map<Node,Integer> nodeIds = new HashMap<Node,Integer>();
+	private List<Node> nodes = new ArrayList<Node>();
+	private int[] lastEntries = new int[0];
+
+	// removal entries
+	private int entries = 0;
+	private int[] entryNodes = new int[0];
+	private int[] entryConstraints = new int[0];
+	private int[] entryCauses = new int[0];
+	private int[] entryPrevious = new int[0];
+	private byte[] entryRemovedMasks = new byte[0];
+	private byte[] entryRules = new byte[0];
+
+	ProvenanceRecorder(AnalysisConfiguration configuration, TraceBuffer traceBuffer){
+		this.configuration = configuration;
+		this.traceBuffer = traceBuffer;
+	}
+
+	/**
+	 * A recorded qualifier removal
+	 */
+	public class Removal {
+		private final int sequence;
+		private final Node node;
+		private final Node constraint;
+		private final Node cause;
+		private final EnumSet<ImmutabilityTypes> removedTypes;
+		private final InferenceRule rule;
+
+		private Removal(int entry){
+			this.sequence = entry;
+			this.node = nodes.get(entryNodes[entry]);
+			this.constraint = entryConstraints[entry] == NONE ? null : nodes.get(entryConstraints[entry]);
+			this.cause = entryCauses[entry] == NONE ? null : nodes.get(entryCauses[entry]);
+			this.removedTypes = ImmutabilityTypes.getTypes(entryRemovedMasks[entry]);
+			this.rule = InferenceRule.getRule(entryRules[entry]);
+		}
+
+		/**
+		 * Returns the position of this removal in the order removals were made
+		 * @return
+		 */
+		public int getSequence() {
+			return sequence;
+		}
+
+		public Node getNode() {
+			return node;
+		}
+
+		/**
+		 * Returns the work item that was being solved or null if the removal was not made while solving a work item,
+		 * removals made by a core inference engine have no work item
+		 * @return
+		 */
+		public Node getConstraint() {
+			return constraint;
+		}
+
+		/**
+		 * Returns the operand of the constraint whose qualifiers caused the removal, or null
+		 * if the removal was not caused by another reference (for example a constant qualifier)
+		 * @return
+		 */
+		public Node getCause() {
+			return cause;
+		}
+
+		public EnumSet<ImmutabilityTypes> getRemovedTypes() {
+			return EnumSet.copyOf(removedTypes);
+		}
+
+		public InferenceRule getRule() {
+			return rule;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder result = new StringBuilder();
+			result.append("#" + sequence + " " + rule.toString() + " removed " + removedTypes.toString() + " from " + getName(node));
+			if(constraint != null){
+				result.append(" while solving " + getName(constraint));
+			}
+			if(cause != null){
+				result.append(" because of " + getName(cause));
+			}
+			return result.toString();
+		}
+	}
+
+	/**
+	 * Starts recording removals if provenance recording is enabled, previous recordings are discarded
+	 */
+	public void start(){
+		clear();
+		recording = configuration.isProvenanceRecordingEnabled();
+		if(recording){
+			entryNodes = new int[INITIAL_CAPACITY];
+			entryConstraints = new int[INITIAL_CAPACITY];
+			entryCauses = new int[INITIAL_CAPACITY];
+			entryPrevious = new int[INITIAL_CAPACITY];
+			entryRemovedMasks = new byte[INITIAL_CAPACITY];
+			entryRules = new byte[INITIAL_CAPACITY];
+			lastEntries = new int[INITIAL_CAPACITY];
+		}
+	}
+
+	/**
+	 * Stops recording removals, the recorded removals remain queryable until cleared
+	 */
+	public void stop(){
+		recording = false;
+		clearOperands();
+		currentConstraint = null;
+	}
+
+	/**
+	 * Discards the recorded removals
+	 */
+	public void clear(){
+		stop();
+		nodeIds = new HashMap<Node,Integer>();
+		nodes = new ArrayList<Node>();
+		lastEntries = new int[0];
+		entries = 0;
+		entryNodes = new int[0];
+		entryConstraints = new int[0];
+		entryCauses = new int[0];
+		entryPrevious = new int[0];
+		entryRemovedMasks = new byte[0];
+		entryRules = new byte[0];
+	}
+
+	public boolean isRecording(){
+		return recording;
+	}
+
+	/**
+	 * Sets the work item that is currently being solved
+	 * @param constraint
+	 */
+	public void setCurrentConstraint(Node constraint){
+		currentConstraint = constraint;
+	}
+
+	/**
+	 * Sets the operands of the constraint that is about to be solved, in the order of its form
+	 * @param type
+	 * @param x May be null if x is a constant qualifier
+	 * @param xTypes
+	 * @param y
+	 * @param yTypes
+	 * @param z May be null for constraints with two operands
+	 * @param zTypes May be null for constraints with two operands
+	 */
+	public void setOperands(ConstraintType type, Node x, Set<ImmutabilityTypes> xTypes, Node y, Set<ImmutabilityTypes> yTypes, Node z, Set<ImmutabilityTypes> zTypes){
+		if(recording){
+			setOperands(type, x, ImmutabilityTypes.getMask(xTypes), y, ImmutabilityTypes.getMask(yTypes), z, zTypes == null ? 0 : ImmutabilityTypes.getMask(zTypes));
+		}
+	}
+
+	/**
+	 * Sets the operands of the constraint that is about to be solved, in the order of its form
+	 * @param type
+	 * @param x
+	 * @param xMask
+	 * @param y
+	 * @param yMask
+	 * @param z
+	 * @param zMask
+	 */
+	public void setOperands(ConstraintType type, Node x, int xMask, Node y, int yMask, Node z, int zMask){
+		currentType = type;
+		operands[0] = x;
+		operands[1] = y;
+		operands[2] = z;
+		operandMasks[0] = xMask;
+		operandMasks[1] = yMask;
+		operandMasks[2] = zMask;
+	}
+
+	/**
+	 * Clears the operands once a constraint has been solved
+	 */
+	public void clearOperands(){
+		currentType = null;
+		operands[0] = null;
+		operands[1] = null;
+		operands[2] = null;
+	}
+
+	/**
+	 * Records the removal of types from a node, only valid while recording
+	 * @param node
+	 * @param removedMask
+	 */
+	void removed(Node node, int removedMask){
+		if(entries == entryNodes.length){
+			int capacity = entries * 2;
+			entryNodes = Arrays.copyOf(entryNodes, capacity);
+			entryConstraints = Arrays.copyOf(entryConstraints, capacity);
+			entryCauses = Arrays.copyOf(entryCauses, capacity);
+			entryPrevious = Arrays.copyOf(entryPrevious, capacity);
+			entryRemovedMasks = Arrays.copyOf(entryRemovedMasks, capacity);
+			entryRules = Arrays.copyOf(entryRules, capacity);
+		}
+
+		int cause = getCause(node, removedMask);
+		int nodeId = getId(node);
+		entryNodes[entries] = nodeId;
+		entryConstraints[entries] = currentConstraint == null ? NONE : getId(currentConstraint);
+		entryCauses[entries] = cause;
+		entryPrevious[entries] = lastEntries[nodeId];
+		entryRemovedMasks[entries] = (byte) removedMask;
+		entryRules[entries] = (byte) traceBuffer.getCurrentRule().ordinal();
+		lastEntries[nodeId] = entries;
+		entries++;
+	}
+
+	/**
+	 * Returns the id of the operand that caused the removal or NONE
+	 * @param node
+	 * @param removedMask
+	 * @return
+	 */
+	private int getCause(Node node, int removedMask){
+		if(currentType == null){
+			return NONE;
+		}
+		for(int operand=0; operand<operands.length; operand++){
+			if(node.equals(operands[operand])){
+				int cause = Propagator.getCause(currentType, operandMasks[0], operandMasks[1], operandMasks[2], operand, removedMask);
+				if(cause == -1 || operands[cause] == null || operands[cause].equals(node)){
+					return NONE;
+				}
+				return getId(operands[cause]);
+			}
+		}
+		return NONE;
+	}
+
+	private int getId(Node node){
+		Integer id = nodeIds.get(node);
+		if(id == null){
+			id = nodes.size();
+			nodeIds.put(node, id);
+			nodes.add(node);
+			if(id == lastEntries.length){
+				lastEntries = Arrays.copyOf(lastEntries, Math.max(INITIAL_CAPACITY, id * 2));
+			}
+			lastEntries[id] = NONE;
+		}
+		return id;
+	}
+
+	/**
+	 * Returns the recorded removals of the given node in the order they were made
+	 * @param node
+	 * @return
+	 */
+	public List<Removal> getRemovals(Node node){
+		LinkedList<Removal> removals = new LinkedList<Removal>();
+		Integer nodeId = nodeIds.get(node);
+		if(nodeId != null){
+			for(int entry = lastEntries[nodeId]; entry != NONE; entry = entryPrevious[entry]){
+				removals.addFirst(new Removal(entry));
+			}
+		}
+		return removals;
+	}
+
+	/**
+	 * Returns the causal chain of removals that lead to the given type being removed from the given node
+	 *
+	 * The chain starts with the removal of the type from the node and is followed by the removals
+	 * made to the causing operand before that removal, and so on transitively.
+	 *
+	 * @param node
+	 * @param type
+	 * @return The causal chain of removals, or an empty list if the type was never removed from the node
+	 */
+	public List<Removal> getCausalChain(Node node, ImmutabilityTypes type){
+		List<Removal> chain = new ArrayList<Removal>();
+		Integer nodeId = nodeIds.get(node);
+		if(nodeId == null){
+			return chain;
+		}
+		int removal = NONE;
+		for(int entry = lastEntries[nodeId]; entry != NONE; entry = entryPrevious[entry]){
+			if((entryRemovedMasks[entry] & type.getMask()) != 0){
+				removal = entry;
+				break;
+			}
+		}
+		if(removal == NONE){
+			return chain;
+		}
+
+		// walk backwards in time through the removals of the causing operands
+		BitSet visited = new BitSet(entries);
+		LinkedList<Integer> worklist = new LinkedList<Integer>();
+		worklist.add(removal);
+		visited.set(removal);
+		while(!worklist.isEmpty()){
+			int entry = worklist.removeFirst();
+			chain.add(new Removal(entry));
+			int operand = entryCauses[entry];
+			if(operand == NONE){
+				continue;
+			}
+			for(int cause = lastEntries[operand]; cause != NONE; cause = entryPrevious[cause]){
+				if(cause < entry && !visited.get(cause)){
+					visited.set(cause);
+					worklist.add(cause);
+				}
+			}
+		}
+		return chain;
+	}
+
+	/**
+	 * Renders the causal chain of removals that lead to the given type being removed from the given node
+	 * @param node
+	 * @param type
+	 * @return
+	 */
+	public String explain(Node node, ImmutabilityTypes type){
+		List<Removal> chain = getCausalChain(node, type);
+		if(chain.isEmpty()){
+			return "No recorded removal of " + type.toString() + " from " + getName(node);
+		}
+		StringBuilder result = new StringBuilder();
+		for(Removal removal : chain){
+			if(result.length() > 0){
+				result.append("\n");
+			}
+			result.append(removal.toString());
+		}
+		return result.toString();
+	}
+
+	private String getName(Node node){
+		return (node.hasAttr(XCSG.name) ? node.getAttr(XCSG.name).toString() : "") + " (" + node.address().toAddressString() + ")";
+	}
+
+}
@@ -0,0 +1,223 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.db.set.AtlasSet;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.ParallelUtilities.ChunkTask;
+import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+
+/**
+ * Materializes the immutability qualifier sets as tags once the analysis has completed
+ *
+ * The qualifier sets are read once, in parallel chunks, and reduced to type masks.
+ * The tags are then applied in bulk by the calling thread. Tracked items that were
+ * never touched by the analysis are tagged with their default types, which are
+ * looked up from a table of node kinds instead of being recomputed per node.
+ *
+ * Analyses of overlapping scopes type the same shared references, such as the
+ * parameters of library methods, and publish their results one at a time. The
+ * qualifiers of a node that already has qualifier tags are merged with the tags,
+ * keeping the qualifiers both results allow or else the most specific qualifier of
+ * either, so the published tags of two analyses do not depend on their order.
+ */
+public class ResultMaterializer {
+
+	/**
+	 * The kinds of tracked items that are tagged even if the analysis never touched them
+	 * Note local variables may also get tracked, but only if need be during the analysis
+	 */
+	private static final String[] TRACKED_ITEM_KINDS = new String[]{
+		XCSG.Literal, XCSG.ReturnValue, XCSG.Parameter, XCSG.Identity, XCSG.InstanceVariable, XCSG.ClassVariable
+	};
+
+	private static final int READONLY = ImmutabilityTypes.READONLY.getMask();
+	private static final int POLYREAD = ImmutabilityTypes.POLYREAD.getMask();
+	private static final int MUTABLE = ImmutabilityTypes.MUTABLE.getMask();
+
+	/**
+	 * The published mask of a node without qualifier tags
+	 */
+	private static final int UNPUBLISHED = -1;
+
+	private ResultMaterializer(){}
+
+	/**
+	 * Flattens the remaining immutability qualifiers to the maximal type
+	 * and applies the maximal type as a tag
+	 * @param context The analysis whose qualifiers are materialized
+	 * @param includeMethods If false the qualifiers of methods are not materialized
+	 */
+	public static void extractMaximalTypes(AnalysisContext context, boolean includeMethods){
+		materialize(context, includeMethods, true);
+	}
+
+	/**
+	 * Converts the immutability types to tags for partial program analysis
+	 * @param context The analysis whose qualifiers are materialized
+	 */
+	public static void convertTypesToTags(AnalysisContext context){
+		materialize(context, true, false);
+	}
+
+	private static void materialize(final AnalysisContext context, boolean includeMethods, final boolean maximalOnly){
+		AnalysisConfiguration configuration = context.getConfiguration();
+		
+		// only the qualifiers given by this analysis are materialized
+		List<Node> attributedNodeList = new ArrayList<Node>();
+		for(Node typedReference : context.getTypedReferences()){
+			if(!includeMethods && typedReference.taggedWith(XCSG.Method)){
+				continue;
+			}
+			attributedNodeList.add(typedReference);
+		}
+		final Node[] attributedNodes = attributedNodeList.toArray(new Node[attributedNodeList.size()]);
+
+		// reduce each qualifier set to a mask, the qualifier sets are only read here
+		final byte[] masks = new byte[attributedNodes.length];
+		ParallelUtilities.run(configuration, attributedNodes.length, new ChunkTask<Void>(){
+			@Override
+			public Void run(int start, int end) {
+				for(int i=start; i<end; i++){
+					Set<ImmutabilityTypes> types = context.getQualifiers(attributedNodes[i]);
+					masks[i] = (byte) ImmutabilityTypes.getMask(types);
+				}
+				return null;
+			}
+		});
+
+		// tag the attributed nodes in bulk
+		for(int i=0; i<attributedNodes.length; i++){
+			applyTags(attributedNodes[i], masks[i], maximalOnly);
+		}
+
+		// tag the tracked items the analysis never touched with their default types
+		int[] defaultMasks = getDefaultMasks(configuration, maximalOnly);
+		AtlasSet<Node> trackedItems = context.getScope().nodesTaggedWithAny(TRACKED_ITEM_KINDS).eval().nodes();
+		List<Node> untrackedItems = new ArrayList<Node>();
+		for(Node trackedItem : trackedItems){
+			if(context.hasQualifiers(trackedItem)){
+				continue;
+			}
+			if(getPublishedMask(trackedItem) != UNPUBLISHED){
+				// the defaults allow every qualifier another analysis published
+				continue;
+			}
+			untrackedItems.add(trackedItem);
+		}
+		for(Node untrackedItem : untrackedItems){
+			applyTags(untrackedItem, getDefaultMask(untrackedItem, defaultMasks), maximalOnly);
+		}
+	}
+
+	private static void applyTags(Node node, int mask, boolean maximalOnly){
+		if(maximalOnly && mask != 0){
+			mask = ImmutabilityTypes.getMaximalType(mask).getMask();
+		}
+		int published = getPublishedMask(node);
+		if(published != UNPUBLISHED){
+			mask = merge(published, mask);
+			node.tags().remove(ImmutabilityTags.READONLY);
+			node.tags().remove(ImmutabilityTags.POLYREAD);
+			node.tags().remove(ImmutabilityTags.MUTABLE);
+			node.tags().remove(ImmutabilityTags.UNTYPED);
+		}
+		if(mask == 0){
+			node.tag(ImmutabilityTags.UNTYPED);
+		} else {
+			for(ImmutabilityTypes type : ImmutabilityTypes.getTypes(mask)){
+				node.tag(type.toString());
+			}
+		}
+	}
+
+	/**
+	 * Returns the qualifiers both masks allow, or the most specific qualifier of either
+	 * if they have none in common, an untyped mask stays untyped
+	 * @param published
+	 * @param mask
+	 * @return
+	 */
+	private static int merge(int published, int mask){
+		if(published == 0 || mask == 0){
+			return 0;
+		}
+		int common = published & mask;
+		return common != 0 ? common : Integer.lowestOneBit(published | mask);
+	}
+
+	/**
+	 * Returns the mask of the qualifier tags of a node, 0 for untyped nodes and UNPUBLISHED for nodes without qualifier tags
+	 * @param node
+	 * @return
+	 */
+	private static int getPublishedMask(Node node){
+		if(node.taggedWith(ImmutabilityTags.UNTYPED)){
+			return 0;
+		}
+		int mask = 0;
+		if(node.taggedWith(ImmutabilityTags.READONLY)){
+			mask |= READONLY;
+		}
+		if(node.taggedWith(ImmutabilityTags.POLYREAD)){
+			mask |= POLYREAD;
+		}
+		if(node.taggedWith(ImmutabilityTags.MUTABLE)){
+			mask |= MUTABLE;
+		}
+		return mask == 0 ? UNPUBLISHED : mask;
+	}
+
+	/**
+	 * Returns the default masks of each tracked item kind, indexed in the same order as TRACKED_ITEM_KINDS
+	 * with two leading entries for the dummy return and assignment nodes
+	 * The kinds are checked in the same order as AnalysisUtilities.getDefaultTypes
+	 * @param maximalOnly
+	 * @return
+	 */
+	private static int[] getDefaultMasks(AnalysisConfiguration configuration, boolean maximalOnly){
+		if(maximalOnly){
+			// all tracked items (none of which are allocations) default to readonly as the maximal type
+			int[] defaultMasks = new int[TRACKED_ITEM_KINDS.length + 2];
+			for(int i=0; i<defaultMasks.length; i++){
+				defaultMasks[i] = READONLY;
+			}
+			return defaultMasks;
+		} else {
+			// mirrors AnalysisUtilities.getDefaultTypes
+			int instanceVariableMask = READONLY | POLYREAD;
+			if(configuration.isAllowDefaultMutableInstancesVariablesEnabled()){
+				instanceVariableMask |= MUTABLE;
+			}
+			return new int[]{
+				READONLY | POLYREAD | MUTABLE, // DUMMY_RETURN_NODE
+				READONLY | POLYREAD | MUTABLE, // DUMMY_ASSIGNMENT_NODE
+				READONLY | POLYREAD | MUTABLE, // Literal
+				READONLY | POLYREAD,           // ReturnValue
+				READONLY | POLYREAD | MUTABLE, // Parameter
+				READONLY | POLYREAD | MUTABLE, // Identity
+				instanceVariableMask,          // InstanceVariable
+				READONLY | MUTABLE             // ClassVariable
+			};
+		}
+	}
+
+	private static int getDefaultMask(Node untrackedItem, int[] defaultMasks){
+		if(untrackedItem.taggedWith(AnalysisUtilities.DUMMY_RETURN_NODE)){
+			return defaultMasks[0];
+		}
+		if(untrackedItem.taggedWith(AnalysisUtilities.DUMMY_ASSIGNMENT_NODE)){
+			return defaultMasks[1];
+		}
+		for(int i=0; i<TRACKED_ITEM_KINDS.length; i++){
+			if(untrackedItem.taggedWith(TRACKED_ITEM_KINDS[i])){
+				return defaultMasks[i+2];
+			}
+		}
+		return READONLY;
+	}
+
+}
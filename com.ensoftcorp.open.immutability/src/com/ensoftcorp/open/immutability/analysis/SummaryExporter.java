@@ -0,0 +1,235 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.eclipse.core.runtime.Platform;
+import org.osgi.framework.Version;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.query.Q;
+import com.ensoftcorp.atlas.core.script.Common;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
+import com.ensoftcorp.open.immutability.log.Log;
+import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
+
+/**
+ * Exports the field and method summaries of a partial program analysis
+ *
+ * Each exporter owns the state of its export and only summarizes the fields
+ * and methods in its scope.
+ */
+public class SummaryExporter {
+	
+	private static final Version atlasVersion = Platform.getBundle("com.ensoftcorp.atlas.core").getVersion();
+	private static final Version immutabilityToolboxVersion = Platform.getBundle("com.ensoftcorp.open.immutability").getVersion();
+	
+	private final Q scope;
+	
+	private int fieldsSummarized = 0;
+	private int methodsSummarized = 0;
+	
+	/**
+	 * Creates an exporter of the whole program
+	 */
+	public SummaryExporter(){
+		this(Common.universe());
+	}
+	
+	/**
+	 * Creates an exporter of the fields and methods in the given scope
+	 * @param scope
+	 */
+	public SummaryExporter(Q scope){
+		this.scope = scope;
+	}
+	
+	/**
+	 * Exports the summaries of the fields and methods in the scope
+	 * @param outputXMLFile
+	 * @throws FileNotFoundException
+	 * @throws XMLStreamException
+	 */
+	public void exportSummary(File outputXMLFile) throws FileNotFoundException, XMLStreamException {
+		fieldsSummarized=0;
+		methodsSummarized=0;
+		Log.info("Exporting summary: " + outputXMLFile.getAbsolutePath());
+		XMLOutputFactory output = XMLOutputFactory.newInstance();
+		XMLStreamWriter writer = output.createXMLStreamWriter(new FileOutputStream(outputXMLFile));
+		writer.writeStartDocument();
+		
+		writer.writeStartElement("immutability");
+		writer.writeAttribute("atlas", atlasVersion.getMajor() + "." + atlasVersion.getMinor() + "." + atlasVersion.getMicro());
+		writer.writeAttribute("immutability-toolbox", immutabilityToolboxVersion.getMajor() + "." + immutabilityToolboxVersion.getMinor() + "." + immutabilityToolboxVersion.getMicro());
+		
+		for(Node field : scope.nodesTaggedWithAny(XCSG.Field).nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE, ImmutabilityTags.UNTYPED).eval().nodes()){
+			try {
+				serializeField(field, writer);
+			} catch (Exception e){
+				Log.error("Error serializing field: " + field.address().toAddressString(), e);
+				throw e;
+			}
+			writer.flush();
+			fieldsSummarized++;
+		}
+		
+		for(Node method : scope.nodesTaggedWithAny(XCSG.Method).nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE, ImmutabilityTags.UNTYPED).eval().nodes()){
+			try {
+				serializeMethod(method, writer);
+			} catch (Exception e){
+				Log.error("Error serializing method: " + method.address().toAddressString(), e);
+				throw e;
+			}
+			writer.flush();
+			methodsSummarized++;
+		}
+		
+		writer.writeEndElement();
+		
+		writer.writeEndDocument();
+		writer.flush();
+		writer.close();
+		
+		String message = "Summarized: " + fieldsSummarized + " fields, " + methodsSummarized + " methods.";
+		Log.info("Summary exported.\n" + message);
+	}
+	
+	private void serializeField(Node field, XMLStreamWriter writer) throws XMLStreamException {
+		writer.writeStartElement("field");
+		
+		if(field.taggedWith(XCSG.ClassVariable)){
+			writer.writeAttribute("type", XCSG.ClassVariable);
+		} else if(field.taggedWith(XCSG.InstanceVariable)){
+			writer.writeAttribute("type", XCSG.InstanceVariable);
+		} else {
+			Log.warning("Skipping method for unknown field type for field: " + field.address().toAddressString());
+			return;
+		}
+		
+		Node parentClass = Common.toQ(field).parent().eval().nodes().getFirst();
+		if(parentClass == null){
+			Log.warning("Skipping filed, because field " + field.address().toAddressString() + " does not have a parent!");
+			return;
+		}
+		
+		Node pkg = Common.toQ(field).containers().nodesTaggedWithAny(XCSG.Package).eval().nodes().getFirst();
+		if(pkg == null){
+			Log.warning("Package for field " + field.address().toAddressString() + " does not exist!");
+			return;
+		}
+		
+		writer.writeAttribute("package", pkg.getAttr(XCSG.name).toString());
+		writer.writeAttribute("class", parentClass.getAttr(XCSG.name).toString());
+		writer.writeAttribute("name", field.getAttr(XCSG.name).toString());
+		
+		String fieldImmutabilityTags = stringifyImmutabilityTags(field);
+		if(fieldImmutabilityTags.equals("")){
+			Log.warning("Missing type qualifier tags on field: " + field.address().toAddressString());
+		}
+		writer.writeAttribute("immutability", fieldImmutabilityTags);
+		writer.writeEndElement();
+	}
+
+	private void serializeMethod(Node method, XMLStreamWriter writer) throws XMLStreamException {
+		// write method
+		writer.writeStartElement("method");
+		writer.writeAttribute("signature", method.getAttr(JavaStopGap.SIGNATURE).toString());
+		
+		if(method.taggedWith(XCSG.Constructor)){
+			writer.writeAttribute("type", XCSG.Constructor);
+		} else if(method.taggedWith(XCSG.ClassMethod)){
+			writer.writeAttribute("type", XCSG.ClassMethod);
+		} else if(method.taggedWith(XCSG.InstanceMethod)){
+			writer.writeAttribute("type", XCSG.InstanceMethod);
+		} else {
+			Log.warning("Skipping method, because of unknown method type for method: " + method.address().toAddressString());
+			return;
+		}
+		
+		Node parentClass = Common.toQ(method).parent().eval().nodes().getFirst();
+		if(parentClass == null){
+			Log.warning("Skipping method because method " + method.address().toAddressString() + " does not have a parent!");
+			return;
+		}
+		
+		Node pkg = Common.toQ(method).containers().nodesTaggedWithAny(XCSG.Package).eval().nodes().getFirst();
+		if(pkg == null){
+			Log.warning("Skipping, method because package for method " + method.address().toAddressString() + " does not exist!");
+			return;
+		}
+		
+		writer.writeAttribute("package", pkg.getAttr(XCSG.name).toString());
+		writer.writeAttribute("class", parentClass.getAttr(XCSG.name).toString());
+		String methodImmutabilityTags = stringifyImmutabilityTags(method);
+		if(methodImmutabilityTags.equals("")){
+			Log.warning("Missing type qualifier tags on method: " + method.address().toAddressString());
+		}
+		writer.writeAttribute("immutability", methodImmutabilityTags);
+		
+		// write this node (if one exists)
+		Node thisNode = Common.toQ(method).children().nodesTaggedWithAll(XCSG.Identity).eval().nodes().getFirst();
+		if(thisNode != null){
+			writer.writeStartElement("this");
+			String thisImmutabilityTags = stringifyImmutabilityTags(thisNode);
+			if(thisImmutabilityTags.equals("")){
+				Log.warning("Missing type qualifier tags on this node: " + thisNode.address().toAddressString());
+			}
+			writer.writeAttribute("immutability", thisImmutabilityTags);
+			writer.writeEndElement();
+		}
+		
+		// write parameters
+		for(Node parameter : Common.toQ(method).children().nodesTaggedWithAll(XCSG.Parameter).eval().nodes()){
+			writer.writeStartElement("parameter");
+			writer.writeAttribute("index", parameter.getAttr(XCSG.parameterIndex).toString());
+			String parameterImmutabilityTags = stringifyImmutabilityTags(method);
+			if(parameterImmutabilityTags.equals("")){
+				Log.warning("Missing type qualifier tags on parameter: " + parameter.address().toAddressString());
+			}
+			writer.writeAttribute("immutability", parameterImmutabilityTags);
+			writer.writeEndElement();
+		}
+		
+		// write return node (if one exists)
+		Node returnNode = Common.toQ(method).children().nodesTaggedWithAll(XCSG.ReturnValue).eval().nodes().getFirst();
+		if(returnNode != null && !returnNode.taggedWith(AnalysisUtilities.DUMMY_RETURN_NODE)){
+			writer.writeStartElement("return");
+			String returnImmutabilityTags = stringifyImmutabilityTags(returnNode);
+			if(returnImmutabilityTags.equals("")){
+				Log.warning("Missing type qualifier tags on return node: " + returnNode.address().toAddressString());
+			}
+			writer.writeAttribute("immutability", returnImmutabilityTags);
+			writer.writeEndElement();	
+		}
+		
+		writer.writeEndElement();
+	}
+
+	private static String stringifyImmutabilityTags(Node node) {
+		String prefix = "";
+		String immutabilityTags = "";
+		if(node.taggedWith(ImmutabilityTags.READONLY)){
+			immutabilityTags += ImmutabilityTags.READONLY;
+			prefix = ",";
+		}
+		if(node.taggedWith(ImmutabilityTags.POLYREAD)){
+			immutabilityTags += (prefix + ImmutabilityTags.POLYREAD);
+			prefix = ",";
+		}
+		if(node.taggedWith(ImmutabilityTags.MUTABLE)){
+			immutabilityTags += (prefix + ImmutabilityTags.MUTABLE);
+			prefix = ",";
+		}
+		if(node.taggedWith(ImmutabilityTags.UNTYPED)){
+			immutabilityTags += (prefix + ImmutabilityTags.UNTYPED);
+		}
+		return immutabilityTags;
+	}
+	
+}
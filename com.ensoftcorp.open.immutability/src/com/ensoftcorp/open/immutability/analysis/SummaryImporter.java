@@ -2,7 +2,6 @@ package com.ensoftcorp.open.immutability.analysis;
 
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.util.EnumSet;
 import java.util.LinkedList;
@@ -10,14 +9,9 @@ import java.util.List;
 import java.util.Set;
 
 import javax.xml.stream.XMLInputFactory;
-import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamConstants;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamReader;
-import javax.xml.stream.XMLStreamWriter;
-
-import org.eclipse.core.runtime.Platform;
-import org.osgi.framework.Version;
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.db.set.AtlasSet;
@@ -26,12 +20,25 @@ import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 import com.ensoftcorp.open.java.commons.wishful.JavaStopGap;
 
-public class SummaryUtilities {
+/**
+ * Imports the field and method summaries of a previous partial program analysis
+ *
+ * Each importer owns the state of its import, so summaries can be imported by
+ * several analyses concurrently. An importer for an analysis context stores the
+ * imported qualifier sets in the context, where they fix the qualifiers the
+ * references start the fixed point with. Without a context the summaries are
+ * only matched against the program and untyped summaries are tagged.
+ */
+public class SummaryImporter {
+	
+	private final AnalysisConfiguration configuration;
 	
-	private static Field field;
+	/**
+	 * The analysis the imported qualifier sets are stored in or null
+	 */
+	private final AnalysisContext context;
 	
 	private static class Field {
 		String type;
@@ -47,7 +54,7 @@ public class SummaryUtilities {
 		}
 	}
 	
-	private static Method method;
+	private Field field;
 	
 	private static class Method {
 		String type;
@@ -78,15 +85,35 @@ public class SummaryUtilities {
 		}
 	}
 	
-	private static int fieldsImported = 0;
-	private static int fieldsSummarized = 0;
-	private static int methodsImported = 0;
-	private static int methodsSummarized = 0;
+	private Method method;
+	
+	private int fieldsImported = 0;
+	private int fieldsSummarized = 0;
+	private int methodsImported = 0;
+	private int methodsSummarized = 0;
+	
+	public SummaryImporter(AnalysisConfiguration configuration){
+		this.configuration = configuration;
+		this.context = null;
+	}
 	
-	private static Version atlasVersion = Platform.getBundle("com.ensoftcorp.atlas.core").getVersion();
-	private static Version immutabilityToolboxVersion = Platform.getBundle("com.ensoftcorp.open.immutability").getVersion();
+	/**
+	 * Creates an importer that stores the imported qualifier sets in the given analysis
+	 * @param context
+	 */
+	public SummaryImporter(AnalysisContext context){
+		this.configuration = context.getConfiguration();
+		this.context = context;
+	}
 	
-	public static void importSummary(File inputXMLFile) throws FileNotFoundException, XMLStreamException {
+	/**
+	 * Imports the summaries of the given file and returns the number of imported summaries
+	 * @param inputXMLFile
+	 * @return
+	 * @throws FileNotFoundException
+	 * @throws XMLStreamException
+	 */
+	public int importSummary(File inputXMLFile) throws FileNotFoundException, XMLStreamException {
 		fieldsImported = 0;
 		fieldsSummarized = 0;
 		methodsImported = 0;
@@ -106,9 +133,10 @@ public class SummaryUtilities {
 		if(fieldsImported == 0 && methodsImported == 0){
 			Log.warning("No matching summaries were imported!");
 		}
+		return fieldsImported + methodsImported;
 	}
 
-	private static void processEvent(XMLStreamReader xmlr) {
+	private void processEvent(XMLStreamReader xmlr) {
 		switch (xmlr.getEventType()) {
 			case XMLStreamConstants.START_ELEMENT:
 				String startElementName = xmlr.getLocalName();
@@ -193,7 +221,7 @@ public class SummaryUtilities {
 		}
 	}
 	
-	private static void tagMethod(Method method) {
+	private void tagMethod(Method method) {
 		Q packages = Common.universe().nodesTaggedWithAny(XCSG.Package).selectNode(XCSG.name, method.pkg);
 		Q parents = packages.contained().nodesTaggedWithAny(XCSG.Type).selectNode(XCSG.name, method.parentClass);
 		Q methods = parents.children().nodesTaggedWithAny(method.type);
@@ -202,7 +230,7 @@ public class SummaryUtilities {
 		AtlasSet<Node> methodNodes = methods.eval().nodes();
 		
 		if(methodNodes.isEmpty()){
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("No matching method for imported method.\n" + method.toString());
+			if(configuration.isDebugLoggingEnabled()) Log.info("No matching method for imported method.\n" + method.toString());
 		} else if(methodNodes.size() > 1){
 			Log.warning("Multiple matches for imported method.\n" + method.toString());
 		}
@@ -238,7 +266,7 @@ public class SummaryUtilities {
 		}
 	}
 	
-	private static void tagField(Field field) {
+	private void tagField(Field field) {
 		Q packages = Common.universe().nodesTaggedWithAny(XCSG.Package).selectNode(XCSG.name, field.pkg);
 		Q parents = packages.contained().nodesTaggedWithAny(XCSG.Type).selectNode(XCSG.name, field.parentClass);
 		Q fields = parents.children().nodesTaggedWithAny(field.type);
@@ -247,7 +275,7 @@ public class SummaryUtilities {
 		AtlasSet<Node> fieldNodes = fields.eval().nodes();
 		
 		if(fieldNodes.isEmpty()){
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("No matching field for imported field.\n" + field.toString());
+			if(configuration.isDebugLoggingEnabled()) Log.info("No matching field for imported field.\n" + field.toString());
 		} else if(fieldNodes.size() > 1){
 			Log.warning("Multiple matches for imported field.\n" + field.toString());
 		}
@@ -259,7 +287,7 @@ public class SummaryUtilities {
 		}
 	}
 	
-	private static Set<ImmutabilityTypes> setImmutabilityQualifierSet(Node node, String immutabilityQualifiersString) {
+	private Set<ImmutabilityTypes> setImmutabilityQualifierSet(Node node, String immutabilityQualifiersString) {
 		EnumSet<ImmutabilityTypes> qualifiers = EnumSet.noneOf(ImmutabilityTypes.class);
 		for(String immutabilityQualifier : immutabilityQualifiersString.trim().split(",")){
 			if(immutabilityQualifier.equals(ImmutabilityTypes.READONLY.toString())){
@@ -270,186 +298,16 @@ public class SummaryUtilities {
 				qualifiers.add(ImmutabilityTypes.MUTABLE);
 			} else {
 				Log.warning("Importing untyped qualifier for node: " + node.address().toAddressString());
-				node.tag(ImmutabilityTags.UNTYPED);
-			}
-		}
-		return qualifiers;
-	}
-
-	public static void exportSummary(File outputXMLFile) throws FileNotFoundException, XMLStreamException {
-		fieldsSummarized=0;
-		methodsSummarized=0;
-		Log.info("Exporting summary: " + outputXMLFile.getAbsolutePath());
-		XMLOutputFactory output = XMLOutputFactory.newInstance();
-		XMLStreamWriter writer = output.createXMLStreamWriter(new FileOutputStream(outputXMLFile));
-		writer.writeStartDocument();
-		
-		writer.writeStartElement("immutability");
-		writer.writeAttribute("atlas", atlasVersion.getMajor() + "." + atlasVersion.getMinor() + "." + atlasVersion.getMicro());
-		writer.writeAttribute("immutability-toolbox", immutabilityToolboxVersion.getMajor() + "." + immutabilityToolboxVersion.getMinor() + "." + immutabilityToolboxVersion.getMicro());
-		
-		for(Node field : Common.universe().nodesTaggedWithAny(XCSG.Field).nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE, ImmutabilityTags.UNTYPED).eval().nodes()){
-			try {
-				serializeField(field, writer);
-			} catch (Exception e){
-				Log.error("Error serializing field: " + field.address().toAddressString(), e);
-				throw e;
-			}
-			writer.flush();
-			fieldsSummarized++;
-		}
-		
-		for(Node method : Common.universe().nodesTaggedWithAny(XCSG.Method).nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE, ImmutabilityTags.UNTYPED).eval().nodes()){
-			try {
-				serializeMethod(method, writer);
-			} catch (Exception e){
-				Log.error("Error serializing method: " + method.address().toAddressString(), e);
-				throw e;
-			}
-			writer.flush();
-			methodsSummarized++;
-		}
-		
-		writer.writeEndElement();
-		
-		writer.writeEndDocument();
-		writer.flush();
-		writer.close();
-		
-		String message = "Summarized: " + fieldsSummarized + " fields, " + methodsSummarized + " methods.";
-		Log.info("Summary exported.\n" + message);
-	}
-	
-	private static void serializeField(Node field, XMLStreamWriter writer) throws XMLStreamException {
-		writer.writeStartElement("field");
-		
-		if(field.taggedWith(XCSG.ClassVariable)){
-			writer.writeAttribute("type", XCSG.ClassVariable);
-		} else if(field.taggedWith(XCSG.InstanceVariable)){
-			writer.writeAttribute("type", XCSG.InstanceVariable);
-		} else {
-			Log.warning("Skipping method for unknown field type for field: " + field.address().toAddressString());
-			return;
-		}
-		
-		Node parentClass = Common.toQ(field).parent().eval().nodes().getFirst();
-		if(parentClass == null){
-			Log.warning("Skipping filed, because field " + field.address().toAddressString() + " does not have a parent!");
-			return;
-		}
-		
-		Node pkg = Common.toQ(field).containers().nodesTaggedWithAny(XCSG.Package).eval().nodes().getFirst();
-		if(pkg == null){
-			Log.warning("Package for field " + field.address().toAddressString() + " does not exist!");
-			return;
-		}
-		
-		writer.writeAttribute("package", pkg.getAttr(XCSG.name).toString());
-		writer.writeAttribute("class", parentClass.getAttr(XCSG.name).toString());
-		writer.writeAttribute("name", field.getAttr(XCSG.name).toString());
-		
-		String fieldImmutabilityTags = stringifyImmutabilityTags(field);
-		if(fieldImmutabilityTags.equals("")){
-			Log.warning("Missing type qualifier tags on field: " + field.address().toAddressString());
-		}
-		writer.writeAttribute("immutability", fieldImmutabilityTags);
-		writer.writeEndElement();
-	}
-
-	private static void serializeMethod(Node method, XMLStreamWriter writer) throws XMLStreamException {
-		// write method
-		writer.writeStartElement("method");
-		writer.writeAttribute("signature", method.getAttr(JavaStopGap.SIGNATURE).toString());
-		
-		if(method.taggedWith(XCSG.Constructor)){
-			writer.writeAttribute("type", XCSG.Constructor);
-		} else if(method.taggedWith(XCSG.ClassMethod)){
-			writer.writeAttribute("type", XCSG.ClassMethod);
-		} else if(method.taggedWith(XCSG.InstanceMethod)){
-			writer.writeAttribute("type", XCSG.InstanceMethod);
-		} else {
-			Log.warning("Skipping method, because of unknown method type for method: " + method.address().toAddressString());
-			return;
-		}
-		
-		Node parentClass = Common.toQ(method).parent().eval().nodes().getFirst();
-		if(parentClass == null){
-			Log.warning("Skipping method because method " + method.address().toAddressString() + " does not have a parent!");
-			return;
-		}
-		
-		Node pkg = Common.toQ(method).containers().nodesTaggedWithAny(XCSG.Package).eval().nodes().getFirst();
-		if(pkg == null){
-			Log.warning("Skipping, method because package for method " + method.address().toAddressString() + " does not exist!");
-			return;
-		}
-		
-		writer.writeAttribute("package", pkg.getAttr(XCSG.name).toString());
-		writer.writeAttribute("class", parentClass.getAttr(XCSG.name).toString());
-		String methodImmutabilityTags = stringifyImmutabilityTags(method);
-		if(methodImmutabilityTags.equals("")){
-			Log.warning("Missing type qualifier tags on method: " + method.address().toAddressString());
-		}
-		writer.writeAttribute("immutability", methodImmutabilityTags);
-		
-		// write this node (if one exists)
-		Node thisNode = Common.toQ(method).children().nodesTaggedWithAll(XCSG.Identity).eval().nodes().getFirst();
-		if(thisNode != null){
-			writer.writeStartElement("this");
-			String thisImmutabilityTags = stringifyImmutabilityTags(thisNode);
-			if(thisImmutabilityTags.equals("")){
-				Log.warning("Missing type qualifier tags on this node: " + thisNode.address().toAddressString());
-			}
-			writer.writeAttribute("immutability", thisImmutabilityTags);
-			writer.writeEndElement();
-		}
-		
-		// write parameters
-		for(Node parameter : Common.toQ(method).children().nodesTaggedWithAll(XCSG.Parameter).eval().nodes()){
-			writer.writeStartElement("parameter");
-			writer.writeAttribute("index", parameter.getAttr(XCSG.parameterIndex).toString());
-			String parameterImmutabilityTags = stringifyImmutabilityTags(method);
-			if(parameterImmutabilityTags.equals("")){
-				Log.warning("Missing type qualifier tags on parameter: " + parameter.address().toAddressString());
-			}
-			writer.writeAttribute("immutability", parameterImmutabilityTags);
-			writer.writeEndElement();
-		}
-		
-		// write return node (if one exists)
-		Node returnNode = Common.toQ(method).children().nodesTaggedWithAll(XCSG.ReturnValue).eval().nodes().getFirst();
-		if(returnNode != null && !returnNode.taggedWith(AnalysisUtilities.DUMMY_RETURN_NODE)){
-			writer.writeStartElement("return");
-			String returnImmutabilityTags = stringifyImmutabilityTags(returnNode);
-			if(returnImmutabilityTags.equals("")){
-				Log.warning("Missing type qualifier tags on return node: " + returnNode.address().toAddressString());
+				// an analysis publishes the empty qualifier set as untyped with its results
+				if(context == null){
+					node.tag(ImmutabilityTags.UNTYPED);
+				}
 			}
-			writer.writeAttribute("immutability", returnImmutabilityTags);
-			writer.writeEndElement();	
 		}
-		
-		writer.writeEndElement();
-	}
-
-	private static String stringifyImmutabilityTags(Node node) {
-		String prefix = "";
-		String immutabilityTags = "";
-		if(node.taggedWith(ImmutabilityTags.READONLY)){
-			immutabilityTags += ImmutabilityTags.READONLY;
-			prefix = ",";
-		}
-		if(node.taggedWith(ImmutabilityTags.POLYREAD)){
-			immutabilityTags += (prefix + ImmutabilityTags.POLYREAD);
-			prefix = ",";
+		if(context != null){
+			AnalysisUtilities.setTypes(context, node, qualifiers);
 		}
-		if(node.taggedWith(ImmutabilityTags.MUTABLE)){
-			immutabilityTags += (prefix + ImmutabilityTags.MUTABLE);
-			prefix = ",";
-		}
-		if(node.taggedWith(ImmutabilityTags.UNTYPED)){
-			immutabilityTags += (prefix + ImmutabilityTags.UNTYPED);
-		}
-		return immutabilityTags;
+		return qualifiers;
 	}
 	
 }
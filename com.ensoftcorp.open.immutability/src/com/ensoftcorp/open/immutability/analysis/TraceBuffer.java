@@ -0,0 +1,134 @@
+package com.ensoftcorp.open.immutability.analysis;
+
+import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.atlas.core.xcsg.XCSG;
+
+/**
+ * A fixed size ring buffer of qualifier updates
+ * 
+ * Each update is recorded as the updated node, the rule being applied, and the type 
+ * masks before and after the update into preallocated arrays, so recording does not 
+ * allocate. The events are only rendered as text on demand. When tracing is disabled 
+ * the only cost to an update is a single branch.
+ */
+public class TraceBuffer {
+
+	private final AnalysisConfiguration configuration;
+	
+	private boolean enabled = false;
+	private InferenceRule currentRule = InferenceRule.NONE;
+	
+	private Node[] nodes = new Node[0];
+	private byte[] rules = new byte[0];
+	private byte[] beforeMasks = new byte[0];
+	private byte[] afterMasks = new byte[0];
+	
+	/**
+	 * The total number of recorded events, the buffer holds the most recent events
+	 */
+	private long events = 0;
+	
+	TraceBuffer(AnalysisConfiguration configuration){
+		this.configuration = configuration;
+	}
+	
+	/**
+	 * Allocates the buffer and starts tracing if the trace buffer size preference is positive
+	 */
+	public void start(){
+		int size = configuration.getTraceBufferSize();
+		enabled = size > 0;
+		currentRule = InferenceRule.NONE;
+		events = 0;
+		if(enabled){
+			nodes = new Node[size];
+			rules = new byte[size];
+			beforeMasks = new byte[size];
+			afterMasks = new byte[size];
+		}
+	}
+	
+	/**
+	 * Stops tracing, the recorded events can still be rendered until the buffer is cleared
+	 */
+	public void stop(){
+		enabled = false;
+		currentRule = InferenceRule.NONE;
+	}
+	
+	/**
+	 * Releases the buffer
+	 */
+	public void clear(){
+		stop();
+		events = 0;
+		nodes = new Node[0];
+		rules = new byte[0];
+		beforeMasks = new byte[0];
+		afterMasks = new byte[0];
+	}
+	
+	public boolean isEnabled(){
+		return enabled;
+	}
+	
+	/**
+	 * Sets the rule that subsequent updates are attributed to
+	 * @param rule
+	 */
+	public void setRule(InferenceRule rule){
+		currentRule = rule;
+	}
+	
+	/**
+	 * Returns the rule that updates are currently attributed to
+	 * @return
+	 */
+	public InferenceRule getCurrentRule(){
+		return currentRule;
+	}
+	
+	/**
+	 * Records a qualifier update, only valid while tracing is enabled
+	 * @param node
+	 * @param beforeMask
+	 * @param afterMask
+	 */
+	void record(Node node, int beforeMask, int afterMask){
+		int index = (int) (events % nodes.length);
+		nodes[index] = node;
+		rules[index] = (byte) currentRule.ordinal();
+		beforeMasks[index] = (byte) beforeMask;
+		afterMasks[index] = (byte) afterMask;
+		events++;
+	}
+	
+	/**
+	 * Renders the most recent events, oldest first
+	 * @param maxEvents The maximum number of events to render
+	 * @return
+	 */
+	public String render(int maxEvents){
+		long retained = Math.min(events, nodes.length);
+		long rendered = Math.min(retained, Math.max(maxEvents, 0));
+		StringBuilder result = new StringBuilder();
+		result.append("Last " + rendered + " of " + events + " qualifier updates:");
+		for(long event = events - rendered; event < events; event++){
+			int index = (int) (event % nodes.length);
+			Node node = nodes[index];
+			result.append("\n#" + event + " " + InferenceRule.getRule(rules[index]).toString() + " "
+				+ (node.hasAttr(XCSG.name) ? node.getAttr(XCSG.name).toString() : "") + " (" + node.address().toAddressString() + ") "
+				+ ImmutabilityTypes.getTypes(beforeMasks[index]).toString() + " -> " + ImmutabilityTypes.getTypes(afterMasks[index]).toString());
+		}
+		return result.toString();
+	}
+	
+	/**
+	 * Renders all of the retained events, oldest first
+	 * @return
+	 */
+	public String render(){
+		return render(nodes.length);
+	}
+	
+}
@@ -4,22 +4,29 @@ import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.getTyp
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
+import com.ensoftcorp.open.immutability.analysis.InferenceRule;
 import com.ensoftcorp.open.immutability.analysis.solvers.XFieldAdaptYGreaterThanEqualZConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYConstraintSolver;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
+/**
+ * Applies the assignment rule of the legacy inference engine to the Atlas graph
+ * Deprecated and frozen along with the legacy engine
+ */
 public class BasicAssignmentChecker {
 
 	/**
 	 * Solves and satisfies constraints for Type Rule 2 - TASSIGN
 	 * Let, x = y
 	 * 
+	 * @param context
 	 * @param x The reference being written to
 	 * @param y The reference be read from
 	 * @return
 	 */
-	public static boolean handleAssignment(Node x, Node y) {
+	public static boolean handleAssignment(AnalysisContext context, Node x, Node y) {
+		context.getTraceBuffer().setRule(InferenceRule.TASSIGN);
 		if(x==null){
 			Log.warning("x is null!");
 			return false;
@@ -30,22 +37,22 @@ public class BasicAssignmentChecker {
 			return false;
 		}
 		
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", y:" + getTypes(y).toString();
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", y:" + getTypes(context, y).toString();
 			Log.info("TASSIGN (x=y, x=" + x.getAttr(XCSG.name) + ", y=" + y.getAttr(XCSG.name) + ")\n" + values);
 		}
 		
-		if(y.taggedWith(XCSG.InstanceVariable) && ImmutabilityPreferences.isFieldAdaptationsEnabled()){
+		if(y.taggedWith(XCSG.InstanceVariable) && context.getConfiguration().isFieldAdaptationsEnabled()){
 			// treat x :> y, as x fadapt y :> y
-			if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
+			if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
 				Log.info("Processing Instance Variable Assignment Constraint x fadapt y :> y");
 			}
-			return XFieldAdaptYGreaterThanEqualZConstraintSolver.satisify(x, y, y);
+			return XFieldAdaptYGreaterThanEqualZConstraintSolver.satisify(context, x, y, y);
 		} else {
-			if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
+			if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
 				Log.info("Processing Constraint x :> y");
 			}
-			return XGreaterThanEqualYConstraintSolver.satisify(x, y);
+			return XGreaterThanEqualYConstraintSolver.satisify(context, x, y);
 		}
 	}
 	
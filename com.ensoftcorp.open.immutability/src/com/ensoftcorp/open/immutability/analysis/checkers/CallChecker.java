@@ -3,6 +3,8 @@ package com.ensoftcorp.open.immutability.analysis.checkers;
 import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.getTypes;
 import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.removeTypes;
 
+import java.util.Set;
+
 import com.ensoftcorp.atlas.core.db.graph.Edge;
 import com.ensoftcorp.atlas.core.db.graph.GraphElement;
 import com.ensoftcorp.atlas.core.db.graph.GraphElement.EdgeDirection;
@@ -12,18 +14,29 @@ import com.ensoftcorp.atlas.core.query.Q;
 import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.commons.analysis.StandardQueries;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
 import com.ensoftcorp.open.immutability.analysis.AnalysisUtilities;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.InferenceRule;
+import com.ensoftcorp.open.immutability.analysis.ProvenanceRecorder;
 import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYMethodAdaptZConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XMethodAdaptYGreaterThanEqualZConstraintSolver;
+import com.ensoftcorp.open.immutability.core.Qualifiers;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
+import com.ensoftcorp.open.immutability.core.constraints.Propagator;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
+/**
+ * Applies the call rules of the legacy inference engine to the Atlas graph
+ * Frozen with the deprecated legacy engine, changes to the call rules belong in the
+ * ConstraintExtractor of the core module
+ */
 public class CallChecker {
 
 	/**
 	 * Let, x=y.m(z)
+	 * @param context
 	 * @param x
 	 * @param y
 	 * @param identity
@@ -33,32 +46,33 @@ public class CallChecker {
 	 * @param containingMethod 
 	 * @return
 	 */
-	public static boolean handleCall(Node x, Node y, Node identity, Node method, Node ret, AtlasSet<Edge> parametersPassedEdges, Node containingMethod) {
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", y:" + getTypes(y).toString() + ", this:" + getTypes(identity).toString() + ", return:" + getTypes(ret).toString() + ", m':" + getTypes(containingMethod).toString();
+	public static boolean handleCall(AnalysisContext context, Node x, Node y, Node identity, Node method, Node ret, AtlasSet<Edge> parametersPassedEdges, Node containingMethod) {
+		context.getTraceBuffer().setRule(InferenceRule.TCALL);
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", y:" + getTypes(context, y).toString() + ", this:" + getTypes(context, identity).toString() + ", return:" + getTypes(context, ret).toString() + ", m':" + getTypes(context, containingMethod).toString();
 			Log.info("TCALL (x=y.m(z), x=" + x.getAttr(XCSG.name) + ", y=" + y.getAttr(XCSG.name) + ", m=" + method.getAttr("##signature") + ")\n" + values);
 		}
 		
 		boolean typesChanged = false;
 		
 		/////////////////////// start qx madapt qret <: qx /////////////////////// 
-		if(processReturnAssignmentConstraints(x, ret)){
+		if(processReturnAssignmentConstraints(context, x, ret)){
 			typesChanged = true;
 		}
 		/////////////////////// end qx madapt qret <: qx ///////////////////////  
 		
 		/////////////////////// start qy <: qx madapt qthis /////////////////////// 
-		if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", y:" + getTypes(y).toString() + ", this:" + getTypes(identity).toString();
+		if(context.getConfiguration().isDebugLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", y:" + getTypes(context, y).toString() + ", this:" + getTypes(context, identity).toString();
 			Log.info("Process TCALL Identity Constraint qy <: qx madapt qthis\n" + values);
 		}
-		if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(x, identity, y)){
+		if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(context, x, identity, y)){
 			typesChanged = true;
 		}
 		/////////////////////// end qy <: qx madapt qthis ///////////////////////
 
 		/////////////////////// start qz <: qx madapt qp ///////////////////////
-		if(processParameterConstraints(x, parametersPassedEdges)){
+		if(processParameterConstraints(context, x, parametersPassedEdges)){
 			typesChanged = true;
 		}
 		/////////////////////// end qz <: qx madapt qp /////////////////////////
@@ -67,15 +81,15 @@ public class CallChecker {
 		Q overridesEdges = Common.universe().edgesTaggedWithAny(XCSG.Overrides);
 		GraphElement overriddenMethod = overridesEdges.successors(Common.toQ(method)).eval().nodes().getFirst();
 		if(overriddenMethod != null){
-			if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) Log.info("TCALL (Overridden Method)");
+			if(context.getConfiguration().isInferenceRuleLoggingEnabled()) Log.info("TCALL (Overridden Method)");
 			
 			// Method (method) -Contains-> ReturnValue (ret)
 			Node overriddenRet = Common.toQ(overriddenMethod).children().nodesTaggedWithAny(XCSG.ReturnValue).eval().nodes().getFirst();
 			
 			// constraint: overriddenReturn <: return
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("Process Override Return Constraint overriddenReturn <: return");
+			if(context.getConfiguration().isDebugLoggingEnabled()) Log.info("Process Override Return Constraint overriddenReturn <: return");
 			
-			if(XGreaterThanEqualYConstraintSolver.satisify(ret, overriddenRet)){
+			if(XGreaterThanEqualYConstraintSolver.satisify(context, ret, overriddenRet)){
 				typesChanged = true;
 			}
 			
@@ -83,9 +97,9 @@ public class CallChecker {
 			Node overriddenMethodIdentity = Common.toQ(overriddenMethod).children().nodesTaggedWithAny(XCSG.Identity).eval().nodes().getFirst();
 
 			// constraint: this <: overriddenThis 
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("Process Override Identity Constraint this <: overriddenThis");
+			if(context.getConfiguration().isDebugLoggingEnabled()) Log.info("Process Override Identity Constraint this <: overriddenThis");
 			
-			if(XGreaterThanEqualYConstraintSolver.satisify(overriddenMethodIdentity, identity)){
+			if(XGreaterThanEqualYConstraintSolver.satisify(context, overriddenMethodIdentity, identity)){
 				typesChanged = true;
 			}
 
@@ -97,7 +111,7 @@ public class CallChecker {
 					
 			// for each parameter and overridden parameter pair
 			// constraint: p <: pOverriden
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("Process Override Parameter Constraint p <: pOverriden");
+			if(context.getConfiguration().isDebugLoggingEnabled()) Log.info("Process Override Parameter Constraint p <: pOverriden");
 			long numParams = parameters.size();
 			long numOverriddenParams = overriddenMethodParameters.size();
 			if(numParams == numOverriddenParams){
@@ -106,7 +120,7 @@ public class CallChecker {
 						Node p = Common.toQ(parameters).selectNode(XCSG.parameterIndex, i).eval().nodes().getFirst();
 						Node pOverridden = Common.toQ(overriddenMethodParameters).selectNode(XCSG.parameterIndex, i).eval().nodes().getFirst();
 
-						if(XGreaterThanEqualYConstraintSolver.satisify(pOverridden, p)){
+						if(XGreaterThanEqualYConstraintSolver.satisify(context, pOverridden, p)){
 							typesChanged = true;
 						}
 					}
@@ -128,28 +142,30 @@ public class CallChecker {
 	 * Type Rule 8 - TSCALL
 	 * let, x = m(z)
 	 * 
+	 * @param context
 	 * @param x
 	 * @param method
 	 * @param ret
 	 * @param parametersPassedEdges
 	 * @return
 	 */
-	public static boolean handleStaticCall(Node x, Node callsite, Node method, Node ret, AtlasSet<Edge> parametersPassedEdges) {
+	public static boolean handleStaticCall(AnalysisContext context, Node x, Node callsite, Node method, Node ret, AtlasSet<Edge> parametersPassedEdges) {
+		context.getTraceBuffer().setRule(InferenceRule.TSCALL);
 		
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
 			Log.info("TSCALL (x=y.m(z), x=" + x.getAttr(XCSG.name) + ", m=" + method.getAttr("##signature") + ")");
 		}
 		
 		boolean typesChanged = false;
 		
 		/////////////////////// start qx madapt qret <: qx /////////////////////// 
-		if(processReturnAssignmentConstraints(x, ret)){
+		if(processReturnAssignmentConstraints(context, x, ret)){
 			typesChanged = true;
 		}
 		/////////////////////// end qx madapt qret <: qx ///////////////////////// 
 
 		/////////////////////// start qz <: qx madapt qp /////////////////////////
-		if(processParameterConstraints(x, parametersPassedEdges)){
+		if(processParameterConstraints(context, x, parametersPassedEdges)){
 			typesChanged = true;
 		}
 		/////////////////////// end qz <: qx madapt qp ///////////////////////////
@@ -157,7 +173,7 @@ public class CallChecker {
 		/////////////////////// start qm' <: qx madapt qm /////////////////////////
 		// m' is the method that contains the callsite m()
 		Node containingMethod = StandardQueries.getContainingFunction(callsite);
-		if(processStaticDispatchConstraints(x, method, containingMethod)){
+		if(processStaticDispatchConstraints(context, x, method, containingMethod)){
 			typesChanged = true;
 		}
 		/////////////////////// end qm' <: qx madapt qm ///////////////////////////
@@ -165,15 +181,134 @@ public class CallChecker {
 		return typesChanged;
 	}
 
-	private static boolean processStaticDispatchConstraints(Node x, Node method, Node containingMethod) {
-		if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", m:" + getTypes(method).toString() + ", m':" + getTypes(containingMethod).toString();
+	/**
+	 * TCALL and TSCALL for a callsite of a modeled method, let x = y.m(z) or x = m(z)
+	 * 
+	 * The qualifiers of a modeled method are fixed, so the override constraints 
+	 * hold by construction and only the references of the caller are constrained. 
+	 * Arguments are matched to parameters by parameter index and constraints 
+	 * against readonly declarations are skipped since they are always satisfied.
+	 * 
+	 * @param context
+	 * @param x
+	 * @param y The receiver or null for static calls
+	 * @param callsite
+	 * @param method
+	 * @param ret
+	 * @param parametersPassed
+	 * @return
+	 */
+	public static boolean handleModeledCall(AnalysisContext context, Node x, Node y, Node callsite, Node method, Node ret, AtlasSet<Node> parametersPassed) {
+		context.getTraceBuffer().setRule(InferenceRule.TCALL_MODELED);
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
+			Log.info("TCALL (Modeled Method, x=" + x.getAttr(XCSG.name) + ", m=" + method.getAttr("##signature") + ")");
+		}
+		
+		boolean typesChanged = false;
+		
+		// qx madapt qret <: qx
+		if(satisfyModeled(context, ConstraintType.GREATER_EQUAL_METHOD_ADAPT, x, x, ret, ret)){
+			typesChanged = true;
+		}
+		
+		// qy <: qx madapt qthis
+		if(y != null){
+			Node identity = context.getMethodModels().getModeledIdentity(method);
+			if(identity != null && !isReadonly(context, identity)){
+				if(satisfyModeled(context, ConstraintType.METHOD_ADAPT_GREATER_EQUAL, x, identity, y, identity)){
+					typesChanged = true;
+				}
+			}
+		}
+		
+		// qz <: qy madapt qp for instance methods and qz <: qx madapt qp for static methods,
+		// a polyread element parameter of a container takes the qualifier of the container
+		// so a mutation of an element read back from the container reaches the argument
+		Node parameterContext = y != null ? y : x;
+		for(Node z : parametersPassed){
+			if(!z.hasAttr(XCSG.parameterIndex)){
+				continue;
+			}
+			Node p = context.getMethodModels().getModeledParameter(method, Integer.parseInt(z.getAttr(XCSG.parameterIndex).toString()));
+			if(p != null && !isReadonly(context, p)){
+				if(satisfyModeled(context, ConstraintType.METHOD_ADAPT_GREATER_EQUAL, parameterContext, p, z, p)){
+					typesChanged = true;
+				}
+			}
+		}
+		
+		// qm' <: qx madapt qm
+		if(y == null && !isReadonly(context, method)){
+			Node containingMethod = StandardQueries.getContainingFunction(callsite);
+			if(satisfyModeled(context, ConstraintType.METHOD_ADAPT_GREATER_EQUAL, x, method, containingMethod, method)){
+				typesChanged = true;
+			}
+		}
+		
+		return typesChanged;
+	}
+	
+	/**
+	 * Solves a constraint over a modeled declaration without removing qualifiers
+	 * from the declaration, the qualifiers of a model are fixed so only the other
+	 * operands are reduced against the declared set
+	 * @param context
+	 * @param type
+	 * @param x
+	 * @param y
+	 * @param z
+	 * @param modeled The operand declared by the model
+	 * @return Returns true if the qualifiers of an operand changed
+	 */
+	private static boolean satisfyModeled(AnalysisContext context, ConstraintType type, Node x, Node y, Node z, Node modeled){
+		Node[] operands = new Node[]{ x, y, z };
+		int[] masks = new int[operands.length];
+		for(int operand=0; operand<operands.length; operand++){
+			masks[operand] = ImmutabilityTypes.getMask(getTypes(context, operands[operand]));
+			if(masks[operand] == 0){
+				return false;
+			}
+		}
+		int removals = Propagator.getRemovals(type, masks[0], masks[1], masks[2]);
+		if(removals == 0){
+			return false;
+		}
+		boolean typesChanged = false;
+		ProvenanceRecorder provenanceRecorder = context.getProvenanceRecorder();
+		provenanceRecorder.setOperands(type, x, masks[0], y, masks[1], z, masks[2]);
+		for(int operand=0; operand<operands.length; operand++){
+			int removed = (removals >>> (3 * operand)) & Qualifiers.ALL;
+			if(removed != 0 && operands[operand] != modeled){
+				if(removeTypes(context, operands[operand], ImmutabilityTypes.getTypes(removed))){
+					typesChanged = true;
+				}
+			}
+		}
+		provenanceRecorder.clearOperands();
+		return typesChanged;
+	}
+	
+	/**
+	 * Returns true if the only remaining type is readonly, any type adapted 
+	 * by readonly is readonly so subtype constraints against it always hold
+	 * @param context
+	 * @param node
+	 * @return
+	 */
+	private static boolean isReadonly(AnalysisContext context, Node node){
+		Set<ImmutabilityTypes> types = getTypes(context, node);
+		return types.size() == 1 && types.contains(ImmutabilityTypes.READONLY);
+	}
+
+	private static boolean processStaticDispatchConstraints(AnalysisContext context, Node x, Node method, Node containingMethod) {
+		if(context.getConfiguration().isDebugLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", m:" + getTypes(context, method).toString() + ", m':" + getTypes(context, containingMethod).toString();
 			Log.info("Process Static Dispatch Constraint qm' <: qx madapt qm\n" + values);
 		}
 
 		// qm' <: qx madapt qm
 		// = qx madapt qm :> qm'
-		return XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(x, method, containingMethod);
+		return XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(context, x, method, containingMethod);
 	}
 	
 	/**
@@ -182,8 +317,8 @@ public class CallChecker {
 	 * @param parametersPassedEdges
 	 * @return
 	 */
-	private static boolean processParameterConstraints(Node x, AtlasSet<Edge> parametersPassedEdges) {
-		if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.info("Process Parameter Constraint qz <: qx madapt qp");
+	private static boolean processParameterConstraints(AnalysisContext context, Node x, AtlasSet<Edge> parametersPassedEdges) {
+		if(context.getConfiguration().isDebugLoggingEnabled()) Log.info("Process Parameter Constraint qz <: qx madapt qp");
 
 		boolean typesChanged = false;
 		
@@ -192,22 +327,22 @@ public class CallChecker {
 			Node z = parametersPassedEdge.getNode(EdgeDirection.FROM);
 			Node p = parametersPassedEdge.getNode(EdgeDirection.TO);
 			
-			if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
-				Log.info("x = m(z->p), x:" + AnalysisUtilities.getTypes(x).toString() 
-						+ ", z:" + AnalysisUtilities.getTypes(z).toString() 
-						+ ", p:" + AnalysisUtilities.getTypes(p).toString());
+			if(context.getConfiguration().isDebugLoggingEnabled()) {
+				Log.info("x = m(z->p), x:" + AnalysisUtilities.getTypes(context, x).toString() 
+						+ ", z:" + AnalysisUtilities.getTypes(context, z).toString() 
+						+ ", p:" + AnalysisUtilities.getTypes(context, p).toString());
 			}
 			
 			// qz <: qx madapt qp
 			// = qx madapt qp :> qz
-			if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(x, p, z)){
+			if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(context, x, p, z)){
 				typesChanged = true;
 			}
 			
 			
 			// TODO: case mutation to parameter mutates a field which is a part of a container
-			if(ImmutabilityPreferences.isContainerConsiderationEnabled()){
-				if(!getTypes(p).contains(ImmutabilityTypes.READONLY)){
+			if(context.getConfiguration().isContainerConsiderationEnabled()){
+				if(!getTypes(context, p).contains(ImmutabilityTypes.READONLY)){
 					Q localDataFlowEdges = Common.universe().edgesTaggedWithAny(XCSG.LocalDataFlow);
 					for(Node paramValue : localDataFlowEdges.predecessors(Common.toQ(z)).eval().nodes()){
 						if(paramValue.taggedWith(XCSG.InstanceVariableAccess)){
@@ -218,10 +353,10 @@ public class CallChecker {
 							// for now going with the latter since its easier to implement...
 							for(Node container : AnalysisUtilities.getAccessedContainers(instanceVariableAccess)){
 								for(Node containerReference : AnalysisUtilities.parseReferences(container)){
-									if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
+									if(context.getConfiguration().isDebugLoggingEnabled()) {
 										Log.info("A mutation to " + paramValue.getAttr(XCSG.name).toString() + " mutated container " + containerReference.getAttr(XCSG.name).toString());
 									}
-									if(removeTypes(containerReference, ImmutabilityTypes.READONLY)){
+									if(removeTypes(context, containerReference, ImmutabilityTypes.READONLY)){
 										typesChanged = true;
 									}
 								}
@@ -237,13 +372,14 @@ public class CallChecker {
 	
 	/**
 	 * qx madapt qret <: qx
+	 * @param context
 	 * @param x
 	 * @param ret
 	 * @return
 	 */
-	private static boolean processReturnAssignmentConstraints(Node x, Node ret) {
-		if(ImmutabilityPreferences.isDebugLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", return:" + getTypes(ret).toString();
+	private static boolean processReturnAssignmentConstraints(AnalysisContext context, Node x, Node ret) {
+		if(context.getConfiguration().isDebugLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", return:" + getTypes(context, ret).toString();
 			Log.info("Process TCALL Return Constraint qx madapt qret <: qx\n" + values);
 		}
 
@@ -258,7 +394,7 @@ public class CallChecker {
 		
 		// qx madapt qret <: qx
 		// = qx :> qx madapt qret
-		return XGreaterThanEqualYMethodAdaptZConstraintSolver.satisify(x, x, ret);
+		return XGreaterThanEqualYMethodAdaptZConstraintSolver.satisify(context, x, x, ret);
 	}
 	
 }
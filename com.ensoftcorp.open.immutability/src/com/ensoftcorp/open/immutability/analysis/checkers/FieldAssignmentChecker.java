@@ -7,7 +7,9 @@ import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.remove
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.InferenceRule;
 import com.ensoftcorp.open.immutability.analysis.solvers.XEqualsYConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XFieldAdaptYGreaterThanEqualZConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYConstraintSolver;
@@ -15,23 +17,29 @@ import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYField
 import com.ensoftcorp.open.immutability.analysis.solvers.XGreaterThanEqualYMethodAdaptZConstraintSolver;
 import com.ensoftcorp.open.immutability.analysis.solvers.XMethodAdaptYGreaterThanEqualZConstraintSolver;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
+/**
+ * Applies the field read and write rules of the legacy inference engine to the Atlas graph
+ * Frozen with the deprecated legacy engine, the core engines read these rules from
+ * the field reads of ConstraintExtractor.extract and from extractFieldWrite
+ */
 public class FieldAssignmentChecker {
 
 	/**
 	 * Solves and satisfies constraints for Type Rule 3 - TWRITE
 	 * Let, x.f = y
 	 * 
+	 * @param context
 	 * @param x The receiver object
 	 * @param f The field of the receiver object being written to
 	 * @param y The reference being read from
 	 * @return Returns true if the graph element's ImmutabilityTypes have changed
 	 */
-	public static boolean handleFieldWrite(Node x, Node f, Node y) {
+	public static boolean handleFieldWrite(AnalysisContext context, Node x, Node f, Node y) {
+		context.getTraceBuffer().setRule(InferenceRule.TWRITE);
 
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()) {
-			String values = "x:" + getTypes(x).toString() + ", f:" + getTypes(f).toString() + ", y:" + getTypes(y).toString();
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()) {
+			String values = "x:" + getTypes(context, x).toString() + ", f:" + getTypes(context, f).toString() + ", y:" + getTypes(context, y).toString();
 			Log.info("TWRITE (x.f=y, x=" + x.getAttr(XCSG.name) + ", f=" + f.getAttr(XCSG.name) + ", y=" + y.getAttr(XCSG.name) + ")\n" + values);
 		}
 		
@@ -39,40 +47,40 @@ public class FieldAssignmentChecker {
 		
 		// x must be mutable
 		if (x.taggedWith(XCSG.InstanceVariable)) {
-			if (ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled()) {
-				addMutable(x); // doesn't count as a type change
+			if (context.getConfiguration().isAllowAddMutableInstanceVariablesEnabled()) {
+				addMutable(context, x); // doesn't count as a type change
 			}
-			if(ImmutabilityPreferences.isAllowDefaultMutableInstancesVariablesEnabled() || ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled()){
-				if(XEqualsYConstraintSolver.satisfy(x, ImmutabilityTypes.MUTABLE)){
-					if(ImmutabilityPreferences.isAllowAddMutableInstanceVariablesEnabled() && getTypes(x).isEmpty()){
-						addMutable(x);
+			if(context.getConfiguration().isAllowDefaultMutableInstancesVariablesEnabled() || context.getConfiguration().isAllowAddMutableInstanceVariablesEnabled()){
+				if(XEqualsYConstraintSolver.satisfy(context, x, ImmutabilityTypes.MUTABLE)){
+					if(context.getConfiguration().isAllowAddMutableInstanceVariablesEnabled() && getTypes(context, x).isEmpty()){
+						addMutable(context, x);
 					}
 					typesChanged = true;
 				}
 			} else {
 				// vanilla paper description
-				if(removeTypes(x, ImmutabilityTypes.READONLY)){
+				if(removeTypes(context, x, ImmutabilityTypes.READONLY)){
 					typesChanged = true;
 				}
 			}
 		} else {
-			if(XEqualsYConstraintSolver.satisfy(x, ImmutabilityTypes.MUTABLE)){
+			if(XEqualsYConstraintSolver.satisfy(context, x, ImmutabilityTypes.MUTABLE)){
 				typesChanged = true;
 			}
 		}
 		
-		if(ImmutabilityPreferences.isFieldAdaptationsEnabled()){
+		if(context.getConfiguration().isFieldAdaptationsEnabled()){
 			// qy <: MUTABLE fadapt qf
 			// = MUTABLE fadapt qf :> qy
 			// FSE 2012 implementation
-			if(XFieldAdaptYGreaterThanEqualZConstraintSolver.satisify(ImmutabilityTypes.MUTABLE, f, y)){
+			if(XFieldAdaptYGreaterThanEqualZConstraintSolver.satisify(context, ImmutabilityTypes.MUTABLE, f, y)){
 				typesChanged = true;
 			}
 		} else {
 			// qy <: MUTABLE fadapt qf
 			// = MUTABLE madapt qf :> qy
 			// vanilla OOPSLA 2012 implementation
-			if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(x, f, y)){
+			if(XMethodAdaptYGreaterThanEqualZConstraintSolver.satisify(context, x, f, y)){
 				typesChanged = true;
 			}
 		}
@@ -84,31 +92,33 @@ public class FieldAssignmentChecker {
 	 * Solves and satisfies constraints for Type Rule 4 - TREAD
 	 * Let, x = y.f
 	 * 
+	 * @param context
 	 * @param x The reference being written to
 	 * @param y The receiver object
 	 * @param f The field of the receiver object being read from
 	 * @return Returns true if the graph element's ImmutabilityTypes have changed
 	 */
-	public static boolean handleFieldRead(Node x, Node y, Node f) {
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()){
-			String values = "x:" + getTypes(x).toString() + ", f:" + getTypes(f).toString() + ", y:" + getTypes(y).toString();
+	public static boolean handleFieldRead(AnalysisContext context, Node x, Node y, Node f) {
+		context.getTraceBuffer().setRule(InferenceRule.TREAD);
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()){
+			String values = "x:" + getTypes(context, x).toString() + ", f:" + getTypes(context, f).toString() + ", y:" + getTypes(context, y).toString();
 			Log.info("TREAD (x=y.f, x=" + x.getAttr(XCSG.name) + ", y=" + y.getAttr(XCSG.name) + ", f=" + f.getAttr(XCSG.name) + ")\n" + values);
 		}
 		
 		boolean typesChanged = false;
 		
-		if(ImmutabilityPreferences.isFieldAdaptationsEnabled()){
+		if(context.getConfiguration().isFieldAdaptationsEnabled()){
 			// qy adapt qf <: qx
 			// = qx :> qy adapt qf
 			// FSE 2012 version
-			if(XGreaterThanEqualYFieldAdaptZConstraintSolver.satisify(x, y, f)){
+			if(XGreaterThanEqualYFieldAdaptZConstraintSolver.satisify(context, x, y, f)){
 				typesChanged = true;
 			}
 		} else {
 			// qy adapt qf <: qx
 			// = qx :> qy adapt qf
 			// vanilla OOPSLA 2012 version
-			if(XGreaterThanEqualYMethodAdaptZConstraintSolver.satisify(x, y, f)){
+			if(XGreaterThanEqualYMethodAdaptZConstraintSolver.satisify(context, x, y, f)){
 				typesChanged = true;
 			}
 		}
@@ -120,38 +130,42 @@ public class FieldAssignmentChecker {
 	 * Solves and satisfies constraints for Type Rule 6, - TSWRITE
 	 * Let, sf = x
 	 * 
+	 * @param context
 	 * @param sf The static field being written to
 	 * @param x The reference being read from
 	 * @param m The method where the assignment happens
 	 * 
 	 * @return
 	 */
-	public static boolean handleStaticFieldWrite(Node sf, Node x, Node m) {
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()){
-			String values = "x:" + getTypes(x).toString() + ", sf:" + getTypes(sf).toString() + ", m:" + getTypes(m).toString();
+	public static boolean handleStaticFieldWrite(AnalysisContext context, Node sf, Node x, Node m) {
+		context.getTraceBuffer().setRule(InferenceRule.TSWRITE);
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()){
+			String values = "x:" + getTypes(context, x).toString() + ", sf:" + getTypes(context, sf).toString() + ", m:" + getTypes(context, m).toString();
 			Log.info("TSWRITE (sf=x in m, sf=" + sf.getAttr(XCSG.name) + ", x=" + x.getAttr(XCSG.name) + ", m=" + m.getAttr(XCSG.name) + ")\n" + values);
 		}
 		// a write to a static field means the containing method cannot be pure (readonly or polyread)
-		return removeTypes(m, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
+		return removeTypes(context, m, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
 	}
 	
 	/**
 	 * Solves and satisfies constraints for Type Rule 7, - TSREAD
 	 * Let, x = sf (in m)
 	 * 
+	 * @param context
 	 * @param x The reference being written to
 	 * @param sf The static field being read from
 	 * @param m The method where the assignment happens
 	 * @return
 	 */
-	public static boolean handleStaticFieldRead(Node x, Node sf, Node m) {
-		if(ImmutabilityPreferences.isInferenceRuleLoggingEnabled()){
-			String values = "x:" + getTypes(x).toString() + ", sf:" + getTypes(sf).toString() + ", m:" + getTypes(m).toString();
+	public static boolean handleStaticFieldRead(AnalysisContext context, Node x, Node sf, Node m) {
+		context.getTraceBuffer().setRule(InferenceRule.TSREAD);
+		if(context.getConfiguration().isInferenceRuleLoggingEnabled()){
+			String values = "x:" + getTypes(context, x).toString() + ", sf:" + getTypes(context, sf).toString() + ", m:" + getTypes(context, m).toString();
 			Log.info("TSREAD (x=sf in m, x=" + x.getAttr(XCSG.name) + ", sf=" + sf.getAttr(XCSG.name) + ", m=" + m.getAttr(XCSG.name) + ")\n" + values);
 		}
 		// m <: x
 		// = x :> m
-		return XGreaterThanEqualYConstraintSolver.satisify(x, m);
+		return XGreaterThanEqualYConstraintSolver.satisify(context, x, m);
 	}
 	
 }
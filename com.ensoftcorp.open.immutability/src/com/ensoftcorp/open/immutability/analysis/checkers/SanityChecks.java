@@ -1,116 +1,242 @@
 package com.ensoftcorp.open.immutability.analysis.checkers;
 
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
-import com.ensoftcorp.atlas.core.db.graph.GraphElement;
 import com.ensoftcorp.atlas.core.db.graph.Node;
 import com.ensoftcorp.atlas.core.db.set.AtlasSet;
 import com.ensoftcorp.atlas.core.query.Q;
 import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
 import com.ensoftcorp.open.immutability.analysis.AnalysisUtilities;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.ParallelUtilities;
+import com.ensoftcorp.open.immutability.analysis.ParallelUtilities.ChunkTask;
 import com.ensoftcorp.open.immutability.constants.ImmutabilityTags;
 import com.ensoftcorp.open.immutability.log.Log;
-import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
+/**
+ * Checks the invariants of the analysis results
+ * 
+ * Every invariant is evaluated per node in a single parallel traversal of the 
+ * nodes that carry an immutability tag (or are expected to) and the violations 
+ * are aggregated into counts. For very large graphs an evenly spaced sample of 
+ * the nodes can be checked instead (see SANITY_CHECKS_SAMPLE_SIZE).
+ */
 public class SanityChecks {
 
-	public static boolean run(){
-		boolean resultsAreSane = true;
+	/**
+	 * The kinds of nodes that may not gain types over their default types
+	 */
+	private static final String[] CONSERVED_KINDS = new String[]{
+		XCSG.Null, XCSG.Literal, 
+		XCSG.Instantiation, XCSG.ArrayInstantiation, 
+		XCSG.MasterReturn, XCSG.Identity, XCSG.Parameter,
+		XCSG.InstanceVariable, XCSG.ClassVariable,
+		XCSG.Method
+	};
+	
+	// the indexes of the aggregated violation counts
+	private static final int UNTYPED_REFERENCES = 0;
+	private static final int GAINED_TYPES = 1;
+	private static final int READONLY_POLYREAD = 2;
+	private static final int READONLY_MUTABLE = 3;
+	private static final int POLYREAD_MUTABLE = 4;
+	private static final int TYPED_METHODS = 5;
+	private static final int UNTAGGED_FIELDS = 6;
+	private static final int UNTAGGED_PARAMETERS = 7;
+	private static final int UNTAGGED_IDENTITIES = 8;
+	private static final int NUM_CHECKS = 9;
+
+	/**
+	 * Runs the sanity checks
+	 * @param configuration
+	 * @param checkConservation If false the checks for untyped references and gained types are skipped
+	 * (used when the invariants were already monitored while solving)
+	 * @return
+	 */
+	public static boolean run(final AnalysisConfiguration configuration, final boolean checkConservation){
+		// methods are expected to carry types in partial program analysis
+		final boolean checkTagging = !configuration.isGenerateSummariesEnabled();
+		
+		Q candidates = Common.universe().nodesTaggedWithAny(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE, ImmutabilityTags.UNTYPED, 
+				XCSG.Field, XCSG.Parameter, XCSG.Identity);
+		AtlasSet<Node> candidateSet = Common.resolve(new NullProgressMonitor(), candidates.eval()).nodes();
+		Node[] candidateNodes = new Node[(int) candidateSet.size()];
+		int index = 0;
+		for(Node candidate : candidateSet){
+			candidateNodes[index++] = candidate;
+		}
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking for untyped references...");
-		resultsAreSane &= !hasUntypedReferences();
+		final Node[] nodes = sample(candidateNodes, configuration.getSanityChecksSampleSize());
+		if(configuration.isGeneralLoggingEnabled()){
+			if(nodes.length < candidateNodes.length){
+				Log.info("Checking a sample of " + nodes.length + " of " + candidateNodes.length + " nodes...");
+			} else {
+				Log.info("Checking " + nodes.length + " nodes...");
+			}
+		}
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking for conservation of types (types cannot be gained)...");
-		resultsAreSane &= !gainedTypes(XCSG.Null, XCSG.Literal, 
-									   XCSG.Instantiation, XCSG.ArrayInstantiation, 
-									   XCSG.MasterReturn, XCSG.Identity, XCSG.Parameter,
-									   XCSG.InstanceVariable, XCSG.ClassVariable,
-									   XCSG.Method);
+		List<long[]> chunkCounts = ParallelUtilities.run(configuration, nodes.length, new ChunkTask<long[]>(){
+			@Override
+			public long[] run(int start, int end) {
+				long[] counts = new long[NUM_CHECKS];
+				for(int i=start; i<end; i++){
+					check(configuration, nodes[i], checkConservation, checkTagging, counts);
+				}
+				return counts;
+			}
+		});
+		long[] counts = new long[NUM_CHECKS];
+		for(long[] chunk : chunkCounts){
+			for(int i=0; i<NUM_CHECKS; i++){
+				counts[i] += chunk[i];
+			}
+		}
 		
 		// this check is expensive and often wrong...type of edges pull in a lot of things
-//		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking that known readonly types are typed as readonly...");
+//		if(configuration.isGeneralLoggingEnabled()) Log.info("Checking that known readonly types are typed as readonly...");
 //		resultsAreSane &= !defaultReadonlyTypesAreReadonly();
 		
-		if(!ImmutabilityPreferences.isGenerateSummariesEnabled()){
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking for double tagged immutability types...");
-			resultsAreSane &= !isDoubleTagged();
-			
-			if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking that methods are not tagged with immutability types...");
-			resultsAreSane &= !methodsDoNotHaveImmutabilityTypes();
+		boolean resultsAreSane = true;
+		if(counts[UNTYPED_REFERENCES] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[UNTYPED_REFERENCES] + " references with no immutability types!");
+		}
+		if(counts[GAINED_TYPES] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[GAINED_TYPES] + " nodes that gained unexpected types over thier defaults.");
 		}
+		if(counts[READONLY_POLYREAD] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[READONLY_POLYREAD] + " nodes that are tagged as " + ImmutabilityTags.READONLY + " and " + ImmutabilityTags.POLYREAD);
+		}
+		if(counts[READONLY_MUTABLE] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[READONLY_MUTABLE] + " nodes that are tagged as " + ImmutabilityTags.READONLY + " and " + ImmutabilityTags.MUTABLE);
+		}
+		if(counts[POLYREAD_MUTABLE] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[POLYREAD_MUTABLE] + " nodes that are tagged as " + ImmutabilityTags.POLYREAD + " and " + ImmutabilityTags.MUTABLE);
+		}
+		if(counts[TYPED_METHODS] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[TYPED_METHODS] + " methods that were expected to not to have immutability types that do.");
+		}
+		if(counts[UNTAGGED_FIELDS] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[UNTAGGED_FIELDS] + " fields that are not tagged.");
+		}
+		if(counts[UNTAGGED_PARAMETERS] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[UNTAGGED_PARAMETERS] + " parameters that are not tagged.");
+		}
+		if(counts[UNTAGGED_IDENTITIES] > 0){
+			resultsAreSane = false;
+			Log.warning("There are " + counts[UNTAGGED_IDENTITIES] + " identity that are not tagged.");
+		}
+		return resultsAreSane;
+	}
+	
+	/**
+	 * Evaluates each invariant for the given node and increments the count of each violated invariant
+	 * @param configuration
+	 * @param node
+	 * @param checkConservation If true nodes must be typed and must not gain types
+	 * @param checkTagging If true methods must not be typed and nodes must not be double tagged
+	 * @param counts
+	 */
+	private static void check(AnalysisConfiguration configuration, Node node, boolean checkConservation, boolean checkTagging, long[] counts){
+		boolean readonly = node.taggedWith(ImmutabilityTags.READONLY);
+		boolean polyread = node.taggedWith(ImmutabilityTags.POLYREAD);
+		boolean mutable = node.taggedWith(ImmutabilityTags.MUTABLE);
+		boolean untyped = node.taggedWith(ImmutabilityTags.UNTYPED);
+		boolean typed = readonly || polyread || mutable;
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking all fields are typed...");
-		resultsAreSane &= !allFieldsAreTagged();
+		// references with no immutability types
+		if(checkConservation && untyped){
+			counts[UNTYPED_REFERENCES]++;
+		}
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking all parameters are typed...");
-		resultsAreSane &= !allParametersAreTagged();
+		// conservation of types (types cannot be gained)
+		if(checkConservation && typed && isConservedKind(node)){
+			Set<ImmutabilityTypes> defaultTypes = AnalysisUtilities.getDefaultTypes(configuration, node);
+			if(readonly && !defaultTypes.contains(ImmutabilityTypes.READONLY)){
+				if(configuration.isDebugLoggingEnabled()) Log.warning("GraphElement " + node.address().toAddressString() + " is tagged as READONLY but READONLY is not a valid default for this element.");
+				counts[GAINED_TYPES]++;
+			} else if(polyread && !defaultTypes.contains(ImmutabilityTypes.POLYREAD)){
+				if(configuration.isDebugLoggingEnabled()) Log.warning("GraphElement " + node.address().toAddressString() + " is tagged as POLYREAD but POLYREAD is not a valid default for this element.");
+				counts[GAINED_TYPES]++;
+			} else if(mutable && !defaultTypes.contains(ImmutabilityTypes.MUTABLE)){
+				if(configuration.isDebugLoggingEnabled()) Log.warning("GraphElement " + node.address().toAddressString() + " is tagged as MUTABLE but MUTABLE is not a valid default for this element.");
+				counts[GAINED_TYPES]++;
+			}
+		}
 		
-		if(ImmutabilityPreferences.isGeneralLoggingEnabled()) Log.info("Checking all identities are typed...");
-		resultsAreSane &= !allIdentititesAreTagged();
-
-		return resultsAreSane;
-	}
-
-	private static boolean allIdentititesAreTagged() {
-		// each field should be tagged
-		long missingTags = 0;
-		Q identities = Common.universe().nodesTaggedWithAny(XCSG.Identity);
-		for(Node identity : identities.eval().nodes()){
-			if(!(identity.taggedWith(ImmutabilityTags.READONLY) || identity.taggedWith(ImmutabilityTags.POLYREAD) || identity.taggedWith(ImmutabilityTags.MUTABLE))){
-				missingTags++;
+		if(checkTagging){
+			// tagged with two or more of the following (READONLY, POLYREAD, MUTABLE)
+			if(readonly && polyread){
+				counts[READONLY_POLYREAD]++;
+			}
+			if(readonly && mutable){
+				counts[READONLY_MUTABLE]++;
+			}
+			if(polyread && mutable){
+				counts[POLYREAD_MUTABLE]++;
+			}
+			
+			// methods do not have immutability tags
+			// only true for whole program analysis (partial program analysis is an exception)
+			if(node.taggedWith(XCSG.Method)){
+				if(readonly) counts[TYPED_METHODS]++;
+				if(polyread) counts[TYPED_METHODS]++;
+				if(mutable) counts[TYPED_METHODS]++;
+				if(untyped) counts[TYPED_METHODS]++;
 			}
 		}
-		boolean hasMissingTags = missingTags > 0;
-		if(hasMissingTags) Log.warning("There are " + missingTags + " identity that are not tagged.");
-		return hasMissingTags;
-	}
-	
-	private static boolean allParametersAreTagged() {
-		// each field should be tagged
-		long missingTags = 0;
-		Q parameters = Common.universe().nodesTaggedWithAny(XCSG.Parameter);
-		for(Node parameter : parameters.eval().nodes()){
-			if(!(parameter.taggedWith(ImmutabilityTags.READONLY) || parameter.taggedWith(ImmutabilityTags.POLYREAD) || parameter.taggedWith(ImmutabilityTags.MUTABLE))){
-				missingTags++;
+		
+		// each field, parameter, and identity should be tagged
+		if(!typed){
+			if(node.taggedWith(XCSG.Field)){
+				counts[UNTAGGED_FIELDS]++;
+			}
+			if(node.taggedWith(XCSG.Parameter)){
+				counts[UNTAGGED_PARAMETERS]++;
+			}
+			if(node.taggedWith(XCSG.Identity)){
+				counts[UNTAGGED_IDENTITIES]++;
 			}
 		}
-		boolean hasMissingTags = missingTags > 0;
-		if(hasMissingTags) Log.warning("There are " + missingTags + " parameters that are not tagged.");
-		return hasMissingTags;
 	}
 	
-	private static boolean allFieldsAreTagged() {
-		// each field should be tagged
-		long missingTags = 0;
-		Q fields = Common.universe().nodesTaggedWithAny(XCSG.Field);
-		for(Node field : fields.eval().nodes()){
-			if(!(field.taggedWith(ImmutabilityTags.READONLY) || field.taggedWith(ImmutabilityTags.POLYREAD) || field.taggedWith(ImmutabilityTags.MUTABLE))){
-				missingTags++;
+	private static boolean isConservedKind(Node node){
+		for(String kind : CONSERVED_KINDS){
+			if(node.taggedWith(kind)){
+				return true;
 			}
 		}
-		boolean hasMissingTags = missingTags > 0;
-		if(hasMissingTags) Log.warning("There are " + missingTags + " fields that are not tagged.");
-		return hasMissingTags;
+		return false;
 	}
 	
 	/**
-	 * Checks that methods do not have immutability tags
-	 * Only true for whole program analysis (partial program analysis is an exception)
+	 * Returns an evenly spaced sample of the given nodes, or all of the nodes 
+	 * if the sample size is 0 or there are not more nodes than the sample size
+	 * @param nodes
+	 * @param sampleSize
 	 * @return
 	 */
-	private static boolean methodsDoNotHaveImmutabilityTypes(){
-		long unexpectedTypes = 0;
-		unexpectedTypes += Common.universe().nodesTaggedWithAll(XCSG.Method, ImmutabilityTags.READONLY).eval().nodes().size();
-		unexpectedTypes += Common.universe().nodesTaggedWithAll(XCSG.Method, ImmutabilityTags.POLYREAD).eval().nodes().size();
-		unexpectedTypes += Common.universe().nodesTaggedWithAll(XCSG.Method, ImmutabilityTags.MUTABLE).eval().nodes().size();
-		unexpectedTypes += Common.universe().nodesTaggedWithAll(XCSG.Method, ImmutabilityTags.UNTYPED).eval().nodes().size();
-		boolean hasUnexpectedTypes = unexpectedTypes > 0;
-		if(hasUnexpectedTypes) Log.warning("There are " + unexpectedTypes + " methods that were expected to not to have immutability types that do.");
-		return hasUnexpectedTypes;
+	private static Node[] sample(Node[] nodes, int sampleSize){
+		if(sampleSize <= 0 || nodes.length <= sampleSize){
+			return nodes;
+		}
+		Node[] sample = new Node[sampleSize];
+		for(int i=0; i<sampleSize; i++){
+			sample[i] = nodes[(int) (((long) i * nodes.length) / sampleSize)];
+		}
+		return sample;
 	}
 	
 //	/**
@@ -155,13 +281,13 @@ public class SanityChecks {
 //				// we only need to consider operators on-demand so not all operators will actually be typed
 //				// but if they are they'd better not be typed as anything but readonly
 //				if(ge.taggedWith(ImmutabilityTags.POLYREAD) || ge.taggedWith(ImmutabilityTags.MUTABLE) || ge.taggedWith(ImmutabilityAnalysis.UNTYPED)){
-//					if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.warning("Readonly type " + ge.address().toAddressString() + " is not readonly.");
+//					if(configuration.isDebugLoggingEnabled()) Log.warning("Readonly type " + ge.address().toAddressString() + " is not readonly.");
 //					unexpectedTypes++;
 //				}
 //				continue;
 //			}
 //			if(!ge.taggedWith(ImmutabilityTags.READONLY)){
-//				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.warning("Readonly type " + ge.address().toAddressString() + " is not readonly.");
+//				if(configuration.isDebugLoggingEnabled()) Log.warning("Readonly type " + ge.address().toAddressString() + " is not readonly.");
 //				unexpectedTypes++;
 //			}
 //		}
@@ -170,66 +296,4 @@ public class SanityChecks {
 //		return hasUnexpectedTypes;
 //	}
 
-	private static boolean gainedTypes(String... tags) {
-		int unexpectedTypes = 0;
-		for(GraphElement ge : Common.resolve(new NullProgressMonitor(), Common.universe().nodesTaggedWithAny(tags).eval()).nodes()){
-			Set<ImmutabilityTypes> defaultTypes = AnalysisUtilities.getDefaultTypes(ge);
-			if(ge.taggedWith(ImmutabilityTags.READONLY) && !defaultTypes.contains(ImmutabilityTypes.READONLY)){
-				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.warning("GraphElement " + ge.address().toAddressString() + " is tagged as READONLY but READONLY is not a valid default for this element.");
-				unexpectedTypes++;
-			} else if(ge.taggedWith(ImmutabilityTags.POLYREAD) && !defaultTypes.contains(ImmutabilityTypes.POLYREAD)){
-				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.warning("GraphElement " + ge.address().toAddressString() + " is tagged as POLYREAD but POLYREAD is not a valid default for this element.");
-				unexpectedTypes++;
-			} else if(ge.taggedWith(ImmutabilityTags.MUTABLE) && !defaultTypes.contains(ImmutabilityTypes.MUTABLE)){
-				if(ImmutabilityPreferences.isDebugLoggingEnabled()) Log.warning("GraphElement " + ge.address().toAddressString() + " is tagged as MUTABLE but MUTABLE is not a valid default for this element.");
-				unexpectedTypes++;
-			}
-		}
-		boolean hasUnexpectedTypes = unexpectedTypes > 0;
-		if(hasUnexpectedTypes) Log.warning("There are " + unexpectedTypes + " nodes that gained unexpected types over thier defaults.");
-		return hasUnexpectedTypes;
-	}
-
-	/**
-	 * Returns true if tagged with two or more of the following (READONLY, POLYREAD, MUTABLE)
-	 * @return
-	 */
-	private static boolean isDoubleTagged() {
-		boolean isDoubleTagged = false;
-		
-		AtlasSet<Node> readonlyPolyread = Common.universe().nodesTaggedWithAll(ImmutabilityTags.READONLY, ImmutabilityTags.POLYREAD).eval().nodes();
-		if(readonlyPolyread.size() > 0){
-			isDoubleTagged = true;
-			Log.warning("There are " + readonlyPolyread.size() + " nodes that are tagged as " + ImmutabilityTags.READONLY + " and " + ImmutabilityTags.POLYREAD);
-		}
-		
-		AtlasSet<Node> readonlyMutable = Common.universe().nodesTaggedWithAll(ImmutabilityTags.READONLY, ImmutabilityTags.MUTABLE).eval().nodes();
-		if(readonlyMutable.size() > 0){
-			isDoubleTagged = true;
-			Log.warning("There are " + readonlyMutable.size() + " nodes that are tagged as " + ImmutabilityTags.READONLY + " and " + ImmutabilityTags.MUTABLE);
-		}
-		
-		AtlasSet<Node> polyreadMutable = Common.universe().nodesTaggedWithAll(ImmutabilityTags.POLYREAD, ImmutabilityTags.MUTABLE).eval().nodes();
-		if(polyreadMutable.size() > 0){
-			isDoubleTagged = true;
-			Log.warning("There are " + polyreadMutable.size() + " nodes that are tagged as " + ImmutabilityTags.POLYREAD + " and " + ImmutabilityTags.MUTABLE);
-		}
-		
-		return isDoubleTagged;
-	}
-	
-	/**
-	 * Returns true if there are nodes with the UNTYPED tag
-	 * @return
-	 */
-	private static boolean hasUntypedReferences(){
-		boolean hasUntypedReferences = false;
-		AtlasSet<Node> untypedReferences = Common.universe().nodesTaggedWithAny(ImmutabilityTags.UNTYPED).eval().nodes();
-		if(untypedReferences.size() > 0){
-			hasUntypedReferences = true;
-			Log.warning("There are " + untypedReferences.size() + " references with no immutability types!");
-		}
-		return hasUntypedReferences;
-	}
-	
 }
@@ -128,14 +128,14 @@ public class XGreaterThanEqualYConstraintSolverGenerator {
 			return "return false;";
 		} else {
 			if(xTypesToRemove.isEmpty()){
-				return "return removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));";
+				return "return removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));";
 			}
 			if(yTypesToRemove.isEmpty()){
-				return "return removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));";
+				return "return removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));";
 			}
 			String result = "";
-			result += "xTypesChanged = removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
-			result += "yTypesChanged = removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
+			result += "xTypesChanged = removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
+			result += "yTypesChanged = removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
 			result += "return xTypesChanged || yTypesChanged;";
 			return result;
 		}
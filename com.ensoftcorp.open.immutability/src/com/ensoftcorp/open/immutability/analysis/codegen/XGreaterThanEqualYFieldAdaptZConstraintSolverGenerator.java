@@ -169,35 +169,35 @@ public class XGreaterThanEqualYFieldAdaptZConstraintSolverGenerator {
 			return "return false;";
 		} else {
 			if(xTypesToRemove.isEmpty() && yTypesToRemove.isEmpty()){
-				return "return removeTypes(z, EnumSet.of(" + getSetString(zTypesToRemove) + "));";
+				return "return removeTypes(context, z, EnumSet.of(" + getSetString(zTypesToRemove) + "));";
 			} else if(xTypesToRemove.isEmpty() && zTypesToRemove.isEmpty()){
-				return "return removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));";
+				return "return removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));";
 			} else if(yTypesToRemove.isEmpty() && zTypesToRemove.isEmpty()){
-				return "return removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));";
+				return "return removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));";
 			} else {
 				if(xTypesToRemove.isEmpty()){
 					String result = "";
-					result += "yTypesChanged = removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
-					result += "zTypesChanged = removeTypes(z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
+					result += "yTypesChanged = removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
+					result += "zTypesChanged = removeTypes(context, z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
 					result += "return yTypesChanged || zTypesChanged;";
 					return result;
 				} else if(yTypesToRemove.isEmpty()){
 					String result = "";
-					result += "xTypesChanged = removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
-					result += "zTypesChanged = removeTypes(z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
+					result += "xTypesChanged = removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
+					result += "zTypesChanged = removeTypes(context, z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
 					result += "return xTypesChanged || zTypesChanged;";
 					return result;
 				} else if(zTypesToRemove.isEmpty()){
 					String result = "";
-					result += "xTypesChanged = removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
-					result += "yTypesChanged = removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
+					result += "xTypesChanged = removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
+					result += "yTypesChanged = removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
 					result += "return xTypesChanged || yTypesChanged;";
 					return result;
 				} else {
 					String result = "";
-					result += "xTypesChanged = removeTypes(x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
-					result += "yTypesChanged = removeTypes(y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
-					result += "zTypesChanged = removeTypes(z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
+					result += "xTypesChanged = removeTypes(context, x, EnumSet.of(" + getSetString(xTypesToRemove) + "));\n";
+					result += "yTypesChanged = removeTypes(context, y, EnumSet.of(" + getSetString(yTypesToRemove) + "));\n";
+					result += "zTypesChanged = removeTypes(context, z, EnumSet.of(" + getSetString(zTypesToRemove) + "));\n";
 					result += "return xTypesChanged || yTypesChanged || zTypesChanged;";
 					return result;
 				}
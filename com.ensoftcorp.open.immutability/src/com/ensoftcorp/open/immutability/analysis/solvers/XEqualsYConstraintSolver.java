@@ -6,13 +6,14 @@ import static com.ensoftcorp.open.immutability.analysis.AnalysisUtilities.remove
 import java.util.Set;
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
 import com.ensoftcorp.open.immutability.log.Log;
 
 public class XEqualsYConstraintSolver {
 
-	public static boolean satisfy(Node x, ImmutabilityTypes y){
-		Set<ImmutabilityTypes> xTypes = getTypes(x);
+	public static boolean satisfy(AnalysisContext context, Node x, ImmutabilityTypes y){
+		Set<ImmutabilityTypes> xTypes = getTypes(context, x);
 		if (xTypes.isEmpty()) {
 			Log.warning("x [" + x.address().toAddressString() + "] is untyped, constraint 'qx equals Y' cannot be satisfied", new IllegalArgumentException());
 			return false;
@@ -20,20 +21,20 @@ public class XEqualsYConstraintSolver {
 		
 		switch(y){
 			case MUTABLE:
-				return removeTypes(x, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
+				return removeTypes(context, x, ImmutabilityTypes.READONLY, ImmutabilityTypes.POLYREAD);
 			case POLYREAD:
-				return removeTypes(x, ImmutabilityTypes.READONLY, ImmutabilityTypes.MUTABLE);
+				return removeTypes(context, x, ImmutabilityTypes.READONLY, ImmutabilityTypes.MUTABLE);
 			case READONLY:
-				return removeTypes(x, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.MUTABLE);
+				return removeTypes(context, x, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.MUTABLE);
 			default:
 				throw new IllegalArgumentException("Unexpected immutability type!");
 		}
 	}
 	
-//	public static boolean satisfy(Node x, Node y) {
+//	public static boolean satisfy(AnalysisContext context, Node x, Node y) {
 //		Set<ImmutabilityTypes> intersection = EnumSet.noneOf(ImmutabilityTypes.class);
-//		Set<ImmutabilityTypes> xTypes = getTypes(x);
-//		Set<ImmutabilityTypes> yTypes = getTypes(y);
+//		Set<ImmutabilityTypes> xTypes = getTypes(context, x);
+//		Set<ImmutabilityTypes> yTypes = getTypes(context, y);
 //		
 //		// TODO: implement
 //	}
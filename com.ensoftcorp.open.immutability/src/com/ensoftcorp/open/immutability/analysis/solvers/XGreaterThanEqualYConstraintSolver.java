@@ -8,7 +8,10 @@ import java.util.EnumSet;
 import java.util.Set;
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.ProvenanceRecorder;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
 import com.ensoftcorp.open.immutability.log.Log;
 
 public class XGreaterThanEqualYConstraintSolver {
@@ -39,20 +42,24 @@ public class XGreaterThanEqualYConstraintSolver {
 	 * @param yTypes
 	 * @return
 	 */
-	public static boolean satisify(Node x, Node y) {
-		Set<ImmutabilityTypes> xTypes = getTypes(x);
+	public static boolean satisify(AnalysisContext context, Node x, Node y) {
+		Set<ImmutabilityTypes> xTypes = getTypes(context, x);
 		if(xTypes.isEmpty()){
 			Log.warning("x [" + x.address().toAddressString() + "] is untyped, constraint 'qx :> qy' cannot be satisfied", new IllegalArgumentException());
 			return false;
 		}
 		
-		Set<ImmutabilityTypes> yTypes = getTypes(y);
+		Set<ImmutabilityTypes> yTypes = getTypes(context, y);
 		if(yTypes.isEmpty()){
 			Log.warning("y [" + y.address().toAddressString() + "] is untyped, constraint 'qx :> qy' cannot be satisfied", new IllegalArgumentException());
 			return false;
 		}
 		
-		return satisify(x, xTypes, y, yTypes);
+		ProvenanceRecorder provenanceRecorder = context.getProvenanceRecorder();
+		provenanceRecorder.setOperands(ConstraintType.GREATER_EQUAL, x, xTypes, y, yTypes, null, null);
+		boolean typesChanged = satisify(context, x, xTypes, y, yTypes);
+		provenanceRecorder.clearOperands();
+		return typesChanged;
 	}
 
 	private static short getCase(Set<ImmutabilityTypes> xTypes, Set<ImmutabilityTypes> yTypes) {
@@ -82,7 +89,7 @@ public class XGreaterThanEqualYConstraintSolver {
 		return input;
 	}
 
-	private static boolean satisify(Node x, Set<ImmutabilityTypes> xTypes, Node y, Set<ImmutabilityTypes> yTypes) {
+	private static boolean satisify(AnalysisContext context, Node x, Set<ImmutabilityTypes> xTypes, Node y, Set<ImmutabilityTypes> yTypes) {
 		boolean xTypesChanged = false;
 		boolean yTypesChanged = false;
 		short input = getCase(xTypes, yTypes);
@@ -90,15 +97,15 @@ public class XGreaterThanEqualYConstraintSolver {
 		case 0: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 1: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 2: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 3: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, READONLY]
 			return false;
 		case 4: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 5: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 6: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE]
 			return false;
 		case 8: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY]
@@ -110,41 +117,41 @@ public class XGreaterThanEqualYConstraintSolver {
 		case 11: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, READONLY]
 			return false;
 		case 12: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 13: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD]
 			return false;
 		case 14: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE]
 			return false;
 		case 16: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 17: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 18: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 19: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 20: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 21: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 22: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE]
 			return false;
 		case 24: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 25: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 26: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 27: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, READONLY]
 			return false;
 		case 28: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 29: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 30: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE]
 			return false;
 		case 32: // xTypes=[READONLY], yTypes=[MUTABLE, POLYREAD, READONLY]
@@ -162,38 +169,38 @@ public class XGreaterThanEqualYConstraintSolver {
 		case 38: // xTypes=[READONLY], yTypes=[MUTABLE]
 			return false;
 		case 40: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 41: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 42: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 43: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 44: // xTypes=[POLYREAD], yTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 45: // xTypes=[POLYREAD], yTypes=[POLYREAD]
 			return false;
 		case 46: // xTypes=[POLYREAD], yTypes=[MUTABLE]
 			return false;
 		case 48: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 49: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 50: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 51: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 52: // xTypes=[MUTABLE], yTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 53: // xTypes=[MUTABLE], yTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged;
 		case 54: // xTypes=[MUTABLE], yTypes=[MUTABLE]
 			return false;
@@ -8,7 +8,10 @@ import java.util.EnumSet;
 import java.util.Set;
 
 import com.ensoftcorp.atlas.core.db.graph.Node;
+import com.ensoftcorp.open.immutability.analysis.AnalysisContext;
 import com.ensoftcorp.open.immutability.analysis.ImmutabilityTypes;
+import com.ensoftcorp.open.immutability.analysis.ProvenanceRecorder;
+import com.ensoftcorp.open.immutability.core.constraints.ConstraintType;
 import com.ensoftcorp.open.immutability.log.Log;
 
 public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
@@ -32,26 +35,30 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		sets.add(SET7);
 	}
 
-	public static boolean satisify(Node x, Node y, Node z) {
-		Set<ImmutabilityTypes> xTypes = getTypes(x);
+	public static boolean satisify(AnalysisContext context, Node x, Node y, Node z) {
+		Set<ImmutabilityTypes> xTypes = getTypes(context, x);
 		if (xTypes.isEmpty()) {
 			Log.warning("x [" + x.address().toAddressString() + "] is untyped, constraint 'qx :> qy madapt qz' cannot be satisfied", new IllegalArgumentException());
 			return false;
 		}
 
-		Set<ImmutabilityTypes> yTypes = getTypes(y);
+		Set<ImmutabilityTypes> yTypes = getTypes(context, y);
 		if (yTypes.isEmpty()) {
 			Log.warning("y [" + y.address().toAddressString() + "] is untyped, constraint 'qx :> qy madapt qz' cannot be satisfied", new IllegalArgumentException());
 			return false;
 		}
 
-		Set<ImmutabilityTypes> zTypes = getTypes(z);
+		Set<ImmutabilityTypes> zTypes = getTypes(context, z);
 		if (zTypes.isEmpty()) {
 			Log.warning("z [" + z.address().toAddressString() + "] is untyped, constraint 'qx :> qy madapt qz' cannot be satisfied", new IllegalArgumentException());
 			return false;
 		}
 
-		return satisify(x, xTypes, y, yTypes, z, zTypes);
+		ProvenanceRecorder provenanceRecorder = context.getProvenanceRecorder();
+		provenanceRecorder.setOperands(ConstraintType.GREATER_EQUAL_METHOD_ADAPT, x, xTypes, y, yTypes, z, zTypes);
+		boolean typesChanged = satisify(context, x, xTypes, y, yTypes, z, zTypes);
+		provenanceRecorder.clearOperands();
+		return typesChanged;
 	}
 
 	private static short getCase(Set<ImmutabilityTypes> xTypes, Set<ImmutabilityTypes> yTypes, Set<ImmutabilityTypes> zTypes) {
@@ -92,7 +99,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		return input;
 	}
 
-	private static boolean satisify(Node x, Set<ImmutabilityTypes> xTypes, Node y, Set<ImmutabilityTypes> yTypes, Node z, Set<ImmutabilityTypes> zTypes) {
+	private static boolean satisify(AnalysisContext context, Node x, Set<ImmutabilityTypes> xTypes, Node y, Set<ImmutabilityTypes> yTypes, Node z, Set<ImmutabilityTypes> zTypes) {
 		boolean xTypesChanged = false;
 		boolean yTypesChanged = false;
 		boolean zTypesChanged = false;
@@ -107,7 +114,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 3: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 4: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 5: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 6: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
@@ -115,15 +122,15 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 8: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 9: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 10: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 11: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 12: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 13: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 14: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 16: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
@@ -135,7 +142,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 19: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 20: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 21: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 22: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
@@ -149,7 +156,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 27: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 28: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 29: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 30: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
@@ -157,29 +164,29 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 32: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 33: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 34: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 35: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 36: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 37: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 38: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 40: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 41: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 42: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 43: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 44: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 45: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 46: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 48: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD, READONLY]
@@ -191,7 +198,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 51: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 52: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
 		case 53: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
 		case 54: // xTypes=[MUTABLE, POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE]
@@ -205,7 +212,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 67: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 68: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 69: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 70: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
@@ -219,7 +226,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 75: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 76: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 77: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 78: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
@@ -233,7 +240,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 83: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 84: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 85: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 86: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
@@ -247,7 +254,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 91: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 92: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 93: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 94: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
@@ -255,15 +262,15 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 96: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 97: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 98: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 99: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 100: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 101: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 102: // xTypes=[POLYREAD, READONLY], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 104: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
@@ -275,7 +282,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 107: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 108: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 109: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 110: // xTypes=[POLYREAD, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE]
@@ -289,142 +296,142 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 115: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 116: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 117: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
 		case 118: // xTypes=[POLYREAD, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE]
 			return false;
 		case 128: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 129: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 130: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 131: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 132: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 133: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 134: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 136: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 137: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 138: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 139: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 140: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 141: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged;
 		case 142: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 144: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 145: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 146: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 147: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 148: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 149: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 150: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 152: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 153: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 154: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 155: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 156: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 157: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 158: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 160: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 161: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 162: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 163: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 164: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 165: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 166: // xTypes=[MUTABLE, POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 168: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 169: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || zTypesChanged;
 		case 170: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 171: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 172: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 173: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 174: // xTypes=[MUTABLE, POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 176: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 177: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 178: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 179: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 180: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 181: // xTypes=[MUTABLE, POLYREAD], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
@@ -439,7 +446,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 195: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 196: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 197: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 198: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
@@ -447,15 +454,15 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 200: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 201: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 202: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 203: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 204: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 205: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 206: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 208: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
@@ -467,7 +474,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 211: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 212: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 213: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 214: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
@@ -481,7 +488,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 219: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 220: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 221: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
 			return false;
 		case 222: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
@@ -489,29 +496,29 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 224: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 225: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 226: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 227: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 228: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 229: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 230: // xTypes=[MUTABLE, READONLY], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 232: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
 			return false;
 		case 233: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[POLYREAD, READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 234: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 235: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 236: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 237: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[POLYREAD]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 238: // xTypes=[MUTABLE, READONLY], yTypes=[POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 240: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD, READONLY]
@@ -523,7 +530,7 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 243: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
 			return false;
 		case 244: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE], zTypes=[READONLY]
-			return removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			return removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
 		case 245: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
 		case 246: // xTypes=[MUTABLE, READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE]
@@ -627,274 +634,274 @@ public class XGreaterThanEqualYMethodAdaptZConstraintSolver {
 		case 310: // xTypes=[READONLY], yTypes=[MUTABLE], zTypes=[MUTABLE]
 			return false;
 		case 320: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 321: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 322: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 323: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 324: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 325: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 326: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 328: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 329: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 330: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 331: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 332: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 333: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 334: // xTypes=[POLYREAD], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 336: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 337: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 338: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 339: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 340: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 341: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 342: // xTypes=[POLYREAD], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 344: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 345: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 346: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 347: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 348: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 349: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 350: // xTypes=[POLYREAD], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 352: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 353: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 354: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 355: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 356: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 357: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 358: // xTypes=[POLYREAD], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 360: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 361: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 362: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 363: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 364: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 365: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[POLYREAD]
 			return false;
 		case 366: // xTypes=[POLYREAD], yTypes=[POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 368: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 369: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 370: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 371: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 372: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 373: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
 		case 374: // xTypes=[POLYREAD], yTypes=[MUTABLE], zTypes=[MUTABLE]
 			return false;
 		case 384: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 385: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 386: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 387: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 388: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 389: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 390: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 392: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 393: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 394: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, POLYREAD]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 395: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 396: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 397: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 398: // xTypes=[MUTABLE], yTypes=[POLYREAD, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 400: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 401: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 402: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 403: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 404: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 405: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 406: // xTypes=[MUTABLE], yTypes=[MUTABLE, POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 408: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 409: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD, READONLY]
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return yTypesChanged || zTypesChanged;
 		case 410: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 411: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 412: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE, ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 413: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[POLYREAD]
-			return removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 414: // xTypes=[MUTABLE], yTypes=[MUTABLE, READONLY], zTypes=[MUTABLE]
 			return false;
 		case 416: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 417: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 418: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[MUTABLE, POLYREAD]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 419: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 420: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 421: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.READONLY));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.READONLY));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 422: // xTypes=[MUTABLE], yTypes=[READONLY], zTypes=[MUTABLE]
 			return false;
 		case 424: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 		case 425: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[POLYREAD, READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD, ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 426: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[MUTABLE, POLYREAD]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 		case 427: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 428: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 429: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[POLYREAD]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.POLYREAD));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.POLYREAD));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.POLYREAD));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 430: // xTypes=[MUTABLE], yTypes=[POLYREAD], zTypes=[MUTABLE]
 			return false;
 		case 432: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 433: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[POLYREAD, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 434: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[MUTABLE, POLYREAD]
 			return false;
 		case 435: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[MUTABLE, READONLY]
-			return removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			return removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 		case 436: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[READONLY]
-			xTypesChanged = removeTypes(x, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			yTypesChanged = removeTypes(y, EnumSet.of(ImmutabilityTypes.MUTABLE));
-			zTypesChanged = removeTypes(z, EnumSet.of(ImmutabilityTypes.READONLY));
+			xTypesChanged = removeTypes(context, x, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			yTypesChanged = removeTypes(context, y, EnumSet.of(ImmutabilityTypes.MUTABLE));
+			zTypesChanged = removeTypes(context, z, EnumSet.of(ImmutabilityTypes.READONLY));
 			return xTypesChanged || yTypesChanged || zTypesChanged;
 		case 437: // xTypes=[MUTABLE], yTypes=[MUTABLE], zTypes=[POLYREAD]
 			return false;
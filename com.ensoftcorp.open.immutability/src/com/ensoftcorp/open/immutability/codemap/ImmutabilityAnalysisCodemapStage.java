@@ -23,7 +23,7 @@ public class ImmutabilityAnalysisCodemapStage extends PrioritizedCodemapStage {
 
 	@Override
 	public String[] getCodemapStageDependencies() {
-		if(ImmutabilityPreferences.isPointsToAnalysisModeEnabled()){
+		if(ImmutabilityPreferences.isPointsToAnalysisModeEnabled() || ImmutabilityPreferences.isHybridAnalysisModeEnabled()){
 			return new String[]{ PointsToCodemapStage.IDENTIFIER };
 		} else {
 			return new String[]{};
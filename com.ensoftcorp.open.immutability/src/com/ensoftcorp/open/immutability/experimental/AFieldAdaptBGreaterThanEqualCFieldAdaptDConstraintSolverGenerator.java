@@ -229,105 +229,105 @@ public class AFieldAdaptBGreaterThanEqualCFieldAdaptDConstraintSolverGenerator {
 			// 3 of 4 could be empty (3 choose 4 ways = 4 ways)
 			// not d
 			if(aTypesToRemove.isEmpty() && bTypesToRemove.isEmpty() && cTypesToRemove.isEmpty()){
-				return "return removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));";
+				return "return removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));";
 			}
 			// not c
 			else if(aTypesToRemove.isEmpty() && bTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
-				return "return removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));";
+				return "return removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));";
 			} 
 			// not b
 			else if(aTypesToRemove.isEmpty() && cTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
-				return "return removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));";
+				return "return removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));";
 			} 
 			// not a
 			else if(bTypesToRemove.isEmpty() && cTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
-				return "return removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));";
+				return "return removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));";
 			} else {
 				// 2 of 4 could be empty (2 choose 4 = 6 ways)
 				// not a,b
 				if(aTypesToRemove.isEmpty() && bTypesToRemove.isEmpty()){
 					String result = "";
-					result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
-					result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+					result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+					result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 					result += "return cTypesChanged || dTypesChanged;";
 					return result;
 				}
 				// not a,c
 				else if(aTypesToRemove.isEmpty() && cTypesToRemove.isEmpty()){
 					String result = "";
-					result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-					result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+					result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+					result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 					result += "return bTypesChanged || dTypesChanged;";
 					return result;
 				}
 				// not a,d
 				else if(aTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
 					String result = "";
-					result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-					result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+					result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+					result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
 					result += "return bTypesChanged || cTypesChanged;";
 					return result;
 				}
 				// not b,c
 				else if(bTypesToRemove.isEmpty() && cTypesToRemove.isEmpty()){
 					String result = "";
-					result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-					result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+					result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+					result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 					result += "return aTypesChanged || dTypesChanged;";
 					return result;
 				}
 				// not b,d
 				else if(bTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
 					String result = "";
-					result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-					result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+					result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+					result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
 					result += "return aTypesChanged || cTypesChanged;";
 					return result;
 				}
 				// not c,d
 				else if(cTypesToRemove.isEmpty() && dTypesToRemove.isEmpty()){
 					String result = "";
-					result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-					result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+					result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+					result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
 					result += "return aTypesChanged || bTypesChanged;";
 					return result;
 				} else {
 					// 1 of 4 could be empty
 					if(aTypesToRemove.isEmpty()){
 						String result = "";
-						result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-						result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
-						result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+						result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+						result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+						result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 						result += "return bTypesChanged || cTypesChanged || dTypesChanged;";
 						return result;
 					} else if(bTypesToRemove.isEmpty()){
 						String result = "";
-						result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-						result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
-						result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+						result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+						result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+						result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 						result += "return aTypesChanged || cTypesChanged || dTypesChanged;";
 						return result;
 					} else if(cTypesToRemove.isEmpty()){
 						String result = "";
-						result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-						result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-						result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+						result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+						result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+						result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 						result += "return aTypesChanged || bTypesChanged || dTypesChanged;";
 						return result;
 					} else if(dTypesToRemove.isEmpty()){
 						String result = "";
-						result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-						result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-						result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+						result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+						result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+						result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
 						result += "return aTypesChanged || bTypesChanged || cTypesChanged;";
 						return result;
 					} else {
 						// none are empty
 						String result = "";
-						result += "aTypesChanged = removeTypes(a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
-						result += "bTypesChanged = removeTypes(b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
-						result += "cTypesChanged = removeTypes(c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
-						result += "dTypesChanged = removeTypes(d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
+						result += "aTypesChanged = removeTypes(context, a, EnumSet.of(" + getSetString(aTypesToRemove) + "));\n";
+						result += "bTypesChanged = removeTypes(context, b, EnumSet.of(" + getSetString(bTypesToRemove) + "));\n";
+						result += "cTypesChanged = removeTypes(context, c, EnumSet.of(" + getSetString(cTypesToRemove) + "));\n";
+						result += "dTypesChanged = removeTypes(context, d, EnumSet.of(" + getSetString(dTypesToRemove) + "));\n";
 						result += "return aTypesChanged || bTypesChanged || cTypesChanged || dTypesChanged;";
 						return result;
 					}
@@ -16,7 +16,7 @@ import org.eclipse.swt.widgets.FileDialog;
 import com.ensoftcorp.atlas.core.script.Common;
 import com.ensoftcorp.atlas.core.xcsg.XCSG;
 import com.ensoftcorp.open.commons.utilities.DisplayUtils;
-import com.ensoftcorp.open.immutability.analysis.SummaryUtilities;
+import com.ensoftcorp.open.immutability.analysis.SummaryExporter;
 import com.ensoftcorp.open.immutability.log.Log;
 import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
@@ -65,7 +65,7 @@ public class ExportSummaryHandler extends AbstractHandler {
 			File outputFile = fileResult.file;
 			if(outputFile != null){
 				try {
-					SummaryUtilities.exportSummary(outputFile);
+					new SummaryExporter().exportSummary(outputFile);
 				} catch (Exception e){
 					Log.error("Could not save summaries.", e);
 					DisplayUtils.showError(e, "Could not save summaries.");
@@ -17,7 +17,8 @@ import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.FileDialog;
 
 import com.ensoftcorp.open.commons.utilities.DisplayUtils;
-import com.ensoftcorp.open.immutability.analysis.SummaryUtilities;
+import com.ensoftcorp.open.immutability.analysis.AnalysisConfiguration;
+import com.ensoftcorp.open.immutability.analysis.SummaryImporter;
 import com.ensoftcorp.open.immutability.log.Log;
 import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
@@ -62,7 +63,7 @@ public class ImportSummaryHandler extends AbstractHandler {
 			File inputFile = fileResult.file;
 			if(inputFile != null){
 				try {
-					SummaryUtilities.importSummary(fileResult.file);
+					new SummaryImporter(AnalysisConfiguration.fromPreferences()).importSummary(fileResult.file);
 				} catch (FileNotFoundException e) {
 					DisplayUtils.showError(e, "Could not find summary file.");
 				} catch (XMLStreamException e) {
@@ -4,6 +4,7 @@ import org.eclipse.core.runtime.preferences.AbstractPreferenceInitializer;
 import org.eclipse.jface.preference.IPreferenceStore;
 
 import com.ensoftcorp.open.immutability.Activator;
+import com.ensoftcorp.open.immutability.core.engine.WorklistEngine;
 import com.ensoftcorp.open.immutability.log.Log;
 
 public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
@@ -27,6 +28,7 @@ public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
 	public static final String IMMUTABILITY_ANALYSIS_MODE = "IMMUTABILITY_ANALYSIS_MODE";
 	public static final String IMMUTABILITY_ANALYSIS_INFERENCE_MODE = "IMMUTABILITY_ANALYSIS_INFERENCE_MODE";
 	public static final String IMMUTABILITY_ANALYSIS_POINTSTO_MODE = "IMMUTABILITY_ANALYSIS_POINTSTO_MODE";
+	public static final String IMMUTABILITY_ANALYSIS_HYBRID_MODE = "IMMUTABILITY_ANALYSIS_HYBRID_MODE";
 	public static final String IMMUTABILITY_ANALYSIS_MODE_DEFAULT = IMMUTABILITY_ANALYSIS_INFERENCE_MODE;
 	private static String analysisModeValue = IMMUTABILITY_ANALYSIS_MODE_DEFAULT;
 	
@@ -44,6 +46,17 @@ public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
 		return analysisModeValue.equals(IMMUTABILITY_ANALYSIS_INFERENCE_MODE);
 	}
 	
+	/**
+	 * Returns true if the inference analysis should be seeded with points-to results
+	 * @return
+	 */
+	public static boolean isHybridAnalysisModeEnabled(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return analysisModeValue.equals(IMMUTABILITY_ANALYSIS_HYBRID_MODE);
+	}
+	
 	/**
 	 * Enable/disable general logging to the Atlas log
 	 */
@@ -88,6 +101,126 @@ public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
 		return runSanityChecksValue;
 	}
 	
+	/**
+	 * Enable/disable checking the qualifier set invariants while solving
+	 * If enabled the post analysis scans for untyped references and gained types are skipped
+	 */
+	public static final String ONLINE_INVARIANT_MONITORING = "ONLINE_INVARIANT_MONITORING";
+	public static final Boolean ONLINE_INVARIANT_MONITORING_DEFAULT = true;
+	private static boolean onlineInvariantMonitoringValue = ONLINE_INVARIANT_MONITORING_DEFAULT;
+	
+	public static boolean isOnlineInvariantMonitoringEnabled(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return onlineInvariantMonitoringValue;
+	}
+	
+	/**
+	 * The number of qualifier updates retained in the inference trace buffer (0 disables tracing)
+	 */
+	public static final String TRACE_BUFFER_SIZE = "TRACE_BUFFER_SIZE";
+	public static final Integer TRACE_BUFFER_SIZE_DEFAULT = 0;
+	private static int traceBufferSizeValue = TRACE_BUFFER_SIZE_DEFAULT;
+	
+	public static int getTraceBufferSize(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return traceBufferSizeValue;
+	}
+	
+	/**
+	 * Enable/disable recording the provenance of each qualifier removal
+	 */
+	public static final String PROVENANCE_RECORDING = "PROVENANCE_RECORDING";
+	public static final Boolean PROVENANCE_RECORDING_DEFAULT = false;
+	private static boolean provenanceRecordingValue = PROVENANCE_RECORDING_DEFAULT;
+	
+	public static boolean isProvenanceRecordingEnabled(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return provenanceRecordingValue;
+	}
+	
+	/**
+	 * The maximum number of nodes checked by the sanity checks (0 checks every node)
+	 * If there are more candidate nodes than the sample size an evenly spaced sample is checked
+	 */
+	public static final String SANITY_CHECKS_SAMPLE_SIZE = "SANITY_CHECKS_SAMPLE_SIZE";
+	public static final Integer SANITY_CHECKS_SAMPLE_SIZE_DEFAULT = 0;
+	private static int sanityChecksSampleSizeValue = SANITY_CHECKS_SAMPLE_SIZE_DEFAULT;
+	
+	public static int getSanityChecksSampleSize(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return sanityChecksSampleSizeValue;
+	}
+	
+	/**
+	 * The number of worker threads used by parallel analysis stages (0 uses all available processors)
+	 */
+	public static final String PARALLELISM = "PARALLELISM";
+	public static final Integer PARALLELISM_DEFAULT = 0;
+	private static int parallelismValue = PARALLELISM_DEFAULT;
+	
+	public static int getParallelism(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return parallelismValue;
+	}
+	
+	/**
+	 * The engine used to compute the inference fixed point
+	 * The legacy engine applies the inference rules to the Atlas graph directly, other 
+	 * values name an engine of the core module that solves the extracted constraints
+	 * The legacy engine is deprecated and frozen, it is only kept to add mutable types
+	 * to instance variables and as a reference for the core engines
+	 */
+	public static final String INFERENCE_ENGINE = "INFERENCE_ENGINE";
+	public static final String INFERENCE_ENGINE_LEGACY = "legacy";
+	public static final String INFERENCE_ENGINE_DEFAULT = WorklistEngine.NAME;
+	private static String inferenceEngineValue = INFERENCE_ENGINE_DEFAULT;
+	
+	public static String getInferenceEngine(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return inferenceEngineValue;
+	}
+	
+	/**
+	 * An optional file the extracted constraint system and its fixed point are recorded to (empty for none)
+	 * Recordings are replayed by the ReplayRunner of the core module and require a core inference engine
+	 */
+	public static final String CONSTRAINT_RECORDING_FILE = "CONSTRAINT_RECORDING_FILE";
+	public static final String CONSTRAINT_RECORDING_FILE_DEFAULT = "";
+	private static String constraintRecordingFileValue = CONSTRAINT_RECORDING_FILE_DEFAULT;
+	
+	public static String getConstraintRecordingFile(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return constraintRecordingFileValue;
+	}
+	
+	/**
+	 * Enable/disable recording the removal trace of the solve with the constraint system
+	 */
+	public static final String CONSTRAINT_RECORDING_TRACE = "CONSTRAINT_RECORDING_TRACE";
+	public static final Boolean CONSTRAINT_RECORDING_TRACE_DEFAULT = false;
+	private static boolean constraintRecordingTraceValue = CONSTRAINT_RECORDING_TRACE_DEFAULT;
+	
+	public static boolean isConstraintRecordingTraceEnabled(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return constraintRecordingTraceValue;
+	}
+	
 	/**
 	 * Enable/disable partial program analysis (summaries)
 	 * If enabled the type sets are converted to tags and the resulting index can be used to resume analysis later
@@ -189,12 +322,50 @@ public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
 		return inferenceRuleLoggingValue;
 	}
 	
+	/**
+	 * Enable/disable the pure and side effecting library method models
+	 */
+	public static final String METHOD_MODELS = "METHOD_MODELS";
+	public static final Boolean METHOD_MODELS_DEFAULT = true;
+	private static boolean methodModelsValue = METHOD_MODELS_DEFAULT;
+	
+	public static boolean isMethodModelsEnabled(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return methodModelsValue;
+	}
+	
+	/**
+	 * An optional user model file loaded in addition to the bundled method models (empty for none)
+	 */
+	public static final String METHOD_MODELS_FILE = "METHOD_MODELS_FILE";
+	public static final String METHOD_MODELS_FILE_DEFAULT = "";
+	private static String methodModelsFileValue = METHOD_MODELS_FILE_DEFAULT;
+	
+	public static String getMethodModelsFile(){
+		if(!initialized){
+			loadPreferences();
+		}
+		return methodModelsFileValue;
+	}
+	
 	@Override
 	public void initializeDefaultPreferences() {
 		IPreferenceStore preferences = Activator.getDefault().getPreferenceStore();
 		preferences.setDefault(RUN_IMMUTABILITY_ANALYSIS, RUN_IMMUTABILITY_ANALYSIS_DEFAULT);
 		preferences.setDefault(IMMUTABILITY_ANALYSIS_MODE, IMMUTABILITY_ANALYSIS_INFERENCE_MODE);
 		preferences.setDefault(RUN_SANITY_CHECKS, RUN_SANITY_CHECKS_DEFAULT);
+		preferences.setDefault(ONLINE_INVARIANT_MONITORING, ONLINE_INVARIANT_MONITORING_DEFAULT);
+		preferences.setDefault(TRACE_BUFFER_SIZE, TRACE_BUFFER_SIZE_DEFAULT);
+		preferences.setDefault(PROVENANCE_RECORDING, PROVENANCE_RECORDING_DEFAULT);
+		preferences.setDefault(SANITY_CHECKS_SAMPLE_SIZE, SANITY_CHECKS_SAMPLE_SIZE_DEFAULT);
+		preferences.setDefault(PARALLELISM, PARALLELISM_DEFAULT);
+		preferences.setDefault(INFERENCE_ENGINE, INFERENCE_ENGINE_DEFAULT);
+		preferences.setDefault(CONSTRAINT_RECORDING_FILE, CONSTRAINT_RECORDING_FILE_DEFAULT);
+		preferences.setDefault(CONSTRAINT_RECORDING_TRACE, CONSTRAINT_RECORDING_TRACE_DEFAULT);
+		preferences.setDefault(METHOD_MODELS, METHOD_MODELS_DEFAULT);
+		preferences.setDefault(METHOD_MODELS_FILE, METHOD_MODELS_FILE_DEFAULT);
 		preferences.setDefault(GENERAL_LOGGING, GENERAL_LOGGING_DEFAULT);
 		preferences.setDefault(DEBUG_LOGGING, DEBUG_LOGGING_DEFAULT);
 		preferences.setDefault(ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES, ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES_DEFAULT);
@@ -215,6 +386,16 @@ public class ImmutabilityPreferences extends AbstractPreferenceInitializer {
 			runImmutabilityAnalysisValue = preferences.getBoolean(RUN_IMMUTABILITY_ANALYSIS);
 			analysisModeValue = preferences.getString(IMMUTABILITY_ANALYSIS_MODE);
 			runSanityChecksValue = preferences.getBoolean(RUN_SANITY_CHECKS);
+			onlineInvariantMonitoringValue = preferences.getBoolean(ONLINE_INVARIANT_MONITORING);
+			traceBufferSizeValue = preferences.getInt(TRACE_BUFFER_SIZE);
+			provenanceRecordingValue = preferences.getBoolean(PROVENANCE_RECORDING);
+			sanityChecksSampleSizeValue = preferences.getInt(SANITY_CHECKS_SAMPLE_SIZE);
+			parallelismValue = preferences.getInt(PARALLELISM);
+			inferenceEngineValue = preferences.getString(INFERENCE_ENGINE);
+			constraintRecordingFileValue = preferences.getString(CONSTRAINT_RECORDING_FILE);
+			constraintRecordingTraceValue = preferences.getBoolean(CONSTRAINT_RECORDING_TRACE);
+			methodModelsValue = preferences.getBoolean(METHOD_MODELS);
+			methodModelsFileValue = preferences.getString(METHOD_MODELS_FILE);
 			generalLoggingValue = preferences.getBoolean(GENERAL_LOGGING);
 			debugLoggingValue = preferences.getBoolean(DEBUG_LOGGING);
 			allowDefaultMutableInstancesVariablesValue = preferences.getBoolean(ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES);
@@ -1,9 +1,14 @@
 package com.ensoftcorp.open.immutability.ui;
 
+import java.util.List;
+
 import org.eclipse.jface.preference.BooleanFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
+import org.eclipse.jface.preference.FileFieldEditor;
 import org.eclipse.jface.preference.IPreferenceStore;
+import org.eclipse.jface.preference.IntegerFieldEditor;
 import org.eclipse.jface.preference.RadioGroupFieldEditor;
+import org.eclipse.jface.preference.StringFieldEditor;
 import org.eclipse.jface.util.IPropertyChangeListener;
 import org.eclipse.ui.IWorkbench;
 import org.eclipse.ui.IWorkbenchPreferencePage;
@@ -11,6 +16,7 @@ import org.eclipse.ui.IWorkbenchPreferencePage;
 import com.ensoftcorp.open.commons.ui.components.LabelFieldEditor;
 import com.ensoftcorp.open.commons.ui.components.SpacerFieldEditor;
 import com.ensoftcorp.open.immutability.Activator;
+import com.ensoftcorp.open.immutability.core.engine.InferenceEngines;
 import com.ensoftcorp.open.immutability.preferences.ImmutabilityPreferences;
 
 /**
@@ -24,8 +30,20 @@ public class ImmutabilityPreferencesPage extends FieldEditorPreferencePage imple
 	
 	private static final String IMMUTABILITY_ANALYSIS_POINTSTO_MODE_DESCRIPTION = "Points-to analysis mode (more precise)";
 	private static final String IMMUTABILITY_ANALYSIS_INFERENCE_MODE_DESCRIPTION = "Inference based analysis mode (more scalable)";
+	private static final String IMMUTABILITY_ANALYSIS_HYBRID_MODE_DESCRIPTION = "Hybrid analysis mode (inference seeded with points-to results)";
 	
 	private static final String RUN_SANITY_CHECKS_DESCRIPTION = "Run sanity checks";
+	private static final String ONLINE_INVARIANT_MONITORING_DESCRIPTION = "Monitor qualifier invariants while solving";
+	private static final String TRACE_BUFFER_SIZE_DESCRIPTION = "Inference trace buffer size (0 disables tracing)";
+	private static final String PROVENANCE_RECORDING_DESCRIPTION = "Record the provenance of qualifier removals";
+	private static final String SANITY_CHECKS_SAMPLE_SIZE_DESCRIPTION = "Sanity check sample size (0 checks every node)";
+	private static final String PARALLELISM_DESCRIPTION = "Worker threads (0 uses all available processors)";
+	private static final String INFERENCE_ENGINE_LEGACY_DESCRIPTION = "Legacy engine (deprecated, applies the inference rules to the Atlas graph)";
+	private static final String INFERENCE_ENGINE_DESCRIPTION = "Core engine: ";
+	private static final String CONSTRAINT_RECORDING_FILE_DESCRIPTION = "Record constraints to file (core engines, empty disables recording)";
+	private static final String CONSTRAINT_RECORDING_TRACE_DESCRIPTION = "Record the removal trace with the constraints";
+	private static final String METHOD_MODELS_DESCRIPTION = "Use library method models";
+	private static final String METHOD_MODELS_FILE_DESCRIPTION = "Additional method models file";
 	private static final String GENERAL_LOGGING_DESCRIPTION = "Enable General Logging";
 	private static final String DEBUG_LOGGING_DESCRIPTION = "Enable Debug Logging";
 	private static final String ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES_DESCRIPTION = "Allows instance variables to include mutable types by default";
@@ -75,6 +93,9 @@ public class ImmutabilityPreferencesPage extends FieldEditorPreferencePage imple
 					},
 					{ "&" + IMMUTABILITY_ANALYSIS_INFERENCE_MODE_DESCRIPTION, 
 						ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_INFERENCE_MODE
+					},
+					{ "&" + IMMUTABILITY_ANALYSIS_HYBRID_MODE_DESCRIPTION, 
+						ImmutabilityPreferences.IMMUTABILITY_ANALYSIS_HYBRID_MODE
 					}
 				},
 				getFieldEditorParent(),
@@ -84,12 +105,36 @@ public class ImmutabilityPreferencesPage extends FieldEditorPreferencePage imple
 		addField(new SpacerFieldEditor(getFieldEditorParent()));
 		addField(new LabelFieldEditor("Advanced Options", getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.RUN_SANITY_CHECKS, "&" + RUN_SANITY_CHECKS_DESCRIPTION, getFieldEditorParent()));
+		addField(new BooleanFieldEditor(ImmutabilityPreferences.ONLINE_INVARIANT_MONITORING, "&" + ONLINE_INVARIANT_MONITORING_DESCRIPTION, getFieldEditorParent()));
+		IntegerFieldEditor traceBufferSize = new IntegerFieldEditor(ImmutabilityPreferences.TRACE_BUFFER_SIZE, "&" + TRACE_BUFFER_SIZE_DESCRIPTION, getFieldEditorParent());
+		traceBufferSize.setValidRange(0, 16777216);
+		addField(traceBufferSize);
+		addField(new BooleanFieldEditor(ImmutabilityPreferences.PROVENANCE_RECORDING, "&" + PROVENANCE_RECORDING_DESCRIPTION, getFieldEditorParent()));
+		IntegerFieldEditor sanityChecksSampleSize = new IntegerFieldEditor(ImmutabilityPreferences.SANITY_CHECKS_SAMPLE_SIZE, "&" + SANITY_CHECKS_SAMPLE_SIZE_DESCRIPTION, getFieldEditorParent());
+		sanityChecksSampleSize.setValidRange(0, Integer.MAX_VALUE);
+		addField(sanityChecksSampleSize);
+		IntegerFieldEditor parallelism = new IntegerFieldEditor(ImmutabilityPreferences.PARALLELISM, "&" + PARALLELISM_DESCRIPTION, getFieldEditorParent());
+		parallelism.setValidRange(0, 1024);
+		addField(parallelism);
+		addField(new BooleanFieldEditor(ImmutabilityPreferences.METHOD_MODELS, "&" + METHOD_MODELS_DESCRIPTION, getFieldEditorParent()));
+		FileFieldEditor methodModelsFile = new FileFieldEditor(ImmutabilityPreferences.METHOD_MODELS_FILE, "&" + METHOD_MODELS_FILE_DESCRIPTION, getFieldEditorParent());
+		methodModelsFile.setFileExtensions(new String[]{ "*.xml" });
+		addField(methodModelsFile);
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.GENERAL_LOGGING, "&" + GENERAL_LOGGING_DESCRIPTION, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.DEBUG_LOGGING, "&" + DEBUG_LOGGING_DESCRIPTION, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES, "&" + ALLOW_DEFAULT_MUTABLE_INSTANCE_VARIABLES_DESCRIPTION, getFieldEditorParent()));
 		
 		addField(new SpacerFieldEditor(getFieldEditorParent()));
 		addField(new LabelFieldEditor("Inference Based Analysis Options", getFieldEditorParent()));
+		List<String> engines = InferenceEngines.getNames();
+		String[][] engineChoices = new String[engines.size() + 1][];
+		engineChoices[0] = new String[]{ "&" + INFERENCE_ENGINE_LEGACY_DESCRIPTION, ImmutabilityPreferences.INFERENCE_ENGINE_LEGACY };
+		for(int i=0; i<engines.size(); i++){
+			engineChoices[i+1] = new String[]{ "&" + INFERENCE_ENGINE_DESCRIPTION + engines.get(i), engines.get(i) };
+		}
+		addField(new RadioGroupFieldEditor(ImmutabilityPreferences.INFERENCE_ENGINE, "Inference Engine", 1, engineChoices, getFieldEditorParent(), true));
+		addField(new StringFieldEditor(ImmutabilityPreferences.CONSTRAINT_RECORDING_FILE, "&" + CONSTRAINT_RECORDING_FILE_DESCRIPTION, getFieldEditorParent()));
+		addField(new BooleanFieldEditor(ImmutabilityPreferences.CONSTRAINT_RECORDING_TRACE, "&" + CONSTRAINT_RECORDING_TRACE_DESCRIPTION, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.GENERATE_SUMMARIES, "&" + GENERATE_SUMMARIES_DESCRIPTION, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.LOAD_SUMMARIES, "&" + LOAD_SUMMARIES_DESCRIPTION, getFieldEditorParent()));
 		addField(new BooleanFieldEditor(ImmutabilityPreferences.ALLOW_ADD_MUTABLE_INSTANCE_VARIABLES, "&" + ALLOW_ADD_MUTABLE_INSTANCE_VARIABLES_DESCRIPTION, getFieldEditorParent()));